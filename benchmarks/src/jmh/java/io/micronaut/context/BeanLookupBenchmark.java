@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context;
+
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Bean lookups on a started context, the way request-scoped code does them.
+ */
+@State(Scope.Benchmark)
+public class BeanLookupBenchmark {
+
+    /**
+     * More types than fit in the LRU candidate caches of the context.
+     */
+    private static final Class<?>[] MANY_TYPES = {
+        java.util.List.class, java.util.Map.class, java.util.Set.class, java.util.Queue.class,
+        java.util.Deque.class, java.util.Iterator.class, java.util.Comparator.class, java.util.Optional.class,
+        java.util.Random.class, java.util.Locale.class, java.util.UUID.class, java.util.Timer.class,
+        java.util.BitSet.class, java.util.Scanner.class, java.util.StringJoiner.class, java.util.Properties.class,
+        java.util.function.Function.class, java.util.function.Supplier.class, java.util.function.Consumer.class,
+        java.util.function.Predicate.class, java.util.function.BiFunction.class, java.util.function.UnaryOperator.class,
+        java.util.concurrent.Executor.class, java.util.concurrent.Callable.class, java.util.concurrent.Future.class,
+        java.util.concurrent.ThreadFactory.class, java.util.concurrent.BlockingQueue.class, java.util.concurrent.Semaphore.class,
+        java.util.concurrent.CountDownLatch.class, java.util.concurrent.locks.Lock.class, java.io.Closeable.class,
+        java.io.Serializable.class, java.io.InputStream.class, java.io.OutputStream.class, java.io.Reader.class,
+        java.io.Writer.class, java.nio.file.Path.class, java.net.URI.class, java.time.Clock.class,
+        java.time.Duration.class, java.nio.charset.Charset.class, java.text.Format.class, Runnable.class,
+        CharSequence.class, Number.class, Thread.class, ThreadLocal.class, Appendable.class
+    };
+
+    ApplicationContext context;
+
+    @Setup
+    public void setup() {
+        context = ApplicationContext.run();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void getSingleton(Blackhole blackhole) {
+        blackhole.consume(context.getBean(LookupService.class));
+    }
+
+    @Benchmark
+    public void getNamedSingleton(Blackhole blackhole) {
+        blackhole.consume(context.getBean(LookupStore.class, Qualifiers.byName("secondary")));
+    }
+
+    @Benchmark
+    public void getBeansOfType(Blackhole blackhole) {
+        blackhole.consume(context.getBeansOfType(LookupStore.class));
+    }
+
+    @Benchmark
+    public void findBeanManyTypes(Blackhole blackhole) {
+        for (Class<?> type : MANY_TYPES) {
+            blackhole.consume(context.findBean(type));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + BeanLookupBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    public interface LookupStore {
+    }
+
+    @Singleton
+    @Named("primary")
+    public static class PrimaryLookupStore implements LookupStore {
+    }
+
+    @Singleton
+    @Named("secondary")
+    public static class SecondaryLookupStore implements LookupStore {
+    }
+
+    @Singleton
+    public static class LookupService {
+        final LookupStore store;
+
+        LookupService(@Named("primary") LookupStore store) {
+            this.store = store;
+        }
+    }
+}
@@ -19,11 +19,13 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -31,12 +33,22 @@ import java.util.Map;
 public class PropertySourcePropertyResolverBenchmark {
 
     Map<String, String> props = new HashMap<>();
+    PropertySourcePropertyResolver resolver;
+    PropertySourcePropertyResolver snapshotResolver;
 
     @Setup
     public void prepare() {
         for (int i = 0; i < 600; i++) {
              props.put(i + "}_A_B_C_D_E_F_G_SERVICE_PORT", "foo");
         }
+        Map<String, Object> config = new HashMap<>();
+        config.put("tenant.limits.requests", "100");
+        config.put("tenant.limits.timeout", "${tenant.limits.base-timeout}");
+        config.put("tenant.limits.base-timeout", "5s");
+        config.put("feature.new-checkout", "true");
+        resolver = new PropertySourcePropertyResolver(PropertySource.of("config", config));
+        snapshotResolver = new PropertySourcePropertyResolver(PropertySource.of("config", config));
+        snapshotResolver.setSnapshotMode(true);
     }
 
     @Benchmark
@@ -44,6 +56,23 @@ public class PropertySourcePropertyResolverBenchmark {
         new PropertySourcePropertyResolver(new EnvironmentPropertySource(props));
     }
 
+    @Benchmark
+    public void getProperties(Blackhole blackhole) {
+        readProperties(resolver, blackhole);
+    }
+
+    @Benchmark
+    public void getPropertiesSnapshot(Blackhole blackhole) {
+        readProperties(snapshotResolver, blackhole);
+    }
+
+    private static void readProperties(PropertySourcePropertyResolver resolver, Blackhole blackhole) {
+        blackhole.consume(resolver.getProperty("tenant.limits.requests", Integer.class));
+        blackhole.consume(resolver.getProperty("tenant.limits.timeout", Duration.class));
+        blackhole.consume(resolver.getProperty("feature.new-checkout", Boolean.class));
+        blackhole.consume(resolver.getProperty("feature.missing", String.class));
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(".*" + PropertySourcePropertyResolverBenchmark.class.getSimpleName() + ".*")
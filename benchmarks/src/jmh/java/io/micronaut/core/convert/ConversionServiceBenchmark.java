@@ -15,6 +15,10 @@
  */
 package io.micronaut.core.convert;
 
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.convert.format.Format;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.annotation.MutableAnnotationMetadata;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
@@ -25,15 +29,33 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.net.URI;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
 
 @State(Scope.Benchmark)
 public class ConversionServiceBenchmark {
 
     ConversionService conversionService;
+    Argument<Integer> integerArgument;
+    ArgumentConversionContext<Integer> integerContext;
+    TypeConverter<String, Integer> integerPlan;
+    Argument<Date> formattedDateArgument;
+    ArgumentConversionContext<Date> formattedDateContext;
+    TypeConverter<String, Date> formattedDatePlan;
 
     @Setup
     public void prepare() {
         conversionService = ConversionService.SHARED;
+        integerArgument = Argument.of(Integer.class, "count");
+        integerContext = ConversionContext.of(integerArgument);
+        integerPlan = conversionService.createConverterPlan(String.class, integerArgument);
+
+        MutableAnnotationMetadata metadata = new MutableAnnotationMetadata();
+        metadata.addDeclaredAnnotation(Format.class.getName(), Map.<CharSequence, Object>of(AnnotationMetadata.VALUE_MEMBER, "yyyy-MM-dd"));
+        formattedDateArgument = Argument.of(Date.class, "date", metadata);
+        formattedDateContext = ConversionContext.of(formattedDateArgument);
+        formattedDatePlan = conversionService.createConverterPlan(String.class, formattedDateArgument);
     }
 
     @Benchmark
@@ -46,6 +68,26 @@ public class ConversionServiceBenchmark {
         conversionService.convert(URI.create("http://test.com"), Integer.class);
     }
 
+    @Benchmark
+    public Optional<Integer> convertArgument() {
+        return conversionService.convert("10", integerContext);
+    }
+
+    @Benchmark
+    public Optional<Integer> convertArgumentPlan() {
+        return integerPlan.convert("10", Integer.class, integerContext);
+    }
+
+    @Benchmark
+    public Optional<Date> convertFormattedArgument() {
+        return conversionService.convert("2023-01-15", formattedDateContext);
+    }
+
+    @Benchmark
+    public Optional<Date> convertFormattedArgumentPlan() {
+        return formattedDatePlan.convert("2023-01-15", Date.class, formattedDateContext);
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(".*" + ConversionServiceBenchmark.class.getSimpleName() + ".*")
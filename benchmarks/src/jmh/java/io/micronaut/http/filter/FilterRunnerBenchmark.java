@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.filter;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Executable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.execution.ExecutionFlow;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
+import jakarta.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+@State(Scope.Benchmark)
+public class FilterRunnerBenchmark {
+
+    @Param({"0", "5", "20"})
+    int filterCount;
+
+    /**
+     * Whether the filters can take the imperative path of {@link FilterRunner}. If not, the same
+     * filters run on the asynchronous path as the baseline.
+     */
+    @Param({"true", "false"})
+    boolean imperative;
+
+    ApplicationContext applicationContext;
+    ConversionService conversionService;
+    List<GenericHttpFilter> filters;
+    GenericHttpFilter terminal;
+    HttpRequest<?> request;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        conversionService = applicationContext.getConversionService();
+        BeanDefinition<BenchmarkFilters> definition = applicationContext.getBeanDefinition(BenchmarkFilters.class);
+        BenchmarkFilters bean = applicationContext.getBean(BenchmarkFilters.class);
+        ExecutableMethod<BenchmarkFilters, ?> requestFilter = definition.findMethod("request", HttpRequest.class).orElseThrow();
+        ExecutableMethod<BenchmarkFilters, ?> responseFilter = definition.findMethod("response", MutableHttpResponse.class).orElseThrow();
+
+        List<GenericHttpFilter> filters = new ArrayList<>(filterCount);
+        for (int i = 0; i < filterCount; i++) {
+            boolean isResponseFilter = i % 2 == 1;
+            filters.add(FilterRunner.prepareFilterMethod(
+                conversionService,
+                bean,
+                isResponseFilter ? responseFilter : requestFilter,
+                isResponseFilter,
+                new FilterOrder.Fixed(i)
+            ));
+        }
+        // the router prepares the filters of a route once
+        this.filters = imperative ? FilterRunner.prepare(filters) : new AsynchronousFilterList(filters);
+        HttpResponse<?> response = HttpResponse.ok();
+        terminal = (GenericHttpFilter.Terminal) req -> ExecutionFlow.just(response);
+        request = HttpRequest.GET("/filtered");
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Object run() {
+        return new FilterRunner(conversionService, filters, terminal)
+            .run(request)
+            .tryComplete()
+            .getValue();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + FilterRunnerBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * A view of the filters that does not implement {@link RandomAccess}, which keeps
+     * {@link FilterRunner} on its asynchronous path.
+     */
+    static final class AsynchronousFilterList extends AbstractList<GenericHttpFilter> {
+        private final List<GenericHttpFilter> filters;
+
+        AsynchronousFilterList(List<GenericHttpFilter> filters) {
+            this.filters = filters;
+        }
+
+        @Override
+        public GenericHttpFilter get(int index) {
+            return filters.get(index);
+        }
+
+        @Override
+        public int size() {
+            return filters.size();
+        }
+    }
+
+    @Singleton
+    public static class BenchmarkFilters {
+        int requests;
+        int responses;
+
+        @Executable
+        public void request(HttpRequest<?> request) {
+            requests++;
+        }
+
+        @Executable
+        public void response(MutableHttpResponse<?> response) {
+            responses++;
+        }
+    }
+}
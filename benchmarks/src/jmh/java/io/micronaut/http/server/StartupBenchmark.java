@@ -16,22 +16,65 @@
 package io.micronaut.http.server;
 
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.io.service.ServiceIndex;
 import io.micronaut.http.server.binding.TestController;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
 public class StartupBenchmark {
 
+    @Param({"false", "true"})
+    boolean serviceIndex;
+
+    private Path indexDirectory;
+    private ClassLoader classLoader;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        classLoader = StartupBenchmark.class.getClassLoader();
+        if (serviceIndex) {
+            indexDirectory = Files.createTempDirectory("service-index");
+            ServiceIndex.main(new String[] {
+                indexDirectory.resolve(ServiceIndex.RESOURCE).toString(),
+                System.getProperty("java.class.path")
+            });
+            classLoader = new URLClassLoader(new URL[] {indexDirectory.toUri().toURL()}, classLoader);
+            System.setProperty(ServiceIndex.ENABLED_PROPERTY, "true");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.clearProperty(ServiceIndex.ENABLED_PROPERTY);
+        if (classLoader instanceof URLClassLoader urlClassLoader) {
+            urlClassLoader.close();
+        }
+        if (indexDirectory != null) {
+            Files.delete(indexDirectory.resolve(ServiceIndex.RESOURCE));
+        }
+    }
+
     @Benchmark
     public void startup(Blackhole blackhole) {
-        ApplicationContext context = ApplicationContext.run();
-        final TestController controller = context.getBean(TestController.class);
-        blackhole.consume(controller);
+        try (ApplicationContext context = ApplicationContext.builder().classLoader(classLoader).start()) {
+            final TestController controller = context.getBean(TestController.class);
+            blackhole.consume(controller);
+        }
     }
 }
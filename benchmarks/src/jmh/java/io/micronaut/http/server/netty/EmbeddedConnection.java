@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Connects a client and a server {@link EmbeddedChannel} so that the raw bytes written by one
+ * side are read by the other, without any sockets involved.
+ */
+final class EmbeddedConnection {
+
+    final EmbeddedChannel server;
+    final EmbeddedChannel client;
+
+    EmbeddedConnection(EmbeddedChannel server, EmbeddedChannel client) {
+        this.server = server;
+        this.client = client;
+        new Direction(server, client).register();
+        new Direction(client, server).register();
+    }
+
+    /**
+     * Run the pending tasks of both channels until neither has any work left.
+     */
+    void advance() {
+        boolean advanced;
+        do {
+            advanced = false;
+            for (EmbeddedChannel channel : new EmbeddedChannel[]{server, client}) {
+                if (channel.hasPendingTasks()) {
+                    advanced = true;
+                    channel.runPendingTasks();
+                }
+                channel.checkException();
+            }
+        } while (advanced);
+    }
+
+    void close() {
+        client.finishAndReleaseAll();
+        server.finishAndReleaseAll();
+    }
+
+    private static final class Direction {
+        private static final Object FLUSH = new Object();
+
+        final EmbeddedChannel source;
+        final EmbeddedChannel dest;
+        final Queue<Object> queue = new ArrayDeque<>();
+        boolean readPending;
+
+        Direction(EmbeddedChannel source, EmbeddedChannel dest) {
+            this.source = source;
+            this.dest = dest;
+        }
+
+        private void forwardLater(Object msg) {
+            if (readPending || dest.config().isAutoRead()) {
+                dest.eventLoop().execute(() -> forwardNow(msg));
+                readPending = false;
+            } else {
+                queue.add(msg);
+            }
+        }
+
+        private void forwardNow(Object msg) {
+            if (msg == FLUSH) {
+                dest.flushInbound();
+            } else {
+                dest.writeOneInbound(msg);
+            }
+        }
+
+        void register() {
+            source.pipeline().addFirst(new ChannelOutboundHandlerAdapter() {
+                @Override
+                public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+                    if (!(msg instanceof ByteBuf)) {
+                        throw new IllegalArgumentException("Can only forward bytes!");
+                    }
+                    forwardLater(msg);
+                    promise.setSuccess();
+                }
+
+                @Override
+                public void flush(ChannelHandlerContext ctx) {
+                    forwardLater(FLUSH);
+                }
+            });
+            dest.pipeline().addFirst(new ChannelOutboundHandlerAdapter() {
+                @Override
+                public void read(ChannelHandlerContext ctx) {
+                    if (queue.isEmpty()) {
+                        readPending = true;
+                    } else {
+                        ctx.fireChannelRead(queue.poll());
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.context.ServerRequestContext;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpClientUpgradeHandler;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.Http2ClientUpgradeCodec;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.codec.http2.HttpToHttp2ConnectionHandler;
+import io.netty.handler.codec.http2.HttpToHttp2ConnectionHandlerBuilder;
+import io.netty.handler.codec.http2.InboundHttp2ToHttpAdapterBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drives requests through the complete netty server pipeline ({@link HttpPipelineBuilder},
+ * {@link RoutingInBoundHandler}, the route executor and the response encoding) on an
+ * {@link EmbeddedChannel}. The client side is a second embedded channel exchanging raw HTTP/1.1
+ * or HTTP/2 (h2c) bytes with the server, so no sockets or event loop threads are involved and
+ * every benchmark invocation is exactly one request. Run with the GC profiler, which
+ * {@link #main(String[])} enables, to see the allocations per request.
+ */
+@State(Scope.Benchmark)
+public class FullStackBenchmark {
+
+    private static final int MULTIPART_FILE_SIZE = 1024 * 1024;
+    private static final String BOUNDARY = "full-stack-boundary";
+
+    @Param({"HTTP_1_1", "HTTP_2_0"})
+    Protocol protocol;
+
+    @Param({"false", "true"})
+    boolean filters;
+
+    ApplicationContext applicationContext;
+    EmbeddedConnection connection;
+    ByteBuf jsonBody;
+    ByteBuf multipartBody;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spec.name", "FullStackBenchmark");
+        properties.put("full-stack.filters", filters);
+        if (protocol == Protocol.HTTP_2_0) {
+            properties.put("micronaut.server.http-version", "2.0");
+        }
+        applicationContext = ApplicationContext.run(properties);
+        NettyHttpServer server = (NettyHttpServer) applicationContext.getBean(EmbeddedServer.class);
+
+        EmbeddedChannel serverChannel = server.buildEmbeddedChannel(false);
+        EmbeddedChannel clientChannel = new EmbeddedChannel();
+        connection = new EmbeddedConnection(serverChannel, clientChannel);
+        if (protocol == Protocol.HTTP_2_0) {
+            connectHttp2(clientChannel);
+        } else {
+            clientChannel.pipeline()
+                .addLast(new HttpClientCodec())
+                .addLast(new HttpObjectAggregator(MULTIPART_FILE_SIZE * 2));
+        }
+
+        jsonBody = Unpooled.unreleasableBuffer(Unpooled.copiedBuffer(
+            "{\"name\":\"benchmark\",\"quantity\":10,\"tags\":[\"a\",\"b\",\"c\"]}",
+            StandardCharsets.UTF_8
+        ));
+        multipartBody = Unpooled.unreleasableBuffer(multipartBody());
+
+        // check every scenario once, so that a broken setup does not produce meaningless numbers
+        verify(smallGet(), "Hello World");
+        verify(jsonPost(), "{\"name\":\"benchmark\",\"quantity\":11,\"tags\":[\"a\",\"b\",\"c\"]}");
+        verify(streamingResponse(), null);
+        verify(multipartUpload(), String.valueOf(MULTIPART_FILE_SIZE));
+    }
+
+    @TearDown
+    public void tearDown() {
+        connection.close();
+        applicationContext.close();
+        // normally set on the event loop, but with an embedded channel it leaks into the benchmark thread
+        ServerRequestContext.set(null);
+    }
+
+    @Benchmark
+    public int smallGet() {
+        return exchange(request(HttpMethod.GET, "/full-stack/hello", Unpooled.EMPTY_BUFFER, null));
+    }
+
+    @Benchmark
+    public int jsonPost() {
+        return exchange(request(HttpMethod.POST, "/full-stack/items", jsonBody.duplicate(), "application/json"));
+    }
+
+    @Benchmark
+    public int streamingResponse() {
+        return exchange(request(HttpMethod.GET, "/full-stack/stream", Unpooled.EMPTY_BUFFER, null));
+    }
+
+    @Benchmark
+    public int multipartUpload() {
+        return exchange(request(
+            HttpMethod.POST,
+            "/full-stack/upload",
+            multipartBody.duplicate(),
+            "multipart/form-data; boundary=" + BOUNDARY
+        ));
+    }
+
+    private FullHttpRequest request(HttpMethod method, String uri, ByteBuf body, String contentType) {
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, method, uri, body);
+        request.headers()
+            .set(HttpHeaderNames.HOST, "localhost")
+            .set(HttpHeaderNames.CONTENT_LENGTH, body.readableBytes());
+        if (contentType != null) {
+            request.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+        }
+        if (protocol == Protocol.HTTP_2_0) {
+            request.headers().set(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), "http");
+        }
+        return request;
+    }
+
+    /**
+     * Send the request and run both sides of the connection until the response has arrived.
+     *
+     * @return The size of the response body
+     */
+    private int exchange(FullHttpRequest request) {
+        EmbeddedChannel client = connection.client;
+        client.writeOneOutbound(request);
+        client.flushOutbound();
+        connection.advance();
+        FullHttpResponse response = client.readInbound();
+        if (response == null) {
+            throw new IllegalStateException("No response received for " + request.uri());
+        }
+        try {
+            if (!response.status().equals(HttpResponseStatus.OK)) {
+                throw new IllegalStateException("Unexpected response status " + response.status() + " for " + request.uri());
+            }
+            return response.content().readableBytes();
+        } finally {
+            response.release();
+        }
+    }
+
+    private void verify(int responseSize, String expectedBody) {
+        if (responseSize == 0 || (expectedBody != null && responseSize != expectedBody.length())) {
+            throw new IllegalStateException("Unexpected response size " + responseSize + ", expected " + expectedBody);
+        }
+    }
+
+    /**
+     * Upgrade the connection to h2c, the HTTP/2 client handlers take over once the upgrade
+     * request has been answered.
+     */
+    private void connectHttp2(EmbeddedChannel clientChannel) {
+        DefaultHttp2Connection http2Connection = new DefaultHttp2Connection(false);
+        HttpToHttp2ConnectionHandler connectionHandler = new HttpToHttp2ConnectionHandlerBuilder()
+            .connection(http2Connection)
+            .frameListener(new InboundHttp2ToHttpAdapterBuilder(http2Connection)
+                .maxContentLength(MULTIPART_FILE_SIZE * 2)
+                .propagateSettings(false)
+                .build())
+            .build();
+        HttpClientCodec clientCodec = new HttpClientCodec();
+        clientChannel.pipeline()
+            .addLast(clientCodec)
+            .addLast(new HttpClientUpgradeHandler(clientCodec, new Http2ClientUpgradeCodec(connectionHandler), MULTIPART_FILE_SIZE * 2));
+
+        FullHttpRequest upgradeRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/full-stack/hello");
+        upgradeRequest.headers().set(HttpHeaderNames.HOST, "localhost");
+        clientChannel.writeOneOutbound(upgradeRequest);
+        clientChannel.flushOutbound();
+        connection.advance();
+        // the upgrade event, followed by the response to the upgrade request on stream 1
+        Object msg;
+        while ((msg = clientChannel.readInbound()) != null) {
+            if (msg instanceof FullHttpResponse response) {
+                response.release();
+            }
+        }
+        if (clientChannel.pipeline().get(HttpClientCodec.class) != null) {
+            throw new IllegalStateException("h2c upgrade failed");
+        }
+    }
+
+    /**
+     * @return A multipart body with a single file part of {@link #MULTIPART_FILE_SIZE} bytes
+     */
+    private static ByteBuf multipartBody() {
+        byte[] file = new byte[MULTIPART_FILE_SIZE];
+        ThreadLocalRandom.current().nextBytes(file);
+        // the boundary must not show up in the file contents
+        for (int i = 0; i < file.length; i++) {
+            if (file[i] == '-') {
+                file[i] = 'x';
+            }
+        }
+        ByteBuf body = Unpooled.buffer(MULTIPART_FILE_SIZE + 256);
+        body.writeCharSequence("--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"data.bin\"\r\n"
+            + "Content-Type: " + HttpHeaderValues.APPLICATION_OCTET_STREAM + "\r\n\r\n", StandardCharsets.US_ASCII);
+        body.writeBytes(file);
+        body.writeCharSequence("\r\n--" + BOUNDARY + "--\r\n", StandardCharsets.US_ASCII);
+        return body;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + FullStackBenchmark.class.getSimpleName() + ".*")
+            .warmupIterations(5)
+            .measurementIterations(10)
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * The protocol spoken by the client.
+     */
+    public enum Protocol {
+        HTTP_1_1, HTTP_2_0
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.multipart.CompletedFileUpload;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+@Controller("/full-stack")
+@Requires(property = "spec.name", value = "FullStackBenchmark")
+public class FullStackController {
+
+    @Get(value = "/hello", produces = MediaType.TEXT_PLAIN)
+    String hello() {
+        return "Hello World";
+    }
+
+    @Post("/items")
+    Item save(@Body Item item) {
+        return new Item(item.name(), item.quantity() + 1, item.tags());
+    }
+
+    @Get(value = "/stream", produces = MediaType.TEXT_PLAIN)
+    Publisher<String> stream() {
+        return Flux.range(0, 100).map(i -> "chunk-" + i + "\n");
+    }
+
+    @Post(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA, produces = MediaType.TEXT_PLAIN)
+    String upload(CompletedFileUpload file) {
+        return String.valueOf(file.getSize());
+    }
+
+    @Introspected
+    record Item(String name, int quantity, List<String> tags) {
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+
+@ServerFilter("/full-stack/**")
+@Requires(property = "spec.name", value = "FullStackBenchmark")
+@Requires(property = "full-stack.filters", value = "true")
+public class FullStackFilter {
+
+    @RequestFilter
+    void request(HttpRequest<?> request) {
+        request.setAttribute("full-stack.filtered", Boolean.TRUE);
+    }
+
+    @ResponseFilter
+    void response(MutableHttpResponse<?> response) {
+        response.header("X-Full-Stack", "filtered");
+    }
+}
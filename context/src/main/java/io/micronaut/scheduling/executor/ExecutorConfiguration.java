@@ -75,6 +75,16 @@ public interface ExecutorConfiguration {
      */
     @Min(1L) Integer getCorePoolSize();
 
+    /**
+     * @return The maximum number of tasks waiting for a thread of a {@link io.micronaut.scheduling.executor.ExecutorType#FIXED} executor,
+     * further tasks are rejected. {@code null} if the queue is unbounded
+     * @since 4.0.0
+     */
+    @Nullable
+    default Integer getMaxQueueSize() {
+        return null;
+    }
+
     /**
      * @return Whether the pool should use virtual threads.
      */
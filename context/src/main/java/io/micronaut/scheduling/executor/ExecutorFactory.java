@@ -24,9 +24,14 @@ import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.scheduling.LoomSupport;
 import jakarta.inject.Inject;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Constructs {@link ExecutorService} instances based on {@link UserExecutorConfiguration} instances.
@@ -85,6 +90,12 @@ public class ExecutorFactory {
         ExecutorType executorType = executorConfiguration.getType();
         switch (executorType) {
             case FIXED:
+                Integer maxQueueSize = executorConfiguration.getMaxQueueSize();
+                if (maxQueueSize != null) {
+                    int nThreads = executorConfiguration.getNumberOfThreads();
+                    BlockingQueue<Runnable> queue = maxQueueSize > 0 ? new ArrayBlockingQueue<>(maxQueueSize) : new SynchronousQueue<>();
+                    return new ThreadPoolExecutor(nThreads, nThreads, 0L, TimeUnit.MILLISECONDS, queue, getThreadFactory(executorConfiguration));
+                }
                 return Executors.newFixedThreadPool(executorConfiguration.getNumberOfThreads(), getThreadFactory(executorConfiguration));
             case CACHED:
                 return Executors.newCachedThreadPool(getThreadFactory(executorConfiguration));
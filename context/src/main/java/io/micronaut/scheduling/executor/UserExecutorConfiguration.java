@@ -47,6 +47,7 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
     private ExecutorType type;
     private Integer parallelism;
     private Integer corePoolSize;
+    private Integer maxQueueSize;
     private boolean virtual;
     private Class<? extends ThreadFactory> threadFactoryClass;
 
@@ -56,7 +57,7 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
      * @param name The name
      */
     private UserExecutorConfiguration(@Parameter String name) {
-        this(name, null, null, null, null, false, null);
+        this(name, null, null, null, null, null, false, null);
     }
 
     /**
@@ -70,12 +71,36 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
      * @param virtual whether to use virtual threads
      * @param threadFactoryClass the thread factory class
      */
+    protected UserExecutorConfiguration(@Nullable @Parameter String name,
+                                        @Nullable Integer nThreads,
+                                        @Nullable ExecutorType type,
+                                        @Nullable Integer parallelism,
+                                        @Nullable Integer corePoolSize,
+                                        @Nullable Boolean virtual,
+                                        @Nullable Class<? extends ThreadFactory> threadFactoryClass) {
+        this(name, nThreads, type, parallelism, corePoolSize, null, virtual, threadFactoryClass);
+    }
+
+    /**
+     * Default Constructor.
+     *
+     * @param name the name
+     * @param nThreads number of threads
+     * @param type the type
+     * @param parallelism the parallelism
+     * @param corePoolSize the core pool size
+     * @param maxQueueSize the maximum queue size
+     * @param virtual whether to use virtual threads
+     * @param threadFactoryClass the thread factory class
+     * @since 4.0.0
+     */
     @ConfigurationInject
     protected UserExecutorConfiguration(@Nullable @Parameter String name,
                                         @Nullable Integer nThreads,
                                         @Nullable ExecutorType type,
                                         @Nullable Integer parallelism,
                                         @Nullable Integer corePoolSize,
+                                        @Nullable Integer maxQueueSize,
                                         @Nullable Boolean virtual,
                                         @Nullable Class<? extends ThreadFactory> threadFactoryClass) {
         this.name = name;
@@ -83,6 +108,7 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
         this.type = type == null ? ExecutorType.SCHEDULED : type;
         this.parallelism = parallelism == null ? AVAILABLE_PROCESSORS : parallelism;
         this.corePoolSize = corePoolSize == null ? AVAILABLE_PROCESSORS * 2 : corePoolSize;
+        this.maxQueueSize = maxQueueSize;
         this.virtual = virtual == null ? false : virtual;
         this.threadFactoryClass = threadFactoryClass;
     }
@@ -116,6 +142,12 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
         return corePoolSize;
     }
 
+    @Override
+    @Nullable
+    public Integer getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
     @Override
     public boolean isVirtual() {
         return virtual;
@@ -187,6 +219,17 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
         }
     }
 
+    /**
+     * Sets the maximum number of tasks waiting for a thread of a {@link io.micronaut.scheduling.executor.ExecutorType#FIXED} executor,
+     * further tasks are rejected. Default value ({@code null}, the queue is unbounded).
+     *
+     * @param maxQueueSize The maximum queue size
+     * @since 4.0.0
+     */
+    public void setMaxQueueSize(@Nullable Integer maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
     /**
      * Sets the thread factory class.
      *
@@ -18,6 +18,7 @@ package io.micronaut.core.bind.annotation;
 import io.micronaut.core.bind.ArgumentBinder;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.TypeConverter;
 import io.micronaut.core.convert.value.ConvertibleValues;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.type.Argument;
@@ -25,7 +26,9 @@ import io.micronaut.core.util.StringUtils;
 
 import io.micronaut.core.annotation.Nullable;
 import java.lang.annotation.Annotation;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An abstract {@link AnnotatedArgumentBinder} implementation.
@@ -39,7 +42,9 @@ import java.util.Optional;
 public abstract class AbstractAnnotatedArgumentBinder<A extends Annotation, T, S> implements AnnotatedArgumentBinder<A, T, S> {
 
     private static final String DEFAULT_VALUE_MEMBER = "defaultValue";
+    private static final int MAX_CONVERTER_PLANS = 512;
     protected final ConversionService conversionService;
+    private final Map<ConverterPlanKey, TypeConverter<Object, ?>> converterPlans = new ConcurrentHashMap<>();
 
     /**
      * Constructor.
@@ -152,11 +157,47 @@ public abstract class AbstractAnnotatedArgumentBinder<A extends Annotation, T, S
         if (value == null) {
             return defaultResult;
         } else {
-            Optional<T> result = conversionService.convert(value, context);
+            Argument<T> argument = context.getArgument();
+            Optional<T> result = converterPlan(value.getClass(), argument).convert(value, argument.getType(), context);
             if (result.isPresent() && context.getArgument().getType() == Optional.class) {
                 return () -> (Optional<T>) result.get();
             }
             return () -> result;
         }
     }
+
+    /**
+     * Converter plans are cached per argument instance. Route and bean arguments are created
+     * once, so the cache stays small.
+     */
+    @SuppressWarnings("unchecked")
+    private TypeConverter<Object, T> converterPlan(Class<?> sourceType, Argument<T> argument) {
+        ConverterPlanKey key = new ConverterPlanKey(argument, sourceType);
+        TypeConverter<Object, T> plan = (TypeConverter<Object, T>) converterPlans.get(key);
+        if (plan == null) {
+            plan = conversionService.createConverterPlan((Class<Object>) sourceType, argument);
+            if (converterPlans.size() < MAX_CONVERTER_PLANS) {
+                converterPlans.put(key, plan);
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Identity key of an argument and a source type.
+     *
+     * @param argument   The argument
+     * @param sourceType The source type
+     */
+    private record ConverterPlanKey(Argument<?> argument, Class<?> sourceType) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ConverterPlanKey other && argument == other.argument && sourceType == other.sourceType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(argument) + sourceType.hashCode();
+        }
+    }
 }
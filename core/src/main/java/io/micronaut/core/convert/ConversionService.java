@@ -15,6 +15,7 @@
  */
 package io.micronaut.core.convert;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.exceptions.ConversionErrorException;
 import io.micronaut.core.type.Argument;
@@ -56,6 +57,29 @@ public interface ConversionService {
      */
     <S, T> boolean canConvert(Class<S> sourceType, Class<T> targetType);
 
+    /**
+     * Resolve a reusable converter for a fixed source type and target argument, including the
+     * {@link io.micronaut.core.convert.format.Format} handling of the argument. Call sites that
+     * repeatedly convert values of the same type, like argument binders, can keep the returned
+     * converter and skip the converter lookup on every conversion.
+     * <p>
+     * The returned converter accepts values of any type: values that don't match the source type
+     * are converted through {@link #convert(Object, Class, ConversionContext)}. The
+     * {@link ConversionContext} passed to the converter should carry the annotation metadata of
+     * the target argument, e.g. {@code ConversionContext.of(argument)}.
+     *
+     * @param sourceType The source type
+     * @param targetType The target argument
+     * @param <S>        The source type
+     * @param <T>        The target type
+     * @return The converter
+     * @since 4.0.0
+     */
+    @NonNull
+    default <S, T> TypeConverter<S, T> createConverterPlan(@NonNull Class<S> sourceType, @NonNull Argument<T> targetType) {
+        return (object, type, context) -> convert(object, type, context);
+    }
+
     /**
      * Attempts to convert the given object to the given target type. If conversion fails or is not possible an empty {@link Optional} is returned.
      *
@@ -95,6 +95,11 @@ public class DefaultMutableConversionService implements MutableConversionService
     private final Map<ConvertiblePair, TypeConverter> converterCache = new ConcurrentLinkedHashMap.Builder<ConvertiblePair, TypeConverter>()
             .maximumWeightedCapacity(CACHE_MAX)
             .build();
+    /**
+     * Incremented when a converter is added, so that converter plans resolved earlier fall back
+     * to a full lookup.
+     */
+    private volatile int converterGeneration;
 
     /**
      * Constructor.
@@ -179,11 +184,36 @@ public class DefaultMutableConversionService implements MutableConversionService
         return typeConverter != UNCONVERTIBLE;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <S, T> TypeConverter<S, T> createConverterPlan(Class<S> sourceType, Argument<T> targetType) {
+        Class<T> targetClass = targetType.getType();
+        if (targetClass == Object.class) {
+            return (object, type, context) -> Optional.ofNullable((T) object);
+        }
+        targetClass = targetClass.isPrimitive() ? (Class<T>) ReflectionUtils.getWrapperType(targetClass) : targetClass;
+        final AnnotationMetadata annotationMetadata = targetType.getAnnotationMetadata();
+        String formattingAnnotation = annotationMetadata.hasStereotype(Format.class) ?
+            annotationMetadata.getAnnotationNameByStereotype(Format.class).orElse(null) : null;
+        int generation = converterGeneration;
+        ConvertiblePair pair = new ConvertiblePair(sourceType, targetClass, formattingAnnotation);
+        TypeConverter<Object, T> typeConverter = converterCache.get(pair);
+        if (typeConverter == null) {
+            typeConverter = findTypeConverter(sourceType, targetClass, formattingAnnotation);
+            if (typeConverter == null) {
+                typeConverter = UNCONVERTIBLE;
+            }
+            converterCache.put(pair, typeConverter);
+        }
+        return new ConverterPlan<>(sourceType, targetClass, typeConverter, generation);
+    }
+
     @Override
     public <S, T> void addConverter(Class<S> sourceType, Class<T> targetType, TypeConverter<S, T> typeConverter) {
         ConvertiblePair pair = newPair(sourceType, targetType, typeConverter);
         typeConverters.put(pair, typeConverter);
         converterCache.put(pair, typeConverter);
+        converterGeneration++;
     }
 
     @Override
@@ -192,6 +222,7 @@ public class DefaultMutableConversionService implements MutableConversionService
         TypeConverter<S, T> typeConverter = TypeConverter.of(sourceType, targetType, function);
         typeConverters.put(pair, typeConverter);
         converterCache.put(pair, typeConverter);
+        converterGeneration++;
     }
 
     /**
@@ -1015,6 +1046,44 @@ public class DefaultMutableConversionService implements MutableConversionService
         return pair;
     }
 
+    /**
+     * A converter resolved for a fixed source type and target argument.
+     *
+     * @param <S> The source type
+     * @param <T> The target type
+     */
+    private final class ConverterPlan<S, T> implements TypeConverter<S, T> {
+        private final Class<S> sourceType;
+        private final Class<T> targetType;
+        private final TypeConverter<Object, T> converter;
+        private final int generation;
+
+        ConverterPlan(Class<S> sourceType, Class<T> targetType, TypeConverter<Object, T> converter, int generation) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.converter = converter;
+            this.generation = generation;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Optional<T> convert(S object, Class<T> type, ConversionContext context) {
+            if (object == null) {
+                return Optional.empty();
+            }
+            if (targetType.isInstance(object) && !(object instanceof Iterable) && !(object instanceof Map)) {
+                return Optional.of((T) object);
+            }
+            if (object.getClass() != sourceType || generation != converterGeneration) {
+                return DefaultMutableConversionService.this.convert(object, type, context);
+            }
+            if (converter == UNCONVERTIBLE) {
+                return Optional.empty();
+            }
+            return converter.convert(object, targetType, context);
+        }
+    }
+
     /**
      * Binds the source and target.
      */
@@ -0,0 +1,517 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.io.service;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * An index of the service implementations declared by all entries of a classpath, in both
+ * {@code META-INF/services} files and {@code META-INF/micronaut} directories. It is written at
+ * build time by {@link #main(String[])} into the {@value #RESOURCE} resource of the application,
+ * and lets the {@link SoftServiceLoader} find the implementations of every service with a single
+ * resource read, instead of enumerating and listing the service resources of every JAR file. The
+ * implementation classes are still only loaded when a service is requested.
+ *
+ * <p>The index is only used if the {@value #ENABLED_PROPERTY} system property is {@code true}. It
+ * records the classpath it was built from: JAR files by name, size and last modification time,
+ * and directories by absolute path. If the runtime classpath contains an entry that is not
+ * recorded in any of the visible indexes, other than the entries that contain the indexes
+ * themselves, or a JAR file that differs from the one the index was built from, the indexes are
+ * ignored and the service resources are scanned instead.</p>
+ *
+ * @since 4.0.0
+ */
+@Internal
+public final class ServiceIndex {
+
+    /**
+     * The resource the index is read from.
+     */
+    public static final String RESOURCE = "META-INF/micronaut/service-index.bin";
+
+    /**
+     * The system property that enables the index when set to {@code true}.
+     */
+    public static final String ENABLED_PROPERTY = "micronaut.service-index.enabled";
+
+    private static final int MAGIC = 0x4D534958;
+    private static final int VERSION = 3;
+    private static final String MICRONAUT_SERVICES = "META-INF/micronaut/";
+    private static final String STANDARD_SERVICES = SoftServiceLoader.META_INF_SERVICES + '/';
+    private static final Map<ClassLoader, ServiceIndex> INDEXES = new WeakHashMap<>();
+    private static final ServiceIndex ABSENT = new ServiceIndex(Collections.emptySet(), Collections.emptySet(), Collections.emptyMap(), Collections.emptyMap());
+
+    private final Set<Jar> jars;
+    private final Set<String> directories;
+    private final Map<String, Set<String>> standardServices;
+    private final Map<String, Set<String>> micronautServices;
+
+    private ServiceIndex(Set<Jar> jars,
+                         Set<String> directories,
+                         Map<String, Set<String>> standardServices,
+                         Map<String, Set<String>> micronautServices) {
+        this.jars = jars;
+        this.directories = directories;
+        this.standardServices = standardServices;
+        this.micronautServices = micronautServices;
+    }
+
+    /**
+     * Find the index of the given class loader. All the indexes visible to the class loader are
+     * merged, and the result is only returned if they cover every entry of its classpath.
+     *
+     * @param classLoader The class loader
+     * @return The index or {@code null} if the index is disabled, missing or does not match the classpath
+     */
+    @Nullable
+    public static ServiceIndex find(@NonNull ClassLoader classLoader) {
+        if (!Boolean.getBoolean(ENABLED_PROPERTY)) {
+            return null;
+        }
+        ServiceIndex index;
+        synchronized (INDEXES) {
+            index = INDEXES.get(classLoader);
+            if (index == null) {
+                index = read(classLoader);
+                INDEXES.put(classLoader, index);
+            }
+        }
+        return index == ABSENT ? null : index;
+    }
+
+    private static ServiceIndex read(ClassLoader classLoader) {
+        // fall back to scanning on any mismatch or error, can't log because class used in compiler
+        try {
+            Set<Path> classpath = resolveClasspath(classLoader);
+            if (classpath == null) {
+                return ABSENT;
+            }
+            Set<Path> containers = new LinkedHashSet<>();
+            ServiceIndex merged = null;
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                Path container = resolveContainer(resource);
+                if (container == null) {
+                    return ABSENT;
+                }
+                containers.add(container);
+                try (InputStream in = resource.openStream()) {
+                    merged = merged == null ? read(in) : merged.merge(read(in));
+                }
+            }
+            if (merged == null) {
+                return ABSENT;
+            }
+            for (Path entry : classpath) {
+                if (!containers.contains(entry) && !merged.covers(entry)) {
+                    return ABSENT;
+                }
+            }
+            return merged;
+        } catch (IOException | UncheckedIOException | URISyntaxException | IllegalArgumentException e) {
+            return ABSENT;
+        }
+    }
+
+    /**
+     * @param classLoader The class loader
+     * @return The existing JAR files and directories searched by the class loader and its parents, or {@code null} if they can't be determined
+     */
+    @Nullable
+    private static Set<Path> resolveClasspath(ClassLoader classLoader) throws URISyntaxException {
+        Set<Path> classpath = new LinkedHashSet<>();
+        ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+        ClassLoader platformClassLoader = ClassLoader.getPlatformClassLoader();
+        for (ClassLoader loader = classLoader; loader != null && loader != platformClassLoader; loader = loader.getParent()) {
+            if (loader instanceof URLClassLoader urlClassLoader) {
+                for (URL url : urlClassLoader.getURLs()) {
+                    if (!"file".equals(url.getProtocol())) {
+                        return null;
+                    }
+                    addClasspathEntry(classpath, Paths.get(url.toURI()));
+                }
+            } else if (loader == systemClassLoader) {
+                for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+                    if (!entry.isEmpty()) {
+                        addClasspathEntry(classpath, Paths.get(entry));
+                    }
+                }
+            } else {
+                return null;
+            }
+        }
+        return classpath;
+    }
+
+    private static void addClasspathEntry(Set<Path> classpath, Path entry) {
+        if (Files.exists(entry)) {
+            classpath.add(entry.toAbsolutePath().normalize());
+        }
+    }
+
+    /**
+     * @param resource The URL of an index
+     * @return The JAR file or directory the index is in, or {@code null} if it is not on the file system
+     */
+    @Nullable
+    private static Path resolveContainer(URL resource) throws URISyntaxException {
+        String url = resource.toString();
+        if ("jar".equals(resource.getProtocol())) {
+            int separator = url.indexOf("!/");
+            if (separator == -1) {
+                return null;
+            }
+            url = url.substring("jar:".length(), separator);
+        } else if (url.endsWith(RESOURCE)) {
+            url = url.substring(0, url.length() - RESOURCE.length());
+        } else {
+            return null;
+        }
+        if (!url.startsWith("file:")) {
+            return null;
+        }
+        return Paths.get(new URI(url)).toAbsolutePath().normalize();
+    }
+
+    private boolean covers(Path entry) throws IOException {
+        if (Files.isDirectory(entry)) {
+            return directories.contains(entry.toString());
+        }
+        return jars.contains(Jar.of(entry));
+    }
+
+    private ServiceIndex merge(ServiceIndex other) {
+        Set<Jar> jars = new LinkedHashSet<>(this.jars);
+        jars.addAll(other.jars);
+        Set<String> directories = new LinkedHashSet<>(this.directories);
+        directories.addAll(other.directories);
+        return new ServiceIndex(jars, directories,
+            mergeServices(standardServices, other.standardServices),
+            mergeServices(micronautServices, other.micronautServices));
+    }
+
+    private static Map<String, Set<String>> mergeServices(Map<String, Set<String>> first, Map<String, Set<String>> second) {
+        Map<String, Set<String>> services = new LinkedHashMap<>();
+        for (Map<String, Set<String>> source : List.of(first, second)) {
+            for (Map.Entry<String, Set<String>> entry : source.entrySet()) {
+                services.computeIfAbsent(entry.getKey(), k -> new LinkedHashSet<>()).addAll(entry.getValue());
+            }
+        }
+        return services;
+    }
+
+    /**
+     * Read an index.
+     *
+     * @param in The stream to read from
+     * @return The index
+     * @throws IOException If the stream is not a valid index
+     */
+    @NonNull
+    public static ServiceIndex read(@NonNull InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC || data.readUnsignedShort() != VERSION) {
+            throw new IOException("Not a service index of version " + VERSION);
+        }
+        Set<Jar> jars = readJars(data);
+        Set<String> directories = readNames(data);
+        Map<String, Set<String>> standardServices = readServices(data);
+        Map<String, Set<String>> micronautServices = readServices(data);
+        return new ServiceIndex(jars, directories, standardServices, micronautServices);
+    }
+
+    private static Set<Jar> readJars(DataInputStream data) throws IOException {
+        int count = data.readInt();
+        Set<Jar> jars = new LinkedHashSet<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            jars.add(new Jar(data.readUTF(), data.readLong(), data.readLong()));
+        }
+        return jars;
+    }
+
+    private static Set<String> readNames(DataInputStream data) throws IOException {
+        int count = data.readInt();
+        Set<String> names = new LinkedHashSet<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            names.add(data.readUTF());
+        }
+        return names;
+    }
+
+    private static Map<String, Set<String>> readServices(DataInputStream data) throws IOException {
+        int serviceCount = data.readInt();
+        Map<String, Set<String>> services = new LinkedHashMap<>(serviceCount * 2);
+        for (int i = 0; i < serviceCount; i++) {
+            String serviceName = data.readUTF();
+            int typeCount = data.readInt();
+            Set<String> typeNames = new LinkedHashSet<>(typeCount * 2);
+            for (int j = 0; j < typeCount; j++) {
+                typeNames.add(data.readUTF());
+            }
+            services.put(serviceName, typeNames);
+        }
+        return services;
+    }
+
+    /**
+     * @param serviceName The service name
+     * @return The implementations declared in {@code META-INF/services} files
+     */
+    @NonNull
+    public Set<String> getStandardServiceTypeNames(@NonNull String serviceName) {
+        return standardServices.getOrDefault(serviceName, Collections.emptySet());
+    }
+
+    /**
+     * @param serviceName The service name
+     * @return The implementations declared in {@code META-INF/micronaut} directories
+     */
+    @NonNull
+    public Set<String> getMicronautServiceTypeNames(@NonNull String serviceName) {
+        return micronautServices.getOrDefault(serviceName, Collections.emptySet());
+    }
+
+    /**
+     * Write the index.
+     *
+     * @param out The stream to write to
+     * @throws IOException If the index could not be written
+     */
+    public void write(@NonNull OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        writeJars(data, jars);
+        writeNames(data, directories);
+        writeServices(data, standardServices);
+        writeServices(data, micronautServices);
+        data.flush();
+    }
+
+    private static void writeJars(DataOutputStream data, Set<Jar> jars) throws IOException {
+        data.writeInt(jars.size());
+        for (Jar jar : jars) {
+            data.writeUTF(jar.name);
+            data.writeLong(jar.size);
+            data.writeLong(jar.lastModified);
+        }
+    }
+
+    private static void writeNames(DataOutputStream data, Set<String> names) throws IOException {
+        data.writeInt(names.size());
+        for (String name : names) {
+            data.writeUTF(name);
+        }
+    }
+
+    private static void writeServices(DataOutputStream data, Map<String, Set<String>> services) throws IOException {
+        data.writeInt(services.size());
+        for (Map.Entry<String, Set<String>> entry : services.entrySet()) {
+            data.writeUTF(entry.getKey());
+            data.writeInt(entry.getValue().size());
+            for (String typeName : entry.getValue()) {
+                data.writeUTF(typeName);
+            }
+        }
+    }
+
+    /**
+     * Build the index of the given classpath entries.
+     *
+     * @param classpath The JAR files and directories
+     * @return The index
+     * @throws IOException If an entry could not be read
+     */
+    @NonNull
+    public static ServiceIndex build(@NonNull Iterable<Path> classpath) throws IOException {
+        Set<Jar> jars = new LinkedHashSet<>();
+        Set<String> directories = new LinkedHashSet<>();
+        Map<String, Set<String>> standardServices = new LinkedHashMap<>();
+        Map<String, Set<String>> micronautServices = new LinkedHashMap<>();
+        for (Path entry : classpath) {
+            if (Files.isDirectory(entry)) {
+                directories.add(entry.toAbsolutePath().normalize().toString());
+                indexDirectory(entry, standardServices, micronautServices);
+            } else if (Files.isRegularFile(entry)) {
+                jars.add(Jar.of(entry));
+                indexJar(entry, standardServices, micronautServices);
+            }
+        }
+        return new ServiceIndex(jars, directories, standardServices, micronautServices);
+    }
+
+    private static void indexDirectory(Path directory,
+                                       Map<String, Set<String>> standardServices,
+                                       Map<String, Set<String>> micronautServices) throws IOException {
+        Path standard = directory.resolve(STANDARD_SERVICES);
+        if (Files.isDirectory(standard)) {
+            try (Stream<Path> files = Files.list(standard)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    if (Files.isRegularFile(file)) {
+                        try (InputStream in = Files.newInputStream(file)) {
+                            addStandardServices(standardServices, file.getFileName().toString(), in);
+                        }
+                    }
+                }
+            }
+        }
+        Path micronaut = directory.resolve(MICRONAUT_SERVICES);
+        if (Files.isDirectory(micronaut)) {
+            try (Stream<Path> serviceDirectories = Files.list(micronaut)) {
+                for (Path serviceDirectory : (Iterable<Path>) serviceDirectories::iterator) {
+                    if (Files.isDirectory(serviceDirectory)) {
+                        try (Stream<Path> files = Files.list(serviceDirectory)) {
+                            for (Path file : (Iterable<Path>) files::iterator) {
+                                String typeName = file.getFileName().toString();
+                                if (Files.isRegularFile(file) && !typeName.startsWith(".")) {
+                                    micronautServices.computeIfAbsent(serviceDirectory.getFileName().toString(), k -> new LinkedHashSet<>())
+                                        .add(typeName);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void indexJar(Path jar,
+                                 Map<String, Set<String>> standardServices,
+                                 Map<String, Set<String>> micronautServices) throws IOException {
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                if (name.startsWith(STANDARD_SERVICES) && name.indexOf('/', STANDARD_SERVICES.length()) == -1) {
+                    try (InputStream in = zip.getInputStream(entry)) {
+                        addStandardServices(standardServices, name.substring(STANDARD_SERVICES.length()), in);
+                    }
+                } else if (name.startsWith(MICRONAUT_SERVICES)) {
+                    // META-INF/micronaut/<service>/<type>
+                    String relative = name.substring(MICRONAUT_SERVICES.length());
+                    int separator = relative.indexOf('/');
+                    if (separator > 0 && relative.indexOf('/', separator + 1) == -1) {
+                        String typeName = relative.substring(separator + 1);
+                        if (!typeName.isEmpty() && !typeName.startsWith(".")) {
+                            micronautServices.computeIfAbsent(relative.substring(0, separator), k -> new LinkedHashSet<>())
+                                .add(typeName);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addStandardServices(Map<String, Set<String>> standardServices, String serviceName, InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Set<String> typeNames = standardServices.computeIfAbsent(serviceName, k -> new LinkedHashSet<>());
+        String line;
+        while ((line = reader.readLine()) != null) {
+            int i = line.indexOf('#');
+            if (i > -1) {
+                line = line.substring(0, i);
+            }
+            line = line.trim();
+            if (!line.isEmpty()) {
+                typeNames.add(line);
+            }
+        }
+    }
+
+    /**
+     * Writes the index of a classpath.
+     *
+     * <p>Usage: {@code ServiceIndex <output file> <classpath entry>...}</p>
+     *
+     * @param args The output file followed by the JAR files and directories of the classpath
+     * @throws IOException If the index could not be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: ServiceIndex <output file> <classpath entry>...");
+        }
+        Path output = Paths.get(args[0]);
+        Set<Path> classpath = new LinkedHashSet<>();
+        for (int i = 1; i < args.length; i++) {
+            for (String entry : args[i].split(File.pathSeparator)) {
+                if (!entry.isEmpty()) {
+                    classpath.add(Paths.get(entry));
+                }
+            }
+        }
+        ServiceIndex index = build(classpath);
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(output)) {
+            index.write(out);
+        }
+    }
+
+    /**
+     * A JAR file of the indexed classpath. The size and the last modification time tell apart
+     * JAR files of the same name, such as a newer version of a library that kept its file name.
+     *
+     * @param name         The file name
+     * @param size         The size in bytes
+     * @param lastModified The last modification time in milliseconds
+     */
+    private record Jar(String name, long size, long lastModified) {
+
+        static Jar of(Path jar) throws IOException {
+            return new Jar(jar.getFileName().toString(), Files.size(jar), Files.getLastModifiedTime(jar).toMillis());
+        }
+    }
+}
@@ -157,6 +157,28 @@ final class ServiceScanner<S> {
         return typeNames;
     }
 
+    /**
+     * @return The type names recorded for the service in the {@link ServiceIndex} or {@code null} if there is no index
+     */
+    @Nullable
+    private Set<String> findIndexedServiceTypeNames() {
+        if (findStaticServiceDefinitions() != null) {
+            return null;
+        }
+        ServiceIndex index = ServiceIndex.find(classLoader);
+        if (index == null) {
+            return null;
+        }
+        Set<String> typeNames = new LinkedHashSet<>();
+        for (String typeName : index.getStandardServiceTypeNames(serviceName)) {
+            if (lineCondition.test(typeName)) {
+                typeNames.add(typeName);
+            }
+        }
+        typeNames.addAll(index.getMicronautServiceTypeNames(serviceName));
+        return typeNames;
+    }
+
     private Enumeration<URL> findStandardServiceConfigs() throws IOException {
         return classLoader.getResources(SoftServiceLoader.META_INF_SERVICES + '/' + serviceName);
     }
@@ -194,6 +216,15 @@ final class ServiceScanner<S> {
 
         @Override
         protected void compute() {
+            Set<String> indexedTypeNames = findIndexedServiceTypeNames();
+            if (indexedTypeNames != null) {
+                for (String typeName : indexedTypeNames) {
+                    ServiceInstanceLoader task = new ServiceInstanceLoader(typeName);
+                    tasks.add(task);
+                    task.fork();
+                }
+                return;
+            }
             try {
                 Enumeration<URL> serviceConfigs = findStandardServiceConfigs();
                 while (serviceConfigs.hasMoreElements()) {
@@ -230,6 +261,16 @@ final class ServiceScanner<S> {
                     task.collect(values);
                 }
             } else {
+                Set<String> indexedTypeNames = findIndexedServiceTypeNames();
+                if (indexedTypeNames != null) {
+                    for (String typeName : indexedTypeNames) {
+                        S val = transformer.apply(typeName);
+                        if (val != null) {
+                            values.add(val);
+                        }
+                    }
+                    return;
+                }
                 try {
                     Enumeration<URL> serviceConfigs = findStandardServiceConfigs();
                     while (serviceConfigs.hasMoreElements()) {
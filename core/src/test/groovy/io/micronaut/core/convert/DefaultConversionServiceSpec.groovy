@@ -81,6 +81,52 @@ class DefaultConversionServiceSpec extends Specification {
         }
     }
 
+    void "test converter plan converts a #sourceObject.class.name to a #targetType.type.name"() {
+        given:
+        def conversionService = new DefaultMutableConversionService()
+        def plan = conversionService.createConverterPlan(sourceObject.class, targetType)
+
+        expect:
+        plan.convert(sourceObject, targetType.type, ConversionContext.of(targetType)).get() == result
+        plan.convert(sourceObject, targetType.type, ConversionContext.of(targetType)).get() == result
+
+        where:
+        sourceObject | targetType                   | result
+        "10"         | Argument.of(Integer)         | 10
+        "10"         | Argument.INT                 | 10
+        "yes"        | Argument.of(boolean)         | true
+        10           | Argument.of(String)          | "10"
+        "1,2"        | Argument.listOf(Integer)     | [1, 2]
+        "monday"     | Argument.of(DayOfWeek)       | DayOfWeek.MONDAY
+        "x"          | Argument.of(String)          | "x"
+    }
+
+    void "test converter plan falls back for other source types and new converters"() {
+        given:
+        def conversionService = new DefaultMutableConversionService()
+        def plan = conversionService.createConverterPlan(String, Argument.of(Integer))
+
+        expect:
+        plan.convert(10L, Integer, ConversionContext.DEFAULT).get() == 10
+        !plan.convert("foo", Integer, ConversionContext.DEFAULT).isPresent()
+
+        when:
+        conversionService.addConverter(String, Integer, (String s) -> s.length())
+
+        then:
+        plan.convert("foo", Integer, ConversionContext.DEFAULT).get() == 3
+    }
+
+    void "test converter plan for an unconvertible pair"() {
+        given:
+        def conversionService = new DefaultMutableConversionService()
+        def plan = conversionService.createConverterPlan(Thread, Argument.of(Locale))
+
+        expect:
+        !plan.convert(Thread.currentThread(), Locale, ConversionContext.DEFAULT).isPresent()
+        !conversionService.createConverterPlan(Thread, Argument.of(Locale)).convert(Thread.currentThread(), Locale, ConversionContext.DEFAULT).isPresent()
+    }
+
     void "test empty string conversion"() {
         given:
         ConversionService conversionService = new DefaultMutableConversionService()
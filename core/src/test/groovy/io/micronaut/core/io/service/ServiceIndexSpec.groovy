@@ -0,0 +1,181 @@
+package io.micronaut.core.io.service
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+import java.util.zip.ZipEntry
+import java.util.zip.ZipOutputStream
+
+class ServiceIndexSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void setup() {
+        System.setProperty(ServiceIndex.ENABLED_PROPERTY, "true")
+    }
+
+    void cleanup() {
+        System.clearProperty(ServiceIndex.ENABLED_PROPERTY)
+    }
+
+    void "test build index from directories and jars"() {
+        given:
+        Path classes = tempDir.resolve("classes")
+        Files.createDirectories(classes.resolve("META-INF/services"))
+        Files.writeString(classes.resolve("META-INF/services/test.Service"), "# comment\ntest.One\ntest.Two # trailing\n\n")
+        Files.createDirectories(classes.resolve("META-INF/micronaut/test.Service"))
+        Files.createFile(classes.resolve("META-INF/micronaut/test.Service/test.Three"))
+        Path jar = tempDir.resolve("lib.jar")
+        new ZipOutputStream(Files.newOutputStream(jar)).withCloseable { zip ->
+            zip.putNextEntry(new ZipEntry("META-INF/services/test.Service"))
+            zip.write("test.Four\ntest.One\n".bytes)
+            zip.putNextEntry(new ZipEntry("META-INF/micronaut/test.Service/"))
+            zip.putNextEntry(new ZipEntry("META-INF/micronaut/test.Service/test.Five"))
+            zip.putNextEntry(new ZipEntry("META-INF/micronaut/other.Service/test.Six"))
+        }
+
+        when:
+        ServiceIndex index = ServiceIndex.build([classes, jar])
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        index.write(out)
+        index = ServiceIndex.read(new ByteArrayInputStream(out.toByteArray()))
+
+        then:
+        index.getStandardServiceTypeNames("test.Service") as List == ["test.One", "test.Two", "test.Four"]
+        index.getMicronautServiceTypeNames("test.Service") as List == ["test.Three", "test.Five"]
+        index.getMicronautServiceTypeNames("other.Service") as List == ["test.Six"]
+        index.getStandardServiceTypeNames("missing.Service").isEmpty()
+    }
+
+    void "test the service loader reads the index instead of scanning"() {
+        given:
+        Path classes = tempDir.resolve("classes")
+        Files.createDirectories(classes.resolve("META-INF/services"))
+        Files.writeString(classes.resolve("META-INF/services/test.Service"), "test.One\ntest.Two\n")
+        Files.createDirectories(classes.resolve("META-INF/micronaut/test.Service"))
+        Files.createFile(classes.resolve("META-INF/micronaut/test.Service/test.Three"))
+        Path indexDir = tempDir.resolve("index")
+        ServiceIndex.main(indexDir.resolve(ServiceIndex.RESOURCE).toString(), classes.toString())
+        // only the index is visible, not the service files themselves
+        URLClassLoader classLoader = new URLClassLoader([indexDir.toUri().toURL()] as URL[], (ClassLoader) null)
+
+        when:
+        List<String> names = []
+        SoftServiceLoader.newCollector("test.Service", { it != "test.Two" }, classLoader, { it })
+                .collect(names, allowFork)
+
+        then:
+        names as Set == ["test.One", "test.Three"] as Set
+
+        cleanup:
+        classLoader.close()
+
+        where:
+        allowFork << [true, false]
+    }
+
+    void "test the index is only used when enabled"() {
+        given:
+        System.clearProperty(ServiceIndex.ENABLED_PROPERTY)
+        Path classes = tempDir.resolve("classes")
+        Files.createDirectories(classes.resolve("META-INF/services"))
+        Files.writeString(classes.resolve("META-INF/services/test.Service"), "test.One\n")
+        Path indexDir = tempDir.resolve("index")
+        ServiceIndex.main(indexDir.resolve(ServiceIndex.RESOURCE).toString(), classes.toString())
+        URLClassLoader classLoader = new URLClassLoader([indexDir.toUri().toURL()] as URL[], (ClassLoader) null)
+
+        expect:
+        ServiceIndex.find(classLoader) == null
+
+        cleanup:
+        classLoader.close()
+    }
+
+    void "test services of a jar that is not covered by the index are still found"() {
+        given:
+        Path indexed = tempDir.resolve("indexed.jar")
+        writeJar(indexed, "test.One")
+        Path index = tempDir.resolve("index.bin")
+        ServiceIndex.main(index.toString(), indexed.toString())
+        Path indexedWithIndex = tempDir.resolve("app.jar")
+        writeJar(indexedWithIndex, "test.One", Files.readAllBytes(index))
+        Path other = tempDir.resolve("other.jar")
+        writeJar(other, "test.Two")
+        URLClassLoader classLoader = new URLClassLoader([indexedWithIndex, other].collect { it.toUri().toURL() } as URL[], (ClassLoader) null)
+
+        when:
+        List<String> names = []
+        SoftServiceLoader.newCollector("test.Service", { true }, classLoader, { it })
+                .collect(names, allowFork)
+
+        then:
+        ServiceIndex.find(classLoader) == null
+        names as Set == ["test.One", "test.Two"] as Set
+
+        cleanup:
+        classLoader.close()
+
+        where:
+        allowFork << [true, false]
+    }
+
+    void "test the index is used when it covers every jar"() {
+        given:
+        Path library = tempDir.resolve("library.jar")
+        writeJar(library, "test.Two")
+        Path index = tempDir.resolve("index.bin")
+        ServiceIndex.main(index.toString(), library.toString())
+        Path app = tempDir.resolve("app.jar")
+        writeJar(app, null, Files.readAllBytes(index))
+        URLClassLoader classLoader = new URLClassLoader([app, library].collect { it.toUri().toURL() } as URL[], (ClassLoader) null)
+
+        expect:
+        ServiceIndex.find(classLoader).getStandardServiceTypeNames("test.Service") as List == ["test.Two"]
+
+        cleanup:
+        classLoader.close()
+    }
+
+    void "test the index is not used when a jar was replaced by one of the same name"() {
+        given:
+        Path library = tempDir.resolve("library.jar")
+        writeJar(library, "test.Two")
+        Path index = tempDir.resolve("index.bin")
+        ServiceIndex.main(index.toString(), library.toString())
+        Path app = tempDir.resolve("app.jar")
+        writeJar(app, null, Files.readAllBytes(index))
+        // a newer version of the library with the same file name
+        writeJar(library, "test.Three")
+        Files.setLastModifiedTime(library, FileTime.fromMillis(Files.getLastModifiedTime(library).toMillis() + 60_000))
+        URLClassLoader classLoader = new URLClassLoader([app, library].collect { it.toUri().toURL() } as URL[], (ClassLoader) null)
+
+        when:
+        List<String> names = []
+        SoftServiceLoader.newCollector("test.Service", { true }, classLoader, { it })
+                .collect(names, false)
+
+        then:
+        ServiceIndex.find(classLoader) == null
+        names == ["test.Three"]
+
+        cleanup:
+        classLoader.close()
+    }
+
+    private static void writeJar(Path jar, String service, byte[] index = null) {
+        new ZipOutputStream(Files.newOutputStream(jar)).withCloseable { zip ->
+            if (service != null) {
+                zip.putNextEntry(new ZipEntry("META-INF/services/test.Service"))
+                zip.write("${service}\n".bytes)
+            }
+            if (index != null) {
+                zip.putNextEntry(new ZipEntry(ServiceIndex.RESOURCE))
+                zip.write(index)
+            }
+        }
+    }
+}
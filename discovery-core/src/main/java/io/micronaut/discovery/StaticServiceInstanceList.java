@@ -19,10 +19,12 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.health.HealthStatus;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * A {@link ServiceInstanceList} using a static list of URLs. This class doesn't support health checking.
@@ -34,6 +36,7 @@ public class StaticServiceInstanceList implements ServiceInstanceList {
     private final String id;
     private final Collection<URI> loadBalancedURIs;
     private final String contextPath;
+    private volatile Instances instances;
 
     /**
      * Default constructor.
@@ -63,11 +66,21 @@ public class StaticServiceInstanceList implements ServiceInstanceList {
 
     @Override
     public List<ServiceInstance> getInstances() {
-        return loadBalancedURIs.stream().map(url -> {
-            ServiceInstance.Builder builder = ServiceInstance.builder(id, url);
-            builder.status(HealthStatus.UP);
-            return builder.build();
-        }).collect(Collectors.toList());
+        // the instances are only rebuilt when the URIs change, so that callers can cache
+        // derived state by the identity of the returned list
+        Instances current = instances;
+        if (current == null || !current.matches(loadBalancedURIs)) {
+            List<URI> uris = new ArrayList<>(loadBalancedURIs);
+            List<ServiceInstance> serviceInstances = new ArrayList<>(uris.size());
+            for (URI uri : uris) {
+                ServiceInstance.Builder builder = ServiceInstance.builder(id, uri);
+                builder.status(HealthStatus.UP);
+                serviceInstances.add(builder.build());
+            }
+            current = new Instances(uris, Collections.unmodifiableList(serviceInstances));
+            instances = current;
+        }
+        return current.serviceInstances();
     }
 
     /**
@@ -81,4 +94,23 @@ public class StaticServiceInstanceList implements ServiceInstanceList {
     public Optional<String> getContextPath() {
         return Optional.ofNullable(contextPath);
     }
+
+    /**
+     * The instances built for a snapshot of the load balanced URIs.
+     *
+     * @param uris             The URIs
+     * @param serviceInstances The instances
+     */
+    private record Instances(List<URI> uris, List<ServiceInstance> serviceInstances) {
+
+        boolean matches(Collection<URI> loadBalancedURIs) {
+            Iterator<URI> i = uris.iterator();
+            for (URI uri : loadBalancedURIs) {
+                if (!i.hasNext() || !i.next().equals(uri)) {
+                    return false;
+                }
+            }
+            return !i.hasNext();
+        }
+    }
 }
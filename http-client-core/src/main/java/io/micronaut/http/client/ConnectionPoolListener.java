@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Listener for connection pool events of the HTTP client. Beans of this type are notified of
+ * the events of every pool of the clients created by the application context. Callbacks are
+ * invoked on the thread that triggered the event, often an event loop, and must not block.
+ *
+ * @since 4.0.0
+ */
+public interface ConnectionPoolListener {
+
+    /**
+     * Called when a client creates the pool for a new host.
+     *
+     * @param pool The pool
+     */
+    default void onPoolCreated(@NonNull ConnectionPoolMetrics pool) {
+    }
+
+    /**
+     * Called when the client owning the pool is stopped.
+     *
+     * @param pool The pool
+     */
+    default void onPoolClosed(@NonNull ConnectionPoolMetrics pool) {
+    }
+
+    /**
+     * Called when a request acquired a connection.
+     *
+     * @param pool      The pool
+     * @param waitNanos The time the request waited for the connection, in nanoseconds
+     */
+    default void onAcquired(@NonNull ConnectionPoolMetrics pool, long waitNanos) {
+    }
+
+    /**
+     * Called when a request failed to acquire a connection, e.g. because of a timeout.
+     *
+     * @param pool      The pool
+     * @param waitNanos The time the request waited for the connection, in nanoseconds
+     * @param cause     The failure
+     */
+    default void onAcquireFailed(@NonNull ConnectionPoolMetrics pool, long waitNanos, @NonNull Throwable cause) {
+    }
+
+    /**
+     * Called when a new connection was established.
+     *
+     * @param pool  The pool
+     * @param http2 Whether the connection uses HTTP/2
+     */
+    default void onConnectionOpened(@NonNull ConnectionPoolMetrics pool, boolean http2) {
+    }
+
+    /**
+     * Called when a connection was closed.
+     *
+     * @param pool  The pool
+     * @param http2 Whether the connection uses HTTP/2
+     */
+    default void onConnectionClosed(@NonNull ConnectionPoolMetrics pool, boolean http2) {
+    }
+
+    /**
+     * Called when a new connection could not be established.
+     *
+     * @param pool  The pool
+     * @param cause The failure, if known
+     */
+    default void onConnectionFailed(@NonNull ConnectionPoolMetrics pool, @Nullable Throwable cause) {
+    }
+
+    /**
+     * Called when adaptive pool sizing changed the {@link ConnectionPoolMetrics#getConnectionLimit() connection limit}.
+     *
+     * @param pool          The pool
+     * @param previousLimit The previous limit
+     * @param newLimit      The new limit
+     */
+    default void onConnectionLimitChanged(@NonNull ConnectionPoolMetrics pool, int previousLimit, int newLimit) {
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.time.Duration;
+
+/**
+ * A live view of the state of one connection pool of an HTTP client. A client keeps one pool for
+ * each host, port and scheme it connects to.
+ *
+ * @since 4.0.0
+ */
+public interface ConnectionPoolMetrics {
+
+    /**
+     * @return The ID of the client that owns this pool, if known
+     */
+    @Nullable
+    String getClientId();
+
+    /**
+     * @return The remote host
+     */
+    @NonNull
+    String getHost();
+
+    /**
+     * @return The remote port
+     */
+    int getPort();
+
+    /**
+     * @return Whether connections of this pool use TLS
+     */
+    boolean isSecure();
+
+    /**
+     * @return The number of requests waiting for a connection
+     */
+    int getPendingAcquires();
+
+    /**
+     * @return The number of connections that are being established
+     */
+    int getPendingConnections();
+
+    /**
+     * @return The number of open HTTP/1 connections
+     */
+    int getHttp1Connections();
+
+    /**
+     * @return The number of open HTTP/1 connections that are running a request
+     */
+    int getHttp1ActiveConnections();
+
+    /**
+     * @return The number of open HTTP/2 connections
+     */
+    int getHttp2Connections();
+
+    /**
+     * @return The number of requests (streams) running on the HTTP/2 connections
+     */
+    int getHttp2ActiveStreams();
+
+    /**
+     * @return The maximum number of connections the pool currently opens. With adaptive sizing,
+     * this changes with the load.
+     */
+    int getConnectionLimit();
+
+    /**
+     * @return The total number of connections acquired from this pool
+     */
+    long getAcquireCount();
+
+    /**
+     * @return The total number of failed or timed out acquisitions
+     */
+    long getAcquireFailureCount();
+
+    /**
+     * @return The total number of connections opened by this pool
+     */
+    long getConnectionsOpened();
+
+    /**
+     * @return The total number of connections of this pool that were closed
+     */
+    long getConnectionsClosed();
+
+    /**
+     * @return The total number of connection attempts that failed
+     */
+    long getConnectionFailures();
+
+    /**
+     * The approximate latency to acquire a connection since the pool was created. The value is
+     * the upper bound of a histogram bucket, so it may be up to twice the actual latency.
+     *
+     * @param percentile The percentile, between 0 and 1
+     * @return The acquire latency at the given percentile
+     */
+    @NonNull
+    Duration getAcquireLatency(double percentile);
+}
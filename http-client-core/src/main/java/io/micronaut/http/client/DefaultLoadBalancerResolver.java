@@ -23,7 +23,9 @@ import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.discovery.ServiceInstanceList;
 import io.micronaut.http.client.loadbalance.DiscoveryClientLoadBalancerFactory;
+import io.micronaut.http.client.loadbalance.LoadBalancingStrategy;
 import io.micronaut.http.client.loadbalance.ServiceInstanceListLoadBalancerFactory;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.runtime.server.EmbeddedServer;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -122,12 +124,15 @@ public class DefaultLoadBalancerResolver implements LoadBalancerResolver {
      * @return An {@link Optional} with the load balancer
      */
     protected Optional<? extends LoadBalancer> resolveLoadBalancerForServiceID(String serviceID) {
+        LoadBalancingStrategy strategy = beanContext.findBean(ServiceHttpClientConfiguration.class, Qualifiers.byName(serviceID))
+            .map(ServiceHttpClientConfiguration::getLoadBalancer)
+            .orElse(LoadBalancingStrategy.ROUND_ROBIN);
         if (serviceInstanceLists.containsKey(serviceID)) {
             ServiceInstanceList serviceInstanceList = serviceInstanceLists.get(serviceID);
-            LoadBalancer loadBalancer = beanContext.getBean(ServiceInstanceListLoadBalancerFactory.class).create(serviceInstanceList);
+            LoadBalancer loadBalancer = beanContext.getBean(ServiceInstanceListLoadBalancerFactory.class).create(serviceInstanceList, strategy);
             return Optional.ofNullable(loadBalancer);
         } else {
-            LoadBalancer loadBalancer = beanContext.getBean(DiscoveryClientLoadBalancerFactory.class).create(serviceID);
+            LoadBalancer loadBalancer = beanContext.getBean(DiscoveryClientLoadBalancerFactory.class).create(serviceID, strategy);
             return Optional.of(loadBalancer);
         }
     }
@@ -748,6 +748,24 @@ public abstract class HttpClientConfiguration {
         @SuppressWarnings("WeakerAccess")
         public static final boolean DEFAULT_ENABLED = true;
 
+        /**
+         * The default target acquire latency of the adaptive pool sizing.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_ADAPTIVE_TARGET_ACQUIRE_LATENCY_MILLISECONDS = 10;
+
+        /**
+         * The default percentile of the acquire latency targeted by the adaptive pool sizing.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final double DEFAULT_ADAPTIVE_TARGET_PERCENTILE = 0.95;
+
+        /**
+         * The default interval between two adjustments of the adaptive pool sizing.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_ADAPTIVE_INTERVAL_MILLISECONDS = 1000;
+
         private int maxPendingConnections = 4;
 
         private int maxConcurrentRequestsPerHttp2Connection = Integer.MAX_VALUE;
@@ -760,6 +778,12 @@ public abstract class HttpClientConfiguration {
 
         private boolean enabled = DEFAULT_ENABLED;
 
+        private boolean adaptive = false;
+        private Duration adaptiveTargetAcquireLatency = Duration.ofMillis(DEFAULT_ADAPTIVE_TARGET_ACQUIRE_LATENCY_MILLISECONDS);
+        private double adaptiveTargetPercentile = DEFAULT_ADAPTIVE_TARGET_PERCENTILE;
+        private Duration adaptiveInterval = Duration.ofMillis(DEFAULT_ADAPTIVE_INTERVAL_MILLISECONDS);
+        private int adaptiveMinConnections = 1;
+
         /**
          * Whether connection pooling is enabled.
          * [available in the Netty HTTP client]
@@ -898,6 +922,117 @@ public abstract class HttpClientConfiguration {
         public void setMaxConcurrentHttp2Connections(int maxConcurrentHttp2Connections) {
             this.maxConcurrentHttp2Connections = maxConcurrentHttp2Connections;
         }
+
+        /**
+         * Whether the number of connections per host is sized adaptively. The pool then limits
+         * itself to as many connections as are needed to keep the
+         * {@link #getAdaptiveTargetPercentile() target percentile} of the connection acquire
+         * latency below the {@link #getAdaptiveTargetAcquireLatency() target latency}, within
+         * the bounds of {@link #getAdaptiveMinConnections()} and the configured maximum number
+         * of connections.
+         * [available in the Netty HTTP client]
+         * @return Whether adaptive pool sizing is enabled
+         * @since 4.0.0
+         */
+        public boolean isAdaptive() {
+            return adaptive;
+        }
+
+        /**
+         * Whether the number of connections per host is sized adaptively. Default value
+         * {@code false}.
+         *
+         * @param adaptive Whether adaptive pool sizing is enabled
+         * @since 4.0.0
+         */
+        public void setAdaptive(boolean adaptive) {
+            this.adaptive = adaptive;
+        }
+
+        /**
+         * The connection acquire latency targeted by the adaptive pool sizing.
+         * [available in the Netty HTTP client]
+         * @return The target acquire latency
+         * @since 4.0.0
+         */
+        public Duration getAdaptiveTargetAcquireLatency() {
+            return adaptiveTargetAcquireLatency;
+        }
+
+        /**
+         * The connection acquire latency targeted by the adaptive pool sizing. Default value
+         * ({@value #DEFAULT_ADAPTIVE_TARGET_ACQUIRE_LATENCY_MILLISECONDS}ms).
+         *
+         * @param adaptiveTargetAcquireLatency The target acquire latency
+         * @since 4.0.0
+         */
+        public void setAdaptiveTargetAcquireLatency(Duration adaptiveTargetAcquireLatency) {
+            this.adaptiveTargetAcquireLatency = adaptiveTargetAcquireLatency;
+        }
+
+        /**
+         * The percentile of the connection acquire latency that is compared to the
+         * {@link #getAdaptiveTargetAcquireLatency() target latency}, between 0 and 1.
+         * [available in the Netty HTTP client]
+         * @return The target percentile
+         * @since 4.0.0
+         */
+        public double getAdaptiveTargetPercentile() {
+            return adaptiveTargetPercentile;
+        }
+
+        /**
+         * The percentile of the connection acquire latency that is compared to the target
+         * latency, between 0 and 1. Default value ({@value #DEFAULT_ADAPTIVE_TARGET_PERCENTILE}).
+         *
+         * @param adaptiveTargetPercentile The target percentile
+         * @since 4.0.0
+         */
+        public void setAdaptiveTargetPercentile(double adaptiveTargetPercentile) {
+            this.adaptiveTargetPercentile = adaptiveTargetPercentile;
+        }
+
+        /**
+         * The interval between two adjustments of the adaptive pool size.
+         * [available in the Netty HTTP client]
+         * @return The adjustment interval
+         * @since 4.0.0
+         */
+        public Duration getAdaptiveInterval() {
+            return adaptiveInterval;
+        }
+
+        /**
+         * The interval between two adjustments of the adaptive pool size. Default value
+         * ({@value #DEFAULT_ADAPTIVE_INTERVAL_MILLISECONDS}ms).
+         *
+         * @param adaptiveInterval The adjustment interval
+         * @since 4.0.0
+         */
+        public void setAdaptiveInterval(Duration adaptiveInterval) {
+            this.adaptiveInterval = adaptiveInterval;
+        }
+
+        /**
+         * The number of connections the adaptive pool sizing starts with and never goes below.
+         * [available in the Netty HTTP client]
+         * @return The minimum connection limit
+         * @since 4.0.0
+         */
+        public int getAdaptiveMinConnections() {
+            return adaptiveMinConnections;
+        }
+
+        /**
+         * The number of connections the adaptive pool sizing starts with and never goes below.
+         * Default value {@code 1}.
+         *
+         * @param adaptiveMinConnections The minimum connection limit
+         * @since 4.0.0
+         */
+        public void setAdaptiveMinConnections(int adaptiveMinConnections) {
+            this.adaptiveMinConnections = adaptiveMinConnections;
+        }
     }
 
 }
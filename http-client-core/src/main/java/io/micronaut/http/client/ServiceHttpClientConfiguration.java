@@ -20,6 +20,7 @@ import io.micronaut.context.annotation.EachProperty;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.http.client.loadbalance.LoadBalancingStrategy;
 import io.micronaut.http.context.ClientContextPathProvider;
 import io.micronaut.http.ssl.AbstractClientSslConfiguration;
 import io.micronaut.http.ssl.SslConfiguration;
@@ -73,6 +74,7 @@ public class ServiceHttpClientConfiguration extends HttpClientConfiguration impl
     private boolean healthCheck = DEFAULT_HEALTHCHECK;
     private Duration healthCheckInterval = Duration.ofSeconds(DEFAULT_HEALTHCHECKINTERVAL_SECONDS);
     private String path;
+    private LoadBalancingStrategy loadBalancer = LoadBalancingStrategy.ROUND_ROBIN;
 
     /**
      * Creates a new client configuration for the given service ID.
@@ -243,6 +245,28 @@ public class ServiceHttpClientConfiguration extends HttpClientConfiguration impl
         }
     }
 
+    /**
+     * The strategy for selecting the instance of the service a request is sent to.
+     *
+     * @return The load balancing strategy
+     * @since 4.0.0
+     */
+    public LoadBalancingStrategy getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    /**
+     * Sets the strategy for selecting the instance of the service a request is sent to. Default value (round-robin).
+     *
+     * @param loadBalancer The load balancing strategy
+     * @since 4.0.0
+     */
+    public void setLoadBalancer(LoadBalancingStrategy loadBalancer) {
+        if (loadBalancer != null) {
+            this.loadBalancer = loadBalancer;
+        }
+    }
+
     @Override
     public ConnectionPoolConfiguration getConnectionPoolConfiguration() {
         return connectionPoolConfiguration;
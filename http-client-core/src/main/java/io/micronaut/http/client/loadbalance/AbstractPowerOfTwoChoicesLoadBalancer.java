@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.exceptions.NoAvailableServiceException;
+import io.micronaut.health.HealthStatus;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A load balancer that picks two available instances at random and selects the one with the lower
+ * load, where the load of an instance is the number of requests outstanding to it multiplied by an
+ * exponentially weighted moving average (EWMA) of its latency. Instances without any latency
+ * measurement yet are compared by their outstanding requests alone.
+ *
+ * <p>The load is only known for requests reported through the {@link RequestTrackingLoadBalancer}
+ * callbacks. The statistics of instances that are no longer in the instance list are discarded.</p>
+ *
+ * @since 4.0.0
+ */
+public abstract class AbstractPowerOfTwoChoicesLoadBalancer implements RequestTrackingLoadBalancer {
+
+    /**
+     * The weight of a new latency measurement in the moving average.
+     */
+    private static final double EWMA_WEIGHT = 0.3;
+
+    /**
+     * Failed requests are often fast, so they count as this many times the current average to keep
+     * a failing instance from attracting more requests.
+     */
+    private static final int FAILURE_PENALTY = 2;
+
+    private final Map<URI, InstanceStats> stats = new ConcurrentHashMap<>();
+    private volatile Set<URI> knownUris = Collections.emptySet();
+
+    /**
+     * @return The service ID
+     */
+    public abstract String getServiceID();
+
+    /**
+     * @param serviceInstances A list of service instances
+     * @return The next available instance or a {@link NoAvailableServiceException} if none
+     */
+    protected ServiceInstance getNextAvailable(List<ServiceInstance> serviceInstances) {
+        forgetRemovedInstances(serviceInstances);
+        List<ServiceInstance> available = new ArrayList<>(serviceInstances.size());
+        for (ServiceInstance serviceInstance : serviceInstances) {
+            if (serviceInstance.getHealthStatus().equals(HealthStatus.UP)) {
+                available.add(serviceInstance);
+            }
+        }
+        int len = available.size();
+        if (len == 0) {
+            throw new NoAvailableServiceException(getServiceID());
+        }
+        if (len == 1) {
+            return available.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(len);
+        // a second, distinct index
+        int second = random.nextInt(len - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance firstInstance = available.get(first);
+        ServiceInstance secondInstance = available.get(second);
+        return getStats(secondInstance).isLessLoadedThan(getStats(firstInstance)) ? secondInstance : firstInstance;
+    }
+
+    @Override
+    public void onRequestStart(@NonNull ServiceInstance instance) {
+        InstanceStats instanceStats = stats.get(instance.getURI());
+        if (instanceStats != null) {
+            instanceStats.outstanding.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onRequestComplete(@NonNull ServiceInstance instance, long durationNanos, boolean failed) {
+        InstanceStats instanceStats = stats.get(instance.getURI());
+        if (instanceStats != null) {
+            // the instance may have been removed and re-added while the request was in flight
+            instanceStats.outstanding.getAndUpdate(n -> n > 0 ? n - 1 : 0);
+            instanceStats.update(durationNanos, failed);
+        }
+    }
+
+    /**
+     * @param instance The instance
+     * @return The number of requests outstanding to the instance
+     */
+    public int getOutstandingRequests(@NonNull ServiceInstance instance) {
+        InstanceStats instanceStats = stats.get(instance.getURI());
+        return instanceStats == null ? 0 : instanceStats.outstanding.get();
+    }
+
+    /**
+     * @param instance The instance
+     * @return The moving average of the latency of the instance in nanoseconds, or {@code 0} if
+     * there has not been any request yet
+     */
+    public double getLatencyNanos(@NonNull ServiceInstance instance) {
+        InstanceStats instanceStats = stats.get(instance.getURI());
+        return instanceStats == null ? 0 : instanceStats.latency;
+    }
+
+    private InstanceStats getStats(ServiceInstance instance) {
+        InstanceStats instanceStats = stats.get(instance.getURI());
+        if (instanceStats == null) {
+            instanceStats = stats.computeIfAbsent(instance.getURI(), uri -> new InstanceStats());
+        }
+        return instanceStats;
+    }
+
+    /**
+     * Discards the statistics of the instances that are gone, if the set of instances has changed.
+     *
+     * @param serviceInstances A list of service instances
+     */
+    private void forgetRemovedInstances(List<ServiceInstance> serviceInstances) {
+        Set<URI> known = knownUris;
+        boolean changed = known.size() != serviceInstances.size();
+        for (int i = 0; !changed && i < serviceInstances.size(); i++) {
+            changed = !known.contains(serviceInstances.get(i).getURI());
+        }
+        if (changed) {
+            Set<URI> uris = new HashSet<>(serviceInstances.size());
+            for (ServiceInstance serviceInstance : serviceInstances) {
+                uris.add(serviceInstance.getURI());
+            }
+            if (!uris.equals(known)) {
+                stats.keySet().retainAll(uris);
+                for (URI uri : uris) {
+                    stats.computeIfAbsent(uri, u -> new InstanceStats());
+                }
+                knownUris = uris;
+            }
+        }
+    }
+
+    /**
+     * The load of a single instance.
+     */
+    private static final class InstanceStats {
+        final AtomicInteger outstanding = new AtomicInteger();
+        // concurrent updates may lose a measurement, which does not matter for an average
+        volatile double latency;
+
+        void update(long durationNanos, boolean failed) {
+            double current = latency;
+            double sample = failed ? Math.max(durationNanos, current) * FAILURE_PENALTY : durationNanos;
+            latency = current == 0 ? sample : current + EWMA_WEIGHT * (sample - current);
+        }
+
+        boolean isLessLoadedThan(InstanceStats other) {
+            int outstanding = this.outstanding.get();
+            int otherOutstanding = other.outstanding.get();
+            double latency = this.latency;
+            double otherLatency = other.latency;
+            if (latency == 0 || otherLatency == 0) {
+                return outstanding < otherOutstanding;
+            }
+            return latency * (outstanding + 1) < otherLatency * (otherOutstanding + 1);
+        }
+    }
+}
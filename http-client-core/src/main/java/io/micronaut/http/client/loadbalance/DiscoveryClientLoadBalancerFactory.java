@@ -48,6 +48,21 @@ public class DiscoveryClientLoadBalancerFactory {
         return new DiscoveryClientRoundRobinLoadBalancer(serviceID, discoveryClient);
     }
 
+    /**
+     * Creates a {@link LoadBalancer} with the given strategy for the given service ID.
+     *
+     * @param serviceID The service ID
+     * @param strategy  The load balancing strategy
+     * @return The {@link LoadBalancer}
+     * @since 4.0.0
+     */
+    public LoadBalancer create(String serviceID, LoadBalancingStrategy strategy) {
+        if (strategy == LoadBalancingStrategy.POWER_OF_TWO_CHOICES) {
+            return new DiscoveryClientPowerOfTwoChoicesLoadBalancer(serviceID, discoveryClient);
+        }
+        return create(serviceID);
+    }
+
     /**
      * @return The {@link DiscoveryClient} being used
      */
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+/**
+ * The strategies for selecting the instance of a service ID a request is sent to.
+ *
+ * @since 4.0.0
+ */
+public enum LoadBalancingStrategy {
+
+    /**
+     * Cycle through the available instances.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Pick two available instances at random and send the request to the one with fewer
+     * outstanding requests, weighted by its recent latency.
+     *
+     * @see AbstractPowerOfTwoChoicesLoadBalancer
+     */
+    POWER_OF_TWO_CHOICES
+}
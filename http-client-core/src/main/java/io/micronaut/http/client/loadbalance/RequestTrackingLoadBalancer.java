@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.http.client.LoadBalancer;
+
+/**
+ * A {@link LoadBalancer} that is told about the requests sent to the instances it selected, so
+ * that it can take their load and latency into account. The HTTP client calls
+ * {@link #onRequestStart(ServiceInstance)} once a request to a selected instance begins, and
+ * {@link #onRequestComplete(ServiceInstance, long, boolean)} once it has completed, failed or
+ * been cancelled.
+ *
+ * @since 4.0.0
+ */
+public interface RequestTrackingLoadBalancer extends LoadBalancer {
+
+    /**
+     * Called when a request to the given instance starts.
+     *
+     * @param instance The instance
+     */
+    void onRequestStart(@NonNull ServiceInstance instance);
+
+    /**
+     * Called when a request to the given instance has finished.
+     *
+     * @param instance      The instance
+     * @param durationNanos The duration of the request in nanoseconds
+     * @param failed        Whether the request failed because of the instance, that is with a
+     *                      connection error or a 5xx response. Other error responses are not failures
+     */
+    void onRequestComplete(@NonNull ServiceInstance instance, long durationNanos, boolean failed);
+}
@@ -40,4 +40,19 @@ public class ServiceInstanceListLoadBalancerFactory {
     public LoadBalancer create(ServiceInstanceList serviceInstanceList) {
         return new ServiceInstanceListRoundRobinLoadBalancer(serviceInstanceList);
     }
+
+    /**
+     * Creates a {@link LoadBalancer} with the given strategy from the given {@link ServiceInstanceList}.
+     *
+     * @param serviceInstanceList The {@link ServiceInstanceList}
+     * @param strategy            The load balancing strategy
+     * @return The {@link LoadBalancer}
+     * @since 4.0.0
+     */
+    public LoadBalancer create(ServiceInstanceList serviceInstanceList, LoadBalancingStrategy strategy) {
+        if (strategy == LoadBalancingStrategy.POWER_OF_TWO_CHOICES) {
+            return new ServiceInstanceListPowerOfTwoChoicesLoadBalancer(serviceInstanceList);
+        }
+        return create(serviceInstanceList);
+    }
 }
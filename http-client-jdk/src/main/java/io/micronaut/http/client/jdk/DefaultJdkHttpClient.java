@@ -20,11 +20,17 @@ import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.value.MutableConvertibleValues;
+import io.micronaut.core.convert.value.MutableConvertibleValuesMap;
 import io.micronaut.core.io.ResourceResolver;
+import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpRequest;
 import io.micronaut.http.bind.DefaultRequestBinderRegistry;
 import io.micronaut.http.bind.RequestBinderRegistry;
 import io.micronaut.http.client.BlockingHttpClient;
@@ -33,31 +39,51 @@ import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.micronaut.http.client.HttpVersionSelection;
 import io.micronaut.http.client.LoadBalancer;
+import io.micronaut.http.client.StreamingHttpClient;
+import io.micronaut.http.client.exceptions.ContentLengthExceededException;
 import io.micronaut.http.client.exceptions.HttpClientExceptionUtils;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import io.micronaut.http.client.jdk.cookie.CompositeCookieDecoder;
 import io.micronaut.http.client.jdk.cookie.CookieDecoder;
 import io.micronaut.http.client.jdk.cookie.DefaultCookieDecoder;
+import io.micronaut.http.client.sse.SseClient;
+import io.micronaut.http.codec.CodecException;
+import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
+import io.micronaut.http.sse.Event;
 import io.micronaut.json.JsonMapper;
 import io.micronaut.json.codec.JsonMediaTypeCodec;
 import io.micronaut.json.codec.JsonStreamMediaTypeCodec;
+import io.micronaut.json.codec.MapperMediaTypeCodec;
+import io.micronaut.json.tree.JsonNode;
 import io.micronaut.runtime.ApplicationConfiguration;
+import org.reactivestreams.Processor;
 import org.reactivestreams.Publisher;
 import org.slf4j.LoggerFactory;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import javax.net.ssl.SSLSession;
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Flow;
 
 /**
  * {@link HttpClient} implementation for {@literal java.net.http.*} HTTP Client.
+ *
+ * <p>The streaming methods read the response body with {@link java.net.http.HttpResponse.BodyHandlers#ofPublisher()},
+ * so it is never buffered as a whole, and the chunks received by the JDK client are passed on without copying.</p>
+ *
  * @author Sergio del Amo
  * @since 4.0.0
  */
 @Internal
 @Experimental
-public class DefaultJdkHttpClient extends AbstractJdkHttpClient implements JdkHttpClient {
+public class DefaultJdkHttpClient extends AbstractJdkHttpClient implements JdkHttpClient, StreamingHttpClient, SseClient {
 
     public DefaultJdkHttpClient(
         @Nullable LoadBalancer loadBalancer,
@@ -159,8 +185,228 @@ public class DefaultJdkHttpClient extends AbstractJdkHttpClient implements JdkHt
             });
     }
 
+    @Override
+    public <I> Publisher<ByteBuffer<?>> dataStream(@NonNull HttpRequest<I> request) {
+        return dataStream(request, DEFAULT_ERROR_TYPE);
+    }
+
+    @Override
+    public <I> Publisher<ByteBuffer<?>> dataStream(@NonNull HttpRequest<I> request, @NonNull Argument<?> errorType) {
+        return exchangeStreaming(request, errorType)
+            .flatMapMany(netResponse -> bodyChunks(netResponse).map(ReadOnlyNioByteBuffer::new));
+    }
+
+    @Override
+    public <I> Publisher<HttpResponse<ByteBuffer<?>>> exchangeStream(@NonNull HttpRequest<I> request) {
+        return exchangeStream(request, DEFAULT_ERROR_TYPE);
+    }
+
+    @Override
+    public <I> Publisher<HttpResponse<ByteBuffer<?>>> exchangeStream(@NonNull HttpRequest<I> request, @NonNull Argument<?> errorType) {
+        return exchangeStreaming(request, errorType)
+            .flatMapMany(netResponse -> bodyChunks(netResponse)
+                .map(chunk -> new StreamedHttpResponseAdapter(netResponse, new ReadOnlyNioByteBuffer(chunk))));
+    }
+
+    @Override
+    public <I> Publisher<Map<String, Object>> jsonStream(@NonNull HttpRequest<I> request) {
+        return (Publisher) jsonStream(request, Map.class);
+    }
+
+    @Override
+    public <I, O> Publisher<O> jsonStream(@NonNull HttpRequest<I> request, @NonNull Argument<O> type) {
+        return jsonStream(request, type, DEFAULT_ERROR_TYPE);
+    }
+
+    @Override
+    public <I, O> Publisher<O> jsonStream(@NonNull HttpRequest<I> request, @NonNull Argument<O> type, @NonNull Argument<?> errorType) {
+        return exchangeStreaming(request, errorType).flatMapMany(netResponse -> {
+            MapperMediaTypeCodec mediaTypeCodec = (MapperMediaTypeCodec) mediaTypeCodecRegistry.findCodec(MediaType.APPLICATION_JSON_TYPE)
+                .orElseThrow(() -> new IllegalStateException("No JSON codec found"));
+            boolean isJsonStream = netResponse.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+                .map(contentType -> MediaType.of(contentType).equals(MediaType.APPLICATION_JSON_STREAM_TYPE))
+                .orElse(false);
+            boolean streamArray = !Iterable.class.isAssignableFrom(type.getType()) && !isJsonStream;
+            // the parser consumes the chunks as they arrive, with backpressure towards the connection
+            Processor<byte[], JsonNode> jsonProcessor = mediaTypeCodec.getJsonMapper().createReactiveParser(
+                p -> bodyChunks(netResponse).map(DefaultJdkHttpClient::toByteArray).subscribe(p),
+                streamArray
+            );
+            return Flux.from(jsonProcessor)
+                .map(jsonNode -> mediaTypeCodec.decode(type, jsonNode));
+        });
+    }
+
+    @Override
+    public <I> Publisher<Event<ByteBuffer<?>>> eventStream(@NonNull HttpRequest<I> request) {
+        return eventStreamOrError(request, DEFAULT_ERROR_TYPE);
+    }
+
+    private <I> Flux<Event<ByteBuffer<?>>> eventStreamOrError(@NonNull HttpRequest<I> request, @NonNull Argument<?> errorType) {
+        if (request instanceof MutableHttpRequest<?> mutableRequest) {
+            mutableRequest.accept(MediaType.TEXT_EVENT_STREAM_TYPE);
+        }
+        return exchangeStreaming(request, errorType).flatMapMany(netResponse -> {
+            ServerSentEventParser parser = new ServerSentEventParser(configuration.getMaxContentLength());
+            return bodyChunks(netResponse).concatMapIterable(parser::onChunk);
+        });
+    }
+
+    @Override
+    public <I, B> Publisher<Event<B>> eventStream(@NonNull HttpRequest<I> request, @NonNull Argument<B> eventType) {
+        return eventStream(request, eventType, DEFAULT_ERROR_TYPE);
+    }
+
+    @Override
+    public <I, B> Publisher<Event<B>> eventStream(@NonNull HttpRequest<I> request, @NonNull Argument<B> eventType, @NonNull Argument<?> errorType) {
+        return eventStreamOrError(request, errorType).map(byteBufferEvent -> {
+            MediaTypeCodec codec = mediaTypeCodecRegistry == null ? null : mediaTypeCodecRegistry.findCodec(MediaType.APPLICATION_JSON_TYPE).orElse(null);
+            if (codec == null) {
+                throw new CodecException("JSON codec not present");
+            }
+            return Event.of(byteBufferEvent, codec.decode(eventType, byteBufferEvent.getData()));
+        });
+    }
+
+    /**
+     * Send the request, and emit the response once its headers are received. The body is only
+     * read when the publisher returned by {@link #bodyChunks} is subscribed to. Error responses are
+     * read as a whole, up to the configured maximum content length, and emitted as a
+     * {@link HttpClientResponseException}.
+     */
+    private <I> Mono<java.net.http.HttpResponse<Flow.Publisher<List<java.nio.ByteBuffer>>>> exchangeStreaming(@NonNull HttpRequest<I> request, @NonNull Argument<?> errorType) {
+        return mapToHttpRequest(request, null)
+            .flatMap(httpRequest -> {
+                if (log.isDebugEnabled()) {
+                    log.debug("Client {} Sending HTTP Request: {}", clientId, httpRequest);
+                }
+                return Mono.fromCompletionStage(client.sendAsync(httpRequest, java.net.http.HttpResponse.BodyHandlers.ofPublisher()));
+            })
+            .flatMap(netResponse -> {
+                if (log.isDebugEnabled()) {
+                    log.debug("Client {} Received HTTP Response: {} {}", clientId, netResponse.statusCode(), netResponse.uri());
+                }
+                if (netResponse.statusCode() < 400) {
+                    return Mono.just(netResponse);
+                }
+                int maxContentLength = configuration.getMaxContentLength();
+                return bodyChunks(netResponse)
+                    .reduceWith(ByteArrayOutputStream::new, (out, chunk) -> {
+                        long receivedLength = (long) out.size() + chunk.remaining();
+                        if (receivedLength > maxContentLength) {
+                            throw new ContentLengthExceededException(maxContentLength, receivedLength);
+                        }
+                        out.write(toByteArray(chunk), 0, chunk.remaining());
+                        return out;
+                    })
+                    .flatMap(out -> {
+                        HttpResponse<?> errorResponse = response(new BufferedHttpResponse(netResponse, out.toByteArray()), errorType);
+                        return Mono.error(HttpClientExceptionUtils.populateServiceId(
+                            new HttpClientResponseException(HttpStatus.valueOf(netResponse.statusCode()).getReason(), errorResponse),
+                            clientId, configuration));
+                    });
+            });
+    }
+
+    private static Flux<java.nio.ByteBuffer> bodyChunks(java.net.http.HttpResponse<Flow.Publisher<List<java.nio.ByteBuffer>>> netResponse) {
+        return JdkFlowAdapter.flowPublisherToFlux(netResponse.body())
+            .concatMapIterable(chunks -> chunks)
+            .filter(java.nio.ByteBuffer::hasRemaining);
+    }
+
+    private static byte[] toByteArray(java.nio.ByteBuffer chunk) {
+        byte[] bytes = new byte[chunk.remaining()];
+        chunk.duplicate().get(bytes);
+        return bytes;
+    }
+
     @Override
     public boolean isRunning() {
         return false;
     }
+
+    /**
+     * A response of a streaming request, with one chunk of the body.
+     */
+    private final class StreamedHttpResponseAdapter implements HttpResponse<ByteBuffer<?>> {
+
+        private final java.net.http.HttpResponse<?> netResponse;
+        private final ByteBuffer<?> chunk;
+        private final MutableConvertibleValues<Object> attributes = new MutableConvertibleValuesMap<>();
+
+        StreamedHttpResponseAdapter(java.net.http.HttpResponse<?> netResponse, ByteBuffer<?> chunk) {
+            this.netResponse = netResponse;
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int code() {
+            return netResponse.statusCode();
+        }
+
+        @Override
+        public String reason() {
+            return HttpStatus.valueOf(netResponse.statusCode()).getReason();
+        }
+
+        @Override
+        public io.micronaut.http.HttpHeaders getHeaders() {
+            return new HttpHeadersAdapter(netResponse.headers(), conversionService);
+        }
+
+        @Override
+        public MutableConvertibleValues<Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Optional<ByteBuffer<?>> getBody() {
+            return Optional.of(chunk);
+        }
+    }
+
+    /**
+     * A streaming response whose body has been read as a whole.
+     *
+     * @param delegate The streaming response
+     * @param body     The body
+     */
+    private record BufferedHttpResponse(java.net.http.HttpResponse<?> delegate,
+                                        byte[] body) implements java.net.http.HttpResponse<byte[]> {
+
+        @Override
+        public int statusCode() {
+            return delegate.statusCode();
+        }
+
+        @Override
+        public java.net.http.HttpRequest request() {
+            return delegate.request();
+        }
+
+        @Override
+        public Optional<java.net.http.HttpResponse<byte[]>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public java.net.http.HttpHeaders headers() {
+            return delegate.headers();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return delegate.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return delegate.uri();
+        }
+
+        @Override
+        public java.net.http.HttpClient.Version version() {
+            return delegate.version();
+        }
+    }
 }
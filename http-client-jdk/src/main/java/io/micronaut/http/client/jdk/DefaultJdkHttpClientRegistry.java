@@ -40,11 +40,15 @@ import io.micronaut.http.client.HttpClientRegistry;
 import io.micronaut.http.client.HttpVersionSelection;
 import io.micronaut.http.client.LoadBalancer;
 import io.micronaut.http.client.LoadBalancerResolver;
+import io.micronaut.http.client.StreamingHttpClient;
+import io.micronaut.http.client.StreamingHttpClientRegistry;
 import io.micronaut.http.client.annotation.Client;
 import io.micronaut.http.client.exceptions.HttpClientException;
 import io.micronaut.http.client.jdk.cookie.CompositeCookieDecoder;
 import io.micronaut.http.client.jdk.cookie.CookieDecoder;
 import io.micronaut.http.client.jdk.cookie.DefaultCookieDecoder;
+import io.micronaut.http.client.sse.SseClient;
+import io.micronaut.http.client.sse.SseClientRegistry;
 import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
 import io.micronaut.inject.InjectionPoint;
@@ -72,7 +76,10 @@ import java.util.concurrent.ConcurrentHashMap;
 @Order(2) // If both this and the netty client are present, netty is the default.
 @Internal
 @Experimental
-public final class DefaultJdkHttpClientRegistry implements AutoCloseable, HttpClientRegistry<HttpClient> {
+public final class DefaultJdkHttpClientRegistry implements AutoCloseable,
+    HttpClientRegistry<HttpClient>,
+    SseClientRegistry<SseClient>,
+    StreamingHttpClientRegistry<StreamingHttpClient> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultJdkHttpClientRegistry.class);
 
@@ -291,6 +298,26 @@ public final class DefaultJdkHttpClientRegistry implements AutoCloseable, HttpCl
         return resolveDefaultHttpClient(injectionPoint, loadBalancer, configuration, beanContext);
     }
 
+    @Override
+    public SseClient resolveSseClient(InjectionPoint<?> injectionPoint, LoadBalancer loadBalancer, HttpClientConfiguration configuration, BeanContext beanContext) {
+        return resolveDefaultHttpClient(injectionPoint, loadBalancer, configuration, beanContext);
+    }
+
+    @Override
+    public DefaultJdkHttpClient getSseClient(AnnotationMetadata annotationMetadata) {
+        return getClient(annotationMetadata);
+    }
+
+    @Override
+    public StreamingHttpClient resolveStreamingHttpClient(InjectionPoint<?> injectionPoint, LoadBalancer loadBalancer, HttpClientConfiguration configuration, BeanContext beanContext) {
+        return resolveDefaultHttpClient(injectionPoint, loadBalancer, configuration, beanContext);
+    }
+
+    @Override
+    public DefaultJdkHttpClient getStreamingHttpClient(AnnotationMetadata annotationMetadata) {
+        return getClient(annotationMetadata);
+    }
+
     @Override
     public void disposeClient(AnnotationMetadata annotationMetadata) {
         final ClientKey key = getClientKey(annotationMetadata);
@@ -17,11 +17,18 @@ package io.micronaut.http.client.jdk;
 
 import io.micronaut.core.annotation.Experimental;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.http.client.AbstractHttpClientFactory;
 import io.micronaut.http.client.HttpClientConfiguration;
+import io.micronaut.http.client.StreamingHttpClient;
+import io.micronaut.http.client.StreamingHttpClientFactory;
+import io.micronaut.http.client.sse.SseClient;
+import io.micronaut.http.client.sse.SseClientFactory;
 
 import java.net.URI;
+import java.net.URL;
 
 /**
  * Factory to create {@literal java.net.http.*} HTTP Clients.
@@ -30,7 +37,7 @@ import java.net.URI;
  */
 @Internal
 @Experimental
-public class JdkHttpClientFactory extends AbstractHttpClientFactory<DefaultJdkHttpClient> {
+public class JdkHttpClientFactory extends AbstractHttpClientFactory<DefaultJdkHttpClient> implements StreamingHttpClientFactory, SseClientFactory {
 
     public JdkHttpClientFactory() {
         super(null, ConversionService.SHARED);
@@ -45,4 +52,28 @@ public class JdkHttpClientFactory extends AbstractHttpClientFactory<DefaultJdkHt
     protected DefaultJdkHttpClient createHttpClient(URI uri, HttpClientConfiguration configuration) {
         return new DefaultJdkHttpClient(uri, configuration, mediaTypeCodecRegistry, conversionService);
     }
+
+    @NonNull
+    @Override
+    public StreamingHttpClient createStreamingClient(@Nullable URL url) {
+        return (DefaultJdkHttpClient) createClient(url);
+    }
+
+    @NonNull
+    @Override
+    public StreamingHttpClient createStreamingClient(@Nullable URL url, @NonNull HttpClientConfiguration configuration) {
+        return (DefaultJdkHttpClient) createClient(url, configuration);
+    }
+
+    @NonNull
+    @Override
+    public SseClient createSseClient(@Nullable URL url) {
+        return (DefaultJdkHttpClient) createClient(url);
+    }
+
+    @NonNull
+    @Override
+    public SseClient createSseClient(@Nullable URL url, @NonNull HttpClientConfiguration configuration) {
+        return (DefaultJdkHttpClient) createClient(url, configuration);
+    }
 }
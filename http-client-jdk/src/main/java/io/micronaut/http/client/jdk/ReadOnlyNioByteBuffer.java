@@ -0,0 +1,224 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.jdk;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.io.buffer.ByteBuffer;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Read-only {@link ByteBuffer} view of a {@link java.nio.ByteBuffer} received by the JDK HTTP
+ * client. The bytes are not copied: index {@code 0} is the position of the wrapped buffer when
+ * the view was created, and the writer index is its limit.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class ReadOnlyNioByteBuffer implements ByteBuffer<java.nio.ByteBuffer> {
+
+    private final java.nio.ByteBuffer buffer;
+
+    /**
+     * @param buffer The buffer to wrap, its position and limit are not modified
+     */
+    ReadOnlyNioByteBuffer(java.nio.ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+    }
+
+    @Override
+    public java.nio.ByteBuffer asNativeBuffer() {
+        return buffer;
+    }
+
+    @Override
+    public int readableBytes() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public int writableBytes() {
+        return 0;
+    }
+
+    @Override
+    public int maxCapacity() {
+        return buffer.capacity();
+    }
+
+    @Override
+    public ByteBuffer capacity(int capacity) {
+        throw readOnly();
+    }
+
+    @Override
+    public int readerIndex() {
+        return buffer.position();
+    }
+
+    @Override
+    public ByteBuffer readerIndex(int readPosition) {
+        buffer.position(readPosition);
+        return this;
+    }
+
+    @Override
+    public int writerIndex() {
+        return buffer.limit();
+    }
+
+    @Override
+    public ByteBuffer writerIndex(int position) {
+        buffer.limit(position);
+        return this;
+    }
+
+    @Override
+    public byte read() {
+        return buffer.get();
+    }
+
+    @Override
+    public CharSequence readCharSequence(int length, Charset charset) {
+        java.nio.ByteBuffer chars = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return charset.decode(chars);
+    }
+
+    @Override
+    public ByteBuffer read(byte[] destination) {
+        buffer.get(destination);
+        return this;
+    }
+
+    @Override
+    public ByteBuffer read(byte[] destination, int offset, int length) {
+        buffer.get(destination, offset, length);
+        return this;
+    }
+
+    @Override
+    public ByteBuffer write(byte b) {
+        throw readOnly();
+    }
+
+    @Override
+    public ByteBuffer write(byte[] source) {
+        throw readOnly();
+    }
+
+    @Override
+    public ByteBuffer write(CharSequence source, Charset charset) {
+        throw readOnly();
+    }
+
+    @Override
+    public ByteBuffer write(byte[] source, int offset, int length) {
+        throw readOnly();
+    }
+
+    @Override
+    public ByteBuffer write(ByteBuffer... buffers) {
+        throw readOnly();
+    }
+
+    @Override
+    public ByteBuffer write(java.nio.ByteBuffer... buffers) {
+        throw readOnly();
+    }
+
+    @Override
+    public ByteBuffer slice(int index, int length) {
+        return new ReadOnlyNioByteBuffer(buffer.slice(index, length));
+    }
+
+    @Override
+    public java.nio.ByteBuffer asNioBuffer() {
+        return buffer.slice().asReadOnlyBuffer();
+    }
+
+    @Override
+    public java.nio.ByteBuffer asNioBuffer(int index, int length) {
+        return buffer.slice(index, length).asReadOnlyBuffer();
+    }
+
+    @Override
+    public InputStream toInputStream() {
+        java.nio.ByteBuffer source = buffer.slice();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return source.hasRemaining() ? source.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!source.hasRemaining()) {
+                    return -1;
+                }
+                int n = Math.min(len, source.remaining());
+                source.get(b, off, n);
+                return n;
+            }
+
+            @Override
+            public int available() {
+                return source.remaining();
+            }
+        };
+    }
+
+    @Override
+    public OutputStream toOutputStream() {
+        throw readOnly();
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.slice().get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public String toString(Charset charset) {
+        return charset.decode(buffer.slice()).toString();
+    }
+
+    @Override
+    public int indexOf(byte b) {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            if (buffer.get(i) == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public byte getByte(int index) {
+        return buffer.get(index);
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Response body buffers are read-only");
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.jdk;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.client.exceptions.ContentLengthExceededException;
+import io.micronaut.http.sse.Event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Incrementally parses the chunks of a {@code text/event-stream} response body into events.
+ * Lines may be split across chunks, and end with {@code \n}, {@code \r\n} or {@code \r}. An event
+ * is emitted on the blank line that ends it. Not thread safe, chunks must be passed in order.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class ServerSentEventParser {
+
+    private final int maxLineLength;
+    private byte[] line = new byte[128];
+    private int lineLength;
+    private boolean lastWasCr;
+
+    private boolean inEvent;
+    private byte[] data;
+    private String id;
+    private String name;
+    private Duration retry;
+
+    /**
+     * @param maxLineLength The maximum length of a single line
+     */
+    ServerSentEventParser(int maxLineLength) {
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * @param chunk The next chunk of the body
+     * @return The events completed by the chunk
+     */
+    List<Event<ByteBuffer<?>>> onChunk(java.nio.ByteBuffer chunk) {
+        List<Event<ByteBuffer<?>>> events = null;
+        while (chunk.hasRemaining()) {
+            byte b = chunk.get();
+            if (b == '\n' && lastWasCr) {
+                lastWasCr = false;
+                continue;
+            }
+            lastWasCr = b == '\r';
+            if (b == '\n' || b == '\r') {
+                Event<ByteBuffer<?>> event = onLine();
+                if (event != null) {
+                    if (events == null) {
+                        events = new ArrayList<>(2);
+                    }
+                    events.add(event);
+                }
+            } else {
+                if (lineLength >= maxLineLength) {
+                    throw new ContentLengthExceededException(maxLineLength);
+                }
+                if (lineLength == line.length) {
+                    line = Arrays.copyOf(line, Math.min(maxLineLength, lineLength * 2));
+                }
+                line[lineLength++] = b;
+            }
+        }
+        return events == null ? Collections.emptyList() : events;
+    }
+
+    private Event<ByteBuffer<?>> onLine() {
+        int length = lineLength;
+        lineLength = 0;
+        if (length == 0) {
+            // a blank line dispatches the current event
+            if (!inEvent) {
+                return null;
+            }
+            Event<ByteBuffer<?>> event = Event.<ByteBuffer<?>>of(new ReadOnlyNioByteBuffer(java.nio.ByteBuffer.wrap(data == null ? new byte[0] : data)))
+                .name(name)
+                .retry(retry)
+                .id(id);
+            inEvent = false;
+            data = null;
+            id = null;
+            name = null;
+            retry = null;
+            return event;
+        }
+        int colonIndex = indexOfColon(length);
+        if (colonIndex == 0) {
+            // comment
+            return null;
+        }
+        inEvent = true;
+        if (colonIndex < 0) {
+            return null;
+        }
+        String type = new String(line, 0, colonIndex, StandardCharsets.UTF_8).trim();
+        int fromIndex = colonIndex + 1;
+        // skip the white space before the actual data
+        if (fromIndex < length && line[fromIndex] == ' ') {
+            fromIndex++;
+        }
+        if (fromIndex >= length) {
+            return null;
+        }
+        switch (type) {
+            case "data" -> {
+                byte[] content = Arrays.copyOfRange(line, fromIndex, length);
+                if (data == null) {
+                    data = content;
+                } else {
+                    byte[] joined = Arrays.copyOf(data, data.length + content.length);
+                    System.arraycopy(content, 0, joined, data.length, content.length);
+                    data = joined;
+                }
+            }
+            case "id" -> id = value(fromIndex, length).trim();
+            case "event" -> name = value(fromIndex, length).trim();
+            case "retry" -> {
+                String text = value(fromIndex, length);
+                if (!StringUtils.isEmpty(text)) {
+                    retry = Duration.ofMillis(Long.parseLong(text.trim()));
+                }
+            }
+            default -> {
+                // ignore message
+            }
+        }
+        return null;
+    }
+
+    private int indexOfColon(int length) {
+        for (int i = 0; i < length; i++) {
+            if (line[i] == ':') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String value(int fromIndex, int length) {
+        return new String(line, fromIndex, length - fromIndex, StandardCharsets.UTF_8);
+    }
+}
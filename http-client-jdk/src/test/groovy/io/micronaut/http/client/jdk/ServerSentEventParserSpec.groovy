@@ -0,0 +1,67 @@
+package io.micronaut.http.client.jdk
+
+import io.micronaut.http.client.exceptions.ContentLengthExceededException
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+
+class ServerSentEventParserSpec extends Specification {
+
+    def "events are parsed across chunk boundaries"() {
+        given:
+        def parser = new ServerSentEventParser(1024)
+        String body = ": comment\nid: 1\nevent: greeting\nretry: 500\ndata: hello\ndata: world\r\n\r\nid: 2\ndata: {\"a\":1}\n\n"
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8)
+
+        when:
+        def events = []
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            events.addAll(parser.onChunk(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i))))
+        }
+
+        then:
+        events.size() == 2
+        events[0].id == '1'
+        events[0].name == 'greeting'
+        events[0].retry == Duration.ofMillis(500)
+        events[0].data.toString(StandardCharsets.UTF_8) == 'helloworld'
+        events[1].id == '2'
+        events[1].data.toString(StandardCharsets.UTF_8) == '{"a":1}'
+
+        where:
+        chunkSize << [1, 3, 7, 1000]
+    }
+
+    def "long lines are rejected"() {
+        given:
+        def parser = new ServerSentEventParser(16)
+
+        when:
+        parser.onChunk(ByteBuffer.wrap(('data: ' + 'x' * 100).getBytes(StandardCharsets.UTF_8)))
+
+        then:
+        thrown(ContentLengthExceededException)
+    }
+
+    def "buffers are read-only views"() {
+        given:
+        ByteBuffer nio = ByteBuffer.wrap('abc:def'.getBytes(StandardCharsets.UTF_8))
+        def buffer = new ReadOnlyNioByteBuffer(nio)
+
+        expect:
+        buffer.readableBytes() == 7
+        buffer.indexOf((byte) ':') == 3
+        buffer.slice(4, 3).toString(StandardCharsets.UTF_8) == 'def'
+        buffer.toByteArray() == 'abc:def'.bytes
+        buffer.toInputStream().text == 'abc:def'
+        buffer.asNativeBuffer().array().is(nio.array())
+
+        when:
+        buffer.write((byte) 1)
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+}
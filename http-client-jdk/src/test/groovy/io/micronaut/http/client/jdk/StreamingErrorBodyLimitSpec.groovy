@@ -0,0 +1,61 @@
+package io.micronaut.http.client.jdk
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.StreamingHttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.client.exceptions.ContentLengthExceededException
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+@MicronautTest
+@Property(name = "spec.name", value = "StreamingErrorBodyLimitSpec")
+@Property(name = "micronaut.http.client.max-content-length", value = "1024")
+class StreamingErrorBodyLimitSpec extends Specification {
+
+    @Inject
+    @Client("/")
+    StreamingHttpClient streamingClient
+
+    def "an error body within the max content length is read"() {
+        when:
+        Flux.from(streamingClient.dataStream(HttpRequest.GET("/streaming-error/small"))).blockLast()
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.BAD_REQUEST
+        e.response.getBody(String).get() == "bad request"
+    }
+
+    def "an error body larger than the max content length is not buffered"() {
+        when:
+        Flux.from(streamingClient.dataStream(HttpRequest.GET("/streaming-error/large"))).blockLast()
+
+        then:
+        thrown(ContentLengthExceededException)
+    }
+
+    @Requires(property = "spec.name", value = "StreamingErrorBodyLimitSpec")
+    @Controller("/streaming-error")
+    static class ErrorController {
+
+        @Get(value = "/small", produces = MediaType.TEXT_PLAIN)
+        HttpResponse<String> small() {
+            HttpResponse.badRequest("bad request")
+        }
+
+        @Get(value = "/large", produces = MediaType.TEXT_PLAIN)
+        HttpResponse<String> large() {
+            HttpResponse.badRequest("x" * 4096)
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.micronaut.http.client.jdk
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.StreamingHttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.client.sse.SseClient
+import io.micronaut.http.sse.Event
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+@MicronautTest
+@Property(name = "spec.name", value = "StreamingSpec")
+class StreamingSpec extends Specification {
+
+    @Inject
+    @Client("/")
+    StreamingHttpClient streamingClient
+
+    @Inject
+    @Client("/")
+    SseClient sseClient
+
+    def "test data stream"() {
+        when:
+        String body = Flux.from(streamingClient.dataStream(HttpRequest.GET("/streaming/data")))
+                .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+                .collectList()
+                .block()
+                .join()
+
+        then:
+        body == (1..100).collect { "chunk-$it\n" }.join()
+    }
+
+    def "test json stream"() {
+        when:
+        List<Book> books = Flux.from(streamingClient.jsonStream(HttpRequest.GET("/streaming/books"), Book)).collectList().block()
+
+        then:
+        books*.title == (1..20).collect { "Book $it".toString() }
+    }
+
+    def "test event stream"() {
+        when:
+        List<Event<Book>> events = Flux.from(sseClient.eventStream(HttpRequest.GET("/streaming/events"), Book)).collectList().block()
+
+        then:
+        events*.data*.title == ["One", "Two"]
+        events*.id == ["1", "2"]
+    }
+
+    def "test error status of a stream"() {
+        when:
+        Flux.from(streamingClient.dataStream(HttpRequest.GET("/streaming/missing"))).blockLast()
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.NOT_FOUND
+    }
+
+    @Requires(property = "spec.name", value = "StreamingSpec")
+    @Controller("/streaming")
+    static class StreamingController {
+
+        @Get(value = "/data", produces = MediaType.TEXT_PLAIN)
+        Publisher<byte[]> data() {
+            Flux.range(1, 100).map(i -> "chunk-$i\n".getBytes(StandardCharsets.UTF_8))
+        }
+
+        @Get(value = "/books", produces = MediaType.APPLICATION_JSON_STREAM)
+        Publisher<Book> books() {
+            Flux.range(1, 20).map(i -> new Book(title: "Book $i"))
+        }
+
+        @Get(value = "/events", produces = MediaType.TEXT_EVENT_STREAM)
+        Publisher<Event<Book>> events() {
+            Flux.just(Event.of(new Book(title: "One")).id("1"), Event.of(new Book(title: "Two")).id("2"))
+        }
+    }
+
+    @io.micronaut.core.annotation.Introspected
+    static class Book {
+        String title
+    }
+}
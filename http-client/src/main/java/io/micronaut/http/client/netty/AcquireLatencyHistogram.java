@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.netty;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of connection acquire latencies. Bucket {@code i} counts latencies below
+ * {@code 2^i} microseconds, so percentiles are accurate to a factor of two. That is precise
+ * enough to tell pool starvation (milliseconds to seconds) from a free connection (microseconds).
+ */
+@Internal
+final class AcquireLatencyHistogram {
+    private static final int BUCKETS = 32;
+    private static final int NANOS_PER_MICRO_SHIFT = 10; // ~1µs, cheaper than a division
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    void record(long nanos) {
+        long micros = Math.max(0, nanos) >>> NANOS_PER_MICRO_SHIFT;
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        counts.incrementAndGet(bucket);
+    }
+
+    /**
+     * @return The number of recorded latencies
+     */
+    long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * @param percentile The percentile, between 0 and 1
+     * @return The upper bound of the bucket containing the percentile in nanoseconds, or
+     * {@code 0} if nothing was recorded
+     */
+    long percentileNanos(double percentile) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(total * Math.min(1, Math.max(0, percentile)));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= threshold && seen > 0) {
+                return (1L << i) << NANOS_PER_MICRO_SHIFT;
+            }
+        }
+        return (1L << (BUCKETS - 1)) << NANOS_PER_MICRO_SHIFT;
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+}
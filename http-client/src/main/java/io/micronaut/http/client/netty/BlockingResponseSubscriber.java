@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.client.exceptions.HttpClientException;
+import io.micronaut.http.client.exceptions.ReadTimeoutException;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Subscriber that parks the calling thread until the first element of the response publisher
+ * arrives. Unlike {@code Flux.blockFirst()} it needs no operator assembly, and it enforces the
+ * read timeout itself instead of scheduling a timer on another thread. Parking with
+ * {@link LockSupport} does not pin virtual threads.
+ *
+ * @param <T> The element type
+ * @since 4.0.0
+ */
+@Internal
+final class BlockingResponseSubscriber<T> implements Subscriber<T> {
+
+    private final Thread waiter = Thread.currentThread();
+    private final Consumer<? super T> discard;
+
+    private final AtomicBoolean discarded = new AtomicBoolean();
+
+    private volatile Subscription subscription;
+    private T value;
+    private Throwable failure;
+    private volatile boolean done;
+    private volatile boolean abandoned;
+
+    /**
+     * @param discard Called with an element that arrives after the waiting thread gave up
+     */
+    BlockingResponseSubscriber(Consumer<? super T> discard) {
+        this.discard = discard;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        subscription = s;
+        s.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(T t) {
+        if (done) {
+            return;
+        }
+        value = t;
+        done = true;
+        subscription.cancel();
+        LockSupport.unpark(waiter);
+        if (abandoned) {
+            discard(t);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) {
+            return;
+        }
+        failure = t;
+        done = true;
+        LockSupport.unpark(waiter);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        LockSupport.unpark(waiter);
+    }
+
+    /**
+     * Wait for the first element.
+     *
+     * @param timeout The maximum time to wait, or {@code null} to wait indefinitely
+     * @return The first element, or {@code null} if the publisher completed empty
+     */
+    @Nullable
+    T await(@Nullable Duration timeout) {
+        long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+        while (!done) {
+            if (Thread.interrupted()) {
+                abandon();
+                Thread.currentThread().interrupt();
+                throw new HttpClientException("Interrupted while waiting for the response");
+            }
+            if (timeout == null) {
+                LockSupport.park(this);
+            } else {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    abandon();
+                    throw ReadTimeoutException.TIMEOUT_EXCEPTION;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+        }
+        if (failure != null) {
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            throw new HttpClientException(failure.getMessage(), failure);
+        }
+        return value;
+    }
+
+    private void abandon() {
+        abandoned = true;
+        Subscription s = subscription;
+        if (s != null) {
+            s.cancel();
+        }
+        if (done && value != null) {
+            // the response arrived while giving up
+            discard(value);
+        }
+    }
+
+    private void discard(T t) {
+        if (discarded.compareAndSet(false, true)) {
+            discard.accept(t);
+        }
+    }
+}
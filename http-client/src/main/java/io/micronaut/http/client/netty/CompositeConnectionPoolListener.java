@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.client.ConnectionPoolListener;
+import io.micronaut.http.client.ConnectionPoolMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Consumer;
+
+/**
+ * Forwards pool events to all {@link ConnectionPoolListener} beans. Failures of a listener are
+ * logged and don't affect the pool or the other listeners.
+ */
+@Internal
+final class CompositeConnectionPoolListener implements ConnectionPoolListener {
+    static final CompositeConnectionPoolListener EMPTY = new CompositeConnectionPoolListener(Collections.emptyList());
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompositeConnectionPoolListener.class);
+
+    private final ConnectionPoolListener[] members;
+
+    CompositeConnectionPoolListener(Collection<ConnectionPoolListener> members) {
+        this.members = members.toArray(new ConnectionPoolListener[0]);
+    }
+
+    /**
+     * @return Whether there are no listeners
+     */
+    boolean isEmpty() {
+        return members.length == 0;
+    }
+
+    private void forEach(Consumer<ConnectionPoolListener> action) {
+        for (ConnectionPoolListener member : members) {
+            try {
+                action.accept(member);
+            } catch (Exception e) {
+                LOG.warn("Connection pool listener {} failed", member, e);
+            }
+        }
+    }
+
+    @Override
+    public void onPoolCreated(ConnectionPoolMetrics pool) {
+        forEach(l -> l.onPoolCreated(pool));
+    }
+
+    @Override
+    public void onPoolClosed(ConnectionPoolMetrics pool) {
+        forEach(l -> l.onPoolClosed(pool));
+    }
+
+    @Override
+    public void onAcquired(ConnectionPoolMetrics pool, long waitNanos) {
+        forEach(l -> l.onAcquired(pool, waitNanos));
+    }
+
+    @Override
+    public void onAcquireFailed(ConnectionPoolMetrics pool, long waitNanos, Throwable cause) {
+        forEach(l -> l.onAcquireFailed(pool, waitNanos, cause));
+    }
+
+    @Override
+    public void onConnectionOpened(ConnectionPoolMetrics pool, boolean http2) {
+        forEach(l -> l.onConnectionOpened(pool, http2));
+    }
+
+    @Override
+    public void onConnectionClosed(ConnectionPoolMetrics pool, boolean http2) {
+        forEach(l -> l.onConnectionClosed(pool, http2));
+    }
+
+    @Override
+    public void onConnectionFailed(ConnectionPoolMetrics pool, @Nullable Throwable cause) {
+        forEach(l -> l.onConnectionFailed(pool, cause));
+    }
+
+    @Override
+    public void onConnectionLimitChanged(ConnectionPoolMetrics pool, int previousLimit, int newLimit) {
+        forEach(l -> l.onConnectionLimitChanged(pool, previousLimit, newLimit));
+    }
+}
@@ -21,6 +21,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.reflect.InstantiationUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.http.client.ConnectionPoolListener;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.micronaut.http.client.HttpVersionSelection;
 import io.micronaut.http.client.exceptions.HttpClientException;
@@ -128,6 +129,7 @@ class ConnectionManager {
     private final SslContext sslContext;
     private final NettyClientCustomizer clientCustomizer;
     private final String informationalServiceId;
+    private final ConnectionPoolListener poolListener;
 
     /**
      * Copy constructor used by the test suite to patch this manager.
@@ -147,6 +149,7 @@ class ConnectionManager {
         this.sslContext = from.sslContext;
         this.clientCustomizer = from.clientCustomizer;
         this.informationalServiceId = from.informationalServiceId;
+        this.poolListener = from.poolListener;
     }
 
     ConnectionManager(
@@ -159,7 +162,8 @@ class ConnectionManager {
         ChannelFactory<? extends Channel> socketChannelFactory,
         NettyClientSslBuilder nettyClientSslBuilder,
         NettyClientCustomizer clientCustomizer,
-        String informationalServiceId) {
+        String informationalServiceId,
+        ConnectionPoolListener poolListener) {
 
         if (httpVersion == null) {
             httpVersion = HttpVersionSelection.forClientConfiguration(configuration);
@@ -173,6 +177,7 @@ class ConnectionManager {
         this.instrumenter = instrumenter;
         this.clientCustomizer = clientCustomizer;
         this.informationalServiceId = informationalServiceId;
+        this.poolListener = poolListener;
 
         this.sslContext = nettyClientSslBuilder.build(configuration.getSslConfiguration(), httpVersion);
 
@@ -290,6 +295,12 @@ class ConnectionManager {
             .option(ChannelOption.SO_KEEPALIVE, true);
     }
 
+    private Pool createPool(DefaultHttpClient.RequestKey requestKey) {
+        Pool pool = new Pool(requestKey);
+        poolListener.onPoolCreated(pool);
+        return pool;
+    }
+
     /**
      * @see DefaultHttpClient#stop()
      */
@@ -374,7 +385,7 @@ class ConnectionManager {
      * @return A mono that will complete once the channel is ready for transmission
      */
     Mono<PoolHandle> connect(DefaultHttpClient.RequestKey requestKey, @Nullable BlockHint blockHint) {
-        return pools.computeIfAbsent(requestKey, Pool::new).acquire(blockHint);
+        return pools.computeIfAbsent(requestKey, this::createPool).acquire(blockHint);
     }
 
     /**
@@ -806,20 +817,47 @@ class ConnectionManager {
         };
 
         Pool(DefaultHttpClient.RequestKey requestKey) {
-            super(log, configuration.getConnectionPoolConfiguration());
+            super(log, configuration.getConnectionPoolConfiguration(), poolListener);
             this.requestKey = requestKey;
         }
 
         Mono<PoolHandle> acquire(@Nullable BlockHint blockHint) {
+            long start = System.nanoTime();
             PoolSink<PoolHandle> sink = new CancellableMonoSink<>(blockHint);
             addPendingRequest(sink);
             Optional<Duration> acquireTimeout = configuration.getConnectionPoolConfiguration().getAcquireTimeout();
-            //noinspection OptionalIsPresent
+            Mono<PoolHandle> mono = sink.asMono();
             if (acquireTimeout.isPresent()) {
-                return sink.asMono().timeout(acquireTimeout.get(), Schedulers.fromExecutor(group));
-            } else {
-                return sink.asMono();
+                mono = mono.timeout(acquireTimeout.get(), Schedulers.fromExecutor(group));
             }
+            return mono
+                .doOnSuccess(ph -> {
+                    if (ph != null) {
+                        onAcquired(System.nanoTime() - start);
+                    }
+                })
+                .doOnError(e -> onAcquireFailed(System.nanoTime() - start, e));
+        }
+
+        @Nullable
+        @Override
+        public String getClientId() {
+            return informationalServiceId;
+        }
+
+        @Override
+        public String getHost() {
+            return requestKey.getHost();
+        }
+
+        @Override
+        public int getPort() {
+            return requestKey.getPort();
+        }
+
+        @Override
+        public boolean isSecure() {
+            return requestKey.isSecure();
         }
 
         @Override
@@ -896,6 +934,7 @@ class ConnectionManager {
 
         public void shutdown() {
             forEachConnection(c -> ((ConnectionHolder) c).channel.close());
+            listener().onPoolClosed(this);
         }
 
         /**
@@ -1087,6 +1126,22 @@ class ConnectionManager {
                 return hasLiveRequest.get();
             }
 
+            @Override
+            int liveRequestCount() {
+                return hasLiveRequest.get() ? 1 : 0;
+            }
+
+            @Override
+            boolean windDownIfIdle() {
+                // claim the connection so that no request is dispatched to it while it closes
+                if (!hasLiveRequest.compareAndSet(false, true)) {
+                    return false;
+                }
+                windDownConnection = true;
+                channel.close();
+                return true;
+            }
+
             @Override
             void fireReadTimeout(ChannelHandlerContext ctx) {
                 ctx.fireExceptionCaught(ReadTimeoutException.INSTANCE);
@@ -1188,6 +1243,20 @@ class ConnectionManager {
                 return liveRequests.get() > 0;
             }
 
+            @Override
+            int liveRequestCount() {
+                return liveRequests.get();
+            }
+
+            @Override
+            boolean windDownIfIdle() {
+                if (liveRequests.get() > 0) {
+                    return false;
+                }
+                windDownConnection();
+                return true;
+            }
+
             @Override
             void fireReadTimeout(ChannelHandlerContext ctx) {
                 for (Channel sc : liveStreamChannels) {
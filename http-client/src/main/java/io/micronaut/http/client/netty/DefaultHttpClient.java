@@ -37,6 +37,7 @@ import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.ObjectUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.discovery.ServiceInstance;
 import io.micronaut.http.HttpAttributes;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpResponseWrapper;
@@ -48,6 +49,7 @@ import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.bind.DefaultRequestBinderRegistry;
 import io.micronaut.http.bind.RequestBinderRegistry;
 import io.micronaut.http.client.BlockingHttpClient;
+import io.micronaut.http.client.ConnectionPoolListener;
 import io.micronaut.http.client.DefaultHttpClientConfiguration;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.HttpClientConfiguration;
@@ -66,6 +68,7 @@ import io.micronaut.http.client.exceptions.ReadTimeoutException;
 import io.micronaut.http.client.filter.ClientFilterResolutionContext;
 import io.micronaut.http.client.filter.DefaultHttpClientFilterResolver;
 import io.micronaut.http.client.filters.ClientServerContextFilter;
+import io.micronaut.http.client.loadbalance.RequestTrackingLoadBalancer;
 import io.micronaut.http.client.multipart.MultipartBody;
 import io.micronaut.http.client.multipart.MultipartDataFactory;
 import io.micronaut.http.client.netty.ssl.NettyClientSslBuilder;
@@ -192,6 +195,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -340,6 +344,53 @@ public class DefaultHttpClient implements
                              List<InvocationInstrumenterFactory> invocationInstrumenterFactories,
                              @Nullable String informationalServiceId,
                              ConversionService conversionService
+    ) {
+        this(loadBalancer, explicitHttpVersion, configuration, contextPath, filterResolver, clientFilterEntries,
+            threadFactory, nettyClientSslBuilder, codecRegistry, webSocketBeanRegistry, requestBinderRegistry,
+            eventLoopGroup, socketChannelFactory, clientCustomizer, CompositeConnectionPoolListener.EMPTY,
+            invocationInstrumenterFactories, informationalServiceId, conversionService);
+    }
+
+    /**
+     * Construct a client for the given arguments.
+     *  @param loadBalancer                    The {@link LoadBalancer} to use for selecting servers
+     * @param explicitHttpVersion             The HTTP version to use. Can be null and defaults to {@link io.micronaut.http.HttpVersion#HTTP_1_1}
+     * @param configuration                   The {@link HttpClientConfiguration} object
+     * @param contextPath                     The base URI to prepend to request uris
+     * @param filterResolver                  The http client filter resolver
+     * @param clientFilterEntries             The client filter entries
+     * @param threadFactory                   The thread factory to use for client threads
+     * @param nettyClientSslBuilder           The SSL builder
+     * @param codecRegistry                   The {@link MediaTypeCodecRegistry} to use for encoding and decoding objects
+     * @param webSocketBeanRegistry           The websocket bean registry
+     * @param requestBinderRegistry           The request binder registry
+     * @param eventLoopGroup                  The event loop group to use
+     * @param socketChannelFactory            The socket channel factory
+     * @param clientCustomizer                The pipeline customizer
+     * @param poolListener                    The listener notified of connection pool events
+     * @param invocationInstrumenterFactories The invocation instrumeter factories to instrument netty handlers execution with
+     * @param informationalServiceId          Optional service ID that will be passed to exceptions created by this client
+     * @param conversionService               The conversion service
+     * @since 4.0.0
+     */
+    public DefaultHttpClient(@Nullable LoadBalancer loadBalancer,
+                             @Nullable HttpVersionSelection explicitHttpVersion,
+                             @NonNull HttpClientConfiguration configuration,
+                             @Nullable String contextPath,
+                             @NonNull HttpClientFilterResolver<ClientFilterResolutionContext> filterResolver,
+                             List<HttpFilterResolver.FilterEntry> clientFilterEntries,
+                             @Nullable ThreadFactory threadFactory,
+                             @NonNull NettyClientSslBuilder nettyClientSslBuilder,
+                             @NonNull MediaTypeCodecRegistry codecRegistry,
+                             @NonNull WebSocketBeanRegistry webSocketBeanRegistry,
+                             @NonNull RequestBinderRegistry requestBinderRegistry,
+                             @Nullable EventLoopGroup eventLoopGroup,
+                             @NonNull ChannelFactory socketChannelFactory,
+                             NettyClientCustomizer clientCustomizer,
+                             @NonNull ConnectionPoolListener poolListener,
+                             List<InvocationInstrumenterFactory> invocationInstrumenterFactories,
+                             @Nullable String informationalServiceId,
+                             ConversionService conversionService
     ) {
         ArgumentUtils.requireNonNull("nettyClientSslBuilder", nettyClientSslBuilder);
         ArgumentUtils.requireNonNull("codecRegistry", codecRegistry);
@@ -388,7 +439,8 @@ public class DefaultHttpClient implements
             socketChannelFactory,
             nettyClientSslBuilder,
             clientCustomizer,
-            informationalServiceId);
+            informationalServiceId,
+            poolListener);
     }
 
     /**
@@ -502,18 +554,14 @@ public class DefaultHttpClient implements
             @Override
             public <I, O, E> io.micronaut.http.HttpResponse<O> exchange(io.micronaut.http.HttpRequest<I> request, Argument<O> bodyType, Argument<E> errorType) {
                 BlockHint blockHint = BlockHint.willBlockThisThread();
-                Flux<HttpResponse<O>> publisher = Flux.from(DefaultHttpClient.this.exchange(request, bodyType, errorType, blockHint));
-                return publisher.doOnNext(res -> {
-                    Optional<ByteBuf> byteBuf = res.getBody(ByteBuf.class);
-                    byteBuf.ifPresent(bb -> {
-                        if (bb.refCnt() > 0) {
-                            ReferenceCountUtil.safeRelease(bb);
-                        }
-                    });
-                    if (res instanceof FullNettyClientHttpResponse) {
-                        ((FullNettyClientHttpResponse) res).onComplete();
-                    }
-                }).blockFirst();
+                // subscribe directly and park this thread instead of assembling a blockFirst() pipeline
+                BlockingResponseSubscriber<HttpResponse<O>> subscriber = new BlockingResponseSubscriber<>(DefaultHttpClient::releaseBlockingResponse);
+                DefaultHttpClient.this.exchange(request, bodyType, errorType, blockHint).subscribe(subscriber);
+                HttpResponse<O> response = subscriber.await(blockingReadTimeout());
+                if (response != null) {
+                    releaseBlockingResponse(response);
+                }
+                return response;
             }
 
             @Override
@@ -541,6 +589,30 @@ public class DefaultHttpClient implements
         };
     }
 
+    private static void releaseBlockingResponse(HttpResponse<?> response) {
+        Optional<ByteBuf> byteBuf = response.getBody(ByteBuf.class);
+        byteBuf.ifPresent(bb -> {
+            if (bb.refCnt() > 0) {
+                ReferenceCountUtil.safeRelease(bb);
+            }
+        });
+        if (response instanceof FullNettyClientHttpResponse) {
+            ((FullNettyClientHttpResponse<?>) response).onComplete();
+        }
+    }
+
+    /**
+     * @return The time a blocking exchange waits for the response, or {@code null} to wait indefinitely
+     */
+    @Nullable
+    private Duration blockingReadTimeout() {
+        // same as the backstop timeout of the reactive exchange, which is not applied to blocking exchanges
+        return configuration.getReadTimeout()
+            .filter(rt -> !rt.isNegative())
+            .map(rt -> rt.plus(Duration.ofSeconds(1)))
+            .orElse(null);
+    }
+
     @NonNull
     private <I> MutableHttpRequest<?> toMutableRequest(io.micronaut.http.HttpRequest<I> request) {
         return MutableHttpRequestWrapper.wrapIfNecessary(conversionService, request);
@@ -785,11 +857,47 @@ public class DefaultHttpClient implements
     private <I, O, E> Flux<HttpResponse<O>> exchange(io.micronaut.http.HttpRequest<I> request, Argument<O> bodyType, Argument<E> errorType, @Nullable BlockHint blockHint) {
         setupConversionService(request);
         final io.micronaut.http.HttpRequest<Object> parentRequest = ServerRequestContext.currentRequest().orElse(null);
+        if (loadBalancer instanceof RequestTrackingLoadBalancer trackingLoadBalancer && request.getUri().getScheme() == null) {
+            // select the instance here rather than in resolveRequestURI, so that the outcome can be reported for it
+            return Flux.from(loadBalancer.select(getLoadBalancerDiscriminator()))
+                .switchMap(server -> trackRequest(
+                    trackingLoadBalancer,
+                    server,
+                    exchangeImpl(resolveServerURI(server, request, true), parentRequest, toMutableRequest(request), bodyType, errorType, blockHint)
+                ));
+        }
         Publisher<URI> uriPublisher = resolveRequestURI(request);
         return Flux.from(uriPublisher)
             .switchMap(uri -> exchangeImpl(uri, parentRequest, toMutableRequest(request), bodyType, errorType, blockHint));
     }
 
+    private static <T> Flux<T> trackRequest(RequestTrackingLoadBalancer loadBalancer, ServiceInstance server, Publisher<T> response) {
+        return Flux.defer(() -> {
+            loadBalancer.onRequestStart(server);
+            long start = System.nanoTime();
+            AtomicBoolean failed = new AtomicBoolean();
+            return Flux.from(response)
+                .doOnNext(value -> {
+                    if (value instanceof HttpResponse<?> httpResponse && httpResponse.code() >= 500) {
+                        failed.set(true);
+                    }
+                })
+                .doOnError(e -> failed.set(isHostFailure(e)))
+                .doFinally(signal -> loadBalancer.onRequestComplete(server, System.nanoTime() - start, failed.get()));
+        });
+    }
+
+    /**
+     * @param e The error of a request
+     * @return Whether the error counts against the host: connection errors and 5xx responses do, other error responses don't
+     */
+    private static boolean isHostFailure(Throwable e) {
+        if (e instanceof HttpClientResponseException responseException) {
+            return responseException.getStatus().getCode() >= 500;
+        }
+        return true;
+    }
+
     @Override
     public <I, O, E> Publisher<O> retrieve(io.micronaut.http.HttpRequest<I> request, Argument<O> bodyType, Argument<E> errorType) {
         setupConversionService(request);
@@ -1147,9 +1255,10 @@ public class DefaultHttpClient implements
                 responsePublisher
         );
         Flux<io.micronaut.http.HttpResponse<O>> finalReactiveSequence = Flux.from(finalPublisher);
-        // apply timeout to flowable too in case a filter applied another policy
+        // apply timeout to flowable too in case a filter applied another policy. Blocking exchanges
+        // enforce it while waiting for the response, which saves scheduling a timer per request
         Optional<Duration> readTimeout = configuration.getReadTimeout();
-        if (readTimeout.isPresent()) {
+        if (readTimeout.isPresent() && blockHint == null) {
             // add an additional second, because generally the timeout should occur
             // from the Netty request handling pipeline
             final Duration rt = readTimeout.get();
@@ -1245,6 +1354,10 @@ public class DefaultHttpClient implements
 
         List<GenericHttpFilter> filters =
                 filterResolver.resolveFilters(request, clientFilterEntries);
+        if (filters.isEmpty() && parentRequest == null) {
+            // nothing to run around the request
+            return responsePublisher;
+        }
         if (parentRequest != null) {
             // todo: migrate to new filter
             filters.add(
@@ -1486,24 +1599,25 @@ public class DefaultHttpClient implements
     }
 
     private <I> Publisher<URI> resolveURI(io.micronaut.http.HttpRequest<I> request, boolean includeContextPath) {
-        URI requestURI = request.getUri();
         if (loadBalancer == null) {
             return Flux.error(decorate(new NoHostException("Request URI specifies no host to connect to")));
         }
 
-        return Flux.from(loadBalancer.select(getLoadBalancerDiscriminator())).map(server -> {
-                    Optional<String> authInfo = server.getMetadata().get(io.micronaut.http.HttpHeaders.AUTHORIZATION_INFO, String.class);
-                    if (request instanceof MutableHttpRequest && authInfo.isPresent()) {
-                        ((MutableHttpRequest) request).getHeaders().auth(authInfo.get());
-                    }
+        return Flux.from(loadBalancer.select(getLoadBalancerDiscriminator())).map(server -> resolveServerURI(server, request, includeContextPath));
+    }
 
-                    try {
-                        return server.resolve(includeContextPath ? ContextPathUtils.prepend(requestURI, contextPath) : requestURI);
-                    } catch (URISyntaxException e) {
-                        throw decorate(new HttpClientException("Failed to construct the request URI", e));
-                    }
-                }
-        );
+    private <I> URI resolveServerURI(ServiceInstance server, io.micronaut.http.HttpRequest<I> request, boolean includeContextPath) {
+        URI requestURI = request.getUri();
+        Optional<String> authInfo = server.getMetadata().get(io.micronaut.http.HttpHeaders.AUTHORIZATION_INFO, String.class);
+        if (request instanceof MutableHttpRequest && authInfo.isPresent()) {
+            ((MutableHttpRequest) request).getHeaders().auth(authInfo.get());
+        }
+
+        try {
+            return server.resolve(includeContextPath ? ContextPathUtils.prepend(requestURI, contextPath) : requestURI);
+        } catch (URISyntaxException e) {
+            throw decorate(new HttpClientException("Failed to construct the request URI", e));
+        }
     }
 
     private <I, O, E> void sendRequestThroughChannel(
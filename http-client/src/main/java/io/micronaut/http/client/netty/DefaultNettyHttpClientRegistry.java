@@ -31,6 +31,7 @@ import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.FilterMatcher;
 import io.micronaut.http.bind.DefaultRequestBinderRegistry;
 import io.micronaut.http.bind.RequestBinderRegistry;
+import io.micronaut.http.client.ConnectionPoolListener;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.micronaut.http.client.HttpClientRegistry;
@@ -420,6 +421,7 @@ class DefaultNettyHttpClientRegistry implements AutoCloseable,
                 eventLoopGroup,
                 resolveSocketChannelFactory(configuration, beanContext),
                 clientCustomizer,
+                new CompositeConnectionPoolListener(beanContext.getBeansOfType(ConnectionPoolListener.class)),
                 invocationInstrumenterFactories,
                 clientId,
                 conversionService
@@ -17,17 +17,21 @@ package io.micronaut.http.client.netty;
 
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.client.ConnectionPoolListener;
+import io.micronaut.http.client.ConnectionPoolMetrics;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.micronaut.http.client.exceptions.HttpClientException;
 import org.slf4j.Logger;
 import reactor.core.publisher.Sinks;
 
+import java.time.Duration;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 /**
@@ -40,9 +44,15 @@ import java.util.function.Consumer;
  * {@link #dirty()}. The state management logic ensures that {@link #doSomeWork()} is called in a
  * serialized fashion (no concurrency or reentrancy) at least once after each {@link #dirty()}
  * call.
+ * <p>
+ * This class also records the {@link ConnectionPoolMetrics} of the pool. With
+ * {@link HttpClientConfiguration.ConnectionPoolConfiguration#isAdaptive() adaptive sizing}, the
+ * connection limit is adjusted in {@link #doSomeWork()}: it is doubled when the target percentile
+ * of the acquire latency in the last interval exceeds the target latency, and reduced by one
+ * (closing an idle connection) when the latency is below half the target.
  */
 @Internal
-abstract class PoolResizer {
+abstract class PoolResizer implements ConnectionPoolMetrics {
     private final Logger log;
     private final HttpClientConfiguration.ConnectionPoolConfiguration connectionPoolConfiguration;
 
@@ -54,9 +64,41 @@ abstract class PoolResizer {
     private final List<ResizerConnection> http1Connections = new CopyOnWriteArrayList<>();
     private final List<ResizerConnection> http2Connections = new CopyOnWriteArrayList<>();
 
+    private final ConnectionPoolListener listener;
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireFailureCount = new LongAdder();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder connectionsClosed = new LongAdder();
+    private final LongAdder connectionFailures = new LongAdder();
+    private final AcquireLatencyHistogram acquireLatency = new AcquireLatencyHistogram();
+
+    private final boolean adaptive;
+    @Nullable
+    private final AcquireLatencyHistogram adaptiveWindow;
+    private final long adaptiveTargetLatencyNanos;
+    private final long adaptiveIntervalNanos;
+    private final int adaptiveMinConnections;
+    /**
+     * Only updated in {@link #doSomeWork()}.
+     */
+    private volatile int connectionLimit;
+    private long nextAdaptation;
+
     PoolResizer(Logger log, HttpClientConfiguration.ConnectionPoolConfiguration connectionPoolConfiguration) {
+        this(log, connectionPoolConfiguration, CompositeConnectionPoolListener.EMPTY);
+    }
+
+    PoolResizer(Logger log, HttpClientConfiguration.ConnectionPoolConfiguration connectionPoolConfiguration, ConnectionPoolListener listener) {
         this.log = log;
         this.connectionPoolConfiguration = connectionPoolConfiguration;
+        this.listener = listener;
+        this.adaptive = connectionPoolConfiguration.isAdaptive();
+        this.adaptiveWindow = adaptive ? new AcquireLatencyHistogram() : null;
+        this.adaptiveTargetLatencyNanos = connectionPoolConfiguration.getAdaptiveTargetAcquireLatency().toNanos();
+        this.adaptiveIntervalNanos = connectionPoolConfiguration.getAdaptiveInterval().toNanos();
+        this.adaptiveMinConnections = Math.max(1, connectionPoolConfiguration.getAdaptiveMinConnections());
+        this.connectionLimit = adaptiveMinConnections;
+        this.nextAdaptation = System.nanoTime() + adaptiveIntervalNanos;
     }
 
     private void dirty() {
@@ -97,6 +139,9 @@ abstract class PoolResizer {
     }
 
     private void doSomeWork() {
+        if (adaptive) {
+            adaptConnectionLimit(System.nanoTime());
+        }
         BlockHint blockedPendingRequests = null;
         while (true) {
             PoolSink<ConnectionManager.PoolHandle> toDispatch = pendingRequests.pollFirst();
@@ -141,10 +186,14 @@ abstract class PoolResizer {
         connectionsToOpen = Math.min(connectionsToOpen, connectionPoolConfiguration.getMaxPendingConnections() - pendingConnectionCount);
         // limit the connection count to the protocol-specific settings, but only if that protocol was seen for this pool.
         if (http1ConnectionCount > 0) {
-            connectionsToOpen = Math.min(connectionsToOpen, connectionPoolConfiguration.getMaxConcurrentHttp1Connections() - http1ConnectionCount);
+            connectionsToOpen = Math.min(connectionsToOpen, limit(connectionPoolConfiguration.getMaxConcurrentHttp1Connections()) - http1ConnectionCount);
         }
         if (http2ConnectionCount > 0) {
-            connectionsToOpen = Math.min(connectionsToOpen, connectionPoolConfiguration.getMaxConcurrentHttp2Connections() - http2ConnectionCount);
+            connectionsToOpen = Math.min(connectionsToOpen, limit(connectionPoolConfiguration.getMaxConcurrentHttp2Connections()) - http2ConnectionCount);
+        }
+        if (adaptive) {
+            // the adaptive limit also applies before the protocol is known
+            connectionsToOpen = Math.min(connectionsToOpen, connectionLimit - pendingConnectionCount - http1ConnectionCount - http2ConnectionCount);
         }
 
         if (connectionsToOpen > 0) {
@@ -164,6 +213,61 @@ abstract class PoolResizer {
         }
     }
 
+    private int limit(int configuredMaximum) {
+        return adaptive ? Math.min(connectionLimit, configuredMaximum) : configuredMaximum;
+    }
+
+    private int maximumConnections() {
+        return http2Connections.isEmpty() ?
+            connectionPoolConfiguration.getMaxConcurrentHttp1Connections() :
+            connectionPoolConfiguration.getMaxConcurrentHttp2Connections();
+    }
+
+    private void adaptConnectionLimit(long now) {
+        if (now - nextAdaptation < 0) {
+            return;
+        }
+        nextAdaptation = now + adaptiveIntervalNanos;
+        long samples = adaptiveWindow.count();
+        long latency = adaptiveWindow.percentileNanos(connectionPoolConfiguration.getAdaptiveTargetPercentile());
+        adaptiveWindow.reset();
+
+        int previous = connectionLimit;
+        int limit = previous;
+        if (samples > 0 && latency > adaptiveTargetLatencyNanos) {
+            // requests wait too long for a connection, grow quickly
+            limit = (int) Math.min(maximumConnections(), Math.max(previous + 1L, previous * 2L));
+        } else if (latency * 2 < adaptiveTargetLatencyNanos && previous > adaptiveMinConnections) {
+            // plenty of headroom, shrink slowly
+            limit = previous - 1;
+        }
+        if (limit == previous) {
+            return;
+        }
+        connectionLimit = limit;
+        if (limit < previous) {
+            int excess = http1Connections.size() + http2Connections.size() - limit;
+            for (ResizerConnection c : http1Connections) {
+                if (excess <= 0) {
+                    break;
+                }
+                if (c.windDownIfIdle()) {
+                    excess--;
+                }
+            }
+            for (ResizerConnection c : http2Connections) {
+                if (excess <= 0) {
+                    break;
+                }
+                if (c.windDownIfIdle()) {
+                    excess--;
+                }
+            }
+        }
+        log.debug("Adaptive connection limit changed from {} to {}, acquire latency {}ns", previous, limit, latency);
+        listener.onConnectionLimitChanged(this, previous, limit);
+    }
+
     private boolean dispatchSafe(ResizerConnection connection, PoolSink<ConnectionManager.PoolHandle> toDispatch) {
         try {
             return connection.dispatch(toDispatch);
@@ -199,31 +303,151 @@ abstract class PoolResizer {
         // todo: implement a circuit breaker here? right now, we just fail one connection in the
         //  subclass implementation, but maybe we should do more.
         pendingConnectionCount.decrementAndGet();
+        connectionFailures.increment();
+        listener.onConnectionFailed(this, error);
         dirty();
     }
 
     final void onNewConnectionEstablished1(ResizerConnection connection) {
         http1Connections.add(connection);
         pendingConnectionCount.decrementAndGet();
+        connectionsOpened.increment();
+        listener.onConnectionOpened(this, false);
         dirty();
     }
 
     final void onNewConnectionEstablished2(ResizerConnection connection) {
         http2Connections.add(connection);
         pendingConnectionCount.decrementAndGet();
+        connectionsOpened.increment();
+        listener.onConnectionOpened(this, true);
         dirty();
     }
 
     final void onConnectionInactive1(ResizerConnection connection) {
-        http1Connections.remove(connection);
+        if (http1Connections.remove(connection)) {
+            connectionsClosed.increment();
+            listener.onConnectionClosed(this, false);
+        }
         dirty();
     }
 
     final void onConnectionInactive2(ResizerConnection connection) {
-        http2Connections.remove(connection);
+        if (http2Connections.remove(connection)) {
+            connectionsClosed.increment();
+            listener.onConnectionClosed(this, true);
+        }
         dirty();
     }
 
+    /**
+     * Record a successful connection acquisition.
+     *
+     * @param waitNanos The time the request waited for the connection
+     */
+    final void onAcquired(long waitNanos) {
+        acquireCount.increment();
+        acquireLatency.record(waitNanos);
+        if (adaptiveWindow != null) {
+            adaptiveWindow.record(waitNanos);
+        }
+        listener.onAcquired(this, waitNanos);
+    }
+
+    /**
+     * Record a failed connection acquisition.
+     *
+     * @param waitNanos The time the request waited before the failure
+     * @param cause     The failure
+     */
+    final void onAcquireFailed(long waitNanos, Throwable cause) {
+        acquireFailureCount.increment();
+        if (adaptiveWindow != null) {
+            // a timeout is the worst case latency, it should make the pool grow
+            adaptiveWindow.record(waitNanos);
+        }
+        listener.onAcquireFailed(this, waitNanos, cause);
+    }
+
+    final ConnectionPoolListener listener() {
+        return listener;
+    }
+
+    @Override
+    public int getPendingAcquires() {
+        return pendingRequests.size();
+    }
+
+    @Override
+    public int getPendingConnections() {
+        return pendingConnectionCount.get();
+    }
+
+    @Override
+    public int getHttp1Connections() {
+        return http1Connections.size();
+    }
+
+    @Override
+    public int getHttp1ActiveConnections() {
+        int active = 0;
+        for (ResizerConnection c : http1Connections) {
+            if (c.liveRequestCount() > 0) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    @Override
+    public int getHttp2Connections() {
+        return http2Connections.size();
+    }
+
+    @Override
+    public int getHttp2ActiveStreams() {
+        int streams = 0;
+        for (ResizerConnection c : http2Connections) {
+            streams += c.liveRequestCount();
+        }
+        return streams;
+    }
+
+    @Override
+    public int getConnectionLimit() {
+        return limit(maximumConnections());
+    }
+
+    @Override
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    @Override
+    public long getAcquireFailureCount() {
+        return acquireFailureCount.sum();
+    }
+
+    @Override
+    public long getConnectionsOpened() {
+        return connectionsOpened.sum();
+    }
+
+    @Override
+    public long getConnectionsClosed() {
+        return connectionsClosed.sum();
+    }
+
+    @Override
+    public long getConnectionFailures() {
+        return connectionFailures.sum();
+    }
+
+    @Override
+    public Duration getAcquireLatency(double percentile) {
+        return Duration.ofNanos(acquireLatency.percentileNanos(percentile));
+    }
+
     final void addPendingRequest(PoolSink<ConnectionManager.PoolHandle> sink) {
         if (pendingRequests.size() >= connectionPoolConfiguration.getMaxPendingAcquires()) {
             sink.tryEmitError(new HttpClientException("Cannot acquire connection, exceeded max pending acquires configuration"));
@@ -281,5 +505,17 @@ abstract class PoolResizer {
          * request must be readded), or {@code false} if it fails immediately
          */
         abstract boolean dispatch(PoolSink<ConnectionManager.PoolHandle> sink) throws Exception;
+
+        /**
+         * @return The number of requests running on this connection
+         */
+        abstract int liveRequestCount();
+
+        /**
+         * Close this connection if no request is running on it. Used to shrink the pool.
+         *
+         * @return {@code true} if the connection was idle and is being closed
+         */
+        abstract boolean windDownIfIdle();
     }
 }
@@ -0,0 +1,118 @@
+package io.micronaut.http.client.loadbalance
+
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.ServiceInstanceList
+import io.micronaut.discovery.exceptions.NoAvailableServiceException
+import io.micronaut.health.HealthStatus
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+class ServiceInstanceListPowerOfTwoChoicesLoadBalancerSpec extends Specification {
+
+    void "test the instance with fewer outstanding requests is selected"() {
+        given:
+        List<ServiceInstance> instances = [
+                ServiceInstance.of("test", new URI("http://one")),
+                ServiceInstance.of("test", new URI("http://two"))
+        ]
+        def balancer = new ServiceInstanceListPowerOfTwoChoicesLoadBalancer(instanceList(instances))
+        select(balancer)
+
+        when:
+        balancer.onRequestStart(instances[0])
+        balancer.onRequestStart(instances[0])
+
+        then:
+        (1..10).every { select(balancer).URI == instances[1].URI }
+        balancer.getOutstandingRequests(instances[0]) == 2
+
+        when:
+        balancer.onRequestComplete(instances[0], 1000, false)
+        balancer.onRequestComplete(instances[0], 1000, false)
+        balancer.onRequestStart(instances[1])
+        balancer.onRequestComplete(instances[1], 5000, false)
+        balancer.onRequestStart(instances[1])
+
+        then:
+        balancer.getOutstandingRequests(instances[0]) == 0
+        balancer.getLatencyNanos(instances[0]) == 1000
+        balancer.getLatencyNanos(instances[1]) == 5000
+        (1..10).every { select(balancer).URI == instances[0].URI }
+    }
+
+    void "test failed requests raise the latency"() {
+        given:
+        ServiceInstance instance = ServiceInstance.of("test", new URI("http://one"))
+        def balancer = new ServiceInstanceListPowerOfTwoChoicesLoadBalancer(instanceList([instance]))
+        select(balancer)
+
+        when:
+        balancer.onRequestStart(instance)
+        balancer.onRequestComplete(instance, 1000, false)
+        balancer.onRequestStart(instance)
+        balancer.onRequestComplete(instance, 10, true)
+
+        then:
+        balancer.getLatencyNanos(instance) > 1000
+    }
+
+    void "test only instances that are up are selected"() {
+        given:
+        ServiceInstance down = ServiceInstance.builder("test", new URI("http://one")).status(HealthStatus.DOWN).build()
+        ServiceInstance up = ServiceInstance.of("test", new URI("http://two"))
+        def balancer = new ServiceInstanceListPowerOfTwoChoicesLoadBalancer(instanceList([down, up]))
+
+        expect:
+        (1..10).every { select(balancer).URI == up.URI }
+
+        when:
+        new ServiceInstanceListPowerOfTwoChoicesLoadBalancer(instanceList([down])).getNextAvailable([down])
+
+        then:
+        thrown(NoAvailableServiceException)
+    }
+
+    void "test health changes are seen without a new instance list"() {
+        given:
+        ServiceInstance one = ServiceInstance.of("test", new URI("http://one"))
+        ServiceInstance two = ServiceInstance.of("test", new URI("http://two"))
+        List<ServiceInstance> instances = [one, two]
+        def balancer = new ServiceInstanceListPowerOfTwoChoicesLoadBalancer(instanceList(instances))
+        select(balancer)
+        balancer.onRequestStart(one)
+        balancer.onRequestComplete(one, 1000, false)
+
+        when:
+        instances[1] = ServiceInstance.builder("test", new URI("http://two")).status(HealthStatus.DOWN).build()
+
+        then:
+        (1..10).every { select(balancer).URI == one.URI }
+        balancer.getLatencyNanos(one) == 1000
+
+        when:
+        instances.remove(0)
+        instances[0] = two
+        select(balancer)
+
+        then:
+        balancer.getLatencyNanos(one) == 0
+    }
+
+    private static ServiceInstance select(AbstractPowerOfTwoChoicesLoadBalancer balancer) {
+        Mono.from(balancer.select(null)).block()
+    }
+
+    private static ServiceInstanceList instanceList(List<ServiceInstance> instances) {
+        return new ServiceInstanceList() {
+            @Override
+            String getID() {
+                return "test"
+            }
+
+            @Override
+            List<ServiceInstance> getInstances() {
+                return instances
+            }
+        }
+    }
+}
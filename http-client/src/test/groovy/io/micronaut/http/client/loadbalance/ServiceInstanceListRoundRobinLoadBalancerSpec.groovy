@@ -2,7 +2,9 @@ package io.micronaut.http.client.loadbalance
 
 import io.micronaut.discovery.ServiceInstance
 import io.micronaut.discovery.ServiceInstanceList
+import io.micronaut.health.HealthStatus
 import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
 import spock.lang.Specification
 
 class ServiceInstanceListRoundRobinLoadBalancerSpec extends Specification {
@@ -27,5 +29,27 @@ class ServiceInstanceListRoundRobinLoadBalancerSpec extends Specification {
         then:
         noExceptionThrown()
     }
-}
 
+    void "test health changes are seen without a new instance list"() {
+        given:
+        ServiceInstance one = ServiceInstance.of("test", new URI("http://one"))
+        List<ServiceInstance> instances = [one, ServiceInstance.of("test", new URI("http://two"))]
+        ServiceInstanceListRoundRobinLoadBalancer balancer = new ServiceInstanceListRoundRobinLoadBalancer(new ServiceInstanceList() {
+            @Override
+            String getID() {
+                return "test"
+            }
+
+            @Override
+            List<ServiceInstance> getInstances() {
+                return instances
+            }
+        })
+
+        when:
+        instances[1] = ServiceInstance.builder("test", new URI("http://two")).status(HealthStatus.DOWN).build()
+
+        then:
+        (1..4).every { Mono.from(balancer.select(null)).block().URI == one.URI }
+    }
+}
@@ -0,0 +1,40 @@
+package io.micronaut.http.client.netty
+
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class AcquireLatencyHistogramSpec extends Specification {
+    def 'percentiles are bucket upper bounds'() {
+        given:
+        def histogram = new AcquireLatencyHistogram()
+
+        when:
+        90.times { histogram.record(TimeUnit.MICROSECONDS.toNanos(100)) }
+        10.times { histogram.record(TimeUnit.MILLISECONDS.toNanos(50)) }
+
+        then:
+        histogram.count() == 100
+        histogram.percentileNanos(0.5) >= TimeUnit.MICROSECONDS.toNanos(100)
+        histogram.percentileNanos(0.5) < TimeUnit.MICROSECONDS.toNanos(200)
+        histogram.percentileNanos(0.99) >= TimeUnit.MILLISECONDS.toNanos(50)
+        histogram.percentileNanos(0.99) < TimeUnit.MILLISECONDS.toNanos(100)
+    }
+
+    def 'empty and reset histogram'() {
+        given:
+        def histogram = new AcquireLatencyHistogram()
+
+        expect:
+        histogram.percentileNanos(0.95) == 0
+
+        when:
+        histogram.record(0)
+        histogram.record(Long.MAX_VALUE)
+        histogram.reset()
+
+        then:
+        histogram.count() == 0
+        histogram.percentileNanos(0.95) == 0
+    }
+}
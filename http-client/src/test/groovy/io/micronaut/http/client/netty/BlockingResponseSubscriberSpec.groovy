@@ -0,0 +1,59 @@
+package io.micronaut.http.client.netty
+
+import io.micronaut.http.client.exceptions.HttpClientException
+import io.micronaut.http.client.exceptions.ReadTimeoutException
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import reactor.core.publisher.Sinks
+import spock.lang.Specification
+
+import java.time.Duration
+
+class BlockingResponseSubscriberSpec extends Specification {
+
+    def 'returns the first element'() {
+        given:
+        def subscriber = new BlockingResponseSubscriber<String>({ throw new AssertionError() })
+        Mono.just('foo').delayElement(Duration.ofMillis(50)).subscribe(subscriber)
+
+        expect:
+        subscriber.await(Duration.ofSeconds(10)) == 'foo'
+    }
+
+    def 'returns null for an empty publisher'() {
+        given:
+        def subscriber = new BlockingResponseSubscriber<String>({ throw new AssertionError() })
+        Flux.<String>empty().subscribe(subscriber)
+
+        expect:
+        subscriber.await(null) == null
+    }
+
+    def 'rethrows errors'() {
+        given:
+        def subscriber = new BlockingResponseSubscriber<String>({ throw new AssertionError() })
+        Mono.<String>error(new HttpClientException('failed')).subscribe(subscriber)
+
+        when:
+        subscriber.await(null)
+
+        then:
+        HttpClientException e = thrown()
+        e.message == 'failed'
+    }
+
+    def 'times out and cancels the subscription'() {
+        given:
+        def subscriber = new BlockingResponseSubscriber<String>({ })
+        Sinks.One<String> sink = Sinks.one()
+        boolean cancelled = false
+        sink.asMono().doOnCancel { cancelled = true }.subscribe(subscriber)
+
+        when:
+        subscriber.await(Duration.ofMillis(50))
+
+        then:
+        thrown(ReadTimeoutException)
+        cancelled
+    }
+}
@@ -8,6 +8,8 @@ import io.micronaut.http.HttpResponse
 import io.micronaut.http.HttpStatus
 import io.micronaut.http.HttpVersion
 import io.micronaut.http.MediaType
+import io.micronaut.http.client.ConnectionPoolListener
+import io.micronaut.http.client.ConnectionPoolMetrics
 import io.micronaut.http.client.HttpClient
 import io.micronaut.http.client.StreamingHttpClient
 import io.micronaut.http.client.exceptions.ReadTimeoutException
@@ -75,9 +77,11 @@ import spock.lang.Unroll
 
 import java.nio.charset.StandardCharsets
 import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
 import java.util.concurrent.ExecutionException
 import java.util.concurrent.Future
 import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 import java.util.zip.GZIPOutputStream
 
 @Execution(ExecutionMode.CONCURRENT)
@@ -802,6 +806,75 @@ class ConnectionManagerSpec extends Specification {
         ctx.close()
     }
 
+    def 'pool listener and metrics'() {
+        def ctx = ApplicationContext.run()
+        def client = ctx.getBean(DefaultHttpClient)
+        def tracker = ctx.getBean(PoolTracker)
+
+        def conn = new EmbeddedTestConnectionHttp1()
+        conn.setupHttp1()
+        patch(client, conn)
+
+        when:
+        conn.testExchangeResponse(conn.testExchangeRequest(client))
+        conn.testExchangeResponse(conn.testExchangeRequest(client))
+
+        then:
+        tracker.created.size() == 1
+        def pool = tracker.created[0]
+        pool.host == 'example.com'
+        pool.acquireCount == 2
+        pool.acquireFailureCount == 0
+        pool.connectionsOpened == 1
+        pool.http1Connections == 1
+        pool.http1ActiveConnections == 0
+        pool.pendingAcquires == 0
+        pool.connectionLimit == Integer.MAX_VALUE
+        tracker.acquired == 2
+        tracker.opened == 1
+
+        when:
+        client.close()
+
+        then:
+        tracker.closed == [pool]
+
+        cleanup:
+        ctx.close()
+    }
+
+    def 'adaptive pool starts at the minimum connection count'() {
+        def ctx = ApplicationContext.run([
+                'micronaut.http.client.pool.adaptive': true,
+                'micronaut.http.client.pool.adaptive-min-connections': 1,
+                'micronaut.http.client.pool.max-concurrent-http1-connections': 4,
+        ])
+        def client = ctx.getBean(DefaultHttpClient)
+
+        def conn = new EmbeddedTestConnectionHttp1()
+        conn.setupHttp1()
+        // only one connection is available, a second connect would fail
+        patch(client, conn)
+
+        when:
+        List<CompletableFuture<HttpResponse<?>>> futures = [
+                conn.testExchangeRequest(client),
+                conn.testExchangeRequest(client),
+        ]
+        conn.testExchangeResponse(futures.get(0))
+        conn.testExchangeResponse(futures.get(1))
+
+        then:
+        def pool = ctx.getBean(PoolTracker).created[0]
+        pool.connectionLimit == 1
+        pool.connectionsOpened == 1
+        pool.acquireCount == 2
+
+        cleanup:
+        client.close()
+        ctx.close()
+    }
+
     def 'multipart request'() {
         def ctx = ApplicationContext.run()
         def client = ctx.getBean(DefaultHttpClient)
@@ -1170,6 +1243,34 @@ class ConnectionManagerSpec extends Specification {
         }
     }
 
+    @Singleton
+    static class PoolTracker implements ConnectionPoolListener {
+        final List<ConnectionPoolMetrics> created = new CopyOnWriteArrayList<>()
+        final List<ConnectionPoolMetrics> closed = new CopyOnWriteArrayList<>()
+        final AtomicInteger acquired = new AtomicInteger()
+        final AtomicInteger opened = new AtomicInteger()
+
+        @Override
+        void onPoolCreated(ConnectionPoolMetrics pool) {
+            created.add(pool)
+        }
+
+        @Override
+        void onPoolClosed(ConnectionPoolMetrics pool) {
+            closed.add(pool)
+        }
+
+        @Override
+        void onAcquired(ConnectionPoolMetrics pool, long waitNanos) {
+            acquired.incrementAndGet()
+        }
+
+        @Override
+        void onConnectionOpened(ConnectionPoolMetrics pool, boolean http2) {
+            opened.incrementAndGet()
+        }
+    }
+
     @Singleton
     static class CustomizerTracker implements NettyClientCustomizer, BeanCreatedEventListener<Registry> {
         final Queue<Snapshot> initialPipelineBuilt = new ArrayDeque<>()
@@ -0,0 +1,149 @@
+package io.micronaut.http.client.netty
+
+import io.micronaut.http.client.ConnectionPoolListener
+import io.micronaut.http.client.ConnectionPoolMetrics
+import io.micronaut.http.client.HttpClientConfiguration
+import org.slf4j.LoggerFactory
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.TimeUnit
+
+class PoolResizerSpec extends Specification {
+    private static final long ADAPTIVE_INTERVAL_MILLIS = 50
+
+    def 'adaptive pool grows above the target latency and shrinks below half of it'() {
+        given:
+        def configuration = new HttpClientConfiguration.ConnectionPoolConfiguration()
+        configuration.adaptive = true
+        configuration.adaptiveMinConnections = 1
+        configuration.adaptiveTargetAcquireLatency = Duration.ofMillis(10)
+        configuration.adaptiveTargetPercentile = 0.9
+        configuration.adaptiveInterval = Duration.ofMillis(ADAPTIVE_INTERVAL_MILLIS)
+        configuration.maxConcurrentHttp1Connections = 4
+        def limitChanges = new CopyOnWriteArrayList<List<Integer>>()
+        def listener = new ConnectionPoolListener() {
+            @Override
+            void onConnectionLimitChanged(ConnectionPoolMetrics pool, int previousLimit, int newLimit) {
+                limitChanges.add([previousLimit, newLimit])
+            }
+        }
+        def resizer = new TestResizer(configuration, listener)
+
+        expect:
+        resizer.connectionLimit == 1
+
+        when:"Requests wait for a connection while the pool is at its limit"
+        6.times { resizer.addPendingRequest(new CancellableMonoSink<>(null)) }
+
+        then:
+        resizer.http1Connections == 1
+        resizer.pendingAcquires == 6
+
+        when:"The acquire latency exceeds the target"
+        adapt(resizer, TimeUnit.MILLISECONDS.toNanos(50))
+
+        then:"The limit doubles and the waiting requests get new connections"
+        resizer.connectionLimit == 2
+        resizer.http1Connections == 2
+
+        when:
+        adapt(resizer, TimeUnit.MILLISECONDS.toNanos(50))
+        adapt(resizer, TimeUnit.MILLISECONDS.toNanos(50))
+
+        then:"The limit does not exceed the configured maximum"
+        resizer.connectionLimit == 4
+        resizer.http1Connections == 4
+
+        when:"The requests are served and the latency drops below half the target"
+        resizer.busy = false
+        adapt(resizer, TimeUnit.MILLISECONDS.toNanos(1))
+
+        then:"The limit shrinks by one and an idle connection is closed"
+        resizer.pendingAcquires == 0
+        resizer.connectionLimit == 3
+        resizer.http1Connections == 3
+        resizer.closed.size() == 1
+
+        when:
+        5.times { adapt(resizer, TimeUnit.MILLISECONDS.toNanos(1)) }
+
+        then:"The pool does not shrink below the minimum"
+        resizer.connectionLimit == 1
+        resizer.http1Connections == 1
+        limitChanges == [[1, 2], [2, 4], [4, 3], [3, 2], [2, 1]]
+    }
+
+    /**
+     * Records an acquisition with the given latency, then lets the next adaptation interval run.
+     */
+    private static void adapt(TestResizer resizer, long latencyNanos) {
+        resizer.onAcquired(latencyNanos)
+        sleep(ADAPTIVE_INTERVAL_MILLIS + 10)
+        resizer.markConnectionAvailable()
+    }
+
+    static class TestResizer extends PoolResizer {
+        final List<TestConnection> closed = new CopyOnWriteArrayList<>()
+        volatile boolean busy = true
+
+        TestResizer(HttpClientConfiguration.ConnectionPoolConfiguration configuration, ConnectionPoolListener listener) {
+            super(LoggerFactory.getLogger(PoolResizerSpec), configuration, listener)
+        }
+
+        @Override
+        void openNewConnection(BlockHint blockedPendingRequests) {
+            onNewConnectionEstablished1(new TestConnection(this))
+        }
+
+        @Override
+        String getClientId() {
+            return 'test'
+        }
+
+        @Override
+        String getHost() {
+            return 'localhost'
+        }
+
+        @Override
+        int getPort() {
+            return 80
+        }
+
+        @Override
+        boolean isSecure() {
+            return false
+        }
+    }
+
+    static class TestConnection extends PoolResizer.ResizerConnection {
+        final TestResizer resizer
+
+        TestConnection(TestResizer resizer) {
+            this.resizer = resizer
+        }
+
+        @Override
+        boolean dispatch(PoolSink<ConnectionManager.PoolHandle> sink) {
+            // idle connections complete the request immediately, busy ones leave it pending
+            return !resizer.busy
+        }
+
+        @Override
+        int liveRequestCount() {
+            return resizer.busy ? 1 : 0
+        }
+
+        @Override
+        boolean windDownIfIdle() {
+            if (resizer.busy) {
+                return false
+            }
+            resizer.closed.add(this)
+            resizer.onConnectionInactive1(this)
+            return true
+        }
+    }
+}
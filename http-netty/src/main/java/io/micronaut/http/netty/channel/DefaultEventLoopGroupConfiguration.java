@@ -24,6 +24,8 @@ import io.micronaut.core.bind.annotation.Bindable;
 import io.micronaut.core.util.StringUtils;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -42,6 +44,7 @@ public class DefaultEventLoopGroupConfiguration implements EventLoopGroupConfigu
     private final String executor;
     private final Duration shutdownQuietPeriod;
     private final Duration shutdownTimeout;
+    private final List<String> nativeTransportOrder;
 
     /**
      * Default constructor.
@@ -54,12 +57,38 @@ public class DefaultEventLoopGroupConfiguration implements EventLoopGroupConfigu
      * @param shutdownQuietPeriod   The shutdown quiet period
      * @param shutdownTimeout       The shutdown timeout (must be &gt;= shutdownQuietPeriod)
      */
+    public DefaultEventLoopGroupConfiguration(
+            String name,
+            int numThreads,
+            @Nullable Integer ioRatio,
+            boolean preferNativeTransport,
+            @Nullable String executor,
+            @Nullable Duration shutdownQuietPeriod,
+            @Nullable Duration shutdownTimeout
+    ) {
+        this(name, numThreads, ioRatio, preferNativeTransport, null, executor, shutdownQuietPeriod, shutdownTimeout);
+    }
+
+    /**
+     * Default constructor.
+     *
+     * @param name                  The name of the group
+     * @param numThreads            The number of threads
+     * @param ioRatio               The IO ratio (optional)
+     * @param preferNativeTransport Whether native transport is to be preferred
+     * @param nativeTransportOrder  The native transports to try, in order (optional)
+     * @param executor              A named executor service to use (optional)
+     * @param shutdownQuietPeriod   The shutdown quiet period
+     * @param shutdownTimeout       The shutdown timeout (must be &gt;= shutdownQuietPeriod)
+     * @since 4.0.0
+     */
     @ConfigurationInject
     public DefaultEventLoopGroupConfiguration(
             @Parameter String name,
             @Bindable(defaultValue = "0") int numThreads,
             @Nullable Integer ioRatio,
             @Bindable(defaultValue = StringUtils.FALSE) boolean preferNativeTransport,
+            @Nullable List<String> nativeTransportOrder,
             @Nullable String executor,
             @Nullable Duration shutdownQuietPeriod,
             @Nullable Duration shutdownTimeout
@@ -68,6 +97,7 @@ public class DefaultEventLoopGroupConfiguration implements EventLoopGroupConfigu
         this.numThreads = numThreads;
         this.ioRatio = ioRatio;
         this.preferNativeTransport = preferNativeTransport;
+        this.nativeTransportOrder = nativeTransportOrder != null ? nativeTransportOrder : Collections.emptyList();
         this.executor = executor;
         this.shutdownQuietPeriod = Optional.ofNullable(shutdownQuietPeriod)
             .orElse(Duration.ofSeconds(DEFAULT_SHUTDOWN_QUIET_PERIOD));
@@ -83,6 +113,7 @@ public class DefaultEventLoopGroupConfiguration implements EventLoopGroupConfigu
         this.numThreads = 0;
         this.ioRatio = null;
         this.preferNativeTransport = false;
+        this.nativeTransportOrder = Collections.emptyList();
         this.executor = null;
         this.shutdownQuietPeriod = Duration.ofSeconds(DEFAULT_SHUTDOWN_QUIET_PERIOD);
         this.shutdownTimeout = Duration.ofSeconds(DEFAULT_SHUTDOWN_TIMEOUT);
@@ -117,6 +148,11 @@ public class DefaultEventLoopGroupConfiguration implements EventLoopGroupConfigu
         return preferNativeTransport;
     }
 
+    @Override
+    public List<String> getNativeTransportOrder() {
+        return nativeTransportOrder;
+    }
+
     @NonNull
     @Override
     public String getName() {
@@ -17,6 +17,7 @@ package io.micronaut.http.netty.channel;
 
 import io.micronaut.context.annotation.BootstrapContextCompatible;
 import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.ArgumentUtils;
@@ -31,6 +32,7 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
 
@@ -47,6 +49,8 @@ public class DefaultEventLoopGroupFactory implements EventLoopGroupFactory {
 
     private final EventLoopGroupFactory nativeFactory;
     private final EventLoopGroupFactory defaultFactory;
+    @Nullable
+    private final EventLoopGroupFactory ioUringFactory;
 
     /**
      * Default constructor.
@@ -65,13 +69,30 @@ public class DefaultEventLoopGroupFactory implements EventLoopGroupFactory {
      * @param nativeFactory The native factory if available
      * @param nettyGlobalConfiguration The netty global configuration
      */
+    public DefaultEventLoopGroupFactory(
+            NioEventLoopGroupFactory nioEventLoopGroupFactory,
+            @Nullable @Named(EventLoopGroupFactory.NATIVE) EventLoopGroupFactory nativeFactory,
+            @Nullable NettyGlobalConfiguration nettyGlobalConfiguration) {
+        this(nioEventLoopGroupFactory, nativeFactory, null, nettyGlobalConfiguration);
+    }
+
+    /**
+     * Default constructor.
+     * @param nioEventLoopGroupFactory The NIO factory
+     * @param nativeFactory The native factory if available
+     * @param ioUringFactory The io_uring factory if available
+     * @param nettyGlobalConfiguration The netty global configuration
+     * @since 4.0.0
+     */
     @Inject
     public DefaultEventLoopGroupFactory(
             NioEventLoopGroupFactory nioEventLoopGroupFactory,
             @Nullable @Named(EventLoopGroupFactory.NATIVE) EventLoopGroupFactory nativeFactory,
+            @Nullable @Named(EventLoopGroupFactory.IO_URING) EventLoopGroupFactory ioUringFactory,
             @Nullable NettyGlobalConfiguration nettyGlobalConfiguration) {
         this.defaultFactory = nioEventLoopGroupFactory;
         this.nativeFactory = nativeFactory != null ? nativeFactory : defaultFactory;
+        this.ioUringFactory = ioUringFactory;
         if (nettyGlobalConfiguration != null && nettyGlobalConfiguration.getResourceLeakDetectorLevel() != null) {
             ResourceLeakDetector.setLevel(nettyGlobalConfiguration.getResourceLeakDetectorLevel());
         }
@@ -135,10 +156,28 @@ public class DefaultEventLoopGroupFactory implements EventLoopGroupFactory {
 
     private EventLoopGroupFactory getFactory(@Nullable EventLoopGroupConfiguration configuration) {
         if (configuration != null && configuration.isPreferNativeTransport()) {
-            return this.nativeFactory;
-        } else {
-            return this.defaultFactory;
+            List<String> transportOrder = configuration.getNativeTransportOrder();
+            if (transportOrder.isEmpty()) {
+                return this.nativeFactory;
+            }
+            for (String transport : transportOrder) {
+                EventLoopGroupFactory factory = findNativeFactory(configuration, transport);
+                if (factory != null) {
+                    return factory;
+                }
+            }
         }
+        return this.defaultFactory;
+    }
+
+    @Nullable
+    private EventLoopGroupFactory findNativeFactory(EventLoopGroupConfiguration configuration, String transport) {
+        return switch (transport) {
+            case IO_URING -> ioUringFactory;
+            case EPOLL -> nativeFactory instanceof EpollEventLoopGroupFactory ? nativeFactory : null;
+            case KQUEUE -> nativeFactory instanceof KQueueEventLoopGroupFactory ? nativeFactory : null;
+            default -> throw new ConfigurationException("Unsupported native transport [" + transport + "] configured for event loop group: " + configuration.getName());
+        };
     }
 
     @NonNull
@@ -18,6 +18,8 @@ package io.micronaut.http.netty.channel;
 import io.micronaut.core.naming.Named;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -74,6 +76,19 @@ public interface EventLoopGroupConfiguration extends Named {
      */
     boolean isPreferNativeTransport();
 
+    /**
+     * The native transports to try, in order, when {@link #isPreferNativeTransport()} is enabled. Supported
+     * values are {@value EventLoopGroupFactory#IO_URING}, {@value EventLoopGroupFactory#EPOLL} and
+     * {@value EventLoopGroupFactory#KQUEUE}. The first available transport is used, and NIO is used if none
+     * is available. When empty, epoll or kqueue is used, depending on the platform.
+     *
+     * @return The native transport order
+     * @since 4.0.0
+     */
+    default List<String> getNativeTransportOrder() {
+        return Collections.emptyList();
+    }
+
     /**
      * @return The shutdown quiet period
      */
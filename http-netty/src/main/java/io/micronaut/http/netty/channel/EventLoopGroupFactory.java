@@ -40,6 +40,27 @@ public interface EventLoopGroupFactory {
      */
     String NATIVE = "native";
 
+    /**
+     * Qualifier used to resolve the io_uring factory, and the name of the io_uring transport.
+     *
+     * @since 4.0.0
+     */
+    String IO_URING = "io_uring";
+
+    /**
+     * The name of the epoll transport.
+     *
+     * @since 4.0.0
+     */
+    String EPOLL = "epoll";
+
+    /**
+     * The name of the kqueue transport.
+     *
+     * @since 4.0.0
+     */
+    String KQUEUE = "kqueue";
+
     /**
      * @return Is this a native factory.
      */
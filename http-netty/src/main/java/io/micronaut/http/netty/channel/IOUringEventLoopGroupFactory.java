@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.netty.channel;
+
+import io.micronaut.context.annotation.BootstrapContextCompatible;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
+import io.netty.incubator.channel.uring.IOUringSocketChannel;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory for IOUringEventLoopGroup. The io_uring transport does not support domain sockets, and its event loops
+ * have no io ratio, so a configured io ratio is ignored.
+ *
+ * @since 4.0.0
+ */
+@Singleton
+@Requires(classes = IOUring.class, condition = IOUringAvailabilityCondition.class)
+@Internal
+@Named(EventLoopGroupFactory.IO_URING)
+@BootstrapContextCompatible
+public class IOUringEventLoopGroupFactory implements EventLoopGroupFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IOUringEventLoopGroupFactory.class);
+
+    /**
+     * Creates an IOUringEventLoopGroup.
+     *
+     * @param threads       The number of threads to use.
+     * @param threadFactory The thread factory.
+     * @param ioRatio       The io ratio, ignored by io_uring.
+     * @return An IOUringEventLoopGroup.
+     */
+    @Override
+    public EventLoopGroup createEventLoopGroup(int threads, ThreadFactory threadFactory, @Nullable Integer ioRatio) {
+        logIgnoredIoRatio(ioRatio);
+        return new IOUringEventLoopGroup(threads, threadFactory);
+    }
+
+    /**
+     * Creates an IOUringEventLoopGroup.
+     *
+     * @param threads  The number of threads to use.
+     * @param executor An Executor.
+     * @param ioRatio  The io ratio, ignored by io_uring.
+     * @return An IOUringEventLoopGroup.
+     */
+    @Override
+    public EventLoopGroup createEventLoopGroup(int threads, Executor executor, @Nullable Integer ioRatio) {
+        logIgnoredIoRatio(ioRatio);
+        return new IOUringEventLoopGroup(threads, executor);
+    }
+
+    /**
+     * Returns the server channel class.
+     *
+     * @return IOUringServerSocketChannel.
+     */
+    @Override
+    public Class<? extends ServerSocketChannel> serverSocketChannelClass() {
+        return IOUringServerSocketChannel.class;
+    }
+
+    @NonNull
+    @Override
+    public IOUringServerSocketChannel serverSocketChannelInstance(@Nullable EventLoopGroupConfiguration configuration) {
+        return new IOUringServerSocketChannel();
+    }
+
+    @NonNull
+    @Override
+    public Class<? extends SocketChannel> clientSocketChannelClass(@Nullable EventLoopGroupConfiguration configuration) {
+        return IOUringSocketChannel.class;
+    }
+
+    @Override
+    public SocketChannel clientSocketChannelInstance(EventLoopGroupConfiguration configuration) {
+        return new IOUringSocketChannel();
+    }
+
+    @Override
+    public boolean isNative() {
+        return true;
+    }
+
+    private static void logIgnoredIoRatio(@Nullable Integer ioRatio) {
+        if (ioRatio != null && LOG.isDebugEnabled()) {
+            LOG.debug("Ignoring the io ratio {}, the io_uring transport does not support it", ioRatio);
+        }
+    }
+
+}
@@ -18,11 +18,15 @@ package io.micronaut.http.netty.websocket;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.MediaType;
+import io.micronaut.websocket.BroadcastBackpressure;
 import io.micronaut.websocket.WebSocketBroadcaster;
 import io.micronaut.websocket.WebSocketSession;
 import io.micronaut.websocket.exceptions.WebSocketSessionException;
 import io.netty.channel.Channel;
+import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.ChannelGroupException;
+import io.netty.channel.group.ChannelGroupFuture;
+import io.netty.channel.group.ChannelMatcher;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
 import io.netty.util.Attribute;
 import jakarta.inject.Singleton;
@@ -31,6 +35,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 
 import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -61,16 +67,7 @@ public class NettyServerWebSocketBroadcaster implements WebSocketBroadcaster {
     @Override
     public <T> void broadcastSync(T message, MediaType mediaType, Predicate<WebSocketSession> filter) {
         WebSocketFrame frame = webSocketMessageEncoder.encodeMessage(message, mediaType);
-        try {
-            webSocketSessionRepository.getChannelGroup().writeAndFlush(frame, ch -> {
-                Attribute<NettyWebSocketSession> attr = ch.attr(NettyWebSocketSession.WEB_SOCKET_SESSION_KEY);
-                NettyWebSocketSession s = attr.get();
-                return s != null && s.isOpen() && filter.test(s);
-            }).sync();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new WebSocketSessionException("Broadcast Interrupted");
-        }
+        writeSync(webSocketSessionRepository.getChannelGroup(), frame, filter);
     }
 
     @Override
@@ -78,27 +75,108 @@ public class NettyServerWebSocketBroadcaster implements WebSocketBroadcaster {
         return Flux.create(emitter -> {
             try {
                 WebSocketFrame frame = webSocketMessageEncoder.encodeMessage(message, mediaType);
-                webSocketSessionRepository.getChannelGroup().writeAndFlush(frame, ch -> {
-                    Attribute<NettyWebSocketSession> attr = ch.attr(NettyWebSocketSession.WEB_SOCKET_SESSION_KEY);
-                    NettyWebSocketSession s = attr.get();
-                    return s != null && s.isOpen() && filter.test(s);
-                }).addListener(future -> {
-                    if (!future.isSuccess()) {
-                        Throwable cause = extractBroadcastFailure(future.cause());
-                        if (cause != null) {
-                            emitter.error(new WebSocketSessionException("Broadcast Failure: " + cause.getMessage(), cause));
-                            return;
-                        }
-                    }
+                write(webSocketSessionRepository.getChannelGroup(), frame, filter, message, emitter);
+            } catch (Throwable e) {
+                emitter.error(new WebSocketSessionException("Broadcast Failure: " + e.getMessage(), e));
+            }
+        }, FluxSink.OverflowStrategy.BUFFER);
+    }
+
+    @Override
+    public <T> Publisher<T> broadcastTopic(String topic, T message, MediaType mediaType) {
+        WebSocketTopicRegistry topicRegistry = webSocketSessionRepository.getTopicRegistry();
+        if (topicRegistry == null) {
+            return WebSocketBroadcaster.super.broadcastTopic(topic, message, mediaType);
+        }
+        return Flux.create(emitter -> {
+            try {
+                ChannelGroup group = topicRegistry.getChannelGroup(topic);
+                if (group == null) {
                     emitter.next(message);
                     emitter.complete();
-                });
+                    return;
+                }
+                WebSocketFrame frame = webSocketMessageEncoder.encodeMessage(message, mediaType);
+                write(group, frame, s -> true, message, emitter);
             } catch (Throwable e) {
                 emitter.error(new WebSocketSessionException("Broadcast Failure: " + e.getMessage(), e));
             }
         }, FluxSink.OverflowStrategy.BUFFER);
     }
 
+    @Override
+    public <T> void broadcastTopicSync(String topic, T message, MediaType mediaType) {
+        WebSocketTopicRegistry topicRegistry = webSocketSessionRepository.getTopicRegistry();
+        if (topicRegistry == null) {
+            WebSocketBroadcaster.super.broadcastTopicSync(topic, message, mediaType);
+            return;
+        }
+        ChannelGroup group = topicRegistry.getChannelGroup(topic);
+        if (group != null) {
+            writeSync(group, webSocketMessageEncoder.encodeMessage(message, mediaType), s -> true);
+        }
+    }
+
+    private void writeSync(ChannelGroup group, WebSocketFrame frame, Predicate<WebSocketSession> filter) {
+        List<Channel> rejected = new ArrayList<>(0);
+        try {
+            ChannelGroupFuture future = group.writeAndFlush(frame, matcher(filter, rejected));
+            closeAll(rejected);
+            future.sync();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebSocketSessionException("Broadcast Interrupted");
+        }
+    }
+
+    private <T> void write(ChannelGroup group, WebSocketFrame frame, Predicate<WebSocketSession> filter, T message, FluxSink<T> emitter) {
+        List<Channel> rejected = new ArrayList<>(0);
+        ChannelGroupFuture future = group.writeAndFlush(frame, matcher(filter, rejected));
+        closeAll(rejected);
+        future.addListener(f -> {
+            if (!f.isSuccess()) {
+                Throwable cause = extractBroadcastFailure(f.cause());
+                if (cause != null) {
+                    emitter.error(new WebSocketSessionException("Broadcast Failure: " + cause.getMessage(), cause));
+                    return;
+                }
+            }
+            emitter.next(message);
+            emitter.complete();
+        });
+    }
+
+    /**
+     * @param filter   The session filter
+     * @param rejected Collects the channels to close because they could not keep up, as closing
+     *                 a channel while the group is being written to is not safe
+     * @return The matcher of the channels to write to
+     */
+    private ChannelMatcher matcher(Predicate<WebSocketSession> filter, List<Channel> rejected) {
+        BroadcastBackpressure defaultBackpressure = webSocketSessionRepository.getBroadcastBackpressure();
+        return ch -> {
+            Attribute<NettyWebSocketSession> attr = ch.attr(NettyWebSocketSession.WEB_SOCKET_SESSION_KEY);
+            NettyWebSocketSession s = attr.get();
+            if (s == null || !s.isOpen() || !filter.test(s)) {
+                return false;
+            }
+            if (s.acceptBroadcast(defaultBackpressure)) {
+                return true;
+            }
+            if (s.getBroadcastBackpressure(defaultBackpressure) == BroadcastBackpressure.CLOSE) {
+                rejected.add(ch);
+            }
+            return false;
+        };
+    }
+
+    private static void closeAll(List<Channel> channels) {
+        // the remote is not reading, so there's no point in queueing a close frame behind the pending data
+        for (Channel channel : channels) {
+            channel.close();
+        }
+    }
+
     /**
      * Attempt to extract a single failure from a failure of {@link io.netty.channel.group.ChannelGroup#write}
      * exception. {@link io.netty.channel.group.ChannelGroup} aggregates exceptions into a {@link ChannelGroupException}
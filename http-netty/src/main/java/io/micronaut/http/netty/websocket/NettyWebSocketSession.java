@@ -25,6 +25,7 @@ import io.micronaut.core.convert.value.MutableConvertibleValuesMap;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
+import io.micronaut.websocket.BroadcastBackpressure;
 import io.micronaut.websocket.CloseReason;
 import io.micronaut.websocket.WebSocketSession;
 import io.micronaut.websocket.exceptions.WebSocketSessionException;
@@ -67,6 +68,7 @@ public class NettyWebSocketSession implements WebSocketSession {
     private final MediaTypeCodecRegistry codecRegistry;
     private final MutableConvertibleValues<Object> attributes;
     private final WebSocketMessageEncoder messageEncoder;
+    private volatile BroadcastBackpressure broadcastBackpressure;
 
     /**
      * Creates a new netty web socket session.
@@ -120,6 +122,41 @@ public class NettyWebSocketSession implements WebSocketSession {
         return isSecure;
     }
 
+    @Override
+    public BroadcastBackpressure getBroadcastBackpressure() {
+        return broadcastBackpressure;
+    }
+
+    @Override
+    public void setBroadcastBackpressure(BroadcastBackpressure broadcastBackpressure) {
+        this.broadcastBackpressure = broadcastBackpressure;
+    }
+
+    /**
+     * Applies the broadcast backpressure policy to a message about to be broadcast to this session.
+     * The session is not closed by this method, callers close the sessions that reject a broadcast
+     * with {@link BroadcastBackpressure#CLOSE} once the broadcast has been written.
+     *
+     * @param defaultBackpressure The policy to apply if the session does not override it
+     * @return Whether the message should be written to this session
+     * @since 4.0.0
+     */
+    @Internal
+    public boolean acceptBroadcast(@NonNull BroadcastBackpressure defaultBackpressure) {
+        return channel.isWritable() || getBroadcastBackpressure(defaultBackpressure) == BroadcastBackpressure.BUFFER;
+    }
+
+    /**
+     * @param defaultBackpressure The policy to apply if the session does not override it
+     * @return The broadcast backpressure policy of this session
+     * @since 4.0.0
+     */
+    @Internal
+    @NonNull
+    public BroadcastBackpressure getBroadcastBackpressure(@NonNull BroadcastBackpressure defaultBackpressure) {
+        return broadcastBackpressure != null ? broadcastBackpressure : defaultBackpressure;
+    }
+
     @Override
     public Set<? extends WebSocketSession> getOpenSessions() {
         return Collections.emptySet();
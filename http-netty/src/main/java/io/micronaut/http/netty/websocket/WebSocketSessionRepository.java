@@ -15,6 +15,9 @@
  */
 package io.micronaut.http.netty.websocket;
 
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.websocket.BroadcastBackpressure;
 import io.netty.channel.Channel;
 import io.netty.channel.group.ChannelGroup;
 
@@ -43,4 +46,24 @@ public interface WebSocketSessionRepository {
      * @return A {@link io.netty.channel.group.ChannelGroup}
      */
     ChannelGroup getChannelGroup();
+
+    /**
+     * Returns the registry of the topics the WebSocket sessions are subscribed to.
+     * @return The {@link WebSocketTopicRegistry}, or {@code null} if topics are not supported
+     * @since 4.0.0
+     */
+    @Nullable
+    default WebSocketTopicRegistry getTopicRegistry() {
+        return null;
+    }
+
+    /**
+     * Returns the policy applied to broadcasts for sessions that are not writable, unless the session overrides it.
+     * @return The default {@link BroadcastBackpressure}
+     * @since 4.0.0
+     */
+    @NonNull
+    default BroadcastBackpressure getBroadcastBackpressure() {
+        return BroadcastBackpressure.BUFFER;
+    }
 }
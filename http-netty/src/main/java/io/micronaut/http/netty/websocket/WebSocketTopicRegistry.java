@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.netty.websocket;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.netty.channel.Channel;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Indexes WebSocket channels by the topics they are subscribed to, with one {@link ChannelGroup}
+ * per topic, so that a broadcast to a topic only visits its subscribers. Closed channels leave
+ * their groups automatically, and groups without members are discarded.
+ *
+ * @since 4.0.0
+ */
+public final class WebSocketTopicRegistry {
+
+    private static final AttributeKey<Set<String>> TOPICS_KEY = AttributeKey.newInstance("micronaut.websocket.topics");
+
+    private final EventExecutor executor;
+    private final Map<String, ChannelGroup> groups = new ConcurrentHashMap<>();
+
+    /**
+     * @param executor The executor used to notify the futures of the channel groups
+     */
+    public WebSocketTopicRegistry(@NonNull EventExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Subscribe a channel to a topic.
+     *
+     * @param channel The channel
+     * @param topic   The topic
+     */
+    public void subscribe(@NonNull Channel channel, @NonNull String topic) {
+        Set<String> topics = channel.attr(TOPICS_KEY).get();
+        if (topics == null) {
+            Set<String> newTopics = ConcurrentHashMap.newKeySet();
+            topics = channel.attr(TOPICS_KEY).setIfAbsent(newTopics);
+            if (topics == null) {
+                topics = newTopics;
+                channel.closeFuture().addListener(future -> {
+                    for (String subscribed : newTopics) {
+                        leave(channel, subscribed);
+                    }
+                });
+            }
+        }
+        if (topics.add(topic)) {
+            groups.compute(topic, (t, group) -> {
+                if (group == null) {
+                    group = new DefaultChannelGroup(t, executor);
+                }
+                group.add(channel);
+                return group;
+            });
+            if (!channel.isOpen()) {
+                // the channel closed before it joined the group, so the close listener may have missed this topic
+                topics.remove(topic);
+                leave(channel, topic);
+            }
+        }
+    }
+
+    /**
+     * Unsubscribe a channel from a topic.
+     *
+     * @param channel The channel
+     * @param topic   The topic
+     */
+    public void unsubscribe(@NonNull Channel channel, @NonNull String topic) {
+        Set<String> topics = channel.attr(TOPICS_KEY).get();
+        if (topics != null && topics.remove(topic)) {
+            leave(channel, topic);
+        }
+    }
+
+    /**
+     * @param channel The channel
+     * @return The topics the channel is subscribed to
+     */
+    @NonNull
+    public Set<String> getTopics(@NonNull Channel channel) {
+        Set<String> topics = channel.attr(TOPICS_KEY).get();
+        return topics == null ? Collections.emptySet() : Collections.unmodifiableSet(topics);
+    }
+
+    /**
+     * @param topic The topic
+     * @return The channels subscribed to the topic, or {@code null} if there are none
+     */
+    @Nullable
+    public ChannelGroup getChannelGroup(@NonNull String topic) {
+        return groups.get(topic);
+    }
+
+    private void leave(Channel channel, String topic) {
+        groups.computeIfPresent(topic, (t, group) -> {
+            group.remove(channel);
+            return group.isEmpty() ? null : group;
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package io.micronaut.http.netty.channel
+
+import io.micronaut.context.exceptions.ConfigurationException
+import io.netty.channel.socket.nio.NioServerSocketChannel
+import io.netty.channel.socket.nio.NioSocketChannel
+import spock.lang.Specification
+
+class NativeTransportOrderSpec extends Specification {
+
+    void "test the first available native transport is used"() {
+        given:
+        def ioUringFactory = Mock(EventLoopGroupFactory) {
+            serverSocketChannelClass(_) >> IOUringMarkerChannel
+        }
+        def factory = new DefaultEventLoopGroupFactory(new NioEventLoopGroupFactory(), null, ioUringFactory, null)
+
+        expect:
+        factory.serverSocketChannelClass(configuration(true, ['epoll', 'io_uring'])) == IOUringMarkerChannel
+        factory.serverSocketChannelClass(configuration(false, ['io_uring'])) == NioServerSocketChannel
+    }
+
+    void "test NIO is used when no configured native transport is available"() {
+        given:
+        def factory = new DefaultEventLoopGroupFactory(new NioEventLoopGroupFactory(), null, null, null)
+
+        expect:
+        factory.serverSocketChannelClass(configuration(true, ['io_uring', 'epoll', 'kqueue'])) == NioServerSocketChannel
+        factory.clientSocketChannelClass(configuration(true, ['io_uring'])) == NioSocketChannel
+    }
+
+    void "test an unknown native transport is rejected"() {
+        given:
+        def factory = new DefaultEventLoopGroupFactory(new NioEventLoopGroupFactory(), null, null, null)
+
+        when:
+        factory.serverSocketChannelClass(configuration(true, ['foo']))
+
+        then:
+        def e = thrown(ConfigurationException)
+        e.message.contains('foo')
+    }
+
+    private static EventLoopGroupConfiguration configuration(boolean preferNativeTransport, List<String> order) {
+        new DefaultEventLoopGroupConfiguration('default', 0, null, preferNativeTransport, order, null, null, null)
+    }
+
+    static class IOUringMarkerChannel extends NioServerSocketChannel {
+    }
+}
@@ -0,0 +1,206 @@
+package io.micronaut.http.netty.websocket
+
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.websocket.BroadcastBackpressure
+import io.netty.buffer.Unpooled
+import io.netty.channel.Channel
+import io.netty.channel.DefaultChannelId
+import io.netty.channel.WriteBufferWaterMark
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.channel.group.ChannelGroup
+import io.netty.channel.group.DefaultChannelGroup
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame
+import io.netty.util.ReferenceCountUtil
+import io.netty.util.concurrent.ImmediateEventExecutor
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+class NettyServerWebSocketBroadcasterSpec extends Specification {
+
+    void "test a writable session accepts broadcasts whatever its policy"() {
+        given:
+        EmbeddedChannel channel = new EmbeddedChannel(DefaultChannelId.newInstance())
+        NettyWebSocketSession session = session(channel)
+        session.broadcastBackpressure = policy
+
+        expect:
+        session.acceptBroadcast(BroadcastBackpressure.BUFFER)
+        channel.open
+
+        cleanup:
+        channel.finishAndReleaseAll()
+
+        where:
+        policy << BroadcastBackpressure.values()
+    }
+
+    void "test a slow session applies the #policy policy without being closed"() {
+        given:
+        EmbeddedChannel channel = slowChannel()
+        NettyWebSocketSession session = session(channel)
+
+        expect:
+        !channel.writable
+        session.acceptBroadcast(policy) == accepted
+        session.getBroadcastBackpressure(policy) == policy
+        // closing is left to the broadcaster
+        channel.open
+
+        cleanup:
+        channel.finishAndReleaseAll()
+
+        where:
+        policy                         | accepted
+        BroadcastBackpressure.BUFFER   | true
+        BroadcastBackpressure.DROP     | false
+        BroadcastBackpressure.CLOSE    | false
+    }
+
+    void "test the session policy overrides the default"() {
+        given:
+        EmbeddedChannel channel = slowChannel()
+        NettyWebSocketSession session = session(channel)
+        session.broadcastBackpressure = BroadcastBackpressure.DROP
+
+        expect:
+        !session.acceptBroadcast(BroadcastBackpressure.BUFFER)
+        session.getBroadcastBackpressure(BroadcastBackpressure.BUFFER) == BroadcastBackpressure.DROP
+
+        cleanup:
+        channel.finishAndReleaseAll()
+    }
+
+    void "test a topic broadcast skips a slow subscriber with DROP"() {
+        given:
+        Fixture fixture = new Fixture(BroadcastBackpressure.DROP)
+        EmbeddedChannel fast = fixture.subscribe(new EmbeddedChannel(DefaultChannelId.newInstance()), "news")
+        EmbeddedChannel slow = fixture.subscribe(slowChannel(), "news")
+        EmbeddedChannel other = fixture.subscribe(new EmbeddedChannel(DefaultChannelId.newInstance()), "sports")
+
+        when:
+        fixture.broadcaster.broadcastTopicSync("news", "hello", MediaType.TEXT_PLAIN_TYPE)
+
+        then:
+        frames(fast) == ["hello"]
+        frames(other).isEmpty()
+        slow.open
+        !slow.writable
+
+        cleanup:
+        [fast, slow, other]*.finishAndReleaseAll()
+    }
+
+    void "test a topic broadcast closes a slow subscriber with CLOSE"() {
+        given:
+        Fixture fixture = new Fixture(BroadcastBackpressure.CLOSE)
+        EmbeddedChannel fast = fixture.subscribe(new EmbeddedChannel(DefaultChannelId.newInstance()), "news")
+        EmbeddedChannel slow = fixture.subscribe(slowChannel(), "news")
+
+        when:
+        String result = Flux.from(fixture.broadcaster.broadcastTopic("news", "hello", MediaType.TEXT_PLAIN_TYPE)).blockFirst()
+
+        then:
+        result == "hello"
+        frames(fast) == ["hello"]
+        !slow.open
+        fixture.topicRegistry.getChannelGroup("news").toList() == [fast]
+
+        cleanup:
+        [fast, slow]*.finishAndReleaseAll()
+    }
+
+    void "test a topic broadcast queues for a slow subscriber with BUFFER"() {
+        given:
+        Fixture fixture = new Fixture(BroadcastBackpressure.BUFFER)
+        EmbeddedChannel slow = fixture.subscribe(slowChannel(), "news")
+
+        when:
+        fixture.broadcaster.broadcastTopicSync("news", "hello", MediaType.TEXT_PLAIN_TYPE)
+
+        then:
+        slow.open
+        frames(slow) == ["hello"]
+
+        cleanup:
+        slow.finishAndReleaseAll()
+    }
+
+    void "test broadcasting to a topic without subscribers"() {
+        given:
+        Fixture fixture = new Fixture(BroadcastBackpressure.DROP)
+
+        expect:
+        Flux.from(fixture.broadcaster.broadcastTopic("news", "hello", MediaType.TEXT_PLAIN_TYPE)).blockFirst() == "hello"
+    }
+
+    private static NettyWebSocketSession session(Channel channel) {
+        return new NettyWebSocketSession("id", channel, HttpRequest.GET("/ws"), null, "13", false)
+    }
+
+    /**
+     * @return A channel whose peer does not read, with data pending above the high water mark
+     */
+    private static EmbeddedChannel slowChannel() {
+        EmbeddedChannel channel = new EmbeddedChannel(DefaultChannelId.newInstance())
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(8, 16))
+        channel.write(Unpooled.wrappedBuffer(new byte[64]))
+        return channel
+    }
+
+    private static List<String> frames(EmbeddedChannel channel) {
+        List<String> frames = []
+        Object message
+        while ((message = channel.readOutbound()) != null) {
+            if (message instanceof TextWebSocketFrame) {
+                frames << message.text()
+            }
+            ReferenceCountUtil.release(message)
+        }
+        return frames
+    }
+
+    private static class Fixture implements WebSocketSessionRepository {
+        final ChannelGroup channelGroup = new DefaultChannelGroup(ImmediateEventExecutor.INSTANCE)
+        final WebSocketTopicRegistry topicRegistry = new WebSocketTopicRegistry(ImmediateEventExecutor.INSTANCE)
+        final BroadcastBackpressure broadcastBackpressure
+        final NettyServerWebSocketBroadcaster broadcaster
+
+        Fixture(BroadcastBackpressure broadcastBackpressure) {
+            this.broadcastBackpressure = broadcastBackpressure
+            this.broadcaster = new NettyServerWebSocketBroadcaster(new WebSocketMessageEncoder(null), this)
+        }
+
+        EmbeddedChannel subscribe(EmbeddedChannel channel, String topic) {
+            session(channel)
+            addChannel(channel)
+            topicRegistry.subscribe(channel, topic)
+            return channel
+        }
+
+        @Override
+        void addChannel(Channel channel) {
+            channelGroup.add(channel)
+        }
+
+        @Override
+        void removeChannel(Channel channel) {
+            channelGroup.remove(channel)
+        }
+
+        @Override
+        ChannelGroup getChannelGroup() {
+            return channelGroup
+        }
+
+        @Override
+        WebSocketTopicRegistry getTopicRegistry() {
+            return topicRegistry
+        }
+
+        @Override
+        BroadcastBackpressure getBroadcastBackpressure() {
+            return broadcastBackpressure
+        }
+    }
+}
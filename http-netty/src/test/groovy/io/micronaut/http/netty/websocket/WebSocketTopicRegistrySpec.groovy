@@ -0,0 +1,77 @@
+package io.micronaut.http.netty.websocket
+
+import io.netty.channel.DefaultChannelId
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.util.concurrent.ImmediateEventExecutor
+import spock.lang.Specification
+
+class WebSocketTopicRegistrySpec extends Specification {
+
+    void "test channels are grouped by topic"() {
+        given:
+        WebSocketTopicRegistry registry = new WebSocketTopicRegistry(ImmediateEventExecutor.INSTANCE)
+        EmbeddedChannel first = new EmbeddedChannel(DefaultChannelId.newInstance())
+        EmbeddedChannel second = new EmbeddedChannel(DefaultChannelId.newInstance())
+
+        when:
+        registry.subscribe(first, "news")
+        registry.subscribe(first, "sports")
+        registry.subscribe(second, "news")
+
+        then:
+        registry.getChannelGroup("news").size() == 2
+        registry.getChannelGroup("sports").toList() == [first]
+        registry.getChannelGroup("weather") == null
+        registry.getTopics(first) == ["news", "sports"] as Set
+        registry.getTopics(second) == ["news"] as Set
+
+        when:
+        registry.unsubscribe(first, "sports")
+
+        then:
+        registry.getChannelGroup("sports") == null
+        registry.getTopics(first) == ["news"] as Set
+
+        cleanup:
+        first.finishAndReleaseAll()
+        second.finishAndReleaseAll()
+    }
+
+    void "test closed channels leave their topics"() {
+        given:
+        WebSocketTopicRegistry registry = new WebSocketTopicRegistry(ImmediateEventExecutor.INSTANCE)
+        EmbeddedChannel first = new EmbeddedChannel(DefaultChannelId.newInstance())
+        EmbeddedChannel second = new EmbeddedChannel(DefaultChannelId.newInstance())
+        registry.subscribe(first, "news")
+        registry.subscribe(first, "sports")
+        registry.subscribe(second, "news")
+
+        when:
+        first.close()
+
+        then:
+        registry.getChannelGroup("news").toList() == [second]
+        registry.getChannelGroup("sports") == null
+
+        cleanup:
+        first.finishAndReleaseAll()
+        second.finishAndReleaseAll()
+    }
+
+    void "test subscribing a closed channel leaves no group behind"() {
+        given:
+        WebSocketTopicRegistry registry = new WebSocketTopicRegistry(ImmediateEventExecutor.INSTANCE)
+        EmbeddedChannel channel = new EmbeddedChannel(DefaultChannelId.newInstance())
+        channel.close()
+
+        when:
+        registry.subscribe(channel, "news")
+
+        then:
+        registry.getChannelGroup("news") == null
+        registry.getTopics(channel).isEmpty()
+
+        cleanup:
+        channel.finishAndReleaseAll()
+    }
+}
@@ -15,17 +15,37 @@
  */
 package io.micronaut.http.server.netty;
 
+import com.aayushatharva.brotli4j.encoder.Encoder;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration.CompressionMediaTypeConfiguration;
+import io.micronaut.http.util.HttpUtil;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdOptions;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponse;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 
 /**
- * Default implementation of {@link HttpCompressionStrategy}.
+ * Default implementation of {@link HttpCompressionStrategy}. Text based responses and responses
+ * with a media type listed in the
+ * {@link NettyHttpServerConfiguration#getCompressionMediaTypes() media type settings} are
+ * compressed with the preferred content coding that is accepted by the client.
  *
  * @author James Kleeh
  * @since 1.2.0
@@ -34,16 +54,48 @@ import jakarta.inject.Singleton;
 @Singleton
 class DefaultHttpCompressionStrategy implements HttpCompressionStrategy {
 
-    private final int compressionThreshold;
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultHttpCompressionStrategy.class);
+    private static final int DEFAULT_WINDOW_BITS = 15;
+    private static final int DEFAULT_MEM_LEVEL = 8;
+    private static final int DEFAULT_BROTLI_LEVEL = 4;
+
     private final int compressionLevel;
+    private final CompressionSettings defaultSettings;
+    private final List<CompressionSettings> mediaTypeSettings;
 
     /**
      * @param serverConfiguration The netty server configuration
      */
     @Inject
     DefaultHttpCompressionStrategy(NettyHttpServerConfiguration serverConfiguration) {
-        this.compressionThreshold = serverConfiguration.getCompressionThreshold();
         this.compressionLevel = serverConfiguration.getCompressionLevel();
+        this.defaultSettings = new CompressionSettings(
+            Collections.emptyList(),
+            serverConfiguration.getCompressionEncodings(),
+            serverConfiguration.getCompressionThreshold(),
+            compressionLevel,
+            null,
+            null,
+            null,
+            null,
+            true
+        );
+        List<CompressionMediaTypeConfiguration> configurations = serverConfiguration.getCompressionMediaTypes();
+        this.mediaTypeSettings = new ArrayList<>(configurations.size());
+        for (CompressionMediaTypeConfiguration configuration : configurations) {
+            List<String> mediaTypes = configuration.getMediaTypes();
+            mediaTypeSettings.add(new CompressionSettings(
+                mediaTypes,
+                configuration.getEncodings() != null ? configuration.getEncodings() : serverConfiguration.getCompressionEncodings(),
+                configuration.getThreshold() != null ? configuration.getThreshold() : serverConfiguration.getCompressionThreshold(),
+                configuration.getGzipLevel() != null ? configuration.getGzipLevel() : compressionLevel,
+                configuration.getGzipWindowBits(),
+                configuration.getBrotliLevel(),
+                configuration.getBrotliWindow(),
+                configuration.getZstdLevel(),
+                mediaTypes.stream().allMatch(MediaType::isTextBased)
+            ));
+        }
     }
 
     /**
@@ -51,23 +103,162 @@ class DefaultHttpCompressionStrategy implements HttpCompressionStrategy {
      * @param compressionLevel The compression level (0-9)
      */
     DefaultHttpCompressionStrategy(int compressionThreshold, int compressionLevel) {
-        this.compressionThreshold = compressionThreshold;
         this.compressionLevel = compressionLevel;
+        this.defaultSettings = new CompressionSettings(
+            Collections.emptyList(),
+            NettyHttpServerConfiguration.DEFAULT_COMPRESSION_ENCODINGS,
+            compressionThreshold,
+            compressionLevel,
+            null,
+            null,
+            null,
+            null,
+            true
+        );
+        this.mediaTypeSettings = Collections.emptyList();
     }
 
     @Override
     public boolean shouldCompress(HttpResponse response) {
+        return findSettings(response) != null;
+    }
+
+    @Override
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    @Override
+    @Nullable
+    public CompressionOptions chooseCompression(HttpResponse response, String acceptEncoding) {
+        CompressionSettings settings = findSettings(response);
+        return settings == null ? null : settings.choose(acceptEncoding);
+    }
+
+    @Nullable
+    private CompressionSettings findSettings(HttpResponse response) {
         HttpHeaders headers = response.headers();
         String contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
+        if (contentType == null) {
+            return null;
+        }
+        CompressionSettings settings = null;
+        if (!mediaTypeSettings.isEmpty()) {
+            int parameters = contentType.indexOf(';');
+            String name = (parameters == -1 ? contentType : contentType.substring(0, parameters)).trim();
+            for (CompressionSettings candidate : mediaTypeSettings) {
+                if (candidate.matches(name)) {
+                    settings = candidate;
+                    break;
+                }
+            }
+        }
+        if (settings == null) {
+            if (!MediaType.isTextBased(contentType)) {
+                return null;
+            }
+            settings = defaultSettings;
+        }
         Integer contentLength = headers.getInt(HttpHeaderNames.CONTENT_LENGTH);
+        return contentLength == null || contentLength >= settings.threshold ? settings : null;
+    }
 
-        return contentType != null &&
-                (contentLength == null || contentLength >= compressionThreshold) &&
-                MediaType.isTextBased(contentType);
+    private static boolean isAvailable(String encoding) {
+        if (HttpHeaderValues.GZIP.contentEqualsIgnoreCase(encoding) || HttpHeaderValues.DEFLATE.contentEqualsIgnoreCase(encoding)) {
+            return true;
+        } else if (HttpHeaderValues.BR.contentEqualsIgnoreCase(encoding)) {
+            return Brotli.isAvailable();
+        } else if (HttpHeaderValues.ZSTD.contentEqualsIgnoreCase(encoding)) {
+            return Zstd.isAvailable();
+        } else {
+            LOG.warn("Unsupported compression encoding: {}", encoding);
+            return false;
+        }
     }
 
-    @Override
-    public int getCompressionLevel() {
-        return compressionLevel;
+    /**
+     * Compression settings for a group of media types, with the compression options of each
+     * available content coding in order of preference.
+     */
+    private static final class CompressionSettings {
+        private final String[] mediaTypes;
+        private final String[] encodings;
+        private final CompressionOptions[] options;
+        private final int threshold;
+
+        CompressionSettings(List<String> mediaTypes,
+                            List<String> encodings,
+                            int threshold,
+                            int gzipLevel,
+                            @Nullable Integer gzipWindowBits,
+                            @Nullable Integer brotliLevel,
+                            @Nullable Integer brotliWindow,
+                            @Nullable Integer zstdLevel,
+                            boolean text) {
+            this.mediaTypes = mediaTypes.stream().map(t -> t.trim().toLowerCase(Locale.ENGLISH)).toArray(String[]::new);
+            this.encodings = encodings.stream()
+                .map(e -> e.trim().toLowerCase(Locale.ENGLISH))
+                .filter(DefaultHttpCompressionStrategy::isAvailable)
+                .toArray(String[]::new);
+            this.options = new CompressionOptions[this.encodings.length];
+            int windowBits = gzipWindowBits != null ? gzipWindowBits : DEFAULT_WINDOW_BITS;
+            for (int i = 0; i < this.encodings.length; i++) {
+                options[i] = switch (this.encodings[i]) {
+                    case "gzip" -> StandardCompressionOptions.gzip(gzipLevel, windowBits, DEFAULT_MEM_LEVEL);
+                    case "deflate" -> StandardCompressionOptions.deflate(gzipLevel, windowBits, DEFAULT_MEM_LEVEL);
+                    case "br" -> brotli(brotliLevel, brotliWindow, text);
+                    default -> zstd(zstdLevel);
+                };
+            }
+            this.threshold = threshold;
+        }
+
+        boolean matches(String contentType) {
+            for (String mediaType : mediaTypes) {
+                if (mediaType.equalsIgnoreCase(contentType)) {
+                    return true;
+                }
+                if (mediaType.endsWith("/*")) {
+                    int slash = mediaType.length() - 1;
+                    if (mediaType.equals("*/*") || contentType.regionMatches(true, 0, mediaType, 0, slash)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Nullable
+        CompressionOptions choose(String acceptEncoding) {
+            CompressionOptions selected = null;
+            float selectedQuality = 0;
+            for (int i = 0; i < encodings.length; i++) {
+                float quality = HttpUtil.contentCodingQuality(acceptEncoding, encodings[i]);
+                if (quality > selectedQuality) {
+                    selected = options[i];
+                    selectedQuality = quality;
+                }
+            }
+            return selected;
+        }
+
+        private static CompressionOptions brotli(@Nullable Integer level, @Nullable Integer window, boolean text) {
+            Encoder.Parameters parameters = new Encoder.Parameters()
+                .setQuality(level != null ? level : DEFAULT_BROTLI_LEVEL)
+                .setMode(text ? Encoder.Mode.TEXT : Encoder.Mode.GENERIC);
+            if (window != null) {
+                parameters.setWindow(window);
+            }
+            return StandardCompressionOptions.brotli(parameters);
+        }
+
+        private static CompressionOptions zstd(@Nullable Integer level) {
+            ZstdOptions defaults = StandardCompressionOptions.zstd();
+            return StandardCompressionOptions.zstd(
+                level != null ? level : defaults.compressionLevel(),
+                defaults.blockSize(),
+                defaults.maxEncodeSize()
+            );
+        }
     }
 }
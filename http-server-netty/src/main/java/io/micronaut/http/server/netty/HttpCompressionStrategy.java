@@ -15,6 +15,12 @@
  */
 package io.micronaut.http.server.netty;
 
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.util.HttpUtil;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponse;
 
 /**
@@ -38,4 +44,31 @@ public interface HttpCompressionStrategy {
     default int getCompressionLevel() {
         return 6;
     }
+
+    /**
+     * Chooses how a response is compressed. Only called for responses accepted by
+     * {@link #shouldCompress(HttpResponse)}. The returned options determine the content coding:
+     * {@link io.netty.handler.codec.compression.GzipOptions gzip},
+     * {@link io.netty.handler.codec.compression.DeflateOptions deflate},
+     * {@link io.netty.handler.codec.compression.BrotliOptions br} or
+     * {@link io.netty.handler.codec.compression.ZstdOptions zstd}.
+     * The default implementation uses gzip or deflate at the {@link #getCompressionLevel()
+     * compression level}, whichever has the higher quality value.
+     *
+     * @param response       The HTTP response
+     * @param acceptEncoding The {@code Accept-Encoding} header of the request
+     * @return The compression options, or {@code null} if the response should not be compressed
+     * @since 4.0.0
+     */
+    @Nullable
+    default CompressionOptions chooseCompression(@NonNull HttpResponse response, @NonNull String acceptEncoding) {
+        float gzip = HttpUtil.contentCodingQuality(acceptEncoding, HttpHeaderValues.GZIP.toString());
+        float deflate = HttpUtil.contentCodingQuality(acceptEncoding, HttpHeaderValues.DEFLATE.toString());
+        if (gzip <= 0 && deflate <= 0) {
+            return null;
+        }
+        return gzip >= deflate
+            ? StandardCompressionOptions.gzip(getCompressionLevel(), 15, 8)
+            : StandardCompressionOptions.deflate(getCompressionLevel(), 15, 8);
+    }
 }
@@ -123,7 +123,13 @@ final class HttpPipelineBuilder {
 
         NettyHttpServerConfiguration.AccessLogger accessLogger = server.getServerConfiguration().getAccessLogger();
         if (accessLogger != null && accessLogger.isEnabled()) {
-            accessLogHandler = new HttpAccessLogHandler(accessLogger.getLoggerName(), accessLogger.getLogFormat(), NettyHttpServer.inclusionPredicate(accessLogger));
+            String loggerName = accessLogger.getLoggerName();
+            accessLogHandler = new HttpAccessLogHandler(
+                loggerName == null || loggerName.isEmpty() ? null : LoggerFactory.getLogger(loggerName),
+                accessLogger.getLogFormat(),
+                NettyHttpServer.inclusionPredicate(accessLogger),
+                server.getAccessLogWriter()
+            );
         } else {
             accessLogHandler = null;
         }
@@ -34,9 +34,13 @@ import io.micronaut.http.netty.channel.DefaultEventLoopGroupConfiguration;
 import io.micronaut.http.netty.channel.EventLoopGroupConfiguration;
 import io.micronaut.http.netty.channel.converters.ChannelOptionFactory;
 import io.micronaut.http.netty.websocket.WebSocketSessionRepository;
+import io.micronaut.http.netty.websocket.WebSocketTopicRegistry;
 import io.micronaut.http.server.HttpServerConfiguration;
 import io.micronaut.http.server.exceptions.ServerStartupException;
 import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+import io.micronaut.http.server.netty.handler.accesslog.AsyncAccessLogWriter;
+import io.micronaut.http.server.netty.handler.accesslog.HttpAccessLogHandler;
+import io.micronaut.http.server.netty.handler.accesslog.RollingFileAccessLogSink;
 import io.micronaut.http.server.netty.ssl.ServerSslBuilder;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandlerRegistry;
 import io.micronaut.http.server.util.DefaultHttpHostResolver;
@@ -49,6 +53,7 @@ import io.micronaut.runtime.server.event.ServerShutdownEvent;
 import io.micronaut.runtime.server.event.ServerStartupEvent;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.web.router.Router;
+import io.micronaut.websocket.BroadcastBackpressure;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -60,6 +65,7 @@ import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.channel.unix.UnixChannelOption;
 import io.netty.handler.codec.http.multipart.DiskFileUpload;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GlobalEventExecutor;
@@ -67,6 +73,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.BindException;
 import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
@@ -74,6 +81,7 @@ import java.net.SocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -120,6 +128,7 @@ public class NettyHttpServer implements NettyEmbeddedServer {
     private final ApplicationContext applicationContext;
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final ChannelGroup webSocketSessions = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    private final WebSocketTopicRegistry webSocketTopics = new WebSocketTopicRegistry(GlobalEventExecutor.INSTANCE);
     private final HttpHostResolver hostResolver;
     private boolean shutdownWorker = false;
     private boolean shutdownParent = false;
@@ -128,6 +137,8 @@ public class NettyHttpServer implements NettyEmbeddedServer {
     private final Collection<ChannelPipelineListener> pipelineListeners = new ArrayList<>(2);
     @Nullable
     private volatile List<Listener> activeListeners = null;
+    @Nullable
+    private volatile AsyncAccessLogWriter accessLogWriter;
     private final List<NettyHttpServerConfiguration.NettyListenerConfiguration> listenerConfigurations;
     private final CompositeNettyServerCustomizer rootCustomizer = new CompositeNettyServerCustomizer();
 
@@ -193,13 +204,13 @@ public class NettyHttpServer implements NettyEmbeddedServer {
             List<NettyHttpServerConfiguration.NettyListenerConfiguration> implicit = new ArrayList<>(2);
             final ServerSslBuilder serverSslBuilder = nettyEmbeddedServices.getServerSslBuilder();
             if (serverSslBuilder != null && this.sslConfiguration.isEnabled()) {
-                implicit.add(NettyHttpServerConfiguration.NettyListenerConfiguration.createTcp(configuredHost, sslConfiguration.getPort(), true));
+                implicit.add(createImplicitTcpListener(configuredHost, sslConfiguration.getPort(), true));
             } else {
-                implicit.add(NettyHttpServerConfiguration.NettyListenerConfiguration.createTcp(configuredHost, getHttpPort(serverConfiguration), false));
+                implicit.add(createImplicitTcpListener(configuredHost, getHttpPort(serverConfiguration), false));
             }
             if (isDefault) {
                 if (serverConfiguration.isDualProtocol()) {
-                    implicit.add(NettyHttpServerConfiguration.NettyListenerConfiguration.createTcp(configuredHost, getHttpPort(serverConfiguration), false));
+                    implicit.add(createImplicitTcpListener(configuredHost, getHttpPort(serverConfiguration), false));
                 }
                 final Router router = this.nettyEmbeddedServices.getRouter();
                 final Set<Integer> exposedPorts = router.getExposedPorts();
@@ -215,6 +226,12 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         }
     }
 
+    private NettyHttpServerConfiguration.NettyListenerConfiguration createImplicitTcpListener(@Nullable String host, int port, boolean ssl) {
+        NettyHttpServerConfiguration.NettyListenerConfiguration configuration = NettyHttpServerConfiguration.NettyListenerConfiguration.createTcp(host, port, ssl);
+        configuration.setAcceptorCount(serverConfiguration.getAcceptorCount());
+        return configuration;
+    }
+
     /**
      * Get the configured http port otherwise will default the value depending on the env.
      *
@@ -267,6 +284,7 @@ public class NettyHttpServer implements NettyEmbeddedServer {
                 }
                 applicationContext.start();
             }
+            accessLogWriter = createAccessLogWriter();
             //suppress unused
             //done here to prevent a blocking service loader in the event loop
             EventLoopGroupConfiguration workerConfig = resolveWorkerConfiguration();
@@ -280,8 +298,7 @@ public class NettyHttpServer implements NettyEmbeddedServer {
 
             List<Listener> listeners = new ArrayList<>();
             for (NettyHttpServerConfiguration.NettyListenerConfiguration listenerConfiguration : listenerConfigurations) {
-                Listener listener = bind(serverBootstrap, listenerConfiguration, workerConfig);
-                listeners.add(listener);
+                listeners.addAll(bind(serverBootstrap, listenerConfiguration, workerConfig));
             }
             this.activeListeners = Collections.unmodifiableList(listeners);
 
@@ -294,6 +311,7 @@ public class NettyHttpServer implements NettyEmbeddedServer {
                             .map(l -> l.serverChannel.localAddress())
                             .filter(InetSocketAddress.class::isInstance)
                             .map(addr -> ((InetSocketAddress) addr).getPort())
+                            .distinct()
                             .toList());
                 }
             }
@@ -304,6 +322,35 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         return this;
     }
 
+    @Nullable
+    private AsyncAccessLogWriter createAccessLogWriter() {
+        NettyHttpServerConfiguration.AccessLogger config = serverConfiguration.getAccessLogger();
+        if (config == null || !config.isEnabled() || (!config.isAsync() && config.getFile() == null)) {
+            return null;
+        }
+        AsyncAccessLogWriter.Sink sink;
+        if (config.getFile() != null) {
+            try {
+                sink = new RollingFileAccessLogSink(Paths.get(config.getFile()), config.getMaxFileSize(), config.getRotationInterval());
+            } catch (IOException e) {
+                throw new ServerStartupException("Unable to open the access log file " + config.getFile(), e);
+            }
+        } else {
+            String loggerName = config.getLoggerName();
+            sink = AsyncAccessLogWriter.slf4j(LoggerFactory.getLogger(
+                loggerName == null || loggerName.isEmpty() ? HttpAccessLogHandler.HTTP_ACCESS_LOGGER : loggerName));
+        }
+        return new AsyncAccessLogWriter(sink, config.getQueueSize());
+    }
+
+    /**
+     * @return The writer for asynchronous access logs, if enabled and the server is running
+     */
+    @Nullable
+    AsyncAccessLogWriter getAccessLogWriter() {
+        return accessLogWriter;
+    }
+
     private EventLoopGroupConfiguration resolveWorkerConfiguration() {
         EventLoopGroupConfiguration workerConfig = serverConfiguration.getWorker();
         if (workerConfig == null) {
@@ -489,44 +536,45 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         return new ServerBootstrap();
     }
 
-    private Listener bind(ServerBootstrap bootstrap, NettyHttpServerConfiguration.NettyListenerConfiguration cfg, EventLoopGroupConfiguration workerConfig) {
+    private List<Listener> bind(ServerBootstrap bootstrap, NettyHttpServerConfiguration.NettyListenerConfiguration cfg, EventLoopGroupConfiguration workerConfig) {
         logBind(cfg);
 
+        List<Listener> listeners = new ArrayList<>(1);
         try {
-            Listener listener = new Listener(cfg);
-            ServerBootstrap listenerBootstrap = bootstrap.clone()
-                // this initializer runs before the actual bind operation, so we can be sure
-                // setServerChannel has been called by the time bind runs.
-                .handler(new ChannelInitializer<Channel>() {
-                    @Override
-                    protected void initChannel(@NonNull Channel ch) {
-                        listener.setServerChannel(ch);
-                    }
-                })
-                .childHandler(listener);
-            ChannelFuture future;
             switch (cfg.getFamily()) {
                 case TCP:
-                    listenerBootstrap.channelFactory(() -> nettyEmbeddedServices.getServerSocketChannelInstance(workerConfig));
                     int port = cfg.getPort();
                     if (port == -1) {
                         port = 0;
                     }
-                    if (cfg.getHost() == null) {
-                        future = listenerBootstrap.bind(port);
-                    } else {
-                        future = listenerBootstrap.bind(cfg.getHost(), port);
+                    int acceptorCount = cfg.getAcceptorCount();
+                    boolean reusePort = acceptorCount > 1;
+                    Listener first = bindTcp(bootstrap, cfg, workerConfig, port, reusePort);
+                    listeners.add(first);
+                    if (reusePort) {
+                        if (first.reusePort) {
+                            // bind the other acceptors to the port of the first one, which may have been random
+                            int boundPort = ((InetSocketAddress) first.serverChannel.localAddress()).getPort();
+                            for (int i = 1; i < acceptorCount; i++) {
+                                listeners.add(bindTcp(bootstrap, cfg, workerConfig, boundPort, true));
+                            }
+                        } else if (LOG.isWarnEnabled()) {
+                            LOG.warn("The server transport does not support SO_REUSEPORT, binding a single acceptor instead of {} to {}. Use the epoll or io_uring transport for multiple acceptors.", acceptorCount, displayAddress(cfg));
+                        }
                     }
                     break;
                 case UNIX:
-                    listenerBootstrap.channelFactory(() -> nettyEmbeddedServices.getDomainServerChannelInstance(workerConfig));
-                    future = listenerBootstrap.bind(DomainSocketHolder.makeDomainSocketAddress(cfg.getPath()));
+                    Listener listener = new Listener(cfg);
+                    createListenerBootstrap(bootstrap, listener, false)
+                        .channelFactory(() -> nettyEmbeddedServices.getDomainServerChannelInstance(workerConfig))
+                        .bind(DomainSocketHolder.makeDomainSocketAddress(cfg.getPath()))
+                        .syncUninterruptibly();
+                    listeners.add(listener);
                     break;
                 default:
                     throw new UnsupportedOperationException("Unsupported family: " + cfg.getFamily());
             }
-            future.syncUninterruptibly();
-            return listener;
+            return listeners;
         } catch (Exception e) {
             // syncUninterruptibly will rethrow a checked BindException as unchecked, so this value can be true
             @SuppressWarnings("ConstantConditions")
@@ -539,11 +587,44 @@ public class NettyHttpServer implements NettyEmbeddedServer {
                     LOG.error("Error starting Micronaut server: " + e.getMessage(), e);
                 }
             }
+            for (Listener listener : listeners) {
+                listener.serverChannel.close();
+            }
             stopInternal(true);
             throw new ServerStartupException("Unable to start Micronaut server on " + displayAddress(cfg), e);
         }
     }
 
+    private Listener bindTcp(ServerBootstrap bootstrap, NettyHttpServerConfiguration.NettyListenerConfiguration cfg, EventLoopGroupConfiguration workerConfig, int port, boolean reusePort) {
+        Listener listener = new Listener(cfg);
+        ServerBootstrap listenerBootstrap = createListenerBootstrap(bootstrap, listener, reusePort)
+            .channelFactory(() -> nettyEmbeddedServices.getServerSocketChannelInstance(workerConfig));
+        ChannelFuture future;
+        if (cfg.getHost() == null) {
+            future = listenerBootstrap.bind(port);
+        } else {
+            future = listenerBootstrap.bind(cfg.getHost(), port);
+        }
+        future.syncUninterruptibly();
+        return listener;
+    }
+
+    private ServerBootstrap createListenerBootstrap(ServerBootstrap bootstrap, Listener listener, boolean reusePort) {
+        return bootstrap.clone()
+            // this initializer runs before the actual bind operation, so we can be sure
+            // setServerChannel has been called, and SO_REUSEPORT set, by the time bind runs.
+            .handler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(@NonNull Channel ch) {
+                    if (reusePort) {
+                        listener.reusePort = ReusePortHolder.enableReusePort(ch);
+                    }
+                    listener.setServerChannel(ch);
+                }
+            })
+            .childHandler(listener);
+    }
+
     private void logBind(NettyHttpServerConfiguration.NettyListenerConfiguration cfg) {
         Optional<String> applicationName = serverConfiguration.getApplicationConfiguration().getName();
         if (applicationName.isPresent()) {
@@ -592,6 +673,12 @@ public class NettyHttpServer implements NettyEmbeddedServer {
 
     private void stopInternal(boolean stopApplicationContext) {
         try {
+            List<Listener> listeners = this.activeListeners;
+            if (listeners != null) {
+                for (Listener listener : listeners) {
+                    listener.serverChannel.close();
+                }
+            }
             if (shutdownParent) {
                 EventLoopGroupConfiguration parent = serverConfiguration.getParent();
                 if (parent != null) {
@@ -615,6 +702,11 @@ public class NettyHttpServer implements NettyEmbeddedServer {
             }
             serverConfiguration.getMultipart().getLocation().ifPresent(dir -> DiskFileUpload.baseDirectory = null);
             this.activeListeners = null;
+            AsyncAccessLogWriter accessLogWriter = this.accessLogWriter;
+            if (accessLogWriter != null) {
+                this.accessLogWriter = null;
+                accessLogWriter.close();
+            }
         } catch (Throwable e) {
             if (LOG.isErrorEnabled()) {
                 LOG.error("Error stopping Micronaut server: " + e.getMessage(), e);
@@ -665,6 +757,16 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         return this.webSocketSessions;
     }
 
+    @Override
+    public WebSocketTopicRegistry getTopicRegistry() {
+        return this.webSocketTopics;
+    }
+
+    @Override
+    public BroadcastBackpressure getBroadcastBackpressure() {
+        return serverConfiguration.getWebSocket().getBroadcastBackpressure();
+    }
+
     /**
      * @return {@link io.micronaut.http.server.netty.NettyHttpServer} which implements {@link WebSocketSessionRepository}
      */
@@ -751,6 +853,7 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         Channel serverChannel;
         NettyServerCustomizer listenerCustomizer;
         NettyHttpServerConfiguration.NettyListenerConfiguration config;
+        boolean reusePort;
 
         private volatile HttpPipelineBuilder httpPipelineBuilder;
 
@@ -777,6 +880,16 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         }
     }
 
+    private static class ReusePortHolder {
+        private static boolean enableReusePort(Channel channel) {
+            try {
+                return channel.config().setOption(UnixChannelOption.SO_REUSEPORT, true);
+            } catch (NoClassDefFoundError e) {
+                return false;
+            }
+        }
+    }
+
     private static class DomainSocketHolder {
         @NonNull
         private static SocketAddress makeDomainSocketAddress(String path) {
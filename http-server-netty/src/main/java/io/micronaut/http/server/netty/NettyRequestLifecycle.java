@@ -31,6 +31,7 @@ import io.micronaut.http.netty.stream.StreamedHttpRequest;
 import io.micronaut.http.server.RequestLifecycle;
 import io.micronaut.http.server.multipart.MultipartBody;
 import io.micronaut.http.server.netty.multipart.NettyStreamingFileUpload;
+import io.micronaut.http.server.netty.types.files.NettyStaticResourceCustomizableResponseType;
 import io.micronaut.http.server.netty.types.files.NettyStreamedFileCustomizableResponseType;
 import io.micronaut.http.server.netty.types.files.NettySystemFileCustomizableResponseType;
 import io.micronaut.http.server.types.files.FileCustomizableResponseType;
@@ -108,7 +109,13 @@ final class NettyRequestLifecycle extends RequestLifecycle {
     @Nullable
     @Override
     protected FileCustomizableResponseType findFile() {
-        Optional<URL> optionalUrl = rib.staticResourceResolver.resolve(request().getUri().getPath());
+        String path = request().getUri().getPath();
+        if (rib.staticResourceResolver.isCacheEnabled()) {
+            return rib.staticResourceResolver.resolveResource(path)
+                .map(resource -> new NettyStaticResourceCustomizableResponseType(resource, request()))
+                .orElse(null);
+        }
+        Optional<URL> optionalUrl = rib.staticResourceResolver.resolve(path);
         if (optionalUrl.isPresent()) {
             try {
                 URL url = optionalUrl.get();
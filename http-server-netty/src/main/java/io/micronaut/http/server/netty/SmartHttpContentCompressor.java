@@ -16,8 +16,21 @@
 package io.micronaut.http.server.netty;
 
 import io.micronaut.core.annotation.Internal;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.BrotliOptions;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.DeflateOptions;
+import io.netty.handler.codec.compression.GzipOptions;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import io.netty.handler.codec.compression.ZstdOptions;
 import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpResponse;
 
@@ -25,7 +38,9 @@ import java.util.List;
 
 /**
  * An extension of {@link HttpContentCompressor} that skips encoding if the content type is not compressible or if
- * the content is too small.
+ * the content is too small. The content coding and its parameters are chosen by the {@link HttpCompressionStrategy}.
+ * The encoder is flushed after every chunk of a streamed response, so that each event of a server-sent event or
+ * JSON stream can be decoded by the client as soon as it is received.
  *
  * @author James Kleeh
  * @since 1.0
@@ -35,6 +50,7 @@ public class SmartHttpContentCompressor extends HttpContentCompressor {
 
     private final HttpCompressionStrategy httpCompressionStrategy;
     private boolean skipEncoding = false;
+    private ChannelHandlerContext ctx;
 
     /**
      * Creates a SmartHttpContentCompressor with the given compression logic.
@@ -53,7 +69,8 @@ public class SmartHttpContentCompressor extends HttpContentCompressor {
      * @return True if the content should not be compressed
      */
     public boolean shouldSkip(HttpResponse response) {
-        return !httpCompressionStrategy.shouldCompress(response);
+        // already encoded, e.g. a precompressed static resource
+        return response.headers().contains(HttpHeaderNames.CONTENT_ENCODING) || !httpCompressionStrategy.shouldCompress(response);
     }
 
     @Override
@@ -65,11 +82,54 @@ public class SmartHttpContentCompressor extends HttpContentCompressor {
         super.encode(ctx, msg, out);
     }
 
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        super.handlerAdded(ctx);
+    }
+
     @Override
     protected Result beginEncode(HttpResponse headers, String acceptEncoding) throws Exception {
         if (skipEncoding) {
             return null;
         }
-        return super.beginEncode(headers, acceptEncoding);
+        CompressionOptions options = httpCompressionStrategy.chooseCompression(headers, acceptEncoding);
+        if (options == null) {
+            return null;
+        }
+        return new Result(contentEncoding(options), new EmbeddedChannel(
+            ctx.channel().id(),
+            ctx.channel().metadata().hasDisconnect(),
+            ctx.channel().config(),
+            newEncoder(options)
+        ));
+    }
+
+    private static String contentEncoding(CompressionOptions options) {
+        if (options instanceof GzipOptions) {
+            return HttpHeaderValues.GZIP.toString();
+        } else if (options instanceof DeflateOptions) {
+            return HttpHeaderValues.DEFLATE.toString();
+        } else if (options instanceof BrotliOptions) {
+            return HttpHeaderValues.BR.toString();
+        } else if (options instanceof ZstdOptions) {
+            return HttpHeaderValues.ZSTD.toString();
+        } else {
+            throw new IllegalArgumentException("Unsupported compression options: " + options);
+        }
+    }
+
+    private static ChannelHandler newEncoder(CompressionOptions options) {
+        if (options instanceof GzipOptions gzip) {
+            return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, gzip.compressionLevel(), gzip.windowBits(), gzip.memLevel());
+        } else if (options instanceof DeflateOptions deflate) {
+            return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB, deflate.compressionLevel(), deflate.windowBits(), deflate.memLevel());
+        } else if (options instanceof BrotliOptions brotli) {
+            return new BrotliEncoder(brotli.parameters());
+        } else if (options instanceof ZstdOptions zstd) {
+            return new ZstdEncoder(zstd.compressionLevel(), zstd.blockSize(), zstd.maxEncodeSize());
+        } else {
+            throw new IllegalArgumentException("Unsupported compression options: " + options);
+        }
     }
 }
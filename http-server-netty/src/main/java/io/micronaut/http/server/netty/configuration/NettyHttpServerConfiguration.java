@@ -28,7 +28,9 @@ import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.netty.channel.ChannelPipelineListener;
 import io.micronaut.http.netty.channel.EventLoopGroupConfiguration;
 import io.micronaut.http.server.HttpServerConfiguration;
+import io.micronaut.http.server.netty.handler.accesslog.AsyncAccessLogWriter;
 import io.micronaut.runtime.ApplicationConfiguration;
+import io.micronaut.websocket.BroadcastBackpressure;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.ssl.ApplicationProtocolNames;
@@ -108,6 +110,16 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     @SuppressWarnings("WeakerAccess")
     public static final int DEFAULT_COMPRESSIONLEVEL = 6;
 
+    /**
+     * The default content codings used for response compression, in order of preference. Brotli
+     * is not included: it has to be enabled explicitly, since the brotli encoder of netty is
+     * not verified with responses that are streamed in many chunks.
+     *
+     * @since 4.0.0
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final List<String> DEFAULT_COMPRESSION_ENCODINGS = List.of("zstd", "gzip", "deflate");
+
     /**
      * The default configuration for boolean flag indicating whether to add connection header `keep-alive` to responses with HttpStatus > 499.
      */
@@ -130,6 +142,14 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     @SuppressWarnings("WeakerAccess")
     public static final int DEFAULT_JSON_BUFFER_MAX_COMPONENTS = 4096;
 
+    /**
+     * The default number of acceptors bound for each listener.
+     *
+     * @since 4.0.0
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_ACCEPTOR_COUNT = 1;
+
     private static final Logger LOG = LoggerFactory.getLogger(NettyHttpServerConfiguration.class);
 
     private final List<ChannelPipelineListener> pipelineCustomizers;
@@ -149,15 +169,19 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     private LogLevel logLevel;
     private int compressionThreshold = DEFAULT_COMPRESSIONTHRESHOLD;
     private int compressionLevel = DEFAULT_COMPRESSIONLEVEL;
+    private List<String> compressionEncodings = DEFAULT_COMPRESSION_ENCODINGS;
+    private List<CompressionMediaTypeConfiguration> compressionMediaTypes = Collections.emptyList();
     private boolean useNativeTransport = DEFAULT_USE_NATIVE_TRANSPORT;
     private String fallbackProtocol = ApplicationProtocolNames.HTTP_1_1;
     private AccessLogger accessLogger;
     private Http2Settings http2Settings = new Http2Settings();
+    private WebSocketSettings webSocketSettings = new WebSocketSettings();
     private boolean keepAliveOnServerError = DEFAULT_KEEP_ALIVE_ON_SERVER_ERROR;
     private String pcapLoggingPathPattern = null;
     private List<NettyListenerConfiguration> listeners = null;
     private boolean eagerParsing = DEFAULT_EAGER_PARSING;
     private int jsonBufferMaxComponents = DEFAULT_JSON_BUFFER_MAX_COMPONENTS;
+    private int acceptorCount = DEFAULT_ACCEPTOR_COUNT;
 
     /**
      * Default empty constructor.
@@ -219,6 +243,26 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         }
     }
 
+    /**
+     * Returns the WebSocketSettings.
+     * @return The WebSocketSettings.
+     * @since 4.0.0
+     */
+    public WebSocketSettings getWebSocket() {
+        return webSocketSettings;
+    }
+
+    /**
+     * Sets the WebSocketSettings.
+     * @param webSocket The WebSocketSettings.
+     * @since 4.0.0
+     */
+    public void setWebSocket(WebSocketSettings webSocket) {
+        if (webSocket != null) {
+            this.webSocketSettings = webSocket;
+        }
+    }
+
     /**
      * @return The pipeline customizers
      */
@@ -351,6 +395,28 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         return compressionLevel;
     }
 
+    /**
+     * The content codings used for response compression, in order of preference. Brotli
+     * ({@code br}) and Zstandard ({@code zstd}) are only used if their native libraries are on
+     * the classpath. Default value {@code zstd, gzip, deflate}.
+     *
+     * @return The content codings
+     * @since 4.0.0
+     */
+    public List<String> getCompressionEncodings() {
+        return compressionEncodings;
+    }
+
+    /**
+     * The compression settings for specific media types.
+     *
+     * @return The media type specific compression settings
+     * @since 4.0.0
+     */
+    public List<CompressionMediaTypeConfiguration> getCompressionMediaTypes() {
+        return compressionMediaTypes;
+    }
+
     /**
      * @return The Netty child channel options.
      * @see io.netty.bootstrap.ServerBootstrap#childOption(io.netty.channel.ChannelOption, Object)
@@ -536,6 +602,29 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         this.compressionLevel = compressionLevel;
     }
 
+    /**
+     * Sets the content codings used for response compression, in order of preference. The
+     * coding with the highest quality value in the {@code Accept-Encoding} header of the request
+     * is used, ties are resolved with this order. Default value {@code zstd, gzip, deflate}. Add
+     * {@code br} to compress with Brotli.
+     *
+     * @param compressionEncodings The content codings
+     * @since 4.0.0
+     */
+    public void setCompressionEncodings(@NonNull List<String> compressionEncodings) {
+        this.compressionEncodings = Objects.requireNonNull(compressionEncodings, "compressionEncodings");
+    }
+
+    /**
+     * Sets the compression settings for specific media types.
+     *
+     * @param compressionMediaTypes The media type specific compression settings
+     * @since 4.0.0
+     */
+    public void setCompressionMediaTypes(@NonNull List<CompressionMediaTypeConfiguration> compressionMediaTypes) {
+        this.compressionMediaTypes = Objects.requireNonNull(compressionMediaTypes, "compressionMediaTypes");
+    }
+
     /**
      * Whether to send connection keep alive on internal server errors. Default value ({@value DEFAULT_KEEP_ALIVE_ON_SERVER_ERROR}).
      * @param keepAliveOnServerError The keep alive on server error flag
@@ -627,6 +716,35 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         this.jsonBufferMaxComponents = jsonBufferMaxComponents;
     }
 
+    /**
+     * The number of server channels bound to the same port with {@code SO_REUSEPORT} for the listeners derived from
+     * the server port configuration. With more than one acceptor, the kernel balances incoming connections across
+     * them. This requires a native transport that supports {@code SO_REUSEPORT} (epoll or io_uring). Default value
+     * {@value #DEFAULT_ACCEPTOR_COUNT}.
+     *
+     * @return The number of acceptors
+     * @since 4.0.0
+     */
+    public int getAcceptorCount() {
+        return acceptorCount;
+    }
+
+    /**
+     * The number of server channels bound to the same port with {@code SO_REUSEPORT} for the listeners derived from
+     * the server port configuration. With more than one acceptor, the kernel balances incoming connections across
+     * them. This requires a native transport that supports {@code SO_REUSEPORT} (epoll or io_uring). Default value
+     * {@value #DEFAULT_ACCEPTOR_COUNT}.
+     * <p>
+     * Note that with more than one acceptor, another server instance can bind the same fixed port too: it silently
+     * shares the incoming connections instead of failing with a {@link java.net.BindException}.
+     *
+     * @param acceptorCount The number of acceptors
+     * @since 4.0.0
+     */
+    public void setAcceptorCount(int acceptorCount) {
+        this.acceptorCount = acceptorCount;
+    }
+
     /**
      * Http2 settings.
      */
@@ -785,6 +903,11 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         private String loggerName;
         private String logFormat;
         private List<String> exclusions;
+        private boolean async;
+        private String file;
+        private long maxFileSize;
+        private Duration rotationInterval;
+        private int queueSize = AsyncAccessLogWriter.DEFAULT_QUEUE_SIZE;
 
         /**
          * Returns whether the access logger is enabled.
@@ -851,6 +974,136 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         public void setExclusions(List<String> exclusions) {
             this.exclusions = exclusions;
         }
+
+        /**
+         * Whether access logs are formatted and written by a dedicated thread instead of the event loops.
+         * @return Whether the access logs are written asynchronously.
+         * @since 4.0.0
+         */
+        public boolean isAsync() {
+            return async;
+        }
+
+        /**
+         * Whether access logs are formatted and written by a dedicated thread instead of the event loops. Entries
+         * are dropped when the writer falls behind by more than {@link #getQueueSize()} entries.
+         * @param async Whether the access logs are written asynchronously.
+         * @since 4.0.0
+         */
+        public void setAsync(boolean async) {
+            this.async = async;
+        }
+
+        /**
+         * The file to write access logs to, instead of the logger.
+         * @return The access log file.
+         * @since 4.0.0
+         */
+        public String getFile() {
+            return file;
+        }
+
+        /**
+         * Sets the file to write access logs to, instead of the logger. Access logs written to a file are always
+         * written asynchronously.
+         * @param file The access log file.
+         * @since 4.0.0
+         */
+        public void setFile(String file) {
+            this.file = file;
+        }
+
+        /**
+         * The size at which the access log file is rotated, {@code 0} for no limit.
+         * @return The maximum size of the access log file.
+         * @since 4.0.0
+         */
+        public long getMaxFileSize() {
+            return maxFileSize;
+        }
+
+        /**
+         * Sets the size at which the access log file is rotated. Default is no limit.
+         * @param maxFileSize The maximum size of the access log file.
+         * @since 4.0.0
+         */
+        public void setMaxFileSize(@ReadableBytes long maxFileSize) {
+            this.maxFileSize = maxFileSize;
+        }
+
+        /**
+         * The interval at which the access log file is rotated.
+         * @return The rotation interval.
+         * @since 4.0.0
+         */
+        public Duration getRotationInterval() {
+            return rotationInterval;
+        }
+
+        /**
+         * Sets the interval at which the access log file is rotated. Default is no time based rotation.
+         * @param rotationInterval The rotation interval.
+         * @since 4.0.0
+         */
+        public void setRotationInterval(Duration rotationInterval) {
+            this.rotationInterval = rotationInterval;
+        }
+
+        /**
+         * The maximum number of access log entries waiting to be written asynchronously.
+         * @return The queue size.
+         * @since 4.0.0
+         */
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        /**
+         * Sets the maximum number of access log entries waiting to be written asynchronously. Default value
+         * ({@value AsyncAccessLogWriter#DEFAULT_QUEUE_SIZE}).
+         * @param queueSize The queue size.
+         * @since 4.0.0
+         */
+        public void setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+        }
+    }
+
+    /**
+     * WebSocket settings.
+     *
+     * @since 4.0.0
+     */
+    @ConfigurationProperties("websocket")
+    public static class WebSocketSettings {
+        /**
+         * The default broadcast backpressure policy.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final BroadcastBackpressure DEFAULT_BROADCAST_BACKPRESSURE = BroadcastBackpressure.BUFFER;
+
+        private BroadcastBackpressure broadcastBackpressure = DEFAULT_BROADCAST_BACKPRESSURE;
+
+        /**
+         * Returns what happens to broadcast messages for sessions that are not writable. Default value ({@value #DEFAULT_BROADCAST_BACKPRESSURE}).
+         * @return The broadcast backpressure policy.
+         */
+        public BroadcastBackpressure getBroadcastBackpressure() {
+            return broadcastBackpressure;
+        }
+
+        /**
+         * Sets what happens to broadcast messages for sessions that are not writable, unless the session overrides it.
+         * Default value ({@value #DEFAULT_BROADCAST_BACKPRESSURE}). With {@link BroadcastBackpressure#BUFFER} the
+         * memory used by a client that stops reading is not bounded, set {@link BroadcastBackpressure#DROP} or
+         * {@link BroadcastBackpressure#CLOSE} if clients may fall behind.
+         * @param broadcastBackpressure The broadcast backpressure policy.
+         */
+        public void setBroadcastBackpressure(BroadcastBackpressure broadcastBackpressure) {
+            if (broadcastBackpressure != null) {
+                this.broadcastBackpressure = broadcastBackpressure;
+            }
+        }
     }
 
     /**
@@ -998,6 +1251,7 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         private Integer ioRatio;
         private String executor;
         private boolean preferNativeTransport = false;
+        private List<String> nativeTransportOrder = Collections.emptyList();
         private Duration shutdownQuietPeriod = Duration.ofSeconds(DEFAULT_SHUTDOWN_QUIET_PERIOD);
         private Duration shutdownTimeout = Duration.ofSeconds(DEFAULT_SHUTDOWN_TIMEOUT);
         private String name;
@@ -1056,6 +1310,16 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
             this.preferNativeTransport = preferNativeTransport;
         }
 
+        /**
+         * @param nativeTransportOrder The native transports to try, in order, when the native transport is preferred
+         * @since 4.0.0
+         */
+        public void setNativeTransportOrder(List<String> nativeTransportOrder) {
+            if (nativeTransportOrder != null) {
+                this.nativeTransportOrder = nativeTransportOrder;
+            }
+        }
+
         /**
          * @param shutdownQuietPeriod Set the shutdown quiet period
          */
@@ -1113,6 +1377,11 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
             return preferNativeTransport;
         }
 
+        @Override
+        public List<String> getNativeTransportOrder() {
+            return nativeTransportOrder;
+        }
+
         @Override
         public Duration getShutdownQuietPeriod() {
             return shutdownQuietPeriod;
@@ -1139,6 +1408,7 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         private int port;
         private String path;
         private boolean exposeDefaultRoutes = true;
+        private int acceptorCount = DEFAULT_ACCEPTOR_COUNT;
 
         /**
          * Create a TCP listener configuration.
@@ -1242,6 +1512,30 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
             this.path = path;
         }
 
+        /**
+         * For TCP listeners, the number of server channels bound to the port with {@code SO_REUSEPORT}. With more
+         * than one acceptor, the kernel balances incoming connections across them. Requires a native transport that
+         * supports {@code SO_REUSEPORT} (epoll or io_uring), otherwise a single acceptor is bound.
+         * @return The number of acceptors for this listener.
+         * @since 4.0.0
+         */
+        public int getAcceptorCount() {
+            return acceptorCount;
+        }
+
+        /**
+         * For TCP listeners, the number of server channels bound to the port with {@code SO_REUSEPORT}. With more
+         * than one acceptor, the kernel balances incoming connections across them. Requires a native transport that
+         * supports {@code SO_REUSEPORT} (epoll or io_uring), otherwise a single acceptor is bound.
+         * Note that with more than one acceptor, another server instance can bind the same fixed port too: it
+         * silently shares the incoming connections instead of failing with a {@link java.net.BindException}.
+         * @param acceptorCount The number of acceptors for this listener.
+         * @since 4.0.0
+         */
+        public void setAcceptorCount(int acceptorCount) {
+            this.acceptorCount = acceptorCount;
+        }
+
         /**
          * Whether to expose default routes on this listener.
          * @return Whether to expose default routes on this listener.
@@ -1274,4 +1568,176 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
             UNIX,
         }
     }
+
+    /**
+     * Compression settings for a group of media types. Settings that are not set fall back to the
+     * global compression settings of the server.
+     *
+     * @since 4.0.0
+     */
+    @EachProperty("compression-media-types")
+    public static final class CompressionMediaTypeConfiguration {
+        private List<String> mediaTypes = Collections.emptyList();
+        @Nullable
+        private List<String> encodings;
+        @Nullable
+        private Integer threshold;
+        @Nullable
+        private Integer gzipLevel;
+        @Nullable
+        private Integer gzipWindowBits;
+        @Nullable
+        private Integer brotliLevel;
+        @Nullable
+        private Integer brotliWindow;
+        @Nullable
+        private Integer zstdLevel;
+
+        /**
+         * The media types these settings apply to, e.g. {@code application/json} or {@code text/*}.
+         * Media types that are not text based are also compressed if they are listed here.
+         * @return The media types
+         */
+        public List<String> getMediaTypes() {
+            return mediaTypes;
+        }
+
+        /**
+         * The media types these settings apply to, e.g. {@code application/json} or {@code text/*}.
+         * Media types that are not text based are also compressed if they are listed here.
+         * @param mediaTypes The media types
+         */
+        public void setMediaTypes(@NonNull List<String> mediaTypes) {
+            this.mediaTypes = Objects.requireNonNull(mediaTypes, "mediaTypes");
+        }
+
+        /**
+         * The content codings for these media types in order of preference, or {@code null} to
+         * use the codings of the server.
+         * @return The content codings
+         */
+        @Nullable
+        public List<String> getEncodings() {
+            return encodings;
+        }
+
+        /**
+         * The content codings for these media types in order of preference, or {@code null} to
+         * use the codings of the server.
+         * @param encodings The content codings
+         */
+        public void setEncodings(@Nullable List<String> encodings) {
+            this.encodings = encodings;
+        }
+
+        /**
+         * The minimum size of a response body to be compressed, or {@code null} to use the
+         * threshold of the server.
+         * @return The compression threshold
+         */
+        @Nullable
+        public Integer getThreshold() {
+            return threshold;
+        }
+
+        /**
+         * The minimum size of a response body to be compressed, or {@code null} to use the
+         * threshold of the server.
+         * @param threshold The compression threshold
+         */
+        public void setThreshold(@Nullable @ReadableBytes Integer threshold) {
+            this.threshold = threshold;
+        }
+
+        /**
+         * The gzip and deflate compression level (0-9), or {@code null} to use the compression
+         * level of the server.
+         * @return The gzip compression level
+         */
+        @Nullable
+        public Integer getGzipLevel() {
+            return gzipLevel;
+        }
+
+        /**
+         * The gzip and deflate compression level (0-9), or {@code null} to use the compression
+         * level of the server.
+         * @param gzipLevel The gzip compression level
+         */
+        public void setGzipLevel(@Nullable Integer gzipLevel) {
+            this.gzipLevel = gzipLevel;
+        }
+
+        /**
+         * The base two logarithm of the gzip and deflate window size (9-15), or {@code null} for
+         * the default of 15.
+         * @return The gzip window bits
+         */
+        @Nullable
+        public Integer getGzipWindowBits() {
+            return gzipWindowBits;
+        }
+
+        /**
+         * The base two logarithm of the gzip and deflate window size (9-15), or {@code null} for
+         * the default of 15.
+         * @param gzipWindowBits The gzip window bits
+         */
+        public void setGzipWindowBits(@Nullable Integer gzipWindowBits) {
+            this.gzipWindowBits = gzipWindowBits;
+        }
+
+        /**
+         * The brotli quality (0-11), or {@code null} for the default of 4.
+         * @return The brotli quality
+         */
+        @Nullable
+        public Integer getBrotliLevel() {
+            return brotliLevel;
+        }
+
+        /**
+         * The brotli quality (0-11), or {@code null} for the default of 4.
+         * @param brotliLevel The brotli quality
+         */
+        public void setBrotliLevel(@Nullable Integer brotliLevel) {
+            this.brotliLevel = brotliLevel;
+        }
+
+        /**
+         * The base two logarithm of the brotli window size (10-24), or {@code null} for the
+         * default of 22.
+         * @return The brotli window
+         */
+        @Nullable
+        public Integer getBrotliWindow() {
+            return brotliWindow;
+        }
+
+        /**
+         * The base two logarithm of the brotli window size (10-24), or {@code null} for the
+         * default of 22.
+         * @param brotliWindow The brotli window
+         */
+        public void setBrotliWindow(@Nullable Integer brotliWindow) {
+            this.brotliWindow = brotliWindow;
+        }
+
+        /**
+         * The zstd compression level (1-22), or {@code null} for the default of 3.
+         * @return The zstd compression level
+         */
+        @Nullable
+        public Integer getZstdLevel() {
+            return zstdLevel;
+        }
+
+        /**
+         * The zstd compression level (1-22), or {@code null} for the default of 3.
+         * @param zstdLevel The zstd compression level
+         */
+        public void setZstdLevel(@Nullable Integer zstdLevel) {
+            this.zstdLevel = zstdLevel;
+        }
+    }
 }
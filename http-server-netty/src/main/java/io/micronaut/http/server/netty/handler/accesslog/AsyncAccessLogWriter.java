@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.handler.accesslog;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.http.server.netty.handler.accesslog.element.AccessLog;
+import io.netty.util.internal.PlatformDependent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes access logs from a dedicated thread. The event loops only hand over the captured values through a bounded,
+ * lock-free queue. The writer thread formats them and writes them to a {@link Sink} in batches. When the queue is
+ * full, entries are dropped rather than blocking the event loop, see {@link #getDroppedCount()}.
+ *
+ * @since 4.0.0
+ */
+public final class AsyncAccessLogWriter implements Closeable {
+    /**
+     * The default capacity of the queue.
+     */
+    public static final int DEFAULT_QUEUE_SIZE = 8192;
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncAccessLogWriter.class);
+    private static final int BATCH_SIZE = 512;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final Queue<String[]> queue;
+    private final Sink sink;
+    private final Thread thread;
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Creates a writer and starts its thread.
+     *
+     * @param sink      The sink to write the formatted log lines to
+     * @param queueSize The maximum number of entries waiting to be written
+     */
+    public AsyncAccessLogWriter(@NonNull Sink sink, int queueSize) {
+        this.sink = Objects.requireNonNull(sink, "sink");
+        this.queue = PlatformDependent.newFixedMpscQueue(queueSize > 0 ? queueSize : DEFAULT_QUEUE_SIZE);
+        this.thread = new Thread(this::run, "access-log-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Creates a sink logging each line at info level.
+     *
+     * @param logger The logger
+     * @return The sink
+     */
+    @NonNull
+    public static Sink slf4j(@NonNull Logger logger) {
+        Objects.requireNonNull(logger, "logger");
+        return new Sink() {
+            @Override
+            public void write(List<String> lines) {
+                for (String line : lines) {
+                    logger.info(line);
+                }
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return logger.isInfoEnabled();
+            }
+        };
+    }
+
+    /**
+     * @return Whether the sink currently accepts entries, so that requests are not captured needlessly
+     */
+    public boolean isEnabled() {
+        return sink.isEnabled();
+    }
+
+    /**
+     * Queues the values captured for a request. Safe to call from any thread.
+     *
+     * @param values The values, as captured by an {@link AccessLog}. The array must not be modified afterwards.
+     * @return Whether the values were queued, {@code false} if the queue is full or the writer is closed
+     */
+    public boolean offer(@NonNull String[] values) {
+        if (closed || !queue.offer(values)) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return The number of entries dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes the entries still queued, then stops the writer thread and closes the sink.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(thread);
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            // read the flag before draining, so that everything queued before close() is written
+            boolean closing = closed;
+            String[] values;
+            while (batch.size() < BATCH_SIZE && (values = queue.poll()) != null) {
+                batch.add(AccessLog.format(values));
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            } else if (closing) {
+                break;
+            } else {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        try {
+            sink.close();
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Error closing the access log: {}", e.getMessage(), e);
+        }
+    }
+
+    private void write(List<String> batch) {
+        try {
+            sink.write(batch);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Error writing {} access log entries: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The destination of the access log lines. Only called from the writer thread.
+     */
+    @FunctionalInterface
+    public interface Sink extends Closeable {
+        /**
+         * Writes a batch of log lines.
+         *
+         * @param lines The log lines, without line separators
+         * @throws IOException If the lines cannot be written
+         */
+        void write(@NonNull List<String> lines) throws IOException;
+
+        /**
+         * Whether the sink currently accepts entries. May be called from any thread.
+         *
+         * @return Whether the sink is enabled
+         */
+        default boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        default void close() throws IOException {
+        }
+    }
+}
@@ -44,7 +44,7 @@ import java.util.function.Predicate;
 
 /**
  * Logging handler for HTTP access logs.
- * Access logs will be logged at info level.
+ * Access logs will be logged at info level, or handed over to an {@link AsyncAccessLogWriter} when one is given.
  *
  * @author croudet
  * @since 2.0
@@ -62,6 +62,8 @@ public class HttpAccessLogHandler extends ChannelDuplexHandler {
     private final Logger logger;
     private final AccessLogFormatParser accessLogFormatParser;
     private final Predicate<String> uriInclusion;
+    @Nullable
+    private final AsyncAccessLogWriter writer;
 
     /**
      * Creates a HttpAccessLogHandler.
@@ -102,10 +104,29 @@ public class HttpAccessLogHandler extends ChannelDuplexHandler {
      * @param uriInclusion A filtering Predicate that will be checked per URI.
      */
     public HttpAccessLogHandler(Logger logger, String spec, Predicate<String> uriInclusion) {
+        this(logger, spec, uriInclusion, null);
+    }
+
+    /**
+     * Creates a HttpAccessLogHandler.
+     *
+     * @param logger A logger. Will log at info level when no writer is given.
+     * @param spec The log format specification.
+     * @param uriInclusion A filtering Predicate that will be checked per URI.
+     * @param writer A writer that formats and writes the access logs off the event loop, or {@code null} to log
+     * through the logger on the event loop.
+     * @since 4.0.0
+     */
+    public HttpAccessLogHandler(Logger logger, String spec, Predicate<String> uriInclusion, @Nullable AsyncAccessLogWriter writer) {
         super();
         this.logger = logger == null ? LoggerFactory.getLogger(HTTP_ACCESS_LOGGER) : logger;
         this.accessLogFormatParser = new AccessLogFormatParser(spec);
         this.uriInclusion = uriInclusion;
+        this.writer = writer;
+    }
+
+    private boolean isEnabled() {
+        return writer != null ? writer.isEnabled() : logger.isInfoEnabled();
     }
 
     private SocketChannel findSocketChannel(Channel channel) {
@@ -121,7 +142,7 @@ public class HttpAccessLogHandler extends ChannelDuplexHandler {
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Http2Exception {
-        if (logger.isInfoEnabled() && msg instanceof HttpRequest) {
+        if (isEnabled() && msg instanceof HttpRequest) {
             final SocketChannel channel = findSocketChannel(ctx.channel());
             final HttpRequest request = (HttpRequest) msg;
             AccessLogHolder accessLogHolder = getAccessLogHolder(ctx, true);
@@ -145,7 +166,7 @@ public class HttpAccessLogHandler extends ChannelDuplexHandler {
 
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
-        if (logger.isInfoEnabled()) {
+        if (isEnabled()) {
             processWriteEvent(ctx, msg, promise);
         } else {
             super.write(ctx, msg, promise);
@@ -155,7 +176,11 @@ public class HttpAccessLogHandler extends ChannelDuplexHandler {
     private void log(ChannelHandlerContext ctx, Object msg, ChannelPromise promise, AccessLog accessLog) {
         ctx.write(msg, promise.unvoid()).addListener(future -> {
             if (future.isSuccess()) {
-                accessLog.log(logger);
+                if (writer != null) {
+                    accessLog.log(writer);
+                } else {
+                    accessLog.log(logger);
+                }
             }
         });
     }
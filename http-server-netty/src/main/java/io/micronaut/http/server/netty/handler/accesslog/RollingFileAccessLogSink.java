@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.handler.accesslog;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An {@link AsyncAccessLogWriter.Sink} appending to a file through a {@link FileChannel}. The file is rotated when it
+ * reaches a maximum size or when the rotation interval has elapsed: it is renamed with a timestamp suffix, and a new
+ * file is started. Rotation is checked before each batch, so a file may exceed the maximum size by one batch.
+ *
+ * @since 4.0.0
+ */
+public final class RollingFileAccessLogSink implements AsyncAccessLogWriter.Sink {
+    private static final DateTimeFormatter ROTATED_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+        .withZone(ZoneId.systemDefault());
+
+    private final Path file;
+    private final long maxFileSize;
+    private final long rotationIntervalMillis;
+    private final StringBuilder buffer = new StringBuilder(8192);
+    private FileChannel channel;
+    private long size;
+    private long nextRotation;
+
+    /**
+     * Opens the file, creating it and its parent directories if necessary.
+     *
+     * @param file             The file to append to
+     * @param maxFileSize      The size in bytes at which the file is rotated, or {@code 0} for no size limit
+     * @param rotationInterval The interval at which the file is rotated, or {@code null} for no time based rotation
+     * @throws IOException If the file cannot be opened
+     */
+    public RollingFileAccessLogSink(@NonNull Path file, long maxFileSize, @Nullable Duration rotationInterval) throws IOException {
+        this.file = Objects.requireNonNull(file, "file").toAbsolutePath();
+        this.maxFileSize = maxFileSize;
+        this.rotationIntervalMillis = rotationInterval == null || rotationInterval.isZero() || rotationInterval.isNegative() ? 0 : rotationInterval.toMillis();
+        Path parent = this.file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        open(System.currentTimeMillis());
+    }
+
+    @Override
+    public void write(@NonNull List<String> lines) throws IOException {
+        long now = System.currentTimeMillis();
+        if (!channel.isOpen()) {
+            // a previous rotation could not reopen the file
+            open(now);
+        }
+        if (now >= nextRotation || (maxFileSize > 0 && size >= maxFileSize)) {
+            rotate(now);
+        }
+        for (String line : lines) {
+            buffer.append(line).append('\n');
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toString().getBytes(StandardCharsets.UTF_8));
+        buffer.setLength(0);
+        while (bytes.hasRemaining()) {
+            size += channel.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void open(long now) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size = channel.size();
+        nextRotation = rotationIntervalMillis > 0 ? now + rotationIntervalMillis : Long.MAX_VALUE;
+    }
+
+    private void rotate(long now) throws IOException {
+        if (size == 0) {
+            // nothing to archive, only restart the interval
+            nextRotation = rotationIntervalMillis > 0 ? now + rotationIntervalMillis : Long.MAX_VALUE;
+            return;
+        }
+        channel.close();
+        String name = file.getFileName() + "." + ROTATED_SUFFIX.format(Instant.ofEpochMilli(now));
+        Path target = file.resolveSibling(name);
+        for (int i = 1; Files.exists(target); i++) {
+            target = file.resolveSibling(name + "-" + i);
+        }
+        try {
+            Files.move(file, target);
+        } finally {
+            // keep appending to the current file if it cannot be archived, the rotation is retried later
+            open(now);
+        }
+    }
+}
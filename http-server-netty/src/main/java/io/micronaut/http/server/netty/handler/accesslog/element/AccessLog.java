@@ -15,6 +15,7 @@
  */
 package io.micronaut.http.server.netty.handler.accesslog.element;
 
+import io.micronaut.http.server.netty.handler.accesslog.AsyncAccessLogWriter;
 import io.micronaut.http.server.netty.handler.accesslog.element.AccessLogFormatParser.IndexedLogElement;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.socket.SocketChannel;
@@ -118,14 +119,37 @@ public class AccessLog {
      */
     public void log(Logger accessLogger) {
         if (accessLogger.isInfoEnabled()) {
-            final StringBuilder b = new StringBuilder(elements.length * 5);
-            for (int i = 0; i < elements.length; ++i) {
-                b.append(elements[i] == null ? ConstantElement.UNKNOWN_VALUE : elements[i]);
-            }
-            accessLogger.info(b.toString());
+            accessLogger.info(format(elements));
         }
     }
 
+    /**
+     * Hands a copy of the accumulated values over to the given writer, which formats and writes them on its own
+     * thread.
+     *
+     * @param writer The access log writer.
+     * @return Whether the values were accepted, {@code false} if the writer queue is full.
+     * @since 4.0.0
+     */
+    public boolean log(AsyncAccessLogWriter writer) {
+        return writer.offer(elements.clone());
+    }
+
+    /**
+     * Formats the values captured by an access log into a log line.
+     *
+     * @param values The values, {@code null} values are replaced by {@link ConstantElement#UNKNOWN_VALUE}.
+     * @return The log line.
+     * @since 4.0.0
+     */
+    public static String format(String[] values) {
+        final StringBuilder b = new StringBuilder(values.length * 5);
+        for (String value : values) {
+            b.append(value == null ? ConstantElement.UNKNOWN_VALUE : value);
+        }
+        return b.toString();
+    }
+
     private void resetIndexedLogElement(IndexedLogElement elt) {
         elements[elt.index] = null;
         elt.reset();
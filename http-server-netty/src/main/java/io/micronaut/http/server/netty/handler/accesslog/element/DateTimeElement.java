@@ -18,6 +18,8 @@ package io.micronaut.http.server.netty.handler.accesslog.element;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.http.HttpHeaders;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
@@ -45,6 +47,8 @@ final class DateTimeElement implements LogElement {
     private final DateTimeFormatter formatter;
     private final Set<Event> events;
     private final String dateFormat;
+    private final boolean cacheable;
+    private volatile FormattedSecond lastFormatted;
 
     /**
      * Create a DateTimeElement.
@@ -74,6 +78,7 @@ final class DateTimeElement implements LogElement {
         this.dateFormat = dateFormat;
         formatter = DateTimeFormatter.ofPattern(format, Locale.US);
         events = fromStart ? Event.REQUEST_HEADERS_EVENTS : LAST_RESPONSE_EVENTS;
+        cacheable = !hasSubSecondField(format);
     }
 
     @Override
@@ -84,7 +89,7 @@ final class DateTimeElement implements LogElement {
     @Override
     public String onRequestHeaders(SocketChannel channel, String method, HttpHeaders headers, String uri, String protocol) {
         if (events.contains(Event.ON_REQUEST_HEADERS)) {
-            return ZonedDateTime.now().format(formatter);
+            return now();
         } else {
             return ConstantElement.UNKNOWN_VALUE;
         }
@@ -93,12 +98,45 @@ final class DateTimeElement implements LogElement {
     @Override
     public String onLastResponseWrite(int contentSize) {
         if (events.contains(Event.ON_LAST_RESPONSE_WRITE)) {
-            return ZonedDateTime.now().format(formatter);
+            return now();
         } else {
             return ConstantElement.UNKNOWN_VALUE;
         }
     }
 
+    /**
+     * Formats the current time. The formatted value is shared by all the requests of the same second, unless the
+     * format has a sub-second field.
+     *
+     * @return The formatted current time
+     */
+    private String now() {
+        if (!cacheable) {
+            return ZonedDateTime.now().format(formatter);
+        }
+        long second = Math.floorDiv(System.currentTimeMillis(), 1000);
+        FormattedSecond last = lastFormatted;
+        if (last != null && last.second == second) {
+            return last.value;
+        }
+        String value = formatter.format(Instant.ofEpochSecond(second).atZone(ZoneId.systemDefault()));
+        lastFormatted = new FormattedSecond(second, value);
+        return value;
+    }
+
+    private static boolean hasSubSecondField(String format) {
+        boolean quoted = false;
+        for (int i = 0; i < format.length(); i++) {
+            char c = format.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && (c == 'S' || c == 'n' || c == 'N' || c == 'A')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public LogElement copy() {
         return this;
@@ -108,4 +146,7 @@ final class DateTimeElement implements LogElement {
     public String toString() {
         return dateFormat == null ? '%' + DATE_TIME : "%{" + dateFormat + '}' + DATE_TIME;
     }
+
+    private record FormattedSecond(long second, String value) {
+    }
 }
@@ -79,7 +79,24 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
         long lastModified = type.getLastModified();
 
         // Cache Validation
-        ZonedDateTime ifModifiedSince = request.getHeaders().getDate(HttpHeaders.IF_MODIFIED_SINCE);
+        boolean validateModifiedSince = true;
+        if (type instanceof NettyStaticResourceCustomizableResponseType staticResource) {
+            String etag = staticResource.getETag();
+            response.header(HttpHeaders.ETAG, etag);
+            if (staticResource.isVaryByEncoding()) {
+                response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            String ifNoneMatch = request.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+            if (ifNoneMatch != null) {
+                // If-Modified-Since is ignored when If-None-Match is present, see RFC 9110 13.1.3
+                validateModifiedSince = false;
+                if (matchesEntityTag(ifNoneMatch, etag)) {
+                    FullHttpResponse nettyResponse = notModified(response);
+                    return context.writeAndFlush(nettyResponse);
+                }
+            }
+        }
+        ZonedDateTime ifModifiedSince = validateModifiedSince ? request.getHeaders().getDate(HttpHeaders.IF_MODIFIED_SINCE) : null;
         if (ifModifiedSince != null) {
 
             // Only compare up to the second because the datetime format we send to the client
@@ -145,6 +162,33 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
         headers.date(now);
     }
 
+    /**
+     * Weak comparison of the entity tags of an {@code If-None-Match} header, see RFC 9110 8.8.3.2.
+     *
+     * @param ifNoneMatch The header value
+     * @param etag        The entity tag of the resource
+     * @return True if one of the entity tags matches
+     */
+    private static boolean matchesEntityTag(String ifNoneMatch, String etag) {
+        int length = ifNoneMatch.length();
+        int start = 0;
+        while (start < length) {
+            int end = ifNoneMatch.indexOf(',', start);
+            if (end == -1) {
+                end = length;
+            }
+            String candidate = ifNoneMatch.substring(start, end).trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
     private static void copyNonEntityHeaders(MutableHttpResponse<?> from, MutableHttpResponse to) {
         from.getHeaders().forEachValue((header, value) -> {
             if (Arrays.binarySearch(ENTITY_HEADERS, header) < 0) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.types.files;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.netty.NettyMutableHttpResponse;
+import io.micronaut.http.server.netty.types.NettyFileCustomizableResponseType;
+import io.micronaut.web.router.resource.StaticResource;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderValues;
+
+/**
+ * Writes a {@link StaticResource} resolved by the static resource cache. The representation
+ * (original or precompressed variant) is selected from the {@code Accept-Encoding} header of the
+ * request. Content kept in memory is written without copying, larger resources are delegated to
+ * {@link NettySystemFileCustomizableResponseType} or {@link NettyStreamedFileCustomizableResponseType}.
+ *
+ * @since 4.0.0
+ */
+@Internal
+public class NettyStaticResourceCustomizableResponseType implements NettyFileCustomizableResponseType {
+
+    private final StaticResource resource;
+    private final StaticResource representation;
+    private final boolean writeContent;
+
+    /**
+     * @param resource The resource
+     * @param request  The request
+     */
+    public NettyStaticResourceCustomizableResponseType(@NonNull StaticResource resource, @NonNull HttpRequest<?> request) {
+        this.resource = resource;
+        this.representation = resource.selectVariant(request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+        // ranges are only supported for files, see NettySystemFileCustomizableResponseType
+        this.writeContent = representation.getContent() != null
+            && (representation.getFile() == null || !request.getHeaders().contains(HttpHeaders.RANGE));
+    }
+
+    /**
+     * @return The strong entity tag of the selected representation
+     */
+    public String getETag() {
+        return representation.getETag();
+    }
+
+    /**
+     * @return Whether the response depends on the {@code Accept-Encoding} request header
+     */
+    public boolean isVaryByEncoding() {
+        return resource.hasVariants();
+    }
+
+    @Override
+    public long getLastModified() {
+        return resource.getLastModified();
+    }
+
+    @Override
+    public long getLength() {
+        return representation.getLength();
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return resource.getMediaType();
+    }
+
+    @Override
+    public void process(MutableHttpResponse<?> response) {
+        if (representation.getContentEncoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, representation.getContentEncoding());
+        }
+        if (writeContent || representation.getFile() == null) {
+            long length = representation.getLength();
+            if (length > -1) {
+                response.header(HttpHeaders.CONTENT_LENGTH, String.valueOf(length));
+            } else {
+                response.header(HttpHeaders.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED);
+            }
+        }
+    }
+
+    @Override
+    public ChannelFuture write(HttpRequest<?> request, MutableHttpResponse<?> response, ChannelHandlerContext context) {
+        if (writeContent) {
+            if (!(response instanceof NettyMutableHttpResponse<?> nettyResponse)) {
+                throw new IllegalArgumentException("Unsupported response type. Not a Netty response: " + response);
+            }
+            DefaultFullHttpResponse fullResponse = new DefaultFullHttpResponse(
+                nettyResponse.getNettyHttpVersion(),
+                nettyResponse.getNettyHttpStatus(),
+                Unpooled.wrappedBuffer(representation.getContent()),
+                nettyResponse.getNettyHeaders(),
+                EmptyHttpHeaders.INSTANCE
+            );
+            return context.writeAndFlush(fullResponse);
+        } else if (representation.getFile() != null) {
+            return new NettySystemFileCustomizableResponseType(representation.getFile()).write(request, response, context);
+        } else {
+            return new NettyStreamedFileCustomizableResponseType(representation.getUrl()).write(request, response, context);
+        }
+    }
+}
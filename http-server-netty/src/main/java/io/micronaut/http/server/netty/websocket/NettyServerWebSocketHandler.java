@@ -33,6 +33,7 @@ import io.micronaut.http.context.ServerRequestContext;
 import io.micronaut.http.netty.websocket.AbstractNettyWebSocketHandler;
 import io.micronaut.http.netty.websocket.NettyWebSocketSession;
 import io.micronaut.http.netty.websocket.WebSocketSessionRepository;
+import io.micronaut.http.netty.websocket.WebSocketTopicRegistry;
 import io.micronaut.http.server.CoroutineHelper;
 import io.micronaut.http.server.netty.NettyEmbeddedServices;
 import io.micronaut.inject.ExecutableMethod;
@@ -270,6 +271,32 @@ public class NettyServerWebSocketHandler extends AbstractNettyWebSocketHandler {
                 return uriVars;
             }
 
+            @Override
+            public void subscribe(String topic) {
+                WebSocketTopicRegistry topicRegistry = webSocketSessionRepository.getTopicRegistry();
+                if (topicRegistry == null) {
+                    super.subscribe(topic);
+                } else {
+                    topicRegistry.subscribe(channel, topic);
+                }
+            }
+
+            @Override
+            public void unsubscribe(String topic) {
+                WebSocketTopicRegistry topicRegistry = webSocketSessionRepository.getTopicRegistry();
+                if (topicRegistry == null) {
+                    super.unsubscribe(topic);
+                } else {
+                    topicRegistry.unsubscribe(channel, topic);
+                }
+            }
+
+            @Override
+            public Set<String> getTopics() {
+                WebSocketTopicRegistry topicRegistry = webSocketSessionRepository.getTopicRegistry();
+                return topicRegistry == null ? super.getTopics() : topicRegistry.getTopics(channel);
+            }
+
         };
 
         webSocketSessionRepository.addChannel(channel);
@@ -1,9 +1,25 @@
 package io.micronaut.http.server.netty
 
+import com.github.luben.zstd.ZstdInputStream
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration
+import io.netty.buffer.ByteBuf
+import io.netty.buffer.Unpooled
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.handler.codec.compression.Brotli
+import io.netty.handler.codec.compression.BrotliDecoder
+import io.netty.handler.codec.compression.DeflateOptions
+import io.netty.handler.codec.compression.GzipOptions
+import io.netty.handler.codec.compression.ZlibCodecFactory
+import io.netty.handler.codec.compression.ZlibWrapper
+import io.netty.handler.codec.compression.Zstd
+import io.netty.handler.codec.compression.ZstdOptions
 import io.netty.handler.codec.http.*
+import spock.lang.Requires
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.nio.charset.StandardCharsets
+
 class SmartHttpContentCompressorSpec extends Specification {
 
     private static String compressible = "text/html"
@@ -34,4 +50,219 @@ class SmartHttpContentCompressorSpec extends Specification {
         inCompressible | 0      | true      // incompressible, always skip
         null           | null   | true      // if the content type is unknown, skip
     }
+
+    @Unroll
+    void "test the encoding is chosen from the quality values of #acceptEncoding"() {
+        given:
+        HttpResponse response = response("text/html", 2048)
+        def configuration = new NettyHttpServerConfiguration()
+        configuration.compressionEncodings = ["gzip", "deflate"]
+        def strategy = new DefaultHttpCompressionStrategy(configuration)
+
+        expect:
+        strategy.chooseCompression(response, acceptEncoding)?.getClass() == expected
+
+        where:
+        acceptEncoding                | expected
+        "gzip"                        | GzipOptions
+        "deflate"                     | DeflateOptions
+        "gzip, deflate"               | GzipOptions
+        "gzip;q=0.5, deflate"         | DeflateOptions
+        "gzip;q=0, deflate;q=0"       | null
+        "identity"                    | null
+        "*"                           | GzipOptions
+        "*;q=0.5, gzip;q=0, deflate"  | DeflateOptions
+    }
+
+    void "test media type specific compression settings"() {
+        given:
+        def json = new NettyHttpServerConfiguration.CompressionMediaTypeConfiguration()
+        json.mediaTypes = ["application/json"]
+        json.encodings = ["deflate", "gzip"]
+        json.gzipLevel = 1
+        json.gzipWindowBits = 12
+        def binary = new NettyHttpServerConfiguration.CompressionMediaTypeConfiguration()
+        binary.mediaTypes = ["application/x-custom", "font/*"]
+        binary.threshold = 10
+        def configuration = new NettyHttpServerConfiguration()
+        configuration.compressionMediaTypes = [json, binary]
+        def strategy = new DefaultHttpCompressionStrategy(configuration)
+
+        when:
+        def options = strategy.chooseCompression(response("application/json;charset=UTF-8", 2048), "gzip, deflate")
+
+        then:
+        options instanceof DeflateOptions
+        !(options instanceof GzipOptions)
+        ((DeflateOptions) options).compressionLevel() == 1
+        ((DeflateOptions) options).windowBits() == 12
+
+        expect:
+        strategy.chooseCompression(response("text/plain", 2048), "gzip, deflate") instanceof GzipOptions
+        ((GzipOptions) strategy.chooseCompression(response("text/plain", 2048), "gzip")).compressionLevel() == 6
+        strategy.shouldCompress(response("application/x-custom", 100))
+        strategy.shouldCompress(response("font/woff", 100))
+        !strategy.shouldCompress(response("application/x-custom", 5))
+        !strategy.shouldCompress(response("image/png", 2048))
+    }
+
+    @Requires({ Zstd.isAvailable() })
+    void "test zstd is preferred when accepted"() {
+        given:
+        def configuration = new NettyHttpServerConfiguration()
+        configuration.compressionEncodings = ["zstd", "gzip"]
+        def strategy = new DefaultHttpCompressionStrategy(configuration)
+
+        expect:
+        strategy.chooseCompression(response("application/json", 2048), "gzip, zstd") instanceof ZstdOptions
+        strategy.chooseCompression(response("application/json", 2048), "gzip, zstd;q=0.5") instanceof GzipOptions
+
+        when:
+        EmbeddedChannel channel = new EmbeddedChannel(new SmartHttpContentCompressor(strategy))
+        channel.writeInbound(request("zstd"))
+        channel.writeOutbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, Unpooled.wrappedBuffer(new byte[2048]), headers("application/json", 2048), EmptyHttpHeaders.INSTANCE))
+        HttpResponse response = channel.readOutbound()
+
+        then:
+        response.headers().get(HttpHeaderNames.CONTENT_ENCODING) == "zstd"
+
+        cleanup:
+        channel.finishAndReleaseAll()
+    }
+
+    void "test streamed responses are flushed at event boundaries"() {
+        given:
+        EmbeddedChannel channel = new EmbeddedChannel(new SmartHttpContentCompressor(new DefaultHttpCompressionStrategy(1024, 6)))
+        EmbeddedChannel decoder = new EmbeddedChannel(ZlibCodecFactory.newZlibDecoder(ZlibWrapper.GZIP))
+        channel.writeInbound(request("gzip"))
+        HttpHeaders headers = headers("text/event-stream", null)
+        headers.set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED)
+
+        when:
+        channel.writeOutbound(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, headers))
+        HttpResponse response = channel.readOutbound()
+
+        then:
+        response.headers().get(HttpHeaderNames.CONTENT_ENCODING) == "gzip"
+
+        when:
+        channel.writeOutbound(new DefaultHttpContent(Unpooled.copiedBuffer("data: first\n\n".bytes)))
+        HttpContent content = channel.readOutbound()
+        decoder.writeInbound(content.content())
+
+        then:
+        readAll(decoder) == "data: first\n\n"
+
+        when:
+        channel.writeOutbound(new DefaultHttpContent(Unpooled.copiedBuffer("data: second\n\n".bytes)))
+        content = channel.readOutbound()
+        decoder.writeInbound(content.content())
+
+        then:
+        readAll(decoder) == "data: second\n\n"
+
+        cleanup:
+        channel.finishAndReleaseAll()
+        decoder.finishAndReleaseAll()
+    }
+
+    @Requires({ Zstd.isAvailable() })
+    void "test a streamed zstd response decodes as a whole"() {
+        given:
+        def configuration = new NettyHttpServerConfiguration()
+        configuration.compressionEncodings = ["zstd"]
+
+        when:
+        byte[] compressed = streamCompressed(new DefaultHttpCompressionStrategy(configuration), "zstd")
+
+        then:
+        new String(new ZstdInputStream(new ByteArrayInputStream(compressed)).readAllBytes(), StandardCharsets.UTF_8) == streamedBody()
+    }
+
+    @Requires({ Brotli.isAvailable() })
+    void "test a streamed brotli response decodes as a whole"() {
+        given:
+        def configuration = new NettyHttpServerConfiguration()
+        configuration.compressionEncodings = ["br"]
+        EmbeddedChannel decoder = new EmbeddedChannel(new BrotliDecoder())
+
+        when:
+        decoder.writeInbound(Unpooled.wrappedBuffer(streamCompressed(new DefaultHttpCompressionStrategy(configuration), "br")))
+
+        then:
+        readAll(decoder) == streamedBody()
+
+        cleanup:
+        decoder.finishAndReleaseAll()
+    }
+
+    void "test brotli is not used unless configured"() {
+        expect:
+        !NettyHttpServerConfiguration.DEFAULT_COMPRESSION_ENCODINGS.contains("br")
+        new DefaultHttpCompressionStrategy(new NettyHttpServerConfiguration()).chooseCompression(response("text/html", 2048), "br") == null
+    }
+
+    /**
+     * Streams {@link #streamedBody()} in many chunks and returns the concatenated compressed content.
+     */
+    private static byte[] streamCompressed(DefaultHttpCompressionStrategy strategy, String encoding) {
+        EmbeddedChannel channel = new EmbeddedChannel(new SmartHttpContentCompressor(strategy))
+        try {
+            channel.writeInbound(request(encoding))
+            HttpHeaders headers = headers("text/event-stream", null)
+            headers.set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED)
+            channel.writeOutbound(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, headers))
+            HttpResponse response = channel.readOutbound()
+            assert response.headers().get(HttpHeaderNames.CONTENT_ENCODING) == encoding
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream()
+            (1..200).each { i ->
+                channel.writeOutbound(new DefaultHttpContent(Unpooled.copiedBuffer("data: event $i\n\n", StandardCharsets.UTF_8)))
+            }
+            channel.writeOutbound(LastHttpContent.EMPTY_LAST_CONTENT)
+            HttpContent content
+            while ((content = channel.readOutbound()) != null) {
+                ByteBuf buf = content.content()
+                byte[] bytes = new byte[buf.readableBytes()]
+                buf.readBytes(bytes)
+                compressed.write(bytes)
+                content.release()
+            }
+            return compressed.toByteArray()
+        } finally {
+            channel.finishAndReleaseAll()
+        }
+    }
+
+    private static String streamedBody() {
+        return (1..200).collect { "data: event $it\n\n" }.join()
+    }
+
+    private static HttpRequest request(String acceptEncoding) {
+        def request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/")
+        request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, acceptEncoding)
+        return request
+    }
+
+    private static HttpHeaders headers(String type, Integer length) {
+        HttpHeaders headers = new DefaultHttpHeaders()
+        headers.add(HttpHeaderNames.CONTENT_TYPE, type)
+        if (length != null) {
+            headers.add(HttpHeaderNames.CONTENT_LENGTH, length)
+        }
+        return headers
+    }
+
+    private static HttpResponse response(String type, Integer length) {
+        return new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, headers(type, length))
+    }
+
+    private static String readAll(EmbeddedChannel channel) {
+        StringBuilder builder = new StringBuilder()
+        ByteBuf buf
+        while ((buf = channel.readInbound()) != null) {
+            builder.append(buf.toString(io.netty.util.CharsetUtil.UTF_8))
+            buf.release()
+        }
+        return builder.toString()
+    }
 }
@@ -69,6 +69,63 @@ class ListenerConfigurationSpec extends Specification {
         server.close()
     }
 
+    @IgnoreIf({ !Epoll.isAvailable() })
+    def 'reuse port acceptors'() {
+        given:
+        NettyEmbeddedServer server = ApplicationContext.run(
+                EmbeddedServer,
+                [
+                        'micronaut.netty.event-loops.default.prefer-native-transport': true,
+                        'micronaut.netty.event-loops.parent.prefer-native-transport': true,
+                        'micronaut.server.netty.listeners.a.port': -1,
+                        'micronaut.server.netty.listeners.a.acceptor-count': 4,
+                ])
+
+        expect:"Every acceptor has its own server channel bound to the shared port"
+        def channels = server.activeListeners*.serverChannel
+        channels.size() == 4
+        channels.unique(false).size() == 4
+        channels.every { it.isActive() && ((InetSocketAddress) it.localAddress()).port == server.port }
+        server.boundPorts.asList() == [server.port]
+        (1..8).every {
+            def connection = (HttpURLConnection) new URL("http://localhost:$server.port/").openConnection()
+            try {
+                connection.responseCode == 404
+            } finally {
+                connection.disconnect()
+            }
+        }
+
+        when:
+        def port = server.port
+        server.stop()
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            SocketUtils.isTcpPortAvailable(port)
+        }
+
+        cleanup:
+        server.close()
+    }
+
+    def 'acceptor count without SO_REUSEPORT binds a single acceptor'() {
+        given:
+        NettyEmbeddedServer server = ApplicationContext.run(
+                EmbeddedServer,
+                [
+                        'micronaut.server.netty.listeners.a.port': -1,
+                        'micronaut.server.netty.listeners.a.acceptor-count': 4,
+                ])
+
+        expect:
+        server.activeListeners.size() == 1
+        server.boundPorts.asList() == [server.port]
+
+        cleanup:
+        server.close()
+    }
+
     def 'port before start'() {
         given:
         def ctx = ApplicationContext.run(
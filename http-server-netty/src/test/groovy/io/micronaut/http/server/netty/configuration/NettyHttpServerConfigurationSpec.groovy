@@ -37,6 +37,8 @@ import io.netty.channel.epoll.EpollChannelOption
 import io.netty.channel.epoll.EpollServerSocketChannel
 import io.netty.channel.kqueue.KQueueChannelOption
 import io.netty.channel.unix.UnixChannelOption
+import io.netty.incubator.channel.uring.IOUring
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel
 import io.netty.util.internal.logging.InternalLogger
 import io.netty.util.internal.logging.InternalLoggerFactory
 import org.slf4j.LoggerFactory
@@ -284,6 +286,30 @@ class NettyHttpServerConfigurationSpec extends Specification {
         beanContext.close()
     }
 
+    @IgnoreIf({ !IOUring.isAvailable() })
+    void "test netty server io_uring transport"() {
+        given:
+        NettyEmbeddedServer server = ApplicationContext.run(NettyEmbeddedServer, [
+                'micronaut.netty.event-loops.default.prefer-native-transport': true,
+                'micronaut.netty.event-loops.default.native-transport-order' : ['io_uring', 'epoll'],
+                'micronaut.netty.event-loops.parent.prefer-native-transport' : true,
+                'micronaut.netty.event-loops.parent.native-transport-order'  : ['io_uring', 'epoll'],
+        ])
+
+        expect:
+        server.activeListeners*.serverChannel.every { it instanceof IOUringServerSocketChannel }
+
+        when:
+        def connection = (HttpURLConnection) new URL("http://localhost:$server.port/").openConnection()
+
+        then:
+        connection.responseCode == 404
+
+        cleanup:
+        connection?.disconnect()
+        server.close()
+    }
+
     void "test netty server configuration"() {
         given:
         ApplicationContext beanContext = new DefaultApplicationContext("test")
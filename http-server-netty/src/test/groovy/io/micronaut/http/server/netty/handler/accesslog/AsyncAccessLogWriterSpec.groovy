@@ -0,0 +1,150 @@
+package io.micronaut.http.server.netty.handler.accesslog
+
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+import java.nio.file.NoSuchFileException
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+
+class AsyncAccessLogWriterSpec extends Specification {
+
+    def 'entries are formatted and written in order'() {
+        given:
+        def lines = new CopyOnWriteArrayList<String>()
+        def writer = new AsyncAccessLogWriter({ List<String> batch -> lines.addAll(batch) } as AsyncAccessLogWriter.Sink, 16)
+
+        when:
+        writer.offer(['GET', ' ', '/a'] as String[])
+        writer.offer(['GET', ' ', null] as String[])
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            lines == ['GET /a', 'GET -']
+        }
+
+        cleanup:
+        writer.close()
+    }
+
+    def 'entries are dropped when the queue is full'() {
+        given:
+        def blocked = new CountDownLatch(1)
+        def lines = new CopyOnWriteArrayList<String>()
+        def writer = new AsyncAccessLogWriter({ List<String> batch ->
+            blocked.await()
+            lines.addAll(batch)
+        } as AsyncAccessLogWriter.Sink, 4)
+
+        when:
+        def accepted = (1..100).count { writer.offer([it.toString()] as String[]) }
+
+        then:
+        accepted < 100
+        writer.droppedCount == 100 - accepted
+
+        when:
+        blocked.countDown()
+        writer.close()
+
+        then:
+        lines.size() == accepted
+    }
+
+    def 'close writes the queued entries and closes the sink'() {
+        given:
+        def lines = new CopyOnWriteArrayList<String>()
+        boolean closed = false
+        def sink = new AsyncAccessLogWriter.Sink() {
+            @Override
+            void write(List<String> batch) {
+                lines.addAll(batch)
+            }
+
+            @Override
+            void close() {
+                closed = true
+            }
+        }
+        def writer = new AsyncAccessLogWriter(sink, 1024)
+
+        when:
+        (1..1000).each { writer.offer([it.toString()] as String[]) }
+        writer.close()
+
+        then:
+        lines.size() == 1000
+        closed
+        !writer.offer(['late'] as String[])
+    }
+
+    def 'the file sink rotates when the maximum size is reached'() {
+        given:
+        def dir = Files.createTempDirectory('access-log')
+        def file = dir.resolve('logs/access.log')
+        def sink = new RollingFileAccessLogSink(file, 10, null)
+
+        when:
+        sink.write(['0123456789'])
+        sink.write(['abc'])
+        sink.write(['def'])
+        sink.close()
+        def rotated = Files.list(dir.resolve('logs')).withCloseable { it.toList() }.findAll { it != file }
+
+        then:
+        Files.readString(file) == 'abc\ndef\n'
+        rotated.size() == 1
+        rotated[0].fileName.toString().startsWith('access.log.')
+        Files.readString(rotated[0]) == '0123456789\n'
+
+        cleanup:
+        dir.toFile().deleteDir()
+    }
+
+    def 'the file sink keeps writing when the file cannot be archived'() {
+        given:
+        def dir = Files.createTempDirectory('access-log')
+        def file = dir.resolve('access.log')
+        def sink = new RollingFileAccessLogSink(file, 10, null)
+        sink.write(['0123456789'])
+        Files.delete(file)
+
+        when:"The file to archive was removed"
+        sink.write(['abc'])
+
+        then:
+        thrown(NoSuchFileException)
+
+        when:
+        sink.write(['def'])
+        sink.close()
+
+        then:
+        Files.readString(file) == 'def\n'
+
+        cleanup:
+        dir.toFile().deleteDir()
+    }
+
+    def 'the file sink rotates when the interval has elapsed'() {
+        given:
+        def dir = Files.createTempDirectory('access-log')
+        def file = dir.resolve('access.log')
+        def sink = new RollingFileAccessLogSink(file, 0, Duration.ofMillis(1))
+
+        when:
+        sink.write(['first'])
+        sleep(5)
+        sink.write(['second'])
+        sink.close()
+
+        then:
+        Files.readString(file) == 'second\n'
+        Files.list(dir).withCloseable { it.count() } == 2
+
+        cleanup:
+        dir.toFile().deleteDir()
+    }
+}
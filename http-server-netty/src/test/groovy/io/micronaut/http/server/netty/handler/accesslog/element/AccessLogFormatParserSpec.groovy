@@ -73,6 +73,4 @@ class AccessLogFormatParserSpec extends Specification {
         parser.toString() == "%h - - %t \"%r\" - %b"
 
     }
-
-
 }
@@ -0,0 +1,61 @@
+package io.micronaut.http.server.netty.handler.accesslog.element
+
+import spock.lang.Specification
+
+class DateTimeElementSpec extends Specification {
+
+    def 'the formatted value is reused within the same second'() {
+        given:
+        def element = new DateTimeElement(format)
+        startOfSecond()
+
+        when:
+        String first = now(element)
+        String second = now(element)
+
+        then:
+        first.is(second)
+
+        when:
+        sleep(1000)
+        String next = now(element)
+
+        then:
+        next != first
+
+        where:
+        format << [null, 'HH:mm:ss', "'Sunday' HH:mm:ss"]
+    }
+
+    def 'formats with sub-second fields are not cached'() {
+        given:
+        def element = new DateTimeElement(format)
+        startOfSecond()
+
+        when:
+        String first = now(element)
+        sleep(5)
+        String second = now(element)
+
+        then:
+        !first.is(second)
+        first != second
+
+        where:
+        format << ['HH:mm:ss.SSS', "yyyy-MM-dd'T'HH:mm:ss.nnnnnnnnn"]
+    }
+
+    private static String now(DateTimeElement element) {
+        element.onRequestHeaders(null, 'GET', null, '/', 'HTTP/1.1')
+    }
+
+    /**
+     * Waits until the start of a second, so that the calls of a test do not span two seconds.
+     */
+    private static void startOfSecond() {
+        long millis = System.currentTimeMillis() % 1000
+        if (millis > 500) {
+            sleep(1000 - millis + 10)
+        }
+    }
+}
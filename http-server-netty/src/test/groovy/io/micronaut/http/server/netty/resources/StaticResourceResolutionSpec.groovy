@@ -33,6 +33,7 @@ import java.time.Instant
 import java.time.ZoneId
 import java.time.ZonedDateTime
 import java.time.temporal.ChronoUnit
+import java.util.zip.GZIPOutputStream
 
 import static io.micronaut.http.HttpHeaders.*
 
@@ -341,6 +342,94 @@ info:
         embeddedServer.close()
     }
 
+    void "test cached resources are served with a strong entity tag"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'micronaut.router.static-resources.default.paths': ['file:' + tempFile.parent],
+                'micronaut.router.static-resources-cache.enabled': true], Environment.TEST)
+        HttpClient client = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.getURL())
+
+        when:
+        HttpResponse<String> response = client.toBlocking().exchange(HttpRequest.GET('/' + tempFile.getName()), String)
+
+        then:
+        response.status == HttpStatus.OK
+        response.header(ETAG) ==~ /"[0-9a-f]{32}"/
+        response.body() == "<html><head></head><body>HTML Page from static file</body></html>"
+
+        when:
+        HttpResponse<String> notModified = client.toBlocking().exchange(HttpRequest.GET('/' + tempFile.getName())
+                .header(IF_NONE_MATCH, response.header(ETAG)), String)
+
+        then:
+        notModified.code() == HttpStatus.NOT_MODIFIED.code
+        notModified.header(ETAG) == response.header(ETAG)
+
+        when:
+        HttpResponse<String> modified = client.toBlocking().exchange(HttpRequest.GET('/' + tempFile.getName())
+                .header(IF_NONE_MATCH, '"other"'), String)
+
+        then:
+        modified.status == HttpStatus.OK
+
+        cleanup:
+        embeddedServer.close()
+    }
+
+    void "test static resources are not cached by default"() {
+        when:
+        HttpResponse<String> response = rxClient.toBlocking().exchange(HttpRequest.GET('/' + tempFile.getName()), String)
+
+        then:
+        response.status == HttpStatus.OK
+        !response.header(ETAG)
+    }
+
+    void "test precompressed variants are served to clients accepting the content coding"() {
+        given:
+        File dir = File.createTempFile("precompressed", "")
+        dir.delete()
+        dir.mkdirs()
+        new File(dir, "app.js").write("console.log('original')")
+        new File(dir, "app.js.gz").withOutputStream { out ->
+            new GZIPOutputStream(out).withStream { it.write("console.log('precompressed')".bytes) }
+        }
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'micronaut.router.static-resources.default.paths': ['file:' + dir.absolutePath],
+                'micronaut.router.static-resources-cache.enabled': true], Environment.TEST)
+        HttpClient client = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.getURL())
+
+        when:
+        HttpResponse<String> compressed = client.toBlocking().exchange(HttpRequest.GET('/app.js')
+                .header(ACCEPT_ENCODING, 'gzip'), String)
+
+        then:
+        compressed.status == HttpStatus.OK
+        compressed.header(VARY) == ACCEPT_ENCODING
+        compressed.body() == "console.log('precompressed')"
+
+        when:
+        HttpResponse<String> identity = client.toBlocking().exchange(HttpRequest.GET('/app.js')
+                .header(ACCEPT_ENCODING, 'identity'), String)
+
+        then:
+        identity.status == HttpStatus.OK
+        identity.header(VARY) == ACCEPT_ENCODING
+        identity.header(ETAG) != compressed.header(ETAG)
+        identity.body() == "console.log('original')"
+
+        when:
+        HttpResponse<String> preferIdentity = client.toBlocking().exchange(HttpRequest.GET('/app.js')
+                .header(ACCEPT_ENCODING, 'gzip;q=0.5, identity'), String)
+
+        then:
+        preferIdentity.body() == "console.log('original')"
+
+        cleanup:
+        embeddedServer.close()
+        dir.deleteDir()
+    }
+
     void 'test static file on same path as controller'() {
         given:
         EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
@@ -0,0 +1,130 @@
+package io.micronaut.http.server.netty.threading
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Error
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.server.RouteDispatchStatistics
+import io.micronaut.http.server.RouteExecutor
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.annotation.ExecuteOn
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+class RouteDispatchSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+            'spec.name'                                 : 'RouteDispatchSpec',
+            'micronaut.executors.limited.type'          : 'fixed',
+            'micronaut.executors.limited.number-of-threads': 1,
+            'micronaut.executors.limited.max-queue-size': 0
+    ])
+
+    @Shared
+    @AutoCleanup
+    HttpClient client = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.URL)
+
+    void "test requests are rejected with 503 when the route executor is saturated"() {
+        given:
+        DispatchController controller = embeddedServer.applicationContext.getBean(DispatchController)
+        RouteExecutor routeExecutor = embeddedServer.applicationContext.getBean(RouteExecutor)
+        def first = Mono.from(client.retrieve(HttpRequest.GET('/route-dispatch/wait'), String)).toFuture()
+
+        expect:
+        controller.started.await(10, TimeUnit.SECONDS)
+
+        when:
+        client.toBlocking().retrieve(HttpRequest.GET('/route-dispatch/wait'), String)
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.SERVICE_UNAVAILABLE
+
+        when:
+        controller.release.countDown()
+
+        then:
+        first.get(10, TimeUnit.SECONDS) == 'done'
+        new PollingConditions(timeout: 10).eventually {
+            RouteDispatchStatistics statistics = routeExecutor.dispatchStatistics.find { it.route.endsWith('DispatchController#waitForRelease') }
+            assert statistics.dispatched == 1
+            assert statistics.rejected == 1
+            assert statistics.queueDepth == 0
+        }
+    }
+
+    void "test rejections thrown by the route reach its error handler"() {
+        when:
+        client.toBlocking().retrieve(HttpRequest.GET('/route-dispatch/throw'), String)
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.TOO_MANY_REQUESTS
+        e.response.getBody(String).get() == 'handled'
+    }
+
+    void "test streamed responses are dispatched through the route statistics"() {
+        given:
+        RouteExecutor routeExecutor = embeddedServer.applicationContext.getBean(RouteExecutor)
+
+        when:
+        List<String> items = Flux.from(client.retrieve(HttpRequest.GET('/route-dispatch/stream'), Argument.listOf(String))).blockFirst()
+
+        then:
+        items == ['a', 'b', 'c']
+        RouteDispatchStatistics statistics = routeExecutor.dispatchStatistics.find { it.route.endsWith('DispatchController#stream') }
+        // the route call itself plus the tasks of the streamed publisher
+        statistics.dispatched > 1
+    }
+
+    @Requires(property = 'spec.name', value = 'RouteDispatchSpec')
+    @Controller('/route-dispatch')
+    static class DispatchController {
+
+        final CountDownLatch started = new CountDownLatch(1)
+        final CountDownLatch release = new CountDownLatch(1)
+
+        @Get('/wait')
+        @ExecuteOn('limited')
+        String waitForRelease() {
+            started.countDown()
+            release.await(10, TimeUnit.SECONDS)
+            return 'done'
+        }
+
+        @Get('/throw')
+        @ExecuteOn(TaskExecutors.IO)
+        String throwRejection() {
+            throw new RejectedExecutionException("rejected by the route")
+        }
+
+        @Get('/stream')
+        @ExecuteOn(TaskExecutors.IO)
+        Flux<String> stream() {
+            return Flux.just('a', 'b', 'c')
+        }
+
+        @Error(RejectedExecutionException)
+        HttpResponse<String> rejected() {
+            return HttpResponse.status(HttpStatus.TOO_MANY_REQUESTS).body('handled')
+        }
+    }
+}
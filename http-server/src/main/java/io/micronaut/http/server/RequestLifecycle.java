@@ -44,7 +44,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.util.context.Context;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -54,7 +53,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 
 /**
@@ -233,9 +233,13 @@ public class RequestLifecycle {
                     }
                 };
                 ExecutionFlow<MutableHttpResponse<?>> responseFlow;
-                final ExecutorService executor = routeExecutor.findExecutor(routeInfo);
+                final Executor executor = routeExecutor.findExecutor(routeInfo);
                 if (executor != null) {
-                    responseFlow = ExecutionFlow.async(executor, responseSupplier);
+                    try {
+                        responseFlow = ExecutionFlow.async(executor, responseSupplier);
+                    } catch (RejectedExecutionException e) {
+                        responseFlow = ExecutionFlow.error(e);
+                    }
                 } else {
                     responseFlow = responseSupplier.get();
                 }
@@ -263,15 +267,12 @@ public class RequestLifecycle {
     protected final ExecutionFlow<MutableHttpResponse<?>> runWithFilters(Supplier<ExecutionFlow<MutableHttpResponse<?>>> downstream) {
         ServerRequestContext.set(request);
         List<GenericHttpFilter> httpFilters = routeExecutor.router.findFilters(request);
-
-        List<GenericHttpFilter> filters = new ArrayList<>(httpFilters.size() + 1);
-        filters.addAll(httpFilters);
-        filters.add((GenericHttpFilter.TerminalWithReactorContext) (request, context) -> {
+        GenericHttpFilter terminal = (GenericHttpFilter.TerminalWithReactorContext) (request, context) -> {
             this.request = request;
             this.context = context;
             return downstream.get();
-        });
-        FilterRunner filterRunner = new FilterRunner(routeExecutor.beanContext.getConversionService(), filters) {
+        };
+        FilterRunner filterRunner = new FilterRunner(routeExecutor.beanContext.getConversionService(), httpFilters, terminal) {
             @Override
             protected ExecutionFlow<? extends HttpResponse<?>> processResponse(HttpRequest<?> request, HttpResponse<?> response) {
                 RequestLifecycle.this.request = request;
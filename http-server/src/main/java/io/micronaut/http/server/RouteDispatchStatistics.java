@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the requests of a route that were offloaded from the event loop to an executor.
+ * They can be obtained from {@link RouteExecutor#getDispatchStatistics()}, for example to export
+ * them as metrics.
+ *
+ * @since 4.0.0
+ */
+public final class RouteDispatchStatistics {
+
+    private final String route;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    RouteDispatchStatistics(String route) {
+        this.route = route;
+    }
+
+    /**
+     * @return The description of the route method
+     */
+    @NonNull
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * @return The number of requests waiting for a thread of the executor
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * @return The number of requests that started executing
+     */
+    public long getDispatched() {
+        return dispatched.sum();
+    }
+
+    /**
+     * @return The number of requests rejected by the executor, and answered with a 503 response
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return The total time requests waited for a thread of the executor
+     */
+    @NonNull
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(totalWaitNanos.sum());
+    }
+
+    /**
+     * @return The longest time a request waited for a thread of the executor
+     */
+    @NonNull
+    public Duration getMaxWaitTime() {
+        return Duration.ofNanos(maxWaitNanos.get());
+    }
+
+    void onQueued() {
+        queued.incrementAndGet();
+    }
+
+    void onRejected() {
+        queued.decrementAndGet();
+        rejected.increment();
+    }
+
+    void onDispatched(long waitNanos) {
+        queued.decrementAndGet();
+        dispatched.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "RouteDispatchStatistics{" +
+            "route='" + route + '\'' +
+            ", queueDepth=" + getQueueDepth() +
+            ", dispatched=" + getDispatched() +
+            ", rejected=" + getRejected() +
+            ", totalWaitTime=" + getTotalWaitTime() +
+            ", maxWaitTime=" + getMaxWaitTime() +
+            '}';
+    }
+}
@@ -43,6 +43,7 @@ import io.micronaut.http.reactive.execution.ReactiveExecutionFlow;
 import io.micronaut.http.server.binding.RequestArgumentSatisfier;
 import io.micronaut.http.server.exceptions.response.ErrorContext;
 import io.micronaut.http.server.exceptions.response.ErrorResponseProcessor;
+import io.micronaut.http.util.MediaTypeNegotiation;
 import io.micronaut.inject.BeanType;
 import io.micronaut.inject.MethodReference;
 import io.micronaut.scheduling.executor.ExecutorSelector;
@@ -66,11 +67,16 @@ import reactor.util.context.ContextView;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
@@ -102,6 +108,7 @@ public final class RouteExecutor {
     private final ExecutorSelector executorSelector;
     private final Optional<CoroutineHelper> coroutineHelper;
     private final ConversionService conversionService;
+    private final Map<MethodReference<?, ?>, Optional<RouteDispatch>> routeDispatches = new ConcurrentHashMap<>();
 
     /**
      * Default constructor.
@@ -129,6 +136,18 @@ public final class RouteExecutor {
         this.conversionService = beanContext.getConversionService();
     }
 
+    /**
+     * @return The statistics of the routes whose requests are offloaded to an executor
+     * @since 4.0.0
+     */
+    public @NonNull Collection<RouteDispatchStatistics> getDispatchStatistics() {
+        List<RouteDispatchStatistics> statistics = new ArrayList<>(routeDispatches.size());
+        for (Optional<RouteDispatch> routeDispatch : routeDispatches.values()) {
+            routeDispatch.ifPresent(dispatch -> statistics.add(dispatch.statistics()));
+        }
+        return statistics;
+    }
+
     /**
      * @return The router
      */
@@ -241,24 +260,11 @@ public final class RouteExecutor {
      */
     public MediaType resolveDefaultResponseContentType(HttpRequest<?> request, RouteInfo<?> finalRoute) {
         final List<MediaType> producesList = finalRoute.getProduces();
-        if (request != null) {
-            final Iterator<MediaType> i = request.accept().iterator();
-            if (i.hasNext()) {
-                final MediaType mt = i.next();
-                if (producesList.contains(mt)) {
-                    return mt;
-                }
-            }
-        }
-
-        MediaType defaultResponseMediaType;
-        final Iterator<MediaType> produces = producesList.iterator();
-        if (produces.hasNext()) {
-            defaultResponseMediaType = produces.next();
-        } else {
-            defaultResponseMediaType = MediaType.APPLICATION_JSON_TYPE;
-        }
-        return defaultResponseMediaType;
+        MediaType defaultResponseMediaType = MediaTypeNegotiation.preferredProduced(
+            request != null ? request.accept() : null,
+            producesList
+        );
+        return defaultResponseMediaType != null ? defaultResponseMediaType : MediaType.APPLICATION_JSON_TYPE;
     }
 
     private MutableHttpResponse<?> newNotFoundError(HttpRequest<?> request) {
@@ -368,20 +374,47 @@ public final class RouteExecutor {
         return statusRoute;
     }
 
-    ExecutorService findExecutor(RouteInfo<?> routeMatch) {
-        // Select the most appropriate Executor
-        ExecutorService executor;
-        if (routeMatch instanceof MethodReference) {
-            executor = executorSelector.select((MethodReference<?, ?>) routeMatch, serverConfiguration.getThreadSelection()).orElse(null);
+    @Nullable
+    Executor findExecutor(RouteInfo<?> routeMatch) {
+        return findRouteDispatch(routeMatch);
+    }
+
+    @Nullable
+    private RouteDispatch findRouteDispatch(RouteInfo<?> routeMatch) {
+        MethodReference<?, ?> method;
+        if (routeMatch instanceof MethodBasedRouteMatch<?, ?> methodBasedRouteMatch) {
+            method = methodBasedRouteMatch.getExecutableMethod();
+        } else if (routeMatch instanceof MethodReference<?, ?> methodReference) {
+            method = methodReference;
         } else {
-            executor = null;
+            return null;
+        }
+        // The executor only depends on the method metadata, so select the most appropriate one once per route
+        Optional<RouteDispatch> routeDispatch = routeDispatches.get(method);
+        if (routeDispatch == null) {
+            routeDispatch = routeDispatches.computeIfAbsent(method, m -> executorSelector.select(m, serverConfiguration.getThreadSelection())
+                .map(executor -> new RouteDispatch(executor, new RouteDispatchStatistics(m.getDeclaringType().getName() + "#" + m.getMethodName()))));
+        }
+        return routeDispatch.orElse(null);
+    }
+
+    private static ExecutionFlow<MutableHttpResponse<?>> rejectedToServiceUnavailable(Throwable throwable) {
+        // only rejections of the route's executor, the scheduler may wrap them
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof RouteDispatchRejectedException) {
+                return ExecutionFlow.error(serviceUnavailable());
+            }
         }
-        return executor;
+        return ExecutionFlow.error(throwable);
     }
 
-    private <T> Flux<T> applyExecutorToPublisher(Publisher<T> publisher, @Nullable ExecutorService executor) {
+    private static HttpStatusException serviceUnavailable() {
+        return new HttpStatusException(HttpStatus.SERVICE_UNAVAILABLE, "The server is too busy to handle the request");
+    }
+
+    private <T> Flux<T> applyExecutorToPublisher(Publisher<T> publisher, @Nullable Executor executor) {
         if (executor != null) {
-            final Scheduler scheduler = Schedulers.fromExecutorService(executor);
+            final Scheduler scheduler = Schedulers.fromExecutor(executor);
             return Flux.from(publisher)
                 .subscribeOn(scheduler)
                 .publishOn(scheduler);
@@ -427,10 +460,10 @@ public final class RouteExecutor {
     }
 
     ExecutionFlow<MutableHttpResponse<?>> callRoute(ContextView contextFromFilter, RouteMatch<?> routeMatch, HttpRequest<?> request) {
-        ExecutorService executorService = findExecutor(routeMatch);
+        RouteDispatch routeDispatch = findRouteDispatch(routeMatch);
         Supplier<ExecutionFlow<MutableHttpResponse<?>>> flowSupplier = () -> executeRouteAndConvertBody(routeMatch, request);
         ExecutionFlow<MutableHttpResponse<?>> executeMethodResponseFlow;
-        if (executorService != null) {
+        if (routeDispatch != null) {
             if (routeMatch.isSuspended()) {
                 executeMethodResponseFlow = ReactiveExecutionFlow.fromPublisher(Mono.deferContextual(contextView -> {
                         coroutineHelper.ifPresent(helper -> helper.setupCoroutineContext(request, contextView));
@@ -440,10 +473,15 @@ public final class RouteExecutor {
                     }).contextWrite(contextFromFilter))
                     .putInContext(ServerRequestContext.KEY, request);
             } else if (routeMatch.isReactive()) {
-                executeMethodResponseFlow = ReactiveExecutionFlow.async(executorService, flowSupplier)
-                    .putInContext(ServerRequestContext.KEY, request);
+                executeMethodResponseFlow = ReactiveExecutionFlow.async(routeDispatch, flowSupplier)
+                    .putInContext(ServerRequestContext.KEY, request)
+                    .onErrorResume(RouteExecutor::rejectedToServiceUnavailable);
             } else {
-                executeMethodResponseFlow = ExecutionFlow.async(executorService, flowSupplier);
+                try {
+                    executeMethodResponseFlow = ExecutionFlow.async(routeDispatch, flowSupplier);
+                } catch (RouteDispatchRejectedException e) {
+                    executeMethodResponseFlow = ExecutionFlow.error(serviceUnavailable());
+                }
             }
         } else {
             if (routeMatch.isSuspended()) {
@@ -682,4 +720,39 @@ public final class RouteExecutor {
         return ReactiveExecutionFlow.fromPublisher(publisher);
     }
 
+
+    /**
+     * The executor of a route, that records how long requests wait for a thread.
+     *
+     * @param executorService The executor service
+     * @param statistics      The statistics of the route
+     */
+    private record RouteDispatch(ExecutorService executorService,
+                                 RouteDispatchStatistics statistics) implements Executor {
+
+        @Override
+        public void execute(Runnable command) {
+            long queuedAt = System.nanoTime();
+            statistics.onQueued();
+            try {
+                executorService.execute(() -> {
+                    statistics.onDispatched(System.nanoTime() - queuedAt);
+                    command.run();
+                });
+            } catch (RejectedExecutionException e) {
+                statistics.onRejected();
+                throw new RouteDispatchRejectedException(e);
+            }
+        }
+    }
+
+    /**
+     * Thrown when the executor of a route rejects a request, to tell it apart from rejections
+     * thrown by the route itself.
+     */
+    private static final class RouteDispatchRejectedException extends RejectedExecutionException {
+        RouteDispatchRejectedException(RejectedExecutionException cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
 }
@@ -25,6 +25,7 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.core.value.OptionalValues;
 import io.micronaut.http.annotation.Produces;
 import org.slf4j.Logger;
@@ -47,6 +48,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -392,6 +394,17 @@ public class MediaType implements CharSequence {
     private static Map<String, String> mediaTypeFileExtensions;
     @SuppressWarnings("ConstantName")
     private static final List<Pattern> textTypePatterns = new ArrayList<>(4);
+    /**
+     * Upper bound for the interned media types and parsed accept headers. The least recently used
+     * values are evicted, so arbitrary client supplied header values cannot grow the caches without
+     * limit, nor keep frequently used values out of them.
+     */
+    private static final int MAX_INTERNED_VALUES = 512;
+    private static final Map<String, MediaType> INTERNED_MEDIA_TYPES =
+        new ConcurrentLinkedHashMap.Builder<String, MediaType>().maximumWeightedCapacity(MAX_INTERNED_VALUES).build();
+    private static final Map<String, List<MediaType>> INTERNED_ORDERED_MEDIA_TYPES =
+        new ConcurrentLinkedHashMap.Builder<String, List<MediaType>>().maximumWeightedCapacity(MAX_INTERNED_VALUES).build();
+    private static final Map<String, Optional<MediaType>> EXTENSION_MEDIA_TYPES = new ConcurrentHashMap<>(64);
 
     protected final String name;
     protected final String subtype;
@@ -570,10 +583,29 @@ public class MediaType implements CharSequence {
             case IMAGE_WEBP:
                 return IMAGE_WEBP_TYPE;
             default:
-                return new MediaType(mediaType);
+                return intern(mediaType);
         }
     }
 
+    /**
+     * Parses the given media type, reusing a previously parsed instance where possible.
+     * {@link MediaType} instances are immutable, so they can be safely shared.
+     *
+     * @param mediaType The media type text
+     * @return The {@link MediaType}
+     */
+    private static MediaType intern(String mediaType) {
+        MediaType interned = INTERNED_MEDIA_TYPES.get(mediaType);
+        if (interned == null) {
+            interned = new MediaType(mediaType);
+            MediaType existing = INTERNED_MEDIA_TYPES.putIfAbsent(mediaType, interned);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return interned;
+    }
+
     /**
      * Determine if this requested content type can be satisfied by a given content type. e.g. text/* will be satisfied by test/html.
      *
@@ -761,36 +793,50 @@ public class MediaType implements CharSequence {
      */
     public static List<MediaType> orderedOf(List<? extends CharSequence> values) {
         if (CollectionUtils.isNotEmpty(values)) {
-            List<MediaType> mediaTypes = new LinkedList<>();
-            for (CharSequence value : values) {
-                for (String token : StringUtils.splitOmitEmptyStrings(value, ',')) {
-                    try {
-                        mediaTypes.add(MediaType.of(token));
-                    } catch (IllegalArgumentException e) {
-                        // ignore
-                    }
+            if (values.size() == 1) {
+                // the common case of a single Accept header, parsed once per distinct value
+                String value = values.get(0).toString();
+                List<MediaType> mediaTypes = INTERNED_ORDERED_MEDIA_TYPES.get(value);
+                if (mediaTypes == null) {
+                    mediaTypes = parseOrdered(values);
+                    INTERNED_ORDERED_MEDIA_TYPES.putIfAbsent(value, mediaTypes);
                 }
+                return mediaTypes;
             }
-            mediaTypes = new ArrayList<>(mediaTypes);
-            mediaTypes.sort((o1, o2) -> {
-                //The */* type is always last
-                if (o1.type.equals("*")) {
-                    return 1;
-                } else if (o2.type.equals("*")) {
-                    return -1;
-                }
-                if (o2.subtype.equals("*") && !o1.subtype.equals("*")) {
-                    return -1;
-                } else if (o1.subtype.equals("*") && !o2.subtype.equals("*")) {
-                    return 1;
-                }
-                return o2.getQualityAsNumber().compareTo(o1.getQualityAsNumber());
-            });
-            return Collections.unmodifiableList(mediaTypes);
+            return parseOrdered(values);
         }
         return Collections.emptyList();
     }
 
+    private static List<MediaType> parseOrdered(List<? extends CharSequence> values) {
+        List<MediaType> mediaTypes = new LinkedList<>();
+        for (CharSequence value : values) {
+            for (String token : StringUtils.splitOmitEmptyStrings(value, ',')) {
+                try {
+                    mediaTypes.add(MediaType.of(token.trim()));
+                } catch (IllegalArgumentException e) {
+                    // ignore
+                }
+            }
+        }
+        mediaTypes = new ArrayList<>(mediaTypes);
+        mediaTypes.sort((o1, o2) -> {
+            //The */* type is always last
+            if (o1.type.equals("*")) {
+                return 1;
+            } else if (o2.type.equals("*")) {
+                return -1;
+            }
+            if (o2.subtype.equals("*") && !o1.subtype.equals("*")) {
+                return -1;
+            } else if (o1.subtype.equals("*") && !o2.subtype.equals("*")) {
+                return 1;
+            }
+            return o2.getQualityAsNumber().compareTo(o1.getQualityAsNumber());
+        });
+        return Collections.unmodifiableList(mediaTypes);
+    }
+
     /**
      * Create a new {@link MediaType} from the given text.
      *
@@ -844,7 +890,8 @@ public class MediaType implements CharSequence {
             if (extensions != null) {
                 String type = extensions.get(extension);
                 if (type != null) {
-                    return Optional.of(new MediaType(type, extension));
+                    // bounded by the number of entries in the mime types file
+                    return EXTENSION_MEDIA_TYPES.computeIfAbsent(extension, ext -> Optional.of(new MediaType(type, ext)));
                 }
             }
         }
@@ -43,12 +43,14 @@ import reactor.core.CoreSubscriber;
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
 
+import java.util.AbstractList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
@@ -84,6 +86,10 @@ public class FilterRunner {
      * filters in the reverse order.
      */
     private final List<GenericHttpFilter> filters;
+    /**
+     * Whether the filters can be executed by {@link #filterImperative}.
+     */
+    private final boolean imperative;
 
     private Context initialReactorContext = Context.empty();
 
@@ -94,8 +100,46 @@ public class FilterRunner {
      * @param filters           The filters to run
      */
     public FilterRunner(ConversionService conversionService, List<GenericHttpFilter> filters) {
+        this(conversionService, Objects.requireNonNull(filters, "filters"), isImperative(filters));
+    }
+
+    private FilterRunner(ConversionService conversionService, List<GenericHttpFilter> filters, boolean imperative) {
         this.conversionService = conversionService;
-        this.filters = Objects.requireNonNull(filters, "filters");
+        this.filters = filters;
+        this.imperative = imperative;
+    }
+
+    /**
+     * Create a new filter runner, to be used only once. The given filters are not copied, so a
+     * precomputed (immutable) filter list can be passed as is. Lists returned by
+     * {@link #prepare(List)} are not inspected again.
+     *
+     * @param conversionService The conversion service
+     * @param filters           The filters to run, without the terminal filter
+     * @param terminal          The terminal filter
+     * @since 4.0.0
+     */
+    public FilterRunner(ConversionService conversionService, List<GenericHttpFilter> filters, GenericHttpFilter terminal) {
+        this(
+            conversionService,
+            new TerminatedFilterList(Objects.requireNonNull(filters, "filters"), Objects.requireNonNull(terminal, "terminal")),
+            isTerminal(terminal) && (filters instanceof PreparedFilterList prepared ? prepared.imperative : isImperativeChain(filters))
+        );
+    }
+
+    /**
+     * Prepares sorted filters that are run for many requests, e.g. the filters precomputed for a
+     * route, to be passed to {@link #FilterRunner(ConversionService, List, GenericHttpFilter)}.
+     * Whether the filters can be executed without intermediate flows is decided once here instead
+     * of for every request.
+     *
+     * @param filters The sorted filters, without the terminal filter
+     * @return An immutable list of the filters
+     * @since 4.0.0
+     */
+    @NonNull
+    public static List<GenericHttpFilter> prepare(@NonNull List<GenericHttpFilter> filters) {
+        return new PreparedFilterList(filters.toArray(new GenericHttpFilter[0]));
     }
 
     private static void checkOrdered(List<GenericHttpFilter> filters) {
@@ -171,6 +215,9 @@ public class FilterRunner {
      * response
      */
     public final ExecutionFlow<MutableHttpResponse<?>> run(HttpRequest<?> request) {
+        if (imperative) {
+            return (ExecutionFlow) filterImperative(new FilterContext(request, initialReactorContext));
+        }
         return (ExecutionFlow) filterRequest(new FilterContext(request, initialReactorContext), filters.listIterator(), new HashMap<>());
     }
 
@@ -310,26 +357,181 @@ public class FilterRunner {
             if (filter.isSuspended()) {
                 throw new IllegalStateException("Terminal filters cannot be suspended");
             }
-            ExecutionFlow<? extends HttpResponse<?>> terminalFlow;
-            if (filter instanceof GenericHttpFilter.TerminalWithReactorContext t) {
-                try {
-                    terminalFlow = t.execute(context.request, context.reactorContext);
-                } catch (Throwable e) {
-                    terminalFlow = ExecutionFlow.error(e);
+            return executeTerminal(filter, context).flatMap(response -> ExecutionFlow.just(context.withResponse(response)));
+        } else {
+            throw new IllegalStateException("Unknown filter type");
+        }
+    }
+
+    private ExecutionFlow<? extends HttpResponse<?>> executeTerminal(GenericHttpFilter filter, FilterContext context) {
+        if (filter instanceof GenericHttpFilter.TerminalWithReactorContext t) {
+            try {
+                return t.execute(context.request, context.reactorContext);
+            } catch (Throwable e) {
+                return ExecutionFlow.error(e);
+            }
+        } else if (filter instanceof GenericHttpFilter.Terminal t) {
+            try {
+                return t.execute(context.request);
+            } catch (Throwable e) {
+                return ExecutionFlow.error(e);
+            }
+        } else {
+            return ReactiveExecutionFlow.fromPublisher(Mono.from(((GenericHttpFilter.TerminalReactive) filter).responsePublisher())
+                    .contextWrite(context.reactorContext));
+        }
+    }
+
+    /**
+     * Checks whether all filters can be executed by {@link #filterImperative}: every filter but
+     * the last one is a synchronous filter method without a continuation, the last filter is a
+     * terminal.
+     *
+     * @param filters The filters, including the terminal filter
+     * @return {@code true} if the imperative fast path can be used
+     */
+    private static boolean isImperative(List<GenericHttpFilter> filters) {
+        int size = filters.size();
+        return size > 0
+            && isTerminal(filters.get(size - 1))
+            && isImperativeChain(filters.subList(0, size - 1));
+    }
+
+    private static boolean isTerminal(GenericHttpFilter filter) {
+        return filter instanceof GenericHttpFilter.Terminal
+            || filter instanceof GenericHttpFilter.TerminalWithReactorContext
+            || filter instanceof GenericHttpFilter.TerminalReactive;
+    }
+
+    /**
+     * @param filters The filters, without the terminal filter
+     * @return {@code true} if every filter is a synchronous filter method without a continuation
+     */
+    private static boolean isImperativeChain(List<GenericHttpFilter> filters) {
+        if (!(filters instanceof RandomAccess)) {
+            return false;
+        }
+        for (GenericHttpFilter filter : filters) {
+            if (!(filter instanceof FilterMethod<?> method) || method.imperativeReturnHandler == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Imperative variant of {@link #filterRequest}. Filters are executed in a plain loop without
+     * creating intermediate flows or continuations. Only the terminal and the
+     * {@link #processResponse}/{@link #processFailure} hooks may complete asynchronously, in which
+     * case the remaining filters are chained onto the returned flow.
+     *
+     * @param context The initial context
+     * @return The flow with the final response
+     */
+    private ExecutionFlow<HttpResponse<?>> filterImperative(FilterContext context) {
+        int terminalIndex = filters.size() - 1;
+        for (int i = 0; i < terminalIndex; i++) {
+            FilterMethod<?> method = (FilterMethod<?>) filters.get(i);
+            if (method.isResponseFilter) {
+                continue;
+            }
+            FilterContext newContext;
+            try {
+                newContext = method.filterImperative(context, null);
+            } catch (Throwable e) {
+                return filterResponseImperative(context, i, e);
+            }
+            if (newContext.response != null) {
+                return filterResponseImperative(newContext, i, null);
+            }
+            context = newContext;
+        }
+        ExecutionFlow<? extends HttpResponse<?>> terminalFlow = executeTerminal(filters.get(terminalIndex), context);
+        ImperativeExecutionFlow<? extends HttpResponse<?>> doneFlow = terminalFlow.tryComplete();
+        if (doneFlow != null) {
+            return afterTerminal(context, terminalIndex, doneFlow.getValue(), doneFlow.getError());
+        }
+        FilterContext requestContext = context;
+        // the response filters must not be part of the error handling of the terminal
+        return terminalFlow.<Object>map(response -> response)
+            .onErrorResume(ExecutionFlow::just)
+            .flatMap(result -> {
+                if (result instanceof Throwable failure) {
+                    return afterTerminal(requestContext, terminalIndex, null, failure);
                 }
-            } else if (filter instanceof GenericHttpFilter.Terminal t) {
-                try {
-                    terminalFlow = t.execute(context.request);
-                } catch (Throwable e) {
-                    terminalFlow = ExecutionFlow.error(e);
+                return afterTerminal(requestContext, terminalIndex, (HttpResponse<?>) result, null);
+            });
+    }
+
+    private ExecutionFlow<HttpResponse<?>> afterTerminal(FilterContext context,
+                                                         int terminalIndex,
+                                                         @Nullable HttpResponse<?> response,
+                                                         @Nullable Throwable failure) {
+        if (failure != null) {
+            return filterResponseImperative(context, terminalIndex, failure);
+        }
+        if (response == null) {
+            return ExecutionFlow.empty();
+        }
+        return filterResponseImperative(context.withResponse(response), terminalIndex, null);
+    }
+
+    /**
+     * Imperative variant of {@link #filterResponse}.
+     *
+     * @param context   The current context
+     * @param index     The index of the filter to start with, walking backwards
+     * @param exception The exception to filter
+     * @return The flow with the final response
+     */
+    private ExecutionFlow<HttpResponse<?>> filterResponseImperative(FilterContext context,
+                                                                    int index,
+                                                                    @Nullable Throwable exception) {
+        for (int i = index; i >= 0; i--) {
+            if (!(filters.get(i) instanceof FilterMethod<?> method) || !method.isResponseFilter
+                || exception != null && !method.filtersException) {
+                continue;
+            }
+            FilterContext requestContext = context;
+            ExecutionFlow<? extends HttpResponse<?>> processedFlow;
+            boolean recoverable;
+            try {
+                FilterContext newContext = method.filterImperative(context, exception);
+                if (newContext == context) {
+                    continue;
                 }
-            } else {
-                terminalFlow = ReactiveExecutionFlow.fromPublisher(Mono.from(((GenericHttpFilter.TerminalReactive) filter).responsePublisher())
-                        .contextWrite(context.reactorContext));
+                processedFlow = processResponse(newContext.request, newContext.response);
+                recoverable = true;
+            } catch (Throwable e) {
+                processedFlow = processFailure(context.request, e);
+                recoverable = false;
+            }
+            ImperativeExecutionFlow<? extends HttpResponse<?>> doneFlow = processedFlow.tryComplete();
+            if (doneFlow != null && doneFlow.getError() != null && recoverable) {
+                processedFlow = processFailure(context.request, doneFlow.getError());
+                recoverable = false;
+                doneFlow = processedFlow.tryComplete();
+            }
+            if (doneFlow != null && doneFlow.getError() == null && doneFlow.getValue() != null) {
+                context = context.withResponse(doneFlow.getValue());
+                exception = null;
+                continue;
             }
-            return terminalFlow.flatMap(response -> ExecutionFlow.just(context.withResponse(response)));
+            // asynchronous or unusual outcome, continue with the same semantics as filterResponse
+            ExecutionFlow<FilterContext> flow = processedFlow.map(requestContext::withResponse);
+            if (recoverable) {
+                flow = flow.onErrorResume(throwable -> processFailure(requestContext.request, throwable).map(requestContext::withResponse));
+            }
+            int next = i - 1;
+            Throwable nextException = exception;
+            return flow.flatMap(newContext -> filterResponseImperative(newContext, next, newContext.response == null ? nextException : null));
+        }
+        if (context.response != null) {
+            return ExecutionFlow.just(context.response);
+        } else if (exception != null) {
+            return ExecutionFlow.error(exception);
         } else {
-            throw new IllegalStateException("Unknown filter type");
+            return ExecutionFlow.error(new IllegalStateException("No response after response filters completed!"));
         }
     }
 
@@ -481,7 +683,8 @@ public class FilterRunner {
                 filterCondition,
                 continuationCreator,
                 filtersException,
-                returnHandler
+                returnHandler,
+                prepareImperativeReturnHandler(returnType, isResponseFilter, continuationCreator != null, false)
         );
     }
 
@@ -581,6 +784,87 @@ public class FilterRunner {
         }
     }
 
+    /**
+     * Prepare the handler used by the imperative fast path.
+     *
+     * @return The handler or {@code null} if the method needs a continuation or returns a reactive
+     * or asynchronous type
+     */
+    @Nullable
+    private static ImperativeFilterReturnHandler prepareImperativeReturnHandler(Argument<?> type,
+                                                                                boolean isResponseFilter,
+                                                                                boolean hasContinuation,
+                                                                                boolean fromOptional) {
+        if (hasContinuation) {
+            return null;
+        }
+        if (type.isOptional()) {
+            ImperativeFilterReturnHandler next = prepareImperativeReturnHandler(type.getWrappedType(), isResponseFilter, false, true);
+            if (next == null) {
+                return null;
+            }
+            return (c, o) -> next.handle(c, o == null ? null : ((Optional<?>) o).orElse(null));
+        }
+        if (type.isVoid()) {
+            return ImperativeFilterReturnHandler.VOID;
+        }
+        boolean nullable = type.isNullable() || fromOptional;
+        Class<?> javaType = type.getType();
+        if (!isResponseFilter && (javaType == HttpRequest.class || javaType == MutableHttpRequest.class)) {
+            return nullable ? ImperativeFilterReturnHandler.REQUEST_NULLABLE : ImperativeFilterReturnHandler.REQUEST;
+        }
+        if (javaType == HttpResponse.class || javaType == MutableHttpResponse.class) {
+            return nullable ? ImperativeFilterReturnHandler.RESPONSE_NULLABLE : ImperativeFilterReturnHandler.RESPONSE;
+        }
+        return null;
+    }
+
+    /**
+     * Filters returned by {@link #prepare(List)}, with the precomputed result of {@link #isImperativeChain}.
+     */
+    private static final class PreparedFilterList extends AbstractList<GenericHttpFilter> implements RandomAccess {
+        private final GenericHttpFilter[] filters;
+        private final boolean imperative;
+
+        PreparedFilterList(GenericHttpFilter[] filters) {
+            this.filters = filters;
+            this.imperative = isImperativeChain(this);
+        }
+
+        @Override
+        public GenericHttpFilter get(int index) {
+            return filters[index];
+        }
+
+        @Override
+        public int size() {
+            return filters.length;
+        }
+    }
+
+    /**
+     * Read-only view of a filter list followed by a terminal filter.
+     */
+    private static final class TerminatedFilterList extends AbstractList<GenericHttpFilter> implements RandomAccess {
+        private final List<GenericHttpFilter> filters;
+        private final GenericHttpFilter terminal;
+
+        TerminatedFilterList(List<GenericHttpFilter> filters, GenericHttpFilter terminal) {
+            this.filters = filters;
+            this.terminal = terminal;
+        }
+
+        @Override
+        public GenericHttpFilter get(int index) {
+            return index == filters.size() ? terminal : filters.get(index);
+        }
+
+        @Override
+        public int size() {
+            return filters.size() + 1;
+        }
+    }
+
     record FilterMethod<T>(FilterOrder order,
                            T bean,
                            Executable<T, ?> method,
@@ -590,7 +874,9 @@ public class FilterRunner {
                            Predicate<FilterMethodContext> filterCondition,
                            Function<FilterContext, FilterContinuationImpl<?>> continuationCreator,
                            boolean filtersException,
-                           FilterReturnHandler returnHandler
+                           FilterReturnHandler returnHandler,
+                           @Nullable
+                           ImperativeFilterReturnHandler imperativeReturnHandler
     ) implements GenericHttpFilter, Ordered {
 
         @Override
@@ -629,6 +915,27 @@ public class FilterRunner {
             }
         }
 
+        /**
+         * Execute a filter method that doesn't need a continuation and returns synchronously.
+         *
+         * @param filterContext The filter context
+         * @param failure       The failure to filter
+         * @return The new filter context
+         * @throws Throwable If the filter method failed
+         */
+        private FilterContext filterImperative(FilterContext filterContext, @Nullable Throwable failure) throws Throwable {
+            FilterMethodContext methodContext = new FilterMethodContext(
+                    filterContext.request,
+                    filterContext.response,
+                    failure,
+                    null);
+            if (filterCondition != null && !filterCondition.test(methodContext)) {
+                return filterContext;
+            }
+            Object returnValue = method.invoke(bean, bindArgs(methodContext));
+            return imperativeReturnHandler.handle(filterContext, returnValue);
+        }
+
         private Object[] bindArgs(FilterMethodContext context) {
             Object[] args = new Object[argBinders.length];
             for (int i = 0; i < args.length; i++) {
@@ -742,6 +1049,41 @@ public class FilterRunner {
                                             @Nullable FilterContinuationImpl<?> passedOnContinuation) throws Throwable;
     }
 
+    /**
+     * Synchronous counterpart of {@link FilterReturnHandler} for filter methods without a
+     * continuation that return a plain (non-reactive, non-async) value.
+     */
+    private interface ImperativeFilterReturnHandler {
+        /**
+         * Void method.
+         */
+        ImperativeFilterReturnHandler VOID = (filterContext, returnValue) -> filterContext;
+        /**
+         * Request handler that returns a new request.
+         */
+        ImperativeFilterReturnHandler REQUEST = (filterContext, returnValue) -> filterContext.withRequest(
+                (HttpRequest<?>) Objects.requireNonNull(returnValue, "Returned request must not be null, or mark the method as @Nullable")
+        );
+        /**
+         * Request handler that returns a new request (nullable).
+         */
+        ImperativeFilterReturnHandler REQUEST_NULLABLE = (filterContext, returnValue) ->
+                returnValue == null ? filterContext : filterContext.withRequest((HttpRequest<?>) returnValue);
+        /**
+         * Request or response handler that returns a response.
+         */
+        ImperativeFilterReturnHandler RESPONSE = (filterContext, returnValue) -> filterContext.withResponse(
+                (HttpResponse<?>) Objects.requireNonNull(returnValue, "Returned response must not be null, or mark the method as @Nullable")
+        );
+        /**
+         * Request or response handler that returns a response (nullable).
+         */
+        ImperativeFilterReturnHandler RESPONSE_NULLABLE = (filterContext, returnValue) ->
+                returnValue == null ? filterContext : filterContext.withResponse((HttpResponse<?>) returnValue);
+
+        FilterContext handle(FilterContext context, @Nullable Object returnValue) throws Throwable;
+    }
+
     private abstract static class DelayedFilterReturnHandler implements FilterReturnHandler {
         final boolean isResponseFilter;
         final FilterReturnHandler next;
@@ -103,4 +103,66 @@ public class HttpUtil {
             return Optional.empty();
         }
     }
+
+    /**
+     * Finds the quality value of a content coding in an {@code Accept-Encoding} header. A
+     * {@code *} entry applies to codings that are not listed explicitly.
+     *
+     * @param acceptEncoding The {@code Accept-Encoding} header value
+     * @param coding         The content coding, e.g. {@code gzip}
+     * @return The quality value, {@code 0} if the coding is not acceptable
+     * @since 4.0.0
+     */
+    public static float contentCodingQuality(String acceptEncoding, String coding) {
+        return contentCodingQuality(acceptEncoding, coding, 0);
+    }
+
+    /**
+     * Finds the quality value of a content coding in an {@code Accept-Encoding} header. A
+     * {@code *} entry applies to codings that are not listed explicitly.
+     *
+     * @param acceptEncoding The {@code Accept-Encoding} header value
+     * @param coding         The content coding, e.g. {@code identity}
+     * @param unlisted       The quality value if neither the coding nor {@code *} is listed
+     * @return The quality value, {@code 0} if the coding is not acceptable
+     * @since 4.0.0
+     */
+    public static float contentCodingQuality(String acceptEncoding, String coding, float unlisted) {
+        float wildcard = unlisted;
+        int length = acceptEncoding.length();
+        int start = 0;
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end == -1) {
+                end = length;
+            }
+            int parameters = acceptEncoding.indexOf(';', start);
+            int nameEnd = parameters == -1 || parameters > end ? end : parameters;
+            String name = acceptEncoding.substring(start, nameEnd).trim();
+            boolean matches = name.equalsIgnoreCase(coding);
+            if (matches || name.equals("*")) {
+                float quality = nameEnd == end ? 1 : parseQuality(acceptEncoding.substring(nameEnd + 1, end));
+                if (matches) {
+                    return quality;
+                }
+                wildcard = quality;
+            }
+            start = end + 1;
+        }
+        return wildcard;
+    }
+
+    private static float parseQuality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.length() > 2 && (trimmed.charAt(0) == 'q' || trimmed.charAt(0) == 'Q') && trimmed.charAt(1) == '=') {
+                try {
+                    return Float.parseFloat(trimmed.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.util;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.http.MediaType;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the result of content negotiation between the accepted types of a request and the
+ * types produced by a route. Since {@link MediaType#orderedOf(List)} interns the parsed
+ * {@code Accept} header, the same header value always results in the same, cheaply compared,
+ * list of media types, so the negotiation becomes a map lookup. The caches are bounded and
+ * evict the least recently used results.
+ *
+ * @since 4.0.0
+ */
+@Internal
+public final class MediaTypeNegotiation {
+
+    private static final int MAX_CACHED_RESULTS = 1024;
+    private static final Map<NegotiationKey, Boolean> PRODUCES_CACHE =
+        new ConcurrentLinkedHashMap.Builder<NegotiationKey, Boolean>().maximumWeightedCapacity(MAX_CACHED_RESULTS).build();
+    private static final Map<NegotiationKey, MediaType> PREFERRED_CACHE =
+        new ConcurrentLinkedHashMap.Builder<NegotiationKey, MediaType>().maximumWeightedCapacity(MAX_CACHED_RESULTS).build();
+
+    private MediaTypeNegotiation() {
+    }
+
+    /**
+     * Whether any of the accepted types is produced.
+     *
+     * @param acceptedTypes The accepted types, ordered by preference
+     * @param producedTypes The produced types
+     * @return True if an accepted type is produced, or nothing in particular is accepted
+     */
+    public static boolean anyProduced(@Nullable Collection<MediaType> acceptedTypes, @Nullable List<MediaType> producedTypes) {
+        if (CollectionUtils.isEmpty(acceptedTypes)) {
+            return true;
+        }
+        NegotiationKey key = new NegotiationKey(acceptedTypes, producedTypes == null ? Collections.emptyList() : producedTypes);
+        Boolean result = PRODUCES_CACHE.get(key);
+        if (result == null) {
+            result = anyProduced0(acceptedTypes, key.producedTypes);
+            PRODUCES_CACHE.putIfAbsent(key.copy(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the type to produce: the most preferred accepted type if it is produced, otherwise
+     * the first produced type.
+     *
+     * @param acceptedTypes The accepted types, ordered by preference
+     * @param producedTypes The produced types
+     * @return The type to produce, or {@code null} if nothing is produced
+     */
+    @Nullable
+    public static MediaType preferredProduced(@Nullable Collection<MediaType> acceptedTypes, @NonNull List<MediaType> producedTypes) {
+        if (CollectionUtils.isEmpty(acceptedTypes)) {
+            return producedTypes.isEmpty() ? null : producedTypes.get(0);
+        }
+        NegotiationKey key = new NegotiationKey(acceptedTypes, producedTypes);
+        MediaType result = PREFERRED_CACHE.get(key);
+        if (result == null) {
+            result = preferredProduced0(acceptedTypes, producedTypes);
+            if (result != null) {
+                PREFERRED_CACHE.putIfAbsent(key.copy(), result);
+            }
+        }
+        return result;
+    }
+
+    static boolean anyProduced0(Collection<MediaType> acceptedTypes, List<MediaType> producedTypes) {
+        for (MediaType acceptableType : acceptedTypes) {
+            if (acceptableType.equals(MediaType.ALL_TYPE) || producedTypes.contains(acceptableType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static MediaType preferredProduced0(Collection<MediaType> acceptedTypes, List<MediaType> producedTypes) {
+        Iterator<MediaType> i = acceptedTypes.iterator();
+        if (i.hasNext()) {
+            MediaType mediaType = i.next();
+            if (producedTypes.contains(mediaType)) {
+                return mediaType;
+            }
+        }
+        return producedTypes.isEmpty() ? null : producedTypes.get(0);
+    }
+
+    /**
+     * The accepted types and the produced types of a negotiation. Both are compared by value,
+     * which is cheap since the {@link MediaType} instances are interned.
+     *
+     * @param acceptedTypes The accepted types
+     * @param producedTypes The produced types
+     */
+    private record NegotiationKey(Collection<MediaType> acceptedTypes, List<MediaType> producedTypes) {
+
+        /**
+         * @return A key that can be stored, independent of any mutable list passed by the caller
+         */
+        NegotiationKey copy() {
+            return new NegotiationKey(List.copyOf(acceptedTypes), List.copyOf(producedTypes));
+        }
+    }
+}
@@ -141,4 +141,65 @@ class MediaTypeSpec extends Specification {
         "text/plain"            | "text/hml"            | false
         "text/*"                | "application/json"    | false
     }
+
+    void "test parsed media types and accept headers are interned"() {
+        expect:
+        MediaType.of("application/vnd.test+json;v=1").is(MediaType.of("application/vnd.test+json;v=1"))
+        MediaType.of("application/vnd.test+json;v=1").version == "1"
+        MediaType.orderedOf(["text/plain;q=0.5, application/vnd.test+json"]).is(MediaType.orderedOf(["text/plain;q=0.5, application/vnd.test+json"]))
+        MediaType.orderedOf(["text/plain;q=0.5, application/vnd.test+json"]) == [new MediaType("application/vnd.test+json"), new MediaType("text/plain")]
+        MediaType.forExtension("json").get().is(MediaType.forExtension("json").get())
+    }
+
+    @Unroll
+    void "test the interned media type of #value is the same as a newly parsed one"() {
+        given:
+        MediaType parsed = new MediaType(value)
+
+        when:
+        MediaType.of(value)
+        MediaType cached = MediaType.of(value)
+
+        then:
+        cached.name == parsed.name
+        cached.parameters == parsed.parameters
+        cached.qualityAsNumber == parsed.qualityAsNumber
+        cached.extension == parsed.extension
+
+        where:
+        value << ["application/vnd.test+json;v=2", "text/csv;charset=UTF-8;q=0.3", "application/x-custom"]
+    }
+
+    void "test the interned accept header is the same as a newly parsed one"() {
+        given:
+        String accept = "text/plain;q=0.5, application/vnd.test+json;v=3, */*;q=0.1"
+        // more than one value is never cached
+        List<MediaType> parsed = MediaType.orderedOf([accept, ""])
+
+        when:
+        MediaType.orderedOf([accept])
+        List<MediaType> cached = MediaType.orderedOf([accept])
+
+        then:
+        cached == parsed
+        cached*.parameters == parsed*.parameters
+    }
+
+    void "test the interned values are evicted once the cache is full"() {
+        when:
+        List<MediaType> mediaTypes = (1..2000).collect { MediaType.of("application/vnd.evict$it+json") }
+
+        then:
+        mediaTypes*.name == (1..2000).collect { "application/vnd.evict$it+json".toString() }
+        MediaType.INTERNED_MEDIA_TYPES.size() <= MediaType.MAX_INTERNED_VALUES
+        MediaType.of("application/vnd.evict2000+json").is(mediaTypes.last())
+    }
+
+    void "test interned accept headers are immutable"() {
+        when:
+        MediaType.orderedOf(["text/plain, text/html"]).add(MediaType.APPLICATION_JSON_TYPE)
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
 }
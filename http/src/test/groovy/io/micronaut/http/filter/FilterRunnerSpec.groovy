@@ -643,6 +643,120 @@ class FilterRunnerSpec extends Specification {
         events == ["before", "terminal", "after"]
     }
 
+    def 'prepared filters decide the synchronous path once'() {
+        given:
+        def events = []
+        List<GenericHttpFilter> prepared = FilterRunner.prepare([
+                after(ReturnType.of(void)) { HttpRequest<?> req, HttpResponse<?> resp ->
+                    events.add("after")
+                },
+                before(ReturnType.of(void)) { req ->
+                    events.add("before")
+                }
+        ])
+        def terminal = (GenericHttpFilter.Terminal) (req -> {
+            events.add("terminal")
+            ExecutionFlow.just(HttpResponse.ok())
+        })
+
+        when:
+        prepared.add(terminal)
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        def runner = new FilterRunner(ConversionService.SHARED, prepared, terminal)
+        def result = runner.run(HttpRequest.GET("/"))
+        then:
+        runner.@imperative
+        result.tryComplete().value.status() == HttpStatus.OK
+        events == ["before", "terminal", "after"]
+
+        when:"A filter that needs a continuation is prepared"
+        def suspending = FilterRunner.prepare([
+                before(ReturnType.of(void), [Argument.of(FilterContinuation, Publisher)]) { req, FilterContinuation<Publisher<HttpResponse<?>>> cont ->
+                    cont.proceed()
+                }
+        ])
+        then:
+        !new FilterRunner(ConversionService.SHARED, suspending, terminal).@imperative
+    }
+
+    def 'synchronous filters with an asynchronous terminal'() {
+        given:
+        def events = []
+        def req2 = HttpRequest.GET("/req2")
+        def resp2 = HttpResponse.ok("resp2")
+        def terminalResponse = new CompletableFuture<HttpResponse<?>>()
+        List<GenericHttpFilter> filters = [
+                after(ReturnType.of(HttpResponse)) { HttpRequest<?> req, HttpResponse<?> resp ->
+                    assert req == req2
+                    events.add("after")
+                    resp2
+                },
+                before(ReturnType.of(HttpRequest)) { req ->
+                    events.add("before")
+                    req2
+                },
+                (GenericHttpFilter.Terminal) (req -> {
+                    assert req == req2
+                    events.add("terminal")
+                    CompletableFutureExecutionFlow.just(terminalResponse)
+                })
+        ]
+
+        when:
+        def flow = filterRunner(filters).run(HttpRequest.GET("/req1"))
+        then:
+        flow.tryComplete() == null
+        events == ["before", "terminal"]
+
+        when:
+        terminalResponse.complete(HttpResponse.ok())
+        def result = await(flow).value
+        then:
+        result == resp2
+        events == ["before", "terminal", "after"]
+    }
+
+    def 'processResponse and processFailure are applied to response filter results'() {
+        given:
+        def events = []
+        def testExc = new Exception("Test exception")
+        def resp1 = HttpResponse.ok("resp1")
+        def resp2 = HttpResponse.ok("resp2")
+        List<GenericHttpFilter> filters = [
+                after(ReturnType.of(HttpResponse)) { HttpRequest<?> req, HttpResponse<?> resp ->
+                    assert resp == resp2
+                    events.add("after2")
+                    resp
+                },
+                after(ReturnType.of(void)) { HttpRequest<?> req, HttpResponse<?> resp ->
+                    assert resp == resp1
+                    events.add("after1")
+                    throw testExc
+                },
+                (GenericHttpFilter.Terminal) (req -> {
+                    events.add("terminal")
+                    ExecutionFlow.just(resp1)
+                })
+        ]
+        def runner = new FilterRunner(ConversionService.SHARED, filters) {
+            @Override
+            protected ExecutionFlow<? extends HttpResponse<?>> processFailure(HttpRequest<?> request, Throwable failure) {
+                assert failure == testExc
+                events.add("processFailure")
+                return ExecutionFlow.just(resp2)
+            }
+        }
+
+        when:
+        def result = runner.run(HttpRequest.GET("/")).tryComplete().value
+        then:
+        result == resp2
+        events == ["terminal", "after1", "processFailure", "after2"]
+    }
+
     private def after(ReturnType returnType, List<Argument> arguments = closure.parameterTypes.collect { Argument.of(it) }, Closure<?> closure) {
         return FilterRunner.prepareFilterMethod(ConversionService.SHARED, null, new LambdaExecutable(closure, arguments.toArray(new Argument[0]), returnType), true, new FilterOrder.Fixed(0))
     }
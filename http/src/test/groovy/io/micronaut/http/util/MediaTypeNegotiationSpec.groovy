@@ -0,0 +1,96 @@
+package io.micronaut.http.util
+
+import io.micronaut.http.MediaType
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class MediaTypeNegotiationSpec extends Specification {
+
+    @Unroll
+    void "test any of #accept is produced by #produces: #expected"() {
+        expect:
+        MediaTypeNegotiation.anyProduced(MediaType.orderedOf([accept]), produces) == expected
+        // served from the cache the second time
+        MediaTypeNegotiation.anyProduced(MediaType.orderedOf([accept]), produces) == expected
+
+        where:
+        accept                            | produces                                                       | expected
+        "application/json"                | [MediaType.APPLICATION_JSON_TYPE]                              | true
+        "text/html, */*;q=0.1"            | [MediaType.APPLICATION_JSON_TYPE]                              | true
+        "text/html"                       | [MediaType.APPLICATION_JSON_TYPE]                              | false
+        "text/html, application/json;q=1" | [MediaType.TEXT_PLAIN_TYPE, MediaType.APPLICATION_JSON_TYPE]   | true
+        "text/html"                       | []                                                             | false
+    }
+
+    void "test nothing accepted matches everything"() {
+        expect:
+        MediaTypeNegotiation.anyProduced(null, [MediaType.TEXT_PLAIN_TYPE])
+        MediaTypeNegotiation.anyProduced([], [MediaType.TEXT_PLAIN_TYPE])
+        MediaTypeNegotiation.preferredProduced([], [MediaType.TEXT_PLAIN_TYPE]) == MediaType.TEXT_PLAIN_TYPE
+        MediaTypeNegotiation.preferredProduced(null, []) == null
+    }
+
+    @Unroll
+    void "test preferred type of #accept produced by #produces is #expected"() {
+        expect:
+        MediaTypeNegotiation.preferredProduced(MediaType.orderedOf([accept]), produces) == expected
+        MediaTypeNegotiation.preferredProduced(MediaType.orderedOf([accept]), produces) == expected
+
+        where:
+        accept            | produces                                                          | expected
+        "application/xml" | [MediaType.APPLICATION_JSON_TYPE, MediaType.APPLICATION_XML_TYPE] | MediaType.APPLICATION_XML_TYPE
+        "text/html"       | [MediaType.APPLICATION_JSON_TYPE, MediaType.APPLICATION_XML_TYPE] | MediaType.APPLICATION_JSON_TYPE
+        "text/html"       | []                                                                | null
+    }
+
+    @Unroll
+    void "test cached negotiation of #accept and #produces matches the uncached result"() {
+        given:
+        List<MediaType> accepted = MediaType.orderedOf([accept])
+
+        when:
+        MediaTypeNegotiation.anyProduced(accepted, produces)
+        MediaTypeNegotiation.preferredProduced(accepted, produces)
+
+        then:
+        // the second calls are cache hits, also for a mutable copy of the accepted types
+        MediaTypeNegotiation.anyProduced(accepted, produces) == MediaTypeNegotiation.anyProduced0(accepted, produces)
+        MediaTypeNegotiation.anyProduced(new ArrayList<>(accepted), produces) == MediaTypeNegotiation.anyProduced0(accepted, produces)
+        MediaTypeNegotiation.preferredProduced(accepted, produces) == MediaTypeNegotiation.preferredProduced0(accepted, produces)
+        MediaTypeNegotiation.preferredProduced(new ArrayList<>(accepted), produces) == MediaTypeNegotiation.preferredProduced0(accepted, produces)
+
+        where:
+        accept                                    | produces
+        "application/json"                        | [MediaType.APPLICATION_JSON_TYPE]
+        "text/html, application/xml;q=0.9, */*"   | [MediaType.APPLICATION_JSON_TYPE, MediaType.APPLICATION_XML_TYPE]
+        "application/xml"                         | [MediaType.APPLICATION_JSON_TYPE, MediaType.APPLICATION_XML_TYPE]
+        "text/html"                               | [MediaType.TEXT_PLAIN_TYPE]
+    }
+
+    void "test a stored negotiation is not affected by changes to the accepted types"() {
+        given:
+        List<MediaType> accepted = [MediaType.TEXT_HTML_TYPE]
+        List<MediaType> produces = [MediaType.of("application/vnd.negotiation+json")]
+
+        when:
+        boolean first = MediaTypeNegotiation.anyProduced(accepted, produces)
+        accepted.add(MediaType.of("application/vnd.negotiation+json"))
+
+        then:
+        !first
+        MediaTypeNegotiation.anyProduced(accepted, produces)
+        !MediaTypeNegotiation.anyProduced([MediaType.TEXT_HTML_TYPE], produces)
+    }
+
+    void "test the negotiation caches stay bounded"() {
+        when:
+        List<MediaType> produces = [MediaType.APPLICATION_JSON_TYPE]
+        List<Boolean> results = (1..3000).collect {
+            MediaTypeNegotiation.anyProduced([MediaType.of("application/vnd.bounded$it+json")], produces)
+        }
+
+        then:
+        results.every { !it }
+        MediaTypeNegotiation.PRODUCES_CACHE.size() <= MediaTypeNegotiation.MAX_CACHED_RESULTS
+    }
+}
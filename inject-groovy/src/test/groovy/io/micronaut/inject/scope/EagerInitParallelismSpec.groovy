@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.scope
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.BeanProvider
+import io.micronaut.context.annotation.Context
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.BeanInstantiationException
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+class EagerInitParallelismSpec extends Specification {
+
+    static final Map<Class<?>, AtomicInteger> CREATED = new ConcurrentHashMap<>()
+
+    def setup() {
+        CREATED.clear()
+    }
+
+    void "test eager singletons that depend on each other are created once"() {
+        when:
+        ApplicationContext context = ApplicationContext.builder()
+                .properties('spec.name': 'EagerInitParallelismSpec')
+                .eagerInitParallelism(4)
+                .start()
+
+        then:
+        CREATED.keySet() == [Shared, First, Second, Third, Fourth] as Set
+        CREATED.values().every { it.get() == 1 }
+        context.getBean(Second).first.is(context.getBean(First))
+        context.getBean(Third).fourth.get().third.is(context.getBean(Third))
+        context.@singletonScope.@singletonsInCreationLocks.isEmpty()
+
+        cleanup:
+        context?.close()
+    }
+
+    void "test a failing eager singleton is reported"() {
+        given:
+        ApplicationContext context = ApplicationContext.builder()
+                .properties('spec.name': 'EagerInitParallelismSpec', 'spec.failing': true)
+                .eagerInitParallelism(4)
+                .build()
+
+        when:
+        context.start()
+
+        then:
+        def e = thrown(BeanInstantiationException)
+        e.message.contains(Failing.name)
+        e.message.contains("bad eager bean")
+        CREATED.values().every { it.get() == 1 }
+        context.@singletonScope.@singletonsInCreationLocks.isEmpty()
+
+        cleanup:
+        context?.close()
+    }
+
+    private static void created(Object bean) {
+        CREATED.computeIfAbsent(bean.getClass(), type -> new AtomicInteger()).incrementAndGet()
+        // keep the beans in creation long enough for the others to start concurrently
+        sleep(50)
+    }
+
+    @Requires(property = 'spec.name', value = 'EagerInitParallelismSpec')
+    @Singleton
+    static class Shared {
+        Shared() {
+            created(this)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'EagerInitParallelismSpec')
+    @Context
+    static class First {
+        First(Shared shared) {
+            created(this)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'EagerInitParallelismSpec')
+    @Context
+    static class Second {
+        final First first
+
+        Second(Shared shared, First first) {
+            this.first = first
+            created(this)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'EagerInitParallelismSpec')
+    @Context
+    static class Third {
+        @Inject
+        BeanProvider<Fourth> fourth
+
+        Third(Shared shared) {
+            created(this)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'EagerInitParallelismSpec')
+    @Context
+    static class Fourth {
+        final Third third
+
+        Fourth(Third third) {
+            this.third = third
+            created(this)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'EagerInitParallelismSpec')
+    @Requires(property = 'spec.failing')
+    @Context
+    static class Failing {
+        Failing(Shared shared) {
+            created(this)
+            throw new IllegalStateException("bad eager bean")
+        }
+    }
+}
@@ -263,6 +263,34 @@ public interface ApplicationContextBuilder {
         return this;
     }
 
+    /**
+     * Sets whether the environment should resolve properties from an immutable snapshot of
+     * converted values. This speeds up properties read repeatedly at runtime. Only values of
+     * immutable {@code java.lang} types are kept in the snapshot. The snapshot is replaced when
+     * the environment is refreshed.
+     *
+     * @param propertySnapshot True to enable the snapshot. Default false
+     * @return This application
+     * @since 4.0.0
+     */
+    default @NonNull ApplicationContextBuilder propertySnapshot(boolean propertySnapshot) {
+        return this;
+    }
+
+    /**
+     * Sets the number of threads that initialize the eager beans at startup. With more than one
+     * thread, independent eager beans are created concurrently, which shortens the startup of
+     * applications with slow initializers. The eager beans are no longer created in their
+     * {@link io.micronaut.core.order.Ordered order}, except where one depends on another.
+     *
+     * @param parallelism The number of threads. Default 1
+     * @return This application
+     * @since 4.0.0
+     */
+    default @NonNull ApplicationContextBuilder eagerInitParallelism(int parallelism) {
+        return this;
+    }
+
     /**
      * Starts the {@link ApplicationContext}.
      *
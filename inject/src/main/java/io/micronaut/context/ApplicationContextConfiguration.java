@@ -148,4 +148,15 @@ public interface ApplicationContextConfiguration extends BeanContextConfiguratio
     default Boolean isBootstrapEnvironmentEnabled() {
         return null;
     }
+
+    /**
+     * Whether the environment resolves properties from an immutable, pre-converted snapshot.
+     *
+     * @return True if the property snapshot mode is enabled, false by default
+     * @see io.micronaut.context.env.PropertySourcePropertyResolver#setSnapshotMode(boolean)
+     * @since 4.0.0
+     */
+    default boolean isPropertySnapshotEnabled() {
+        return false;
+    }
 }
@@ -77,4 +77,15 @@ public interface BeanContextConfiguration {
     default Set<Class<? extends Annotation>> getEagerInitAnnotated() {
         return Collections.emptySet();
     }
+
+    /**
+     * The number of threads that initialize the eager beans at startup. With more than one
+     * thread, eager beans whose eager dependencies have been initialized are created concurrently.
+     *
+     * @return The parallelism, {@code 1} to initialize the eager beans one after the other
+     * @since 4.0.0
+     */
+    default int getEagerInitParallelism() {
+        return 1;
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable resolution index that is published copy-on-write once the context is running. Reads
+ * are a single map lookup without locking or LRU bookkeeping. Writes copy the index, which is
+ * fine because the set of types looked up at runtime is small and stable.
+ * <p>
+ * Writes carry the generation observed before the value was computed, so that a value computed
+ * concurrently with {@link #invalidate()} is dropped instead of being published.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 4.0.0
+ */
+@Internal
+final class BeanResolutionIndex<K, V> {
+    private final int maxSize;
+    private volatile Map<K, V> index = Collections.emptyMap();
+    private volatile boolean enabled;
+    private volatile long generation;
+
+    /**
+     * @param maxSize Maximum number of entries, lookups of other keys are not indexed
+     */
+    BeanResolutionIndex(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param key The key
+     * @return The indexed value or {@code null}
+     */
+    @Nullable
+    V get(K key) {
+        return index.get(key);
+    }
+
+    /**
+     * @return The current generation, to be passed to {@link #publish}
+     */
+    long generation() {
+        return generation;
+    }
+
+    /**
+     * Add a value to the index.
+     *
+     * @param key        The key
+     * @param value      The value
+     * @param generation The {@link #generation()} before the value was computed
+     */
+    void publish(K key, V value, long generation) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            Map<K, V> current = index;
+            if (this.generation != generation || current.size() >= maxSize || current.containsKey(key)) {
+                return;
+            }
+            Map<K, V> copy = new HashMap<>(current);
+            copy.put(key, value);
+            index = copy;
+        }
+    }
+
+    /**
+     * Start indexing lookups.
+     */
+    void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stop indexing lookups and drop the index.
+     */
+    synchronized void disable() {
+        enabled = false;
+        invalidate();
+    }
+
+    /**
+     * Drop the index, for example because the bean definitions changed.
+     */
+    synchronized void invalidate() {
+        generation++;
+        index = Collections.emptyMap();
+    }
+}
@@ -68,6 +68,8 @@ public class DefaultApplicationContextBuilder implements ApplicationContextBuild
     private boolean allowEmptyProviders = false;
     private Boolean bootstrapEnvironment = null;
     private boolean enableDefaultPropertySources = true;
+    private boolean propertySnapshot = false;
+    private int eagerInitParallelism = 1;
 
     /**
      * Default constructor.
@@ -133,6 +135,16 @@ public class DefaultApplicationContextBuilder implements ApplicationContextBuild
         return bootstrapEnvironment;
     }
 
+    @Override
+    public boolean isPropertySnapshotEnabled() {
+        return propertySnapshot;
+    }
+
+    @Override
+    public int getEagerInitParallelism() {
+        return eagerInitParallelism;
+    }
+
     @Override
     public Set<Class<? extends Annotation>> getEagerInitAnnotated() {
         return Collections.unmodifiableSet(eagerInitAnnotated);
@@ -310,6 +322,18 @@ public class DefaultApplicationContextBuilder implements ApplicationContextBuild
         return this;
     }
 
+    @Override
+    public @NonNull ApplicationContextBuilder propertySnapshot(boolean propertySnapshot) {
+        this.propertySnapshot = propertySnapshot;
+        return this;
+    }
+
+    @Override
+    public @NonNull ApplicationContextBuilder eagerInitParallelism(int parallelism) {
+        this.eagerInitParallelism = parallelism;
+        return this;
+    }
+
     @Override
     @SuppressWarnings("MagicNumber")
     public @NonNull ApplicationContext build() {
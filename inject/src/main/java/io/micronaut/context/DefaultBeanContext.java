@@ -164,6 +164,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
     private static final String PARALLEL_TYPE = Parallel.class.getName();
     private static final String INDEXES_TYPE = Indexes.class.getName();
     private static final String REPLACES_ANN = Replaces.class.getName();
+    private static final int RESOLUTION_INDEX_MAX_SIZE = 2048;
     private static final Comparator<BeanRegistration<?>> BEAN_REGISTRATION_COMPARATOR = (o1, o2) -> {
         int order1 = OrderUtil.getOrder(o1.getBeanDefinition(), o1.getBean());
         int order2 = OrderUtil.getOrder(o2.getBeanDefinition(), o2.getBean());
@@ -202,6 +203,10 @@ public class DefaultBeanContext implements InitializableBeanContext {
 
     private final Map<Argument, Collection<BeanDefinition>> beanCandidateCache = new ConcurrentLinkedHashMap.Builder<Argument, Collection<BeanDefinition>>().maximumWeightedCapacity(30).build();
 
+    // once running, resolutions are also published to these indexes which are read without locking
+    private final BeanResolutionIndex<BeanCandidateKey, Optional<BeanDefinition>> concreteCandidateIndex = new BeanResolutionIndex<>(RESOLUTION_INDEX_MAX_SIZE);
+    private final BeanResolutionIndex<Argument, Collection<BeanDefinition>> beanCandidateIndex = new BeanResolutionIndex<>(RESOLUTION_INDEX_MAX_SIZE);
+
     private final Map<Class<?>, Collection<BeanDefinitionProducer>> beanIndex = new ConcurrentHashMap<>(12);
 
     private final ClassLoader classLoader;
@@ -228,6 +233,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
     private final String[] eagerInitStereotypes;
     private final boolean eagerInitStereotypesPresent;
     private final boolean eagerInitSingletons;
+    private final int eagerInitParallelism;
 
     private BeanDefinitionValidator beanValidator;
     private List<BeanDefinitionReference> beanDefinitionReferences;
@@ -299,6 +305,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
         this.eagerInitStereotypes = configuredEagerSingletonAnnotations.toArray(new String[0]);
         this.eagerInitStereotypesPresent = !configuredEagerSingletonAnnotations.isEmpty();
         this.eagerInitSingletons = eagerInitStereotypesPresent && (configuredEagerSingletonAnnotations.contains(AnnotationUtil.SINGLETON) || configuredEagerSingletonAnnotations.contains(Singleton.class.getName()));
+        this.eagerInitParallelism = Math.max(1, contextConfiguration.getEagerInitParallelism());
         this.beanContextConfiguration = contextConfiguration;
     }
 
@@ -359,6 +366,8 @@ public class DefaultBeanContext implements InitializableBeanContext {
             }
             running.set(true);
             initializing.set(false);
+            concreteCandidateIndex.enable();
+            beanCandidateIndex.enable();
         }
         return this;
     }
@@ -452,6 +461,8 @@ public class DefaultBeanContext implements InitializableBeanContext {
 
             singlesInCreation.clear();
             singletonBeanRegistrations.clear();
+            concreteCandidateIndex.disable();
+            beanCandidateIndex.disable();
             beanConcreteCandidateCache.clear();
             beanCandidateCache.clear();
             beanProxyTargetCache.clear();
@@ -504,6 +515,8 @@ public class DefaultBeanContext implements InitializableBeanContext {
     @Override
     public <T> void refreshBean(@NonNull BeanRegistration<T> beanRegistration) {
         Objects.requireNonNull(beanRegistration, "BeanRegistration cannot be null");
+        // configuration changed, resolutions may depend on it through bean requirements
+        invalidateResolutionIndexes();
         T bean = beanRegistration.bean;
         if (bean != null) {
             BeanDefinition<T> definition = beanRegistration.definition();
@@ -763,6 +776,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
     }
 
     private <T> void purgeCacheForBeanInstance(T singleton) {
+        invalidateResolutionIndexes();
         beanCandidateCache.entrySet().removeIf(entry -> entry.getKey().isInstance(singleton));
         beanConcreteCandidateCache.entrySet().removeIf(entry -> entry.getKey().beanType.isInstance(singleton));
         singletonBeanRegistrations.entrySet().removeIf(entry -> entry.getKey().beanType.isInstance(singleton));
@@ -1671,6 +1685,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
     }
 
     private <B> void purgeCacheForBeanType(Class<B> beanType) {
+        invalidateResolutionIndexes();
         beanCandidateCache.entrySet().removeIf(entry -> entry.getKey().isAssignableFrom(beanType));
         beanConcreteCandidateCache.entrySet().removeIf(entry -> entry.getKey().beanType.isAssignableFrom(beanType));
         singletonBeanRegistrations.entrySet().removeIf(entry -> entry.getKey().beanType.isAssignableFrom(beanType));
@@ -1864,11 +1879,17 @@ public class DefaultBeanContext implements InitializableBeanContext {
         return Optional.empty();
     }
 
+    private void invalidateResolutionIndexes() {
+        concreteCandidateIndex.invalidate();
+        beanCandidateIndex.invalidate();
+    }
+
     /**
      * Invalidates the bean caches. For testing only.
      */
     @Internal
     protected void invalidateCaches() {
+        invalidateResolutionIndexes();
         beanCandidateCache.clear();
         beanConcreteCandidateCache.clear();
         singletonBeanRegistrations.clear();
@@ -2025,7 +2046,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
             }
             filterReplacedBeans(null, eagerInit);
             OrderUtil.sort(eagerInit);
-            for (BeanDefinition eagerInitDefinition : eagerInit) {
+            new EagerBeanInitializer(eagerInitParallelism, eagerInitDefinition -> {
                 try {
                     initializeEagerBean(eagerInitDefinition);
                 } catch (DisabledBeanException e) {
@@ -2035,7 +2056,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
                 } catch (Throwable e) {
                     throw new BeanInstantiationException("Bean definition [" + eagerInitDefinition.getName() + "] could not be loaded: " + e.getMessage(), e);
                 }
-            }
+            }).initialize(eagerInit);
         }
 
         if (!processedBeans.isEmpty()) {
@@ -3159,7 +3180,12 @@ public class DefaultBeanContext implements InitializableBeanContext {
             return Optional.empty();
         }
         BeanCandidateKey bk = new BeanCandidateKey(beanType, qualifier, throwNonUnique);
-        Optional beanDefinition = beanConcreteCandidateCache.get(bk);
+        Optional beanDefinition = concreteCandidateIndex.get(bk);
+        if (beanDefinition != null) {
+            return beanDefinition;
+        }
+        long generation = concreteCandidateIndex.generation();
+        beanDefinition = beanConcreteCandidateCache.get(bk);
         if (beanDefinition == null) {
             beanDefinition = findConcreteCandidateNoCache(
                     resolutionContext,
@@ -3168,6 +3194,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
                     throwNonUnique);
             beanConcreteCandidateCache.put(bk, beanDefinition);
         }
+        concreteCandidateIndex.publish(bk, beanDefinition, generation);
         return beanDefinition;
     }
 
@@ -3424,11 +3451,17 @@ public class DefaultBeanContext implements InitializableBeanContext {
     @SuppressWarnings("unchecked")
     private <T> Collection<BeanDefinition<T>> findBeanCandidatesInternal(BeanResolutionContext resolutionContext, Argument<T> beanType) {
         @SuppressWarnings("rawtypes")
-        Collection beanDefinitions = beanCandidateCache.get(beanType);
+        Collection beanDefinitions = beanCandidateIndex.get(beanType);
+        if (beanDefinitions != null) {
+            return beanDefinitions;
+        }
+        long generation = beanCandidateIndex.generation();
+        beanDefinitions = beanCandidateCache.get(beanType);
         if (beanDefinitions == null) {
             beanDefinitions = findBeanCandidates(resolutionContext, beanType, true, null);
             beanCandidateCache.put(beanType, beanDefinitions);
         }
+        beanCandidateIndex.publish(beanType, beanDefinitions, generation);
         return beanDefinitions;
     }
 
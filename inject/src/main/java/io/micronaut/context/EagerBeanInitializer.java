@@ -0,0 +1,327 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context;
+
+import io.micronaut.context.exceptions.BeanInstantiationException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.FieldInjectionPoint;
+import io.micronaut.inject.MethodInjectionPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Initializes the eager beans of a context, either one after the other or, with a parallelism
+ * above one, concurrently on a bounded pool. In the concurrent mode the direct dependencies of
+ * each eager bean are derived from its injection points, and a bean is only submitted once the
+ * eager beans it depends on have been initialized, so that independent subtrees are created in
+ * parallel. Dependencies through beans that are not eager are not part of the graph, they are
+ * resolved by the singleton locks instead. Beans caught in a dependency cycle, which can be a
+ * false positive of matching by type, are initialized one after the other at the end.
+ *
+ * <p>With the {@code DEBUG} level enabled for this class, the time taken by each eager bean,
+ * including the dependencies it created, is logged once all beans have been initialized.</p>
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class EagerBeanInitializer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EagerBeanInitializer.class);
+
+    private final int parallelism;
+    private final Consumer<BeanDefinition<Object>> initializer;
+    private final Collection<Timing> timings;
+
+    /**
+     * @param parallelism The number of threads, {@code 1} to initialize the beans on the calling thread
+     * @param initializer Initializes a single bean
+     */
+    EagerBeanInitializer(int parallelism, Consumer<BeanDefinition<Object>> initializer) {
+        this.parallelism = parallelism;
+        this.initializer = initializer;
+        this.timings = LOG.isDebugEnabled() ? new ConcurrentLinkedQueue<>() : null;
+    }
+
+    /**
+     * Initialize the given beans.
+     *
+     * @param definitions The definitions, in the order they should be initialized in if there is no dependency between them
+     */
+    void initialize(List<BeanDefinition<Object>> definitions) {
+        long start = System.nanoTime();
+        if (parallelism > 1 && definitions.size() > 1) {
+            initializeConcurrently(definitions);
+        } else {
+            for (BeanDefinition<Object> definition : definitions) {
+                initialize(definition);
+            }
+        }
+        if (timings != null) {
+            logTimings(System.nanoTime() - start);
+        }
+    }
+
+    private void initialize(BeanDefinition<Object> definition) {
+        if (timings == null) {
+            initializer.accept(definition);
+        } else {
+            long start = System.nanoTime();
+            initializer.accept(definition);
+            timings.add(new Timing(definition, System.nanoTime() - start, Thread.currentThread().getName()));
+        }
+    }
+
+    private void initializeConcurrently(List<BeanDefinition<Object>> definitions) {
+        int n = definitions.size();
+        List<List<Integer>> dependents = new ArrayList<>(n);
+        int[] dependencyCounts = new int[n];
+        for (int i = 0; i < n; i++) {
+            dependents.add(new ArrayList<>(2));
+        }
+        for (int i = 0; i < n; i++) {
+            Set<Class<?>> dependencyTypes = dependencyTypes(definitions.get(i));
+            for (int j = 0; j < n; j++) {
+                if (i != j && dependsOn(dependencyTypes, definitions.get(j))) {
+                    dependents.get(j).add(i);
+                    dependencyCounts[i]++;
+                }
+            }
+        }
+
+        // find the beans that can be ordered, the others are part of or depend on a cycle
+        boolean[] acyclic = new boolean[n];
+        int[] counts = dependencyCounts.clone();
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (counts[i] == 0) {
+                queue[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int i = queue[head++];
+            acyclic[i] = true;
+            for (int dependent : dependents.get(i)) {
+                if (--counts[dependent] == 0) {
+                    queue[tail++] = dependent;
+                }
+            }
+        }
+        int acyclicCount = tail;
+
+        if (acyclicCount > 0) {
+            AtomicInteger[] remaining = new AtomicInteger[n];
+            for (int i = 0; i < n; i++) {
+                remaining[i] = new AtomicInteger(dependencyCounts[i]);
+            }
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, acyclicCount), new EagerInitThreadFactory());
+            try {
+                new Scheduler(definitions, dependents, remaining, acyclicCount, executor).run();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        if (acyclicCount < n) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Initializing {} eager beans with circular dependencies sequentially", n - acyclicCount);
+            }
+            for (int i = 0; i < n; i++) {
+                if (!acyclic[i]) {
+                    initialize(definitions.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * @param definition The bean definition
+     * @return The types of the beans injected into the bean
+     */
+    static Set<Class<?>> dependencyTypes(BeanDefinition<?> definition) {
+        Set<Class<?>> types = new HashSet<>();
+        for (Argument<?> argument : definition.getConstructor().getArguments()) {
+            addDependencyType(types, argument);
+        }
+        for (FieldInjectionPoint<?, ?> field : definition.getInjectedFields()) {
+            addDependencyType(types, field.asArgument());
+        }
+        for (MethodInjectionPoint<?, ?> method : definition.getInjectedMethods()) {
+            for (Argument<?> argument : method.getArguments()) {
+                addDependencyType(types, argument);
+            }
+        }
+        // a bean produced by a factory needs the factory
+        definition.getDeclaringType().ifPresent(types::add);
+        return types;
+    }
+
+    private static void addDependencyType(Set<Class<?>> types, Argument<?> argument) {
+        if (argument.isProvider()) {
+            // resolved lazily
+            return;
+        }
+        Class<?> type;
+        if (argument.isArray()) {
+            type = argument.getType().getComponentType();
+        } else if (argument.isContainerType() || argument.isOptional()) {
+            type = argument.getFirstTypeVariable().<Class<?>>map(Argument::getType).orElse(Object.class);
+        } else {
+            type = argument.getType();
+        }
+        // Object would match every bean
+        if (type != Object.class && !type.isPrimitive()) {
+            types.add(type);
+        }
+    }
+
+    private static boolean dependsOn(Set<Class<?>> dependencyTypes, BeanDefinition<?> candidate) {
+        Class<?> beanType = candidate.getBeanType();
+        for (Class<?> dependencyType : dependencyTypes) {
+            if (dependencyType.isAssignableFrom(beanType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void logTimings(long totalNanos) {
+        List<Timing> sorted = new ArrayList<>(timings);
+        sorted.sort(Comparator.comparingLong(Timing::nanos).reversed());
+        StringBuilder report = new StringBuilder();
+        report.append("Initialized ").append(sorted.size()).append(" eager beans in ")
+            .append(TimeUnit.NANOSECONDS.toMillis(totalNanos)).append("ms");
+        if (parallelism > 1) {
+            report.append(" with a parallelism of ").append(parallelism);
+        }
+        for (Timing timing : sorted) {
+            report.append(System.lineSeparator())
+                .append(String.format("%8.1fms  %s [%s]", timing.nanos() / 1_000_000d, timing.definition().getBeanType().getName(), timing.thread()));
+        }
+        LOG.debug(report.toString());
+    }
+
+    /**
+     * The time taken to initialize a bean.
+     *
+     * @param definition The bean definition
+     * @param nanos      The duration in nanoseconds
+     * @param thread     The thread that initialized the bean
+     */
+    private record Timing(BeanDefinition<?> definition, long nanos, String thread) {
+    }
+
+    /**
+     * Submits each bean once its dependencies have been initialized, and waits until all beans
+     * have been initialized or one of them failed.
+     */
+    private final class Scheduler {
+        private final List<BeanDefinition<Object>> definitions;
+        private final List<List<Integer>> dependents;
+        private final AtomicInteger[] remaining;
+        private final AtomicInteger pending;
+        private final ExecutorService executor;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Scheduler(List<BeanDefinition<Object>> definitions,
+                  List<List<Integer>> dependents,
+                  AtomicInteger[] remaining,
+                  int count,
+                  ExecutorService executor) {
+            this.definitions = definitions;
+            this.dependents = dependents;
+            this.remaining = remaining;
+            this.pending = new AtomicInteger(count);
+            this.executor = executor;
+        }
+
+        void run() {
+            // the definitions are sorted by their order, which makes it the submission order
+            for (int i = 0; i < remaining.length; i++) {
+                if (remaining[i].get() == 0) {
+                    submit(i);
+                }
+            }
+            try {
+                done.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new BeanInstantiationException("Eager bean initialization failed: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        private void submit(int i) {
+            executor.execute(() -> {
+                if (done.isDone()) {
+                    return;
+                }
+                try {
+                    initialize(definitions.get(i));
+                } catch (Throwable e) {
+                    done.completeExceptionally(e);
+                    return;
+                }
+                for (int dependent : dependents.get(i)) {
+                    if (remaining[dependent].decrementAndGet() == 0) {
+                        submit(dependent);
+                    }
+                }
+                if (pending.decrementAndGet() == 0) {
+                    done.complete(null);
+                }
+            });
+        }
+    }
+
+    /**
+     * Creates the threads of the eager initialization pool.
+     */
+    private static final class EagerInitThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+        private final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "eager-init-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+}
@@ -67,22 +67,29 @@ final class SingletonScope {
             return beanRegistration;
         }
         BeanDefinitionIdentity identity = BeanDefinitionIdentity.of(definition);
-        BeanRegistration<T> existingRegistration = singletonByBeanDefinition.get(identity);
-        if (existingRegistration != null) {
-            return existingRegistration;
-        }
-        Object lock = singletonsInCreationLocks.computeIfAbsent(identity, beanDefinitionIdentity -> new Object());
-        synchronized (lock) {
-            try {
-                existingRegistration = singletonByBeanDefinition.get(identity);
-                if (existingRegistration != null) {
-                    return existingRegistration;
+        while (true) {
+            BeanRegistration<T> existingRegistration = singletonByBeanDefinition.get(identity);
+            if (existingRegistration != null) {
+                return existingRegistration;
+            }
+            Object lock = singletonsInCreationLocks.computeIfAbsent(identity, beanDefinitionIdentity -> new Object());
+            synchronized (lock) {
+                if (singletonsInCreationLocks.get(identity) != lock) {
+                    // the creation that held this lock is over, and may have failed: retry with the lock of
+                    // the next attempt so that two threads never create the singleton at the same time
+                    continue;
+                }
+                try {
+                    existingRegistration = singletonByBeanDefinition.get(identity);
+                    if (existingRegistration != null) {
+                        return existingRegistration;
+                    }
+                    BeanRegistration<T> newRegistration = beanContext.createRegistration(resolutionContext, beanType, qualifier, definition, false);
+                    registerSingletonBean(newRegistration, qualifier);
+                    return newRegistration;
+                } finally {
+                    singletonsInCreationLocks.remove(identity, lock);
                 }
-                BeanRegistration<T> newRegistration = beanContext.createRegistration(resolutionContext, beanType, qualifier, definition, false);
-                registerSingletonBean(newRegistration, qualifier);
-                return newRegistration;
-            } finally {
-                singletonsInCreationLocks.remove(identity);
             }
         }
     }
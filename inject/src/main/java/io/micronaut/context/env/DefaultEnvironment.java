@@ -33,6 +33,7 @@ import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.optim.StaticOptimizations;
 import io.micronaut.core.order.OrderUtil;
 import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.BeanConfiguration;
@@ -130,6 +131,7 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
         this.mutableConversionService = (MutableConversionService) conversionService;
         this.configuration = configuration;
         this.resourceLoader = configuration.getResourceLoader();
+        setSnapshotMode(configuration.isPropertySnapshotEnabled());
 
         Set<String> environments = new LinkedHashSet<>(3);
         List<String> specifiedNames = new ArrayList<>(configuration.getEnvironments());
@@ -295,6 +297,19 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
         return this;
     }
 
+    @Override
+    public Environment refresh() {
+        // in snapshot mode, reads keep using the previous snapshot until the sources are read again
+        setSnapshotRetained(true);
+        try {
+            stop();
+            start();
+        } finally {
+            setSnapshotRetained(false);
+        }
+        return this;
+    }
+
     @Override
     public Map<String, Object> refreshAndDiff() {
         Map<String, Object>[] copiedCatalog = copyCatalog();
@@ -312,6 +327,11 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
         return mutableConversionService.canConvert(sourceType, targetType);
     }
 
+    @Override
+    public <S, T> TypeConverter<S, T> createConverterPlan(Class<S> sourceType, Argument<T> targetType) {
+        return mutableConversionService.createConverterPlan(sourceType, targetType);
+    }
+
     @Override
     public <S, T> void addConverter(Class<S> sourceType, Class<T> targetType, TypeConverter<S, T> typeConverter) {
         mutableConversionService.addConverter(sourceType, targetType, typeConverter);
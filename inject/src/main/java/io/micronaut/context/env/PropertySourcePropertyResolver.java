@@ -21,6 +21,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.format.Format;
 import io.micronaut.core.convert.format.MapFormat;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.naming.conventions.StringConvention;
@@ -71,6 +72,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
     private static final Object NO_VALUE = new Object();
     private static final PropertyCatalog[] CONVENTIONS = {PropertyCatalog.GENERATED, PropertyCatalog.RAW};
     private static final String WILD_CARD_SUFFIX = ".*";
+    private static final int MAX_SNAPSHOT_SIZE = 4096;
     protected final ConversionService conversionService;
     protected final PropertyPlaceholderResolver propertyPlaceholderResolver;
     protected final Map<String, PropertySource> propertySources = new ConcurrentHashMap<>(10);
@@ -83,6 +85,12 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
     private final Map<String, Boolean> containsCache = new ConcurrentHashMap<>(20);
     private final Map<String, Object> resolvedValueCache = new ConcurrentHashMap<>(20);
     private final EnvironmentProperties environmentProperties = EnvironmentProperties.fork(CURRENT_ENV);
+    /**
+     * The snapshot of resolved properties, {@code null} if the snapshot mode is disabled.
+     */
+    @Nullable
+    private volatile PropertySnapshot snapshot;
+    private volatile boolean snapshotRetained;
 
     /**
      * Creates a new, initially empty, {@link PropertySourcePropertyResolver} for the given {@link ConversionService}.
@@ -297,14 +305,88 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
         return Collections.emptyMap();
     }
 
+    /**
+     * Enables or disables the snapshot mode. In snapshot mode, the results of
+     * {@link #getProperty(String, ArgumentConversionContext)} are kept in an immutable snapshot
+     * keyed by property name and type, so repeated reads skip placeholder resolution and
+     * conversion. The snapshot is replaced whenever the property sources change, for example on
+     * refresh.
+     * <p>
+     * Only {@code java.lang} types, which are immutable, are kept in the snapshot. Reads with
+     * {@link Format} or {@link MapFormat} metadata and reads that fail to convert are always
+     * resolved again.
+     *
+     * @param enabled Whether to enable the snapshot mode
+     * @since 4.0.0
+     */
+    public void setSnapshotMode(boolean enabled) {
+        this.snapshot = enabled ? new PropertySnapshot() : null;
+    }
+
+    /**
+     * @return Whether the snapshot mode is enabled
+     * @see #setSnapshotMode(boolean)
+     * @since 4.0.0
+     */
+    public boolean isSnapshotMode() {
+        return snapshot != null;
+    }
+
+    /**
+     * Keep serving reads from the current snapshot while the property sources are reloaded. When
+     * the reload completes, the snapshot is replaced by a new one built from the new property
+     * sources.
+     *
+     * @param retained Whether to retain the snapshot
+     * @since 4.0.0
+     */
+    protected void setSnapshotRetained(boolean retained) {
+        this.snapshotRetained = retained;
+        if (!retained && snapshot != null) {
+            snapshot = new PropertySnapshot();
+        }
+    }
+
     @Override
     public <T> Optional<T> getProperty(@NonNull String name, @NonNull ArgumentConversionContext<T> conversionContext) {
+        PropertySnapshot snapshot = this.snapshot;
+        if (snapshot == null || StringUtils.isEmpty(name) || !isSnapshotable(conversionContext)) {
+            return resolveProperty(name, conversionContext);
+        }
+        PropertySnapshot.Slot slot = new PropertySnapshot.Slot(name, conversionContext.getArgument());
+        Optional<T> value = (Optional<T>) snapshot.get(slot);
+        if (value == null) {
+            value = resolveProperty(name, conversionContext);
+            if (!snapshotRetained && !conversionContext.getLastError().isPresent()) {
+                snapshot.publish(slot, value);
+            }
+        }
+        return value;
+    }
+
+    private static boolean isSnapshotable(ArgumentConversionContext<?> conversionContext) {
+        if (!isImmutableJavaLangType(conversionContext.getArgument().getType())) {
+            return false;
+        }
+        AnnotationMetadata annotationMetadata = conversionContext.getAnnotationMetadata();
+        return !annotationMetadata.hasStereotype(Format.class) && !annotationMetadata.hasAnnotation(MapFormat.class);
+    }
+
+    /**
+     * @param type The type
+     * @return Whether the type is a {@code java.lang} type whose values can be shared between callers, which excludes the mutable primitive arrays
+     */
+    private static boolean isImmutableJavaLangType(Class<?> type) {
+        return !type.isArray() && ClassUtils.isJavaLangType(type);
+    }
+
+    private <T> Optional<T> resolveProperty(@NonNull String name, @NonNull ArgumentConversionContext<T> conversionContext) {
         if (StringUtils.isEmpty(name)) {
             return Optional.empty();
         } else {
             Objects.requireNonNull(conversionContext, "Conversion context should not be null");
             Class<T> requiredType = conversionContext.getArgument().getType();
-            boolean cacheableType = ClassUtils.isJavaLangType(requiredType);
+            boolean cacheableType = isImmutableJavaLangType(requiredType);
             Object cached = cacheableType ? resolvedValueCache.get(cacheKey(name, requiredType)) : null;
             if (cached != null) {
                 return cached == NO_VALUE ? Optional.empty() : Optional.of((T) cached);
@@ -739,6 +821,9 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
     protected void resetCaches() {
         containsCache.clear();
         resolvedValueCache.clear();
+        if (snapshot != null && !snapshotRetained) {
+            snapshot = new PropertySnapshot();
+        }
     }
 
     private void processSubmapKey(Map<String, Object> map, String key, Object value, @Nullable StringConvention keyConvention) {
@@ -841,4 +926,45 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
          */
         GENERATED
     }
+
+    /**
+     * Immutable map of resolved properties that is copied on write. The set of properties read
+     * at runtime is small and stable, so after warmup a read is a single lookup without
+     * conversion.
+     */
+    private static final class PropertySnapshot {
+        private volatile Map<Slot, Optional<?>> slots = Collections.emptyMap();
+
+        @Nullable
+        Optional<?> get(Slot slot) {
+            return slots.get(slot);
+        }
+
+        synchronized void publish(Slot slot, Optional<?> value) {
+            Map<Slot, Optional<?>> current = slots;
+            if (current.size() < MAX_SNAPSHOT_SIZE && !current.containsKey(slot)) {
+                Map<Slot, Optional<?>> copy = new HashMap<>(current);
+                copy.put(slot, value);
+                slots = copy;
+            }
+        }
+
+        /**
+         * A property name and the {@code java.lang} type it was requested as.
+         *
+         * @param name The property name
+         * @param type The requested type
+         */
+        private record Slot(String name, Argument<?> type) {
+            @Override
+            public boolean equals(Object o) {
+                return o instanceof Slot other && name.equals(other.name) && type.equalsType(other.type);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * name.hashCode() + type.typeHashCode();
+            }
+        }
+    }
 }
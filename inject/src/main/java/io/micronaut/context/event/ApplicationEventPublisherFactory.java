@@ -23,7 +23,9 @@ import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Indexes;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.order.OrderUtil;
+import io.micronaut.core.value.PropertyResolver;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.ArgumentCoercible;
 import io.micronaut.core.util.SupplierUtil;
@@ -45,6 +47,7 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.function.Supplier;
@@ -61,11 +64,35 @@ public final class ApplicationEventPublisherFactory<T>
         implements InstantiatableBeanDefinition<ApplicationEventPublisher<T>>,
                    BeanDefinitionReference<ApplicationEventPublisher<T>> {
 
+    /**
+     * Whether asynchronous events are dispatched with a task per listener rather than a single
+     * task notifying all listeners.
+     */
+    public static final String PER_LISTENER_DISPATCH = "micronaut.event-publisher.per-listener-dispatch";
+
+    /**
+     * The name of the {@link Executor} bean running the asynchronous listeners, or {@value #VIRTUAL_EXECUTOR}.
+     */
+    public static final String EXECUTOR = "micronaut.event-publisher.executor";
+
+    /**
+     * The number of partitions of a {@link PartitionedApplicationEventListener} with per listener dispatch.
+     */
+    public static final String PARTITIONS = "micronaut.event-publisher.partitions";
+
+    /**
+     * The {@link #EXECUTOR} value that runs each listener invocation on a new virtual thread.
+     */
+    public static final String VIRTUAL_EXECUTOR = "virtual";
+
     private static final Argument<Object> TYPE_VARIABLE = Argument.ofTypeVariable(Object.class, "T");
+    private static final String DEFAULT_EXECUTOR = "scheduled";
+    private static final int DEFAULT_PARTITIONS = 16;
     private final AnnotationMetadata annotationMetadata;
     private ApplicationEventPublisher applicationObjectEventPublisher;
     private final Map<Argument, Supplier<ApplicationEventPublisher>> publishers = new ConcurrentHashMap<>();
     private Supplier<Executor> executorSupplier;
+    private Supplier<PerListenerEventDispatcher> perListenerDispatcher;
 
     public ApplicationEventPublisherFactory() {
         MutableAnnotationMetadata metadata = new MutableAnnotationMetadata();
@@ -137,9 +164,14 @@ public final class ApplicationEventPublisherFactory<T>
     @Override
     public ApplicationEventPublisher<T> instantiate(BeanResolutionContext resolutionContext, BeanContext context) throws BeanInstantiationException {
         if (executorSupplier == null) {
-            executorSupplier = SupplierUtil.memoized(() ->
-                 context.findBean(Executor.class, Qualifiers.byName("scheduled")).orElseGet(ForkJoinPool::commonPool)
-            );
+            executorSupplier = SupplierUtil.memoized(() -> resolveExecutor(context));
+            perListenerDispatcher = SupplierUtil.memoized(() -> {
+                if (!getProperty(context, PER_LISTENER_DISPATCH, Boolean.class, false)) {
+                    return null;
+                }
+                int partitions = getProperty(context, PARTITIONS, Integer.class, DEFAULT_PARTITIONS);
+                return new PerListenerEventDispatcher(executorSupplier.get(), Math.max(1, partitions));
+            });
         }
         Argument<?> eventType = Argument.OBJECT_ARGUMENT;
         final BeanResolutionContext.Segment<?, ?> segment = resolutionContext.getPath().currentSegment().orElse(null);
@@ -195,14 +227,26 @@ public final class ApplicationEventPublisherFactory<T>
 
     private ApplicationEventPublisher<Object> createObjectEventPublisher(BeanContext beanContext) {
         return new ApplicationEventPublisher<Object>() {
+
+            // indexed by class, so that publishing does not need to build an argument for the event type
+            private final Map<Class<?>, ApplicationEventPublisher> byEventClass = new ConcurrentHashMap<>();
+
             @Override
             public void publishEvent(Object event) {
-                getTypedEventPublisher(Argument.of(event.getClass()), beanContext).publishEvent(event);
+                getPublisher(event.getClass()).publishEvent(event);
             }
 
             @Override
             public Future<Void> publishEventAsync(Object event) {
-                return getTypedEventPublisher(Argument.of(event.getClass()), beanContext).publishEventAsync(event);
+                return getPublisher(event.getClass()).publishEventAsync(event);
+            }
+
+            private ApplicationEventPublisher getPublisher(Class<?> eventClass) {
+                ApplicationEventPublisher publisher = byEventClass.get(eventClass);
+                if (publisher == null) {
+                    publisher = byEventClass.computeIfAbsent(eventClass, type -> getTypedEventPublisher(Argument.of(type), beanContext));
+                }
+                return publisher;
             }
         };
     }
@@ -222,6 +266,10 @@ public final class ApplicationEventPublisherFactory<T>
                 return listeners;
             });
 
+            private final Supplier<PerListenerEventDispatcher.ListenerDispatcher[]> lazyDispatchers = SupplierUtil.memoized(() ->
+                perListenerDispatcher.get().getDispatchers(lazyListeners.get())
+            );
+
             @Override
             public void publishEvent(Object event) {
                 if (event != null) {
@@ -235,6 +283,10 @@ public final class ApplicationEventPublisherFactory<T>
             @Override
             public Future<Void> publishEventAsync(Object event) {
                 Objects.requireNonNull(event, "Event cannot be null");
+                PerListenerEventDispatcher dispatcher = perListenerDispatcher.get();
+                if (dispatcher != null) {
+                    return dispatcher.dispatch(event, lazyDispatchers.get());
+                }
                 CompletableFuture<Void> future = new CompletableFuture<>();
                 List<ApplicationEventListener> eventListeners = lazyListeners.get();
                 executorSupplier.get().execute(() -> {
@@ -257,26 +309,100 @@ public final class ApplicationEventPublisherFactory<T>
             }
             for (ApplicationEventListener listener : eventListeners) {
                 if (listener.supports(event)) {
-                    try {
-                        if (EventLogger.LOG.isTraceEnabled()) {
-                            EventLogger.LOG.trace("Invoking event listener [{}] for event: {}", listener, event);
-                        }
-                        listener.onApplicationEvent(event);
-                    } catch (ClassCastException ex) {
-                        String msg = ex.getMessage();
-                        if (msg == null || msg.startsWith(event.getClass().getName())) {
-                            if (EventLogger.LOG.isDebugEnabled()) {
-                                EventLogger.LOG.debug("Incompatible listener for event: " + listener, ex);
-                            }
-                        } else {
-                            throw ex;
-                        }
+                    if (EventLogger.LOG.isTraceEnabled()) {
+                        EventLogger.LOG.trace("Invoking event listener [{}] for event: {}", listener, event);
                     }
+                    invoke(listener, event);
                 }
             }
         }
     }
 
+    /**
+     * Invoke a listener for an event that it supports.
+     *
+     * @param listener The listener
+     * @param event    The event
+     * @return The exception thrown by the listener, if any
+     */
+    @Nullable
+    static Throwable invokeListener(ApplicationEventListener listener, Object event) {
+        if (EventLogger.LOG.isTraceEnabled()) {
+            EventLogger.LOG.trace("Invoking event listener [{}] for event: {}", listener, event);
+        }
+        try {
+            invoke(listener, event);
+            return null;
+        } catch (Throwable e) {
+            return e;
+        }
+    }
+
+    /**
+     * Invoke a batch listener for events that it supports.
+     *
+     * @param listener The listener
+     * @param events   The events
+     * @return The exception thrown by the listener, if any
+     */
+    @Nullable
+    static Throwable invokeBatchListener(BatchApplicationEventListener listener, List<Object> events) {
+        if (EventLogger.LOG.isTraceEnabled()) {
+            EventLogger.LOG.trace("Invoking event listener [{}] for {} events", listener, events.size());
+        }
+        try {
+            listener.onApplicationEvents(events);
+            return null;
+        } catch (ClassCastException ex) {
+            return incompatibleListener(ex, listener, events.get(0));
+        } catch (Throwable e) {
+            return e;
+        }
+    }
+
+    private static void invoke(ApplicationEventListener listener, Object event) {
+        try {
+            listener.onApplicationEvent(event);
+        } catch (ClassCastException ex) {
+            ClassCastException rethrow = incompatibleListener(ex, listener, event);
+            if (rethrow != null) {
+                throw rethrow;
+            }
+        }
+    }
+
+    @Nullable
+    private static ClassCastException incompatibleListener(ClassCastException ex, ApplicationEventListener listener, Object event) {
+        String msg = ex.getMessage();
+        if (msg == null || msg.startsWith(event.getClass().getName())) {
+            if (EventLogger.LOG.isDebugEnabled()) {
+                EventLogger.LOG.debug("Incompatible listener for event: " + listener, ex);
+            }
+            return null;
+        }
+        return ex;
+    }
+
+    private static Executor resolveExecutor(BeanContext context) {
+        String name = getProperty(context, EXECUTOR, String.class, DEFAULT_EXECUTOR);
+        if (VIRTUAL_EXECUTOR.equals(name)) {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                EventLogger.LOG.warn("Virtual threads are not available in this JVM, asynchronous events are published on the [{}] executor instead", DEFAULT_EXECUTOR);
+                name = DEFAULT_EXECUTOR;
+            }
+        }
+        return context.findBean(Executor.class, Qualifiers.byName(name)).orElseGet(ForkJoinPool::commonPool);
+    }
+
+    private static <V> V getProperty(BeanContext context, String name, Class<V> type, V defaultValue) {
+        if (context instanceof PropertyResolver propertyResolver) {
+            return propertyResolver.getProperty(name, type, defaultValue);
+        }
+        return defaultValue;
+    }
+
     private static final class EventLogger {
         private static final Logger LOG = LoggerFactory.getLogger(ApplicationEventPublisher.class);
 
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context.event;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An {@link ApplicationEventListener} that receives events in batches. When the
+ * {@link ApplicationEventPublisher} dispatches asynchronous events per listener
+ * ({@code micronaut.event-publisher.per-listener-dispatch}), the events published while
+ * the listener is busy are delivered together in the next batch, in the order they were published.
+ * Events published synchronously are delivered as a batch of one.
+ *
+ * @param <E> An event
+ * @since 4.0.0
+ */
+public interface BatchApplicationEventListener<E> extends ApplicationEventListener<E> {
+
+    /**
+     * Handle a batch of application events.
+     *
+     * @param events The events to respond to
+     */
+    void onApplicationEvents(@NonNull List<E> events);
+
+    /**
+     * @return The maximum number of events in a batch
+     */
+    default int getMaxBatchSize() {
+        return 100;
+    }
+
+    @Override
+    default void onApplicationEvent(E event) {
+        onApplicationEvents(Collections.singletonList(event));
+    }
+}
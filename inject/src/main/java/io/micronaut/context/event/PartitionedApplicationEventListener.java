@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context.event;
+
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * An {@link ApplicationEventListener} whose events are partitioned by a key. When the
+ * {@link ApplicationEventPublisher} dispatches asynchronous events per listener
+ * ({@code micronaut.event-publisher.per-listener-dispatch}), the events with the same key
+ * are delivered one after the other in the order they were published, while events with different
+ * keys may be delivered concurrently.
+ *
+ * @param <E> An event
+ * @since 4.0.0
+ */
+public interface PartitionedApplicationEventListener<E> extends ApplicationEventListener<E> {
+
+    /**
+     * The key that determines the partition of an event, for example the ID of the aggregate the
+     * event belongs to. Events without a key share a partition.
+     *
+     * @param event The event
+     * @return The partition key
+     */
+    @Nullable
+    Object getPartitionKey(E event);
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context.event;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dispatches asynchronous events with a separate task per listener, so that a slow listener does
+ * not hold up the others. {@link PartitionedApplicationEventListener partitioned} and
+ * {@link BatchApplicationEventListener batch} listeners receive their events through serial
+ * lanes, one per partition, which preserve the publication order.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class PerListenerEventDispatcher {
+
+    /**
+     * The number of events a lane delivers before it yields its thread to other tasks.
+     */
+    private static final int LANE_BUDGET = 64;
+
+    private final Executor executor;
+    private final int partitions;
+    private final Map<ApplicationEventListener<?>, ListenerDispatcher> dispatchers = new ConcurrentHashMap<>();
+
+    /**
+     * @param executor   The executor that runs the listeners
+     * @param partitions The number of partitions of a partitioned listener
+     */
+    PerListenerEventDispatcher(Executor executor, int partitions) {
+        this.executor = executor;
+        this.partitions = partitions;
+    }
+
+    /**
+     * Resolve the dispatchers of the given listeners. A listener has the same dispatcher for all
+     * event types, so that its partitions are shared between them.
+     *
+     * @param listeners The listeners
+     * @return The dispatchers
+     */
+    ListenerDispatcher[] getDispatchers(List<ApplicationEventListener> listeners) {
+        ListenerDispatcher[] result = new ListenerDispatcher[listeners.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dispatchers.computeIfAbsent(listeners.get(i), this::createDispatcher);
+        }
+        return result;
+    }
+
+    /**
+     * Dispatch an event to the listeners that support it.
+     *
+     * @param event       The event
+     * @param dispatchers The dispatchers of the listeners
+     * @return A future completed once every listener has handled the event
+     */
+    @SuppressWarnings("unchecked")
+    Future<Void> dispatch(@NonNull Object event, ListenerDispatcher[] dispatchers) {
+        Delivery delivery = new Delivery();
+        for (ListenerDispatcher dispatcher : dispatchers) {
+            if (dispatcher.listener.supports(event)) {
+                delivery.pending.incrementAndGet();
+                dispatcher.submit(event, delivery);
+            }
+        }
+        // release the hold taken when the delivery was created
+        delivery.done(null);
+        return delivery.future;
+    }
+
+    private ListenerDispatcher createDispatcher(ApplicationEventListener<?> listener) {
+        int lanes;
+        if (listener instanceof PartitionedApplicationEventListener) {
+            lanes = partitions;
+        } else if (listener instanceof BatchApplicationEventListener) {
+            lanes = 1;
+        } else {
+            lanes = 0;
+        }
+        return new ListenerDispatcher(listener, lanes);
+    }
+
+    /**
+     * The delivery of an event to all of its listeners.
+     */
+    private static final class Delivery {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        // starts at one, which is released once all listeners have been submitted to
+        final AtomicInteger pending = new AtomicInteger(1);
+
+        void done(@Nullable Throwable error) {
+            if (error != null) {
+                future.completeExceptionally(error);
+            }
+            if (pending.decrementAndGet() == 0) {
+                future.complete(null);
+            }
+        }
+    }
+
+    /**
+     * An event waiting in a lane.
+     *
+     * @param event    The event
+     * @param delivery The delivery it belongs to
+     */
+    private record QueuedEvent(Object event, Delivery delivery) {
+    }
+
+    /**
+     * Dispatches the events of one listener.
+     */
+    final class ListenerDispatcher {
+        private final ApplicationEventListener listener;
+        private final Lane[] lanes;
+
+        ListenerDispatcher(ApplicationEventListener<?> listener, int lanes) {
+            this.listener = listener;
+            this.lanes = new Lane[lanes];
+            for (int i = 0; i < lanes; i++) {
+                this.lanes[i] = new Lane(listener);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void submit(Object event, Delivery delivery) {
+            if (lanes.length == 0) {
+                executor.execute(() -> delivery.done(ApplicationEventPublisherFactory.invokeListener(listener, event)));
+            } else if (lanes.length == 1) {
+                lanes[0].add(new QueuedEvent(event, delivery));
+            } else {
+                Object key = ((PartitionedApplicationEventListener) listener).getPartitionKey(event);
+                int lane = key == null ? 0 : Math.floorMod(key.hashCode(), lanes.length);
+                lanes[lane].add(new QueuedEvent(event, delivery));
+            }
+        }
+    }
+
+    /**
+     * Delivers its events one after the other, in batches for a {@link BatchApplicationEventListener}.
+     * At most one task per lane is scheduled on the executor at any time.
+     */
+    private final class Lane implements Runnable {
+        private final ApplicationEventListener listener;
+        private final int maxBatchSize;
+        private final Queue<QueuedEvent> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Lane(ApplicationEventListener<?> listener) {
+            this.listener = listener;
+            this.maxBatchSize = listener instanceof BatchApplicationEventListener<?> batchListener
+                ? Math.max(1, batchListener.getMaxBatchSize())
+                : 0;
+        }
+
+        void add(QueuedEvent event) {
+            queue.add(event);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RuntimeException e) {
+                    // the queued events are picked up by the next successful schedule
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (maxBatchSize > 0) {
+                    deliverBatches();
+                } else {
+                    deliver();
+                }
+            } finally {
+                scheduled.set(false);
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void deliver() {
+            QueuedEvent queued;
+            for (int i = 0; i < LANE_BUDGET && (queued = queue.poll()) != null; i++) {
+                queued.delivery().done(ApplicationEventPublisherFactory.invokeListener(listener, queued.event()));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void deliverBatches() {
+            List<QueuedEvent> batch = new ArrayList<>(Math.min(maxBatchSize, LANE_BUDGET));
+            List<Object> events = new ArrayList<>(Math.min(maxBatchSize, LANE_BUDGET));
+            int delivered = 0;
+            QueuedEvent queued;
+            while (delivered < LANE_BUDGET && (queued = queue.poll()) != null) {
+                batch.add(queued);
+                events.add(queued.event());
+                if (batch.size() == maxBatchSize || queue.isEmpty()) {
+                    Throwable error = ApplicationEventPublisherFactory.invokeBatchListener(
+                        (BatchApplicationEventListener) listener,
+                        new ArrayList<>(events)
+                    );
+                    for (QueuedEvent e : batch) {
+                        e.delivery().done(error);
+                    }
+                    delivered += batch.size();
+                    batch.clear();
+                    events.clear();
+                }
+            }
+        }
+    }
+}
@@ -25,6 +25,11 @@ import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanMethod;
 import io.micronaut.core.beans.BeanProperty;
 import io.micronaut.core.beans.UnsafeBeanProperty;
+import io.micronaut.core.convert.ArgumentConversionContext;
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.TypeConverter;
+import io.micronaut.core.convert.exceptions.ConversionErrorException;
 import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.reflect.exception.InstantiationException;
@@ -408,6 +413,11 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements BeanI
 
         private final BeanPropertyRef<P> ref;
         private final Class<?> typeOrWrapperType;
+        /**
+         * Converter plan for the type of the first value passed to {@link #convertAndSet}.
+         */
+        @Nullable
+        private volatile TypeConverter<Object, P> conversionPlan;
 
         private BeanPropertyImpl(BeanPropertyRef<P> ref) {
             this.ref = ref;
@@ -482,6 +492,27 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements BeanI
             dispatchOne(ref.setMethodIndex, bean, value);
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public void convertAndSet(@NonNull B bean, @Nullable Object value) {
+            ArgumentUtils.requireNonNull("bean", bean);
+            if (value == null) {
+                set(bean, null);
+                return;
+            }
+            TypeConverter<Object, P> plan = conversionPlan;
+            if (plan == null) {
+                plan = ConversionService.SHARED.createConverterPlan((Class<Object>) value.getClass(), ref.argument);
+                conversionPlan = plan;
+            }
+            ArgumentConversionContext<P> context = ConversionContext.of(ref.argument);
+            P converted = plan.convert(value, getType(), context).orElseThrow(() ->
+                new ConversionErrorException(ref.argument, context.getLastError()
+                    .orElse(() -> new IllegalArgumentException("Value [" + value + "] cannot be converted to type : " + getType())))
+            );
+            set(bean, converted);
+        }
+
         @Override
         public B withValue(@NonNull B bean, @Nullable P value) {
             ArgumentUtils.requireNonNull("bean", bean);
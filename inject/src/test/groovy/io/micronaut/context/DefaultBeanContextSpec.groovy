@@ -31,6 +31,28 @@ class DefaultBeanContextSpec extends Specification {
             beanContext.close()
     }
 
+    def "test resolution index is invalidated by registerSingleton"() {
+        given:
+            DefaultBeanContext beanContext = new DefaultBeanContext()
+            beanContext.start()
+
+        expect:
+            !beanContext.findBean(Runnable).isPresent()
+            !beanContext.findBean(Runnable).isPresent()
+            beanContext.getBeansOfType(Runnable).isEmpty()
+
+        when:
+            Runnable runnable = () -> {}
+            beanContext.registerSingleton(Runnable, runnable)
+
+        then:
+            beanContext.findBean(Runnable).get().is(runnable)
+            beanContext.getBeansOfType(Runnable) == [runnable]
+
+        cleanup:
+            beanContext.close()
+    }
+
     def "test attributes"() {
         given:
             DefaultBeanContext beanContext = new DefaultBeanContext()
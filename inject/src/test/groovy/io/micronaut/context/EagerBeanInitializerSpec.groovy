@@ -0,0 +1,102 @@
+package io.micronaut.context
+
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.core.type.Argument
+import io.micronaut.inject.BeanDefinition
+import io.micronaut.inject.ConstructorInjectionPoint
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class EagerBeanInitializerSpec extends Specification {
+
+    void "test the dependency types are derived from the injection points"() {
+        expect:
+        EagerBeanInitializer.dependencyTypes(definition(Consumer, Argument.of(Producer), Argument.listOf(Other), Argument.of(int))) == [Producer, Other] as Set
+    }
+
+    void "test independent beans are initialized concurrently and dependencies first"() {
+        given:
+        CountDownLatch bothStarted = new CountDownLatch(2)
+        List<Class> completed = new CopyOnWriteArrayList<>()
+        Map<Class, String> threads = new ConcurrentHashMap<>()
+        def producer = definition(Producer)
+        def other = definition(Other)
+        def consumer = definition(Consumer, Argument.of(Producer))
+        def initializer = new EagerBeanInitializer(4, { BeanDefinition d ->
+            threads[d.beanType] = Thread.currentThread().name
+            if (d.beanType != Consumer) {
+                bothStarted.countDown()
+                // only returns if the other independent bean is initialized at the same time
+                assert bothStarted.await(5, TimeUnit.SECONDS)
+            }
+            completed << d.beanType
+        })
+
+        when:
+        initializer.initialize([consumer, producer, other])
+
+        then:
+        completed.size() == 3
+        completed.indexOf(Producer) < completed.indexOf(Consumer)
+        threads.values().every { it.startsWith("eager-init-") }
+    }
+
+    void "test beans in a cycle are initialized sequentially"() {
+        given:
+        List<Class> completed = new CopyOnWriteArrayList<>()
+        def first = definition(Producer, Argument.of(Consumer))
+        def second = definition(Consumer, Argument.of(Producer))
+        def independent = definition(Other)
+
+        when:
+        new EagerBeanInitializer(4, { BeanDefinition d -> completed << d.beanType }).initialize([first, second, independent])
+
+        then:
+        completed == [Other, Producer, Consumer]
+    }
+
+    void "test a failure stops the initialization"() {
+        given:
+        List<Class> completed = new CopyOnWriteArrayList<>()
+        def producer = definition(Producer)
+        def consumer = definition(Consumer, Argument.of(Producer))
+
+        when:
+        new EagerBeanInitializer(4, { BeanDefinition d ->
+            if (d.beanType == Producer) {
+                throw new BeanInstantiationException("bad producer")
+            }
+            completed << d.beanType
+        }).initialize([producer, consumer])
+
+        then:
+        def e = thrown(BeanInstantiationException)
+        e.message == "bad producer"
+        completed.isEmpty()
+    }
+
+    private BeanDefinition<Object> definition(Class type, Argument... constructorArguments) {
+        BeanDefinition<Object> definition = Stub()
+        definition.getBeanType() >> type
+        definition.getConstructor() >> Stub(ConstructorInjectionPoint) {
+            getArguments() >> constructorArguments
+        }
+        definition.getInjectedFields() >> []
+        definition.getInjectedMethods() >> []
+        definition.getDeclaringType() >> Optional.empty()
+        return definition
+    }
+
+    static class Producer {
+    }
+
+    static class Consumer {
+    }
+
+    static class Other {
+    }
+}
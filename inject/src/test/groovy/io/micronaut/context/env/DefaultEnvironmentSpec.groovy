@@ -80,6 +80,44 @@ class DefaultEnvironmentSpec extends Specification {
         env.getProperty("test.foo.bar", Integer, 20) == 30
     }
 
+    void "test environment property snapshot is swapped on refresh"() {
+        when:
+        System.setProperty("test.snapshot.bar", "10")
+        Environment env = new DefaultEnvironment(new ApplicationContextConfiguration() {
+            @Override
+            List<String> getEnvironments() {
+                return ["test"]
+            }
+
+            @Override
+            boolean isPropertySnapshotEnabled() {
+                return true
+            }
+        }).start()
+
+        then:
+        env.isSnapshotMode()
+        env.getProperty("test.snapshot.bar", Integer).get() == 10
+        env.getProperty("test.snapshot.bar", String).get() == "10"
+        env.getProperty("test.snapshot.bar", Integer).get() == 10
+
+        when:
+        System.setProperty("test.snapshot.bar", "30")
+
+        then:
+        env.getProperty("test.snapshot.bar", Integer).get() == 10
+
+        when:
+        env = env.refresh()
+
+        then:
+        env.getProperty("test.snapshot.bar", Integer).get() == 30
+        env.getProperty("test.snapshot.bar", String).get() == "30"
+
+        cleanup:
+        System.clearProperty("test.snapshot.bar")
+    }
+
     void "test getting environments from a system property"() {
         when:
         System.setProperty(Environment.ENVIRONMENTS_PROPERTY, "foo ,x")
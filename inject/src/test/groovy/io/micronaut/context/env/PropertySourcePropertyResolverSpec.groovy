@@ -19,6 +19,8 @@ import com.github.stefanbirkner.systemlambda.SystemLambda
 import io.micronaut.context.ApplicationContext
 import io.micronaut.context.exceptions.ConfigurationException
 import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.convert.ArgumentConversionContext
+import io.micronaut.core.convert.ConversionContext
 import io.micronaut.core.convert.ConversionService
 import io.micronaut.core.convert.format.MapFormat
 import io.micronaut.core.naming.conventions.StringConvention
@@ -744,4 +746,51 @@ class PropertySourcePropertyResolverSpec extends Specification {
 
     interface PropertyExpressionResolverAutoCloseable extends PropertyExpressionResolver, AutoCloseable {
     }
+
+    void "test snapshot mode only keeps immutable values that converted"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("test", ['foo.num': 'abc', 'foo.map.a': '1', 'foo.str': 'x'])
+        )
+        resolver.setSnapshotMode(true)
+
+        when:
+        ArgumentConversionContext<Integer> context = ConversionContext.of(Integer)
+
+        then:
+        !resolver.getProperty('foo.num', context).isPresent()
+        context.lastError.isPresent()
+        !resolver.getProperty('foo.num', Integer).isPresent()
+
+        and:
+        resolver.getProperty('foo.str', String).get() == 'x'
+        resolver.getProperty('foo.str', String).get() == 'x'
+
+        when:
+        Map map = resolver.getProperty('foo.map', Map).get()
+        map.put('b', '2')
+
+        then:
+        !resolver.getProperty('foo.map', Map).get().containsKey('b')
+        !resolver.getProperty('foo.map', Map).get().is(map)
+    }
+
+    void "test arrays returned in snapshot mode are not shared"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("test", ['foo.ints': '1,2,3', 'foo.bytes': 'abc'])
+        )
+        resolver.setSnapshotMode(true)
+
+        when:
+        int[] ints = resolver.getProperty('foo.ints', int[]).get()
+        ints[0] = 42
+        byte[] bytes = resolver.getProperty('foo.bytes', byte[]).get()
+        bytes[0] = (byte) 'z'
+
+        then:
+        resolver.getProperty('foo.ints', int[]).get() == [1, 2, 3] as int[]
+        !resolver.getProperty('foo.ints', int[]).get().is(ints)
+        resolver.getProperty('foo.bytes', byte[]).get() == 'abc'.bytes
+    }
 }
@@ -0,0 +1,133 @@
+package io.micronaut.context.event
+
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class PerListenerEventDispatcherSpec extends Specification {
+
+    ExecutorService executor = Executors.newFixedThreadPool(4)
+
+    void cleanup() {
+        executor.shutdownNow()
+    }
+
+    void "test a slow listener does not hold up the others"() {
+        given:
+        CountDownLatch release = new CountDownLatch(1)
+        List<String> fast = new CopyOnWriteArrayList<>()
+        ApplicationEventListener<String> slowListener = { String event -> release.await() } as ApplicationEventListener<String>
+        ApplicationEventListener<String> fastListener = { String event -> fast.add(event) } as ApplicationEventListener<String>
+        def dispatcher = new PerListenerEventDispatcher(executor, 4)
+        def dispatchers = dispatcher.getDispatchers([slowListener, fastListener])
+
+        when:
+        def future = dispatcher.dispatch("one", dispatchers)
+        waitFor { fast == ["one"] }
+
+        then:
+        !future.done
+
+        when:
+        release.countDown()
+        future.get(5, TimeUnit.SECONDS)
+
+        then:
+        future.done
+    }
+
+    void "test events with the same partition key are delivered in order"() {
+        given:
+        Map<String, List<Integer>> received = [a: new CopyOnWriteArrayList<>(), b: new CopyOnWriteArrayList<>()]
+        def listener = new PartitionedApplicationEventListener<List>() {
+            @Override
+            Object getPartitionKey(List event) {
+                return event[0]
+            }
+
+            @Override
+            void onApplicationEvent(List event) {
+                Thread.sleep(1)
+                received[event[0]].add(event[1] as Integer)
+            }
+        }
+        def dispatcher = new PerListenerEventDispatcher(executor, 4)
+        def dispatchers = dispatcher.getDispatchers([listener])
+
+        when:
+        def futures = (0..<50).collectMany { i -> [dispatcher.dispatch(["a", i], dispatchers), dispatcher.dispatch(["b", i], dispatchers)] }
+        futures*.get(5, TimeUnit.SECONDS)
+
+        then:
+        received.a == (0..<50).toList()
+        received.b == (0..<50).toList()
+    }
+
+    void "test batch listeners receive the events published while they are busy"() {
+        given:
+        CountDownLatch release = new CountDownLatch(1)
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>()
+        def listener = new BatchApplicationEventListener<Integer>() {
+            @Override
+            void onApplicationEvents(List<Integer> events) {
+                release.await()
+                batches.add(events)
+            }
+
+            @Override
+            int getMaxBatchSize() {
+                return 3
+            }
+        }
+        def dispatcher = new PerListenerEventDispatcher(executor, 4)
+        def dispatchers = dispatcher.getDispatchers([listener])
+
+        when:
+        def first = dispatcher.dispatch(0, dispatchers)
+        Thread.sleep(50)
+        def rest = (1..5).collect { dispatcher.dispatch(it, dispatchers) }
+        release.countDown()
+        ([first] + rest)*.get(5, TimeUnit.SECONDS)
+
+        then:
+        batches == [[0], [1, 2, 3], [4, 5]]
+    }
+
+    void "test the future fails when a listener fails"() {
+        given:
+        ApplicationEventListener<String> failing = { String event -> throw new IllegalStateException("bad") } as ApplicationEventListener<String>
+        ApplicationEventListener<String> unsupported = new ApplicationEventListener<String>() {
+            @Override
+            void onApplicationEvent(String event) {
+                throw new AssertionError("not supported")
+            }
+
+            @Override
+            boolean supports(String event) {
+                return false
+            }
+        }
+        def dispatcher = new PerListenerEventDispatcher(executor, 4)
+
+        when:
+        dispatcher.dispatch("one", dispatcher.getDispatchers([failing, unsupported])).get(5, TimeUnit.SECONDS)
+
+        then:
+        def e = thrown(java.util.concurrent.ExecutionException)
+        e.cause instanceof IllegalStateException
+
+        expect:
+        dispatcher.dispatch("one", dispatcher.getDispatchers([unsupported])).done
+    }
+
+    private static void waitFor(Closure<Boolean> condition) {
+        long deadline = System.currentTimeMillis() + 5000
+        while (!condition() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5)
+        }
+    }
+}
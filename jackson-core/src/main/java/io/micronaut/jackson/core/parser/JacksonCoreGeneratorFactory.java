@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jackson.core.parser;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.type.Argument;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Helper class for implementing
+ * {@link io.micronaut.json.JsonMapper#writeValue(ByteBuffer, Argument, Object)} with
+ * optimizations for netty ByteBufs.
+ *
+ * @since 4.0.0
+ */
+@Internal
+public final class JacksonCoreGeneratorFactory {
+    private static final boolean HAS_NETTY_BUFFER;
+
+    private JacksonCoreGeneratorFactory() {
+    }
+
+    static {
+        boolean hasNettyBuffer;
+        try {
+            Class.forName("io.netty.buffer.ByteBuf", false, null);
+            hasNettyBuffer = true;
+        } catch (ClassNotFoundException e) {
+            hasNettyBuffer = false;
+        }
+        HAS_NETTY_BUFFER = hasNettyBuffer;
+    }
+
+    /**
+     * Create a jackson {@link JsonGenerator} that writes to the given buffer. Netty buffers are
+     * written through a {@link ByteBufOutputStream}, which appends the encoded bytes to the
+     * buffer memory as the generator flushes them, growing the buffer as needed.
+     *
+     * @param factory The jackson {@link JsonFactory} for generator features
+     * @param buffer  The buffer to write to
+     * @return The created generator
+     * @throws IOException On failure of jackson createGenerator methods
+     */
+    public static JsonGenerator createJsonGenerator(JsonFactory factory, ByteBuffer<?> buffer) throws IOException {
+        if (!HAS_NETTY_BUFFER || !(buffer.asNativeBuffer() instanceof ByteBuf byteBuf)) {
+            return factory.createGenerator(buffer.toOutputStream(), JsonEncoding.UTF8);
+        }
+        return factory.createGenerator((OutputStream) new ByteBufOutputStream(byteBuf), JsonEncoding.UTF8);
+    }
+}
@@ -16,6 +16,7 @@
 package io.micronaut.jackson.databind;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -33,6 +34,7 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.jackson.JacksonConfiguration;
 import io.micronaut.jackson.ObjectMapperFactory;
 import io.micronaut.jackson.codec.JacksonFeatures;
+import io.micronaut.jackson.core.parser.JacksonCoreGeneratorFactory;
 import io.micronaut.jackson.core.parser.JacksonCoreParserFactory;
 import io.micronaut.jackson.core.parser.JacksonCoreProcessor;
 import io.micronaut.jackson.core.tree.JsonNodeTreeCodec;
@@ -150,6 +152,15 @@ public final class JacksonDatabindMapper implements JsonMapper {
         writeValue(outputStream, object);
     }
 
+    @Override
+    public <T> void writeValue(@NonNull ByteBuffer<?> byteBuffer, @NonNull Argument<T> type, T object) throws IOException {
+        try (JsonGenerator generator = JacksonCoreGeneratorFactory.createJsonGenerator(objectMapper.getFactory(), byteBuffer)) {
+            // apply the serialization features, as ObjectMapper.createGenerator does
+            objectMapper.getSerializationConfig().initialize(generator);
+            objectMapper.writeValue(generator, object);
+        }
+    }
+
     @Override
     public byte[] writeValueAsBytes(@Nullable Object object) throws IOException {
         return objectMapper.writeValueAsBytes(object);
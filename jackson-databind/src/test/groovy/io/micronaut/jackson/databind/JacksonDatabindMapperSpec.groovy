@@ -1,17 +1,27 @@
 package io.micronaut.jackson.databind
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder
 import com.fasterxml.jackson.core.JsonParser
 import com.fasterxml.jackson.core.JsonProcessingException
 import com.fasterxml.jackson.databind.DeserializationContext
 import com.fasterxml.jackson.databind.JsonDeserializer
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.databind.module.SimpleModule
+import groovy.transform.EqualsAndHashCode
+import io.micronaut.buffer.netty.NettyByteBufferFactory
 import io.micronaut.context.ApplicationContext
+import io.micronaut.core.io.buffer.ByteBuffer
 import io.micronaut.core.type.Argument
 import io.micronaut.json.JsonMapper
+import io.micronaut.json.codec.JsonMediaTypeCodec
 import io.micronaut.json.tree.JsonNode
+import io.micronaut.runtime.ApplicationConfiguration
+import io.netty.buffer.ByteBuf
+import io.netty.buffer.UnpooledByteBufAllocator
 import spock.lang.Specification
 
+import java.nio.charset.StandardCharsets
+
 class JacksonDatabindMapperSpec extends Specification {
     def 'parsing to JsonNode'() {
         given:
@@ -45,6 +55,61 @@ class JacksonDatabindMapperSpec extends Specification {
         testBean.value == BigInteger.valueOf(42)
     }
 
+    def 'values round trip through #description netty buffers without copying'() {
+        given:
+        def jsonMapper = new JacksonDatabindMapper(new ObjectMapper())
+        def codec = new JsonMediaTypeCodec(jsonMapper, new ApplicationConfiguration(), null)
+        def factory = new NettyByteBufferFactory(allocator)
+        def book = new Book(title: 'The Stand', pages: 1153)
+
+        when:
+        ByteBuffer<ByteBuf> buffer = codec.encode(Argument.of(Book), book, factory)
+        ByteBuf byteBuf = buffer.asNativeBuffer()
+
+        then:
+        byteBuf.isDirect() == direct
+        byteBuf.toString(StandardCharsets.UTF_8) == '{"title":"The Stand","pages":1153}'
+        codec.decode(Argument.of(Book), buffer) == book
+
+        when:
+        ByteBuf target = direct ? allocator.directBuffer(4) : allocator.heapBuffer(4)
+        jsonMapper.writeValue(factory.wrap(target), Argument.of(Book), book)
+
+        then: 'the mapper appends to the given buffer, growing it as needed'
+        target.toString(StandardCharsets.UTF_8) == '{"title":"The Stand","pages":1153}'
+        jsonMapper.readValue(factory.wrap(target), Argument.of(Book)) == book
+
+        cleanup:
+        byteBuf?.release()
+        target?.release()
+
+        where:
+        description | allocator                          | direct
+        'heap'      | new UnpooledByteBufAllocator(false) | false
+        'direct'    | new UnpooledByteBufAllocator(true)  | true
+    }
+
+    def 'untyped encoding into a netty buffer uses the runtime type'() {
+        given:
+        def codec = new JsonMediaTypeCodec(new JacksonDatabindMapper(new ObjectMapper()), new ApplicationConfiguration(), null)
+
+        when:
+        ByteBuffer<ByteBuf> buffer = codec.encode((Object) new Book(title: 'It', pages: 1138), NettyByteBufferFactory.DEFAULT)
+
+        then:
+        buffer.toString(StandardCharsets.UTF_8) == '{"title":"It","pages":1138}'
+
+        cleanup:
+        buffer.asNativeBuffer().release()
+    }
+
+    @EqualsAndHashCode
+    @JsonPropertyOrder(['title', 'pages'])
+    static class Book {
+        String title
+        int pages
+    }
+
     private static class TestBean {
         BigInteger value
     }
@@ -169,6 +169,21 @@ public interface JsonMapper {
      */
     <T> void writeValue(@NonNull OutputStream outputStream, @NonNull Argument<T> type, @Nullable T object) throws IOException;
 
+    /**
+     * Write an object as json into the given byte buffer. Implementations can override this to
+     * encode directly into the buffer memory.
+     *
+     * @param byteBuffer The buffer to write to.
+     * @param type       The object type
+     * @param object     The object to serialize.
+     * @param <T>  The generic type
+     * @throws IOException IOException
+     * @since 4.0.0
+     */
+    default <T> void writeValue(@NonNull ByteBuffer<?> byteBuffer, @NonNull Argument<T> type, @Nullable T object) throws IOException {
+        writeValue(byteBuffer.toOutputStream(), type, object);
+    }
+
     /**
      * Write an object as json.
      *
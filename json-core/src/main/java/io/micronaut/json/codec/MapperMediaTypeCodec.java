@@ -174,7 +174,7 @@ public abstract class MapperMediaTypeCodec implements MediaTypeCodec {
             if (CharSequence.class.isAssignableFrom(type.getType())) {
                 return (T) buffer.toString(applicationConfiguration.getDefaultCharset());
             } else {
-                return getJsonMapper().readValue(buffer.toByteArray(), type);
+                return getJsonMapper().readValue(buffer, type);
             }
         } catch (IOException e) {
             throw new CodecException("Error decoding stream for type [" + type.getType() + "]: " + e.getMessage(), e);
@@ -248,6 +248,7 @@ public abstract class MapperMediaTypeCodec implements MediaTypeCodec {
         }
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T, B> ByteBuffer<B> encode(T object, ByteBufferFactory<?, B> allocator) throws CodecException {
         if (object instanceof byte[]) {
@@ -255,8 +256,14 @@ public abstract class MapperMediaTypeCodec implements MediaTypeCodec {
         }
         ByteBuffer<B> buffer = allocator.buffer();
         try {
-            OutputStream outputStream = buffer.toOutputStream();
-            encode(object, outputStream);
+            // the runtime type, as the untyped encode methods serialize with
+            Argument<T> type = object == null ? (Argument<T>) Argument.OBJECT_ARGUMENT : (Argument<T>) Argument.of(object.getClass());
+            getJsonMapper().writeValue(buffer, type, object);
+        } catch (IOException e) {
+            if (buffer instanceof ReferenceCounted) {
+                ((ReferenceCounted) buffer).release();
+            }
+            throw new CodecException("Error encoding object [" + object + "] to JSON: " + e.getMessage(), e);
         } catch (Throwable t) {
             if (buffer instanceof ReferenceCounted) {
                 ((ReferenceCounted) buffer).release();
@@ -273,9 +280,13 @@ public abstract class MapperMediaTypeCodec implements MediaTypeCodec {
         }
         ByteBuffer<B> buffer = allocator.buffer();
         try {
-            OutputStream outputStream = buffer.toOutputStream();
-            encode(type, object, outputStream);
+            getJsonMapper().writeValue(buffer, type, object);
             return buffer;
+        } catch (IOException e) {
+            if (buffer instanceof ReferenceCounted) {
+                ((ReferenceCounted) buffer).release();
+            }
+            throw new CodecException("Error encoding object [" + object + "] to JSON: " + e.getMessage(), e);
         } catch (Throwable t) {
             if (buffer instanceof ReferenceCounted) {
                 ((ReferenceCounted) buffer).release();
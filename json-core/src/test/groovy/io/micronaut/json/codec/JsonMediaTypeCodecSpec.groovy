@@ -16,7 +16,12 @@
 package io.micronaut.json.codec
 
 import io.micronaut.context.ApplicationContext
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.core.io.buffer.ByteBufferFactory
+import io.micronaut.core.type.Argument
 import io.micronaut.http.MediaType
+import io.micronaut.json.JsonMapper
+import io.micronaut.runtime.ApplicationConfiguration
 import spock.lang.Specification
 
 class JsonMediaTypeCodecSpec extends Specification {
@@ -38,4 +43,19 @@ class JsonMediaTypeCodecSpec extends Specification {
         cleanup:
         ctx.close()
     }
+
+    void "test untyped encoding into a buffer passes the runtime type to the mapper"() {
+        given:
+        JsonMapper mapper = Mock(JsonMapper)
+        ByteBuffer buffer = Mock(ByteBuffer)
+        ByteBufferFactory allocator = Mock(ByteBufferFactory)
+        JsonMediaTypeCodec codec = new JsonMediaTypeCodec(mapper, new ApplicationConfiguration(), null)
+
+        when:
+        codec.encode((Object) [foo: 'bar'], allocator)
+
+        then:
+        1 * allocator.buffer() >> buffer
+        1 * mapper.writeValue(buffer, Argument.of(LinkedHashMap), [foo: 'bar'])
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.management.endpoint.circuitbreakers;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import io.micronaut.retry.CircuitBreakerStatus;
+import io.micronaut.retry.intercept.DefaultRetryInterceptor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>Exposes an {@link Endpoint} to display the state and the sliding window statistics of the circuit breakers of
+ * the methods annotated with {@link io.micronaut.retry.annotation.CircuitBreaker}. A circuit breaker is listed once
+ * its method has been invoked.</p>
+ *
+ * @since 4.0.0
+ */
+@Endpoint("circuitbreakers")
+@Requires(classes = DefaultRetryInterceptor.class)
+public class CircuitBreakersEndpoint {
+
+    private final DefaultRetryInterceptor retryInterceptor;
+
+    /**
+     * @param retryInterceptor The retry interceptor that maintains the circuit breakers
+     */
+    public CircuitBreakersEndpoint(DefaultRetryInterceptor retryInterceptor) {
+        this.retryInterceptor = retryInterceptor;
+    }
+
+    /**
+     * @return The circuit breakers by method
+     */
+    @Read
+    public Map<String, Map<String, Object>> getCircuitBreakers() {
+        Map<String, Map<String, Object>> circuitBreakers = new TreeMap<>();
+        retryInterceptor.getCircuitBreakers().forEach((method, status) ->
+            circuitBreakers.put(method.getDeclaringType().getName() + " " + method.getDescription(true), toMap(status))
+        );
+        return circuitBreakers;
+    }
+
+    private static Map<String, Object> toMap(CircuitBreakerStatus status) {
+        Map<String, Object> data = new LinkedHashMap<>(8);
+        data.put("state", status.getState().name());
+        data.put("calls", status.getNumberOfCalls());
+        data.put("failedCalls", status.getNumberOfFailedCalls());
+        data.put("slowCalls", status.getNumberOfSlowCalls());
+        data.put("failureRate", status.getFailureRate());
+        data.put("slowCallRate", status.getSlowCallRate());
+        return data;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.management.endpoint.httpclient;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.client.ConnectionPoolListener;
+import io.micronaut.http.client.ConnectionPoolMetrics;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Exposes an {@link Endpoint} to display the connection pools of the HTTP clients. The pools
+ * are discovered through the {@link ConnectionPoolListener} callbacks.</p>
+ *
+ * @since 4.0.0
+ */
+@Endpoint(ConnectionPoolsEndpoint.NAME)
+@Requires(classes = ConnectionPoolListener.class)
+public class ConnectionPoolsEndpoint implements ConnectionPoolListener {
+
+    /**
+     * Endpoint name.
+     */
+    public static final String NAME = "httpclientpools";
+
+    private final Set<ConnectionPoolMetrics> pools = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void onPoolCreated(ConnectionPoolMetrics pool) {
+        pools.add(pool);
+    }
+
+    @Override
+    public void onPoolClosed(ConnectionPoolMetrics pool) {
+        pools.remove(pool);
+    }
+
+    /**
+     * @return The state of the connection pools
+     */
+    @Read
+    public List<Map<String, Object>> getPools() {
+        List<Map<String, Object>> result = new ArrayList<>(pools.size());
+        for (ConnectionPoolMetrics pool : pools) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            if (pool.getClientId() != null) {
+                map.put("clientId", pool.getClientId());
+            }
+            map.put("host", pool.getHost());
+            map.put("port", pool.getPort());
+            map.put("secure", pool.isSecure());
+            map.put("pendingAcquires", pool.getPendingAcquires());
+            map.put("pendingConnections", pool.getPendingConnections());
+            map.put("http1Connections", pool.getHttp1Connections());
+            map.put("http1ActiveConnections", pool.getHttp1ActiveConnections());
+            map.put("http2Connections", pool.getHttp2Connections());
+            map.put("http2ActiveStreams", pool.getHttp2ActiveStreams());
+            map.put("connectionLimit", pool.getConnectionLimit());
+            map.put("acquireCount", pool.getAcquireCount());
+            map.put("acquireFailureCount", pool.getAcquireFailureCount());
+            map.put("acquireLatencyP50Millis", pool.getAcquireLatency(0.5).toMillis());
+            map.put("acquireLatencyP99Millis", pool.getAcquireLatency(0.99).toMillis());
+            map.put("connectionsOpened", pool.getConnectionsOpened());
+            map.put("connectionsClosed", pool.getConnectionsClosed());
+            map.put("connectionFailures", pool.getConnectionFailures());
+            result.add(map);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.management.endpoint.routes;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.server.RouteDispatchStatistics;
+import io.micronaut.http.server.RouteExecutor;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Exposes an {@link Endpoint} to display the dispatch statistics of the routes that are
+ * offloaded from the event loop, as reported by {@link RouteExecutor#getDispatchStatistics()}.</p>
+ *
+ * @since 4.0.0
+ */
+@Endpoint(RouteDispatchEndpoint.NAME)
+@Requires(classes = RouteExecutor.class)
+@Requires(beans = RouteExecutor.class)
+public class RouteDispatchEndpoint {
+
+    /**
+     * Endpoint name.
+     */
+    public static final String NAME = "routedispatch";
+
+    private final RouteExecutor routeExecutor;
+
+    /**
+     * @param routeExecutor The {@link RouteExecutor}
+     */
+    public RouteDispatchEndpoint(RouteExecutor routeExecutor) {
+        this.routeExecutor = routeExecutor;
+    }
+
+    /**
+     * @return The dispatch statistics of each offloaded route, sorted by route
+     */
+    @Read
+    public List<Map<String, Object>> getStatistics() {
+        Collection<RouteDispatchStatistics> statistics = routeExecutor.getDispatchStatistics();
+        List<Map<String, Object>> result = new ArrayList<>(statistics.size());
+        statistics.stream()
+            .sorted(Comparator.comparing(RouteDispatchStatistics::getRoute))
+            .forEach(s -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                map.put("route", s.getRoute());
+                map.put("queueDepth", s.getQueueDepth());
+                map.put("dispatched", s.getDispatched());
+                map.put("rejected", s.getRejected());
+                map.put("totalWaitMillis", s.getTotalWaitTime().toMillis());
+                map.put("maxWaitMillis", s.getMaxWaitTime().toMillis());
+                result.add(map);
+            });
+        return result;
+    }
+}
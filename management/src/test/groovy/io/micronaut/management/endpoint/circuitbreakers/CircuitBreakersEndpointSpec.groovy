@@ -0,0 +1,48 @@
+package io.micronaut.management.endpoint.circuitbreakers
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.HttpClient
+import io.micronaut.retry.annotation.CircuitBreaker
+import io.micronaut.runtime.server.EmbeddedServer
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+class CircuitBreakersEndpointSpec extends Specification {
+
+    void "test circuit breakers endpoint"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['spec.name': getClass().simpleName, 'endpoints.circuitbreakers.sensitive': false], "test")
+        HttpClient client = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.getURL())
+        GuardedService service = embeddedServer.applicationContext.getBean(GuardedService)
+
+        when:
+        service.hello()
+        def response = client.toBlocking().exchange(HttpRequest.GET("/circuitbreakers"), Map)
+        Map result = response.body()
+
+        then:
+        response.code() == HttpStatus.OK.code
+        result.size() == 1
+        def circuitBreaker = result.values().first()
+        circuitBreaker.state == "CLOSED"
+        circuitBreaker.calls == 1
+        circuitBreaker.failedCalls == 0
+
+        cleanup:
+        client.close()
+        embeddedServer?.close()
+    }
+
+    @Singleton
+    @Requires(property = "spec.name", value = "CircuitBreakersEndpointSpec")
+    static class GuardedService {
+
+        @CircuitBreaker(failureRateThreshold = "50")
+        String hello() {
+            "hello"
+        }
+    }
+}
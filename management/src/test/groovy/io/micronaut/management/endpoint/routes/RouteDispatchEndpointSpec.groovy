@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.management.endpoint.routes
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.annotation.ExecuteOn
+import spock.lang.Specification
+
+class RouteDispatchEndpointSpec extends Specification {
+
+    void "test route dispatch endpoint"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['spec.name': getClass().simpleName, 'endpoints.routedispatch.sensitive': false], "test")
+        HttpClient client = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.getURL())
+
+        when:
+        client.toBlocking().retrieve(HttpRequest.GET("/route-dispatch-endpoint/blocking"), String)
+        client.toBlocking().retrieve(HttpRequest.GET("/route-dispatch-endpoint/blocking"), String)
+        def response = client.toBlocking().exchange(HttpRequest.GET("/routedispatch"), Argument.listOf(Map))
+        def result = response.body().find { it.route.endsWith('TestController#blocking') }
+
+        then:
+        response.code() == HttpStatus.OK.code
+        result.dispatched == 2
+        result.rejected == 0
+        result.queueDepth == 0
+        result.containsKey('totalWaitMillis')
+        result.containsKey('maxWaitMillis')
+
+        cleanup:
+        client.close()
+        embeddedServer?.close()
+    }
+
+    @Controller("/route-dispatch-endpoint")
+    @Requires(property = 'spec.name', value = 'RouteDispatchEndpointSpec')
+    static class TestController {
+
+        @Get("/blocking")
+        @ExecuteOn(TaskExecutors.BLOCKING)
+        String blocking() {
+            "ok"
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry;
+
+/**
+ * The state of a circuit breaker and the statistics of its sliding window.
+ *
+ * @since 4.0.0
+ */
+public interface CircuitBreakerStatus {
+
+    /**
+     * @return The current state of the circuit
+     */
+    CircuitState getState();
+
+    /**
+     * @return The number of calls in the sliding window
+     */
+    int getNumberOfCalls();
+
+    /**
+     * @return The number of failed calls in the sliding window
+     */
+    int getNumberOfFailedCalls();
+
+    /**
+     * @return The number of slow calls in the sliding window
+     */
+    int getNumberOfSlowCalls();
+
+    /**
+     * @return The percentage of failed calls in the sliding window
+     */
+    default float getFailureRate() {
+        int calls = getNumberOfCalls();
+        return calls == 0 ? 0 : getNumberOfFailedCalls() * 100f / calls;
+    }
+
+    /**
+     * @return The percentage of slow calls in the sliding window
+     */
+    default float getSlowCallRate() {
+        int calls = getNumberOfCalls();
+        return calls == 0 ? 0 : getNumberOfSlowCalls() * 100f / calls;
+    }
+}
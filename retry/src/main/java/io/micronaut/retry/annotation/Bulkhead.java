@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.annotation;
+
+import io.micronaut.aop.Around;
+import io.micronaut.context.annotation.Type;
+import io.micronaut.retry.intercept.BulkheadInterceptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * AOP advice that limits the number of concurrent calls to a method. Calls beyond the limit wait for
+ * {@link #maxWaitDuration()} and then fail with a {@link io.micronaut.retry.exception.BulkheadRejectedException}.
+ *
+ * <p>For methods that return a reactive type the limit applies to the subscriptions of the returned publisher, which
+ * are rejected straight away instead of waiting.</p>
+ *
+ * @since 4.0.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Around
+@Type(BulkheadInterceptor.class)
+public @interface Bulkhead {
+
+    /**
+     * @return The maximum number of concurrent calls
+     */
+    String maxConcurrentCalls() default "10";
+
+    /**
+     * @return The maximum time a call waits for one of the concurrent calls to finish, {@code 0} to reject it straight away
+     */
+    String maxWaitDuration() default "0s";
+}
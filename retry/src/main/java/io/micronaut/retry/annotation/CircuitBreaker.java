@@ -102,4 +102,57 @@ public @interface CircuitBreaker {
      * @return Whether to wrap the original exception in a {@link io.micronaut.retry.exception.CircuitOpenException}
      */
     boolean throwWrappedException() default false;
+
+    /**
+     * The percentage of failed calls in the sliding window at or above which the circuit is set to
+     * {@link io.micronaut.retry.CircuitState#OPEN}. Setting this or {@link #slowCallRateThreshold()} replaces the
+     * default behaviour, where the circuit opens once the retry attempts of a single call are exhausted, with a
+     * sliding window of call outcomes.
+     *
+     * @return The failure rate threshold, {@code 0} to not open the circuit on failures in the sliding window
+     * @since 4.0.0
+     */
+    String failureRateThreshold() default "0";
+
+    /**
+     * The percentage of calls in the sliding window slower than {@link #slowCallDuration()} at or above which the
+     * circuit is set to {@link io.micronaut.retry.CircuitState#OPEN}.
+     *
+     * @return The slow call rate threshold, {@code 0} to not open the circuit on slow calls
+     * @since 4.0.0
+     */
+    String slowCallRateThreshold() default "0";
+
+    /**
+     * @return The duration above which a call counts as slow for the {@link #slowCallRateThreshold()}
+     * @since 4.0.0
+     */
+    String slowCallDuration() default "60s";
+
+    /**
+     * @return How the sliding window is measured
+     * @since 4.0.0
+     */
+    SlidingWindowType slidingWindowType() default SlidingWindowType.COUNT;
+
+    /**
+     * @return The size of the sliding window, in calls or in seconds depending on the {@link #slidingWindowType()}
+     * @since 4.0.0
+     */
+    String slidingWindowSize() default "100";
+
+    /**
+     * @return The minimum number of calls in the sliding window before the failure and slow call rates are evaluated
+     * @since 4.0.0
+     */
+    String minimumNumberOfCalls() default "10";
+
+    /**
+     * The number of probe calls permitted while the circuit is {@link io.micronaut.retry.CircuitState#HALF_OPEN}.
+     * The circuit closes once they all succeed, and opens again on the first failed or slow probe.
+     *
+     * @return The number of permitted calls in the half open state
+     * @since 4.0.0
+     */
+    String permittedHalfOpenCalls() default "1";
 }
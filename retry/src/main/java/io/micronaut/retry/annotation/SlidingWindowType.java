@@ -0,0 +1,34 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.annotation;
+
+/**
+ * How the sliding window of a {@link CircuitBreaker} is measured.
+ *
+ * @since 4.0.0
+ */
+public enum SlidingWindowType {
+
+    /**
+     * The window holds the outcomes of the last {@link CircuitBreaker#slidingWindowSize()} calls.
+     */
+    COUNT,
+
+    /**
+     * The window holds the outcomes of the calls of the last {@link CircuitBreaker#slidingWindowSize()} seconds.
+     */
+    TIME
+}
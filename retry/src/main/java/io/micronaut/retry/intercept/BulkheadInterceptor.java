@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.InterceptedMethod;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.retry.annotation.Bulkhead;
+import io.micronaut.retry.exception.BulkheadRejectedException;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MethodInterceptor} that limits the number of concurrent calls to a method according to the
+ * {@link Bulkhead} annotation. It runs within the retry phase, so every retry attempt needs a permit.
+ *
+ * @since 4.0.0
+ */
+@Singleton
+public class BulkheadInterceptor implements MethodInterceptor<Object, Object> {
+
+    private static final int DEFAULT_MAX_CONCURRENT_CALLS = 10;
+
+    private final ConversionService conversionService;
+    private final Map<ExecutableMethod<?, ?>, BulkheadPolicy> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * @param conversionService The conversion service
+     */
+    public BulkheadInterceptor(ConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
+    @Override
+    public int getOrder() {
+        return InterceptPhase.RETRY.getPosition() + 10;
+    }
+
+    @Nullable
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        ExecutableMethod<Object, Object> executableMethod = context.getExecutableMethod();
+        BulkheadPolicy bulkhead = bulkheads.get(executableMethod);
+        if (bulkhead == null) {
+            bulkhead = bulkheads.computeIfAbsent(executableMethod, method -> compilePolicy(context));
+        }
+        if (bulkhead.synchronous()) {
+            bulkhead.acquire(context);
+            try {
+                return context.proceed();
+            } finally {
+                bulkhead.release();
+            }
+        }
+
+        InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
+        try {
+            switch (interceptedMethod.resultType()) {
+                case PUBLISHER -> {
+                    BulkheadPolicy policy = bulkhead;
+                    Flux<Object> reactiveSequence = Flux.from((Publisher<?>) interceptedMethod.interceptResult());
+                    return interceptedMethod.handleResult(Flux.defer(() -> {
+                        if (!policy.semaphore().tryAcquire()) {
+                            return Flux.error(policy.rejected(context));
+                        }
+                        return reactiveSequence.doFinally(signal -> policy.release());
+                    }));
+                }
+                case COMPLETION_STAGE -> {
+                    bulkhead.acquire(context);
+                    CompletionStage<?> result;
+                    try {
+                        result = interceptedMethod.interceptResultAsCompletionStage();
+                    } catch (RuntimeException e) {
+                        bulkhead.release();
+                        throw e;
+                    }
+                    BulkheadPolicy policy = bulkhead;
+                    return interceptedMethod.handleResult(result.whenComplete((value, throwable) -> policy.release()));
+                }
+                case SYNCHRONOUS -> {
+                    bulkhead.acquire(context);
+                    try {
+                        return interceptedMethod.interceptResult();
+                    } finally {
+                        bulkhead.release();
+                    }
+                }
+                default -> {
+                    return interceptedMethod.unsupported();
+                }
+            }
+        } catch (Exception e) {
+            return interceptedMethod.handleException(e);
+        }
+    }
+
+    private BulkheadPolicy compilePolicy(MethodInvocationContext<Object, Object> context) {
+        int maxConcurrentCalls = context.getValue(Bulkhead.class, "maxConcurrentCalls", Integer.class)
+                .orElse(DEFAULT_MAX_CONCURRENT_CALLS);
+        long maxWaitNanos = context.getValue(Bulkhead.class, "maxWaitDuration", Duration.class)
+                .orElse(Duration.ZERO)
+                .toNanos();
+        boolean synchronous = InterceptedMethod.of(context, conversionService).resultType() == InterceptedMethod.ResultType.SYNCHRONOUS;
+        // waiting calls are served in order
+        return new BulkheadPolicy(new Semaphore(Math.max(1, maxConcurrentCalls), maxWaitNanos > 0), maxWaitNanos, synchronous);
+    }
+
+    /**
+     * The concurrency limit of a method.
+     *
+     * @param semaphore    The permits for the concurrent calls
+     * @param maxWaitNanos The maximum time to wait for a permit
+     * @param synchronous  Whether the method has a synchronous result
+     */
+    private record BulkheadPolicy(Semaphore semaphore, long maxWaitNanos, boolean synchronous) {
+
+        void acquire(MethodInvocationContext<Object, Object> context) {
+            boolean acquired;
+            if (maxWaitNanos > 0) {
+                try {
+                    acquired = semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    acquired = false;
+                }
+            } else {
+                acquired = semaphore.tryAcquire();
+            }
+            if (!acquired) {
+                throw rejected(context);
+            }
+        }
+
+        void release() {
+            semaphore.release();
+        }
+
+        BulkheadRejectedException rejected(MethodInvocationContext<Object, Object> context) {
+            return new BulkheadRejectedException("Bulkhead full, rejecting call to method: " + context);
+        }
+    }
+}
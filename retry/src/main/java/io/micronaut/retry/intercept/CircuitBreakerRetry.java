@@ -18,6 +18,7 @@ package io.micronaut.retry.intercept;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.retry.CircuitBreakerStatus;
 import io.micronaut.retry.CircuitState;
 import io.micronaut.retry.RetryStateBuilder;
 import io.micronaut.retry.annotation.RetryPredicate;
@@ -38,7 +39,7 @@ import java.util.concurrent.atomic.AtomicReference;
  * @author graemerocher
  * @since 1.0
  */
-class CircuitBreakerRetry implements MutableRetryState {
+class CircuitBreakerRetry implements MutableRetryState, CircuitBreakerStatus {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultRetryInterceptor.class);
 
@@ -162,6 +163,31 @@ class CircuitBreakerRetry implements MutableRetryState {
         return childState.getCapturedException();
     }
 
+    @Override
+    public CircuitState getState() {
+        return currentState();
+    }
+
+    /**
+     * Calls are not tracked in a sliding window, the circuit opens once the retries of a call are exhausted.
+     *
+     * @return {@code 0}
+     */
+    @Override
+    public int getNumberOfCalls() {
+        return 0;
+    }
+
+    @Override
+    public int getNumberOfFailedCalls() {
+        return 0;
+    }
+
+    @Override
+    public int getNumberOfSlowCalls() {
+        return 0;
+    }
+
     /**
      * @return The current state
      */
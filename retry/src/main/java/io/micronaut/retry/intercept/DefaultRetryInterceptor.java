@@ -25,9 +25,11 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.value.MutableConvertibleValues;
 import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.retry.CircuitBreakerStatus;
 import io.micronaut.retry.RetryState;
 import io.micronaut.retry.annotation.CircuitBreaker;
 import io.micronaut.retry.annotation.Retryable;
+import io.micronaut.retry.annotation.SlidingWindowType;
 import io.micronaut.retry.event.RetryEvent;
 import io.micronaut.scheduling.TaskExecutors;
 import jakarta.inject.Named;
@@ -39,6 +41,7 @@ import reactor.core.publisher.Flux;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -63,11 +66,14 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultRetryInterceptor.class);
     private static final int DEFAULT_CIRCUIT_BREAKER_TIMEOUT_IN_MILLIS = 20;
+    private static final Duration DEFAULT_SLOW_CALL_DURATION = Duration.ofSeconds(60);
+    private static final int DEFAULT_SLIDING_WINDOW_SIZE = 100;
+    private static final int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 10;
 
     private final ConversionService conversionService;
     private final ApplicationEventPublisher eventPublisher;
     private final ScheduledExecutorService executorService;
-    private final Map<ExecutableMethod, CircuitBreakerRetry> circuitContexts = new ConcurrentHashMap<>();
+    private final Map<ExecutableMethod<?, ?>, RetryPolicy> retryPolicies = new ConcurrentHashMap<>();
 
     /**
      * Construct a default retry method interceptor with the event publisher.
@@ -89,51 +95,59 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
         return InterceptPhase.RETRY.getPosition();
     }
 
+    /**
+     * Returns the circuit breakers of the methods annotated with {@link CircuitBreaker} that have been invoked so far.
+     *
+     * @return The circuit breaker status by method
+     * @since 4.0.0
+     */
+    public Map<ExecutableMethod<?, ?>, CircuitBreakerStatus> getCircuitBreakers() {
+        Map<ExecutableMethod<?, ?>, CircuitBreakerStatus> circuitBreakers = new LinkedHashMap<>();
+        retryPolicies.forEach((method, policy) -> {
+            CircuitBreakerStatus status = policy.circuitBreakerStatus();
+            if (status != null) {
+                circuitBreakers.put(method, status);
+            }
+        });
+        return circuitBreakers;
+    }
+
     @Nullable
     @Override
     public Object intercept(MethodInvocationContext<Object, Object> context) {
-        Optional<AnnotationValue<Retryable>> opt = context.findAnnotation(Retryable.class);
-        if (!opt.isPresent()) {
+        ExecutableMethod<Object, Object> executableMethod = context.getExecutableMethod();
+        RetryPolicy policy = retryPolicies.get(executableMethod);
+        if (policy == null) {
+            policy = retryPolicies.computeIfAbsent(executableMethod, method -> compilePolicy(context));
+        }
+        if (policy.retry() == null) {
             return context.proceed();
         }
-
-        AnnotationValue<Retryable> retry = opt.get();
-        boolean isCircuitBreaker = context.hasStereotype(CircuitBreaker.class);
-        MutableRetryState retryState;
-        AnnotationRetryStateBuilder retryStateBuilder = new AnnotationRetryStateBuilder(
-                context
-        );
-
-        if (isCircuitBreaker) {
-            long timeout = context
-                    .getValue(CircuitBreaker.class, "reset", Duration.class)
-                    .map(Duration::toMillis).orElse(Duration.ofSeconds(DEFAULT_CIRCUIT_BREAKER_TIMEOUT_IN_MILLIS).toMillis());
-            boolean wrapException = context
-                    .getValue(CircuitBreaker.class, "throwWrappedException", Boolean.class)
-                    .orElse(false);
-            retryState = circuitContexts.computeIfAbsent(
-                    context.getExecutableMethod(),
-                    method -> new CircuitBreakerRetry(timeout, retryStateBuilder, context, eventPublisher, wrapException)
-            );
-        } else {
-            retryState = (MutableRetryState) retryStateBuilder.build();
+        if (policy.synchronous() && policy.slidingWindow() == null) {
+            return interceptSynchronous(context, policy);
         }
 
+        MutableRetryState retryState = policy.newRetryState();
         MutableConvertibleValues<Object> attrs = context.getAttributes();
-        attrs.put(RetryState.class.getName(), retry);
+        attrs.put(RetryState.class.getName(), policy.retry());
 
         InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
         try {
             retryState.open();
             // Retry method call before we have actual Publisher/CompletionStage result
-            Object result = retrySync(context, retryState, interceptedMethod);
+            Object result = retrySync(context, retryState, interceptedMethod, true);
             switch (interceptedMethod.resultType()) {
                 case PUBLISHER -> {
                     Flux<Object> reactiveSequence = Flux.from((Publisher<?>) result);
-                    return interceptedMethod.handleResult(
-                            reactiveSequence.onErrorResume(retryFlowable(context, retryState, reactiveSequence))
-                                    .doOnNext(o -> retryState.close(null))
-                    );
+                    Flux<Object> retrySequence = reactiveSequence.onErrorResume(retryFlowable(context, retryState, reactiveSequence))
+                            .doOnNext(o -> retryState.close(null));
+                    if (retryState instanceof SlidingWindowRetry slidingWindowRetry) {
+                        // empty and cancelled publishers must also end the call, or half open probes are never released
+                        retrySequence = retrySequence
+                                .doOnComplete(() -> slidingWindowRetry.close(null))
+                                .doOnCancel(slidingWindowRetry::cancel);
+                    }
+                    return interceptedMethod.handleResult(retrySequence);
                 }
                 case COMPLETION_STAGE -> {
                     CompletableFuture<Object> newFuture = new CompletableFuture<>();
@@ -154,6 +168,75 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
         }
     }
 
+    /**
+     * Intercepts a method with a synchronous result. The call is made directly and the retry state is
+     * only created once it fails.
+     */
+    private Object interceptSynchronous(MethodInvocationContext<Object, Object> context, RetryPolicy policy) {
+        CircuitBreakerRetry circuit = policy.circuit();
+        if (circuit != null) {
+            circuit.open();
+        }
+        Object result;
+        try {
+            result = context.proceed();
+        } catch (Throwable e) {
+            MutableRetryState retryState = policy.newRetryState();
+            context.getAttributes().put(RetryState.class.getName(), policy.retry());
+            if (!awaitRetry(context, retryState, e)) {
+                throw e;
+            }
+            result = retrySync(context, retryState, InterceptedMethod.of(context, conversionService), false);
+        }
+        if (circuit != null) {
+            circuit.close(null);
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the retry configuration of the intercepted method from its annotations.
+     */
+    private RetryPolicy compilePolicy(MethodInvocationContext<Object, Object> context) {
+        Optional<AnnotationValue<Retryable>> opt = context.findAnnotation(Retryable.class);
+        if (opt.isEmpty()) {
+            return RetryPolicy.NONE;
+        }
+
+        AnnotationRetryStateBuilder retryStateBuilder = new AnnotationRetryStateBuilder(context);
+        CircuitBreakerRetry circuit = null;
+        SlidingWindowCircuitBreaker slidingWindow = null;
+        if (context.hasStereotype(CircuitBreaker.class)) {
+            long timeout = context
+                    .getValue(CircuitBreaker.class, "reset", Duration.class)
+                    .map(Duration::toMillis).orElse(Duration.ofSeconds(DEFAULT_CIRCUIT_BREAKER_TIMEOUT_IN_MILLIS).toMillis());
+            boolean wrapException = context
+                    .getValue(CircuitBreaker.class, "throwWrappedException", Boolean.class)
+                    .orElse(false);
+            int failureRateThreshold = context.getValue(CircuitBreaker.class, "failureRateThreshold", Integer.class).orElse(0);
+            int slowCallRateThreshold = context.getValue(CircuitBreaker.class, "slowCallRateThreshold", Integer.class).orElse(0);
+            if (failureRateThreshold > 0 || slowCallRateThreshold > 0) {
+                slidingWindow = new SlidingWindowCircuitBreaker(
+                        context,
+                        eventPublisher,
+                        timeout,
+                        wrapException,
+                        failureRateThreshold,
+                        slowCallRateThreshold,
+                        context.getValue(CircuitBreaker.class, "slowCallDuration", Duration.class).orElse(DEFAULT_SLOW_CALL_DURATION).toNanos(),
+                        context.enumValue(CircuitBreaker.class, "slidingWindowType", SlidingWindowType.class).orElse(SlidingWindowType.COUNT),
+                        context.getValue(CircuitBreaker.class, "slidingWindowSize", Integer.class).orElse(DEFAULT_SLIDING_WINDOW_SIZE),
+                        context.getValue(CircuitBreaker.class, "minimumNumberOfCalls", Integer.class).orElse(DEFAULT_MINIMUM_NUMBER_OF_CALLS),
+                        context.getValue(CircuitBreaker.class, "permittedHalfOpenCalls", Integer.class).orElse(1)
+                );
+            } else {
+                circuit = new CircuitBreakerRetry(timeout, retryStateBuilder, context, eventPublisher, wrapException);
+            }
+        }
+        boolean synchronous = InterceptedMethod.of(context, conversionService).resultType() == InterceptedMethod.ResultType.SYNCHRONOUS;
+        return new RetryPolicy(opt.get(), retryStateBuilder, circuit, slidingWindow, synchronous);
+    }
+
     private BiConsumer<Object, ? super Throwable> retryCompletable(MethodInvocationContext<Object, Object> context,
                                                                    MutableRetryState retryState,
                                                                    CompletableFuture<Object> newFuture,
@@ -217,8 +300,7 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
         };
     }
 
-    private Object retrySync(MethodInvocationContext<Object, Object> context, MutableRetryState retryState, InterceptedMethod interceptedMethod) {
-        boolean firstCall = true;
+    private Object retrySync(MethodInvocationContext<Object, Object> context, MutableRetryState retryState, InterceptedMethod interceptedMethod, boolean firstCall) {
         while (true) {
             try {
                 if (firstCall) {
@@ -227,37 +309,78 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
                 }
                 return interceptedMethod.interceptResult(this);
             } catch (Throwable e) {
-                if (!retryState.getCapturedException().isAssignableFrom(e.getClass())) {
+                if (!awaitRetry(context, retryState, e)) {
                     throw e;
                 }
+            }
+        }
+    }
 
-                if (!retryState.canRetry(e)) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Cannot retry anymore. Rethrowing original exception for method: {}", context);
-                    }
-                    retryState.close(e);
-                    throw e;
-                } else {
-                    long delayMillis = retryState.nextDelay();
-                    try {
-                        if (eventPublisher != null) {
-                            try {
-                                eventPublisher.publishEvent(new RetryEvent(context, retryState, e));
-                            } catch (Exception e1) {
-                                LOG.error("Error occurred publishing RetryEvent: " + e1.getMessage(), e1);
-                            }
-                        }
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Retrying execution for method [{}] after delay of {}ms for exception: {}", context, delayMillis, e.getMessage());
-                        }
-                        Thread.sleep(delayMillis);
-                    } catch (InterruptedException e1) {
-                        Thread.currentThread().interrupt();
-                        throw e;
-                    }
-                }
+    /**
+     * Decides whether a failed synchronous call is retried, and if so waits for the retry delay.
+     *
+     * @return Whether the call should be retried
+     */
+    private boolean awaitRetry(MethodInvocationContext<Object, Object> context, MutableRetryState retryState, Throwable e) {
+        if (!retryState.getCapturedException().isAssignableFrom(e.getClass())) {
+            retryState.closeUncaptured(e);
+            return false;
+        }
+
+        if (!retryState.canRetry(e)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cannot retry anymore. Rethrowing original exception for method: {}", context);
+            }
+            retryState.close(e);
+            return false;
+        }
+        long delayMillis = retryState.nextDelay();
+        if (eventPublisher != null) {
+            try {
+                eventPublisher.publishEvent(new RetryEvent(context, retryState, e));
+            } catch (Exception e1) {
+                LOG.error("Error occurred publishing RetryEvent: " + e1.getMessage(), e1);
             }
         }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Retrying execution for method [{}] after delay of {}ms for exception: {}", context, delayMillis, e.getMessage());
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e1) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
     }
 
+    /**
+     * The retry configuration of a method, resolved once from its annotations.
+     *
+     * @param retry             The retry annotation, or {@code null} if the method is not retried
+     * @param retryStateBuilder Creates the retry state of an invocation
+     * @param circuit           The circuit of a circuit breaker method, shared by all invocations
+     * @param slidingWindow     The circuit of a circuit breaker method with a sliding window
+     * @param synchronous       Whether the method has a synchronous result
+     */
+    private record RetryPolicy(@Nullable AnnotationValue<Retryable> retry,
+                               @Nullable AnnotationRetryStateBuilder retryStateBuilder,
+                               @Nullable CircuitBreakerRetry circuit,
+                               @Nullable SlidingWindowCircuitBreaker slidingWindow,
+                               boolean synchronous) {
+        static final RetryPolicy NONE = new RetryPolicy(null, null, null, null, true);
+
+        MutableRetryState newRetryState() {
+            if (circuit != null) {
+                return circuit;
+            }
+            MutableRetryState retryState = (MutableRetryState) retryStateBuilder.build();
+            return slidingWindow != null ? new SlidingWindowRetry(slidingWindow, retryState) : retryState;
+        }
+
+        @Nullable
+        CircuitBreakerStatus circuitBreakerStatus() {
+            return circuit != null ? circuit : slidingWindow;
+        }
+    }
 }
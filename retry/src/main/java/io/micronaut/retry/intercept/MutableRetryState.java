@@ -29,4 +29,14 @@ interface MutableRetryState extends RetryState {
      * @return Return the milli second value for the next delay
      */
     long nextDelay();
+
+    /**
+     * Called when the operation fails with an exception that is not captured for retries, instead of
+     * {@link #close(Throwable)}.
+     *
+     * @param exception The exception
+     */
+    default void closeUncaptured(Throwable exception) {
+        // no-op by default
+    }
 }
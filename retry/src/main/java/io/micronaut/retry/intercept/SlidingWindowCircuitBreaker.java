@@ -0,0 +1,405 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.retry.CircuitBreakerStatus;
+import io.micronaut.retry.CircuitState;
+import io.micronaut.retry.RetryState;
+import io.micronaut.retry.annotation.SlidingWindowType;
+import io.micronaut.retry.event.CircuitClosedEvent;
+import io.micronaut.retry.event.CircuitOpenEvent;
+import io.micronaut.retry.exception.CircuitOpenException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A circuit breaker that opens once the failure rate or the slow call rate in a sliding window of call outcomes
+ * reaches its threshold. The window is a lock-free ring buffer, so the rates are approximate while calls complete
+ * concurrently.
+ *
+ * @since 4.0.0
+ */
+class SlidingWindowCircuitBreaker implements CircuitBreakerStatus {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultRetryInterceptor.class);
+
+    private final ExecutableMethod<?, ?> method;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long openTimeout;
+    private final boolean throwWrappedException;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int minimumNumberOfCalls;
+    private final int permittedHalfOpenCalls;
+    private final Window window;
+    private final AtomicReference<CircuitState> state = new AtomicReference<>(CircuitState.CLOSED);
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Throwable lastError;
+    private volatile long openedAt;
+
+    /**
+     * @param method                 The method guarded by the circuit
+     * @param eventPublisher         To publish circuit events
+     * @param openTimeout            The circuit open timeout in millis
+     * @param throwWrappedException  If {@code true}, the original exception will be wrapped in {@link CircuitOpenException}
+     * @param failureRateThreshold   The failure rate in percent that opens the circuit, {@code 0} to disable
+     * @param slowCallRateThreshold  The slow call rate in percent that opens the circuit, {@code 0} to disable
+     * @param slowCallDurationNanos  The duration above which a call is slow
+     * @param windowType             How the sliding window is measured
+     * @param windowSize             The size of the sliding window in calls or seconds
+     * @param minimumNumberOfCalls   The number of calls in the window before the rates are evaluated
+     * @param permittedHalfOpenCalls The number of probe calls in the half open state
+     */
+    SlidingWindowCircuitBreaker(ExecutableMethod<?, ?> method,
+                                ApplicationEventPublisher eventPublisher,
+                                long openTimeout,
+                                boolean throwWrappedException,
+                                int failureRateThreshold,
+                                int slowCallRateThreshold,
+                                long slowCallDurationNanos,
+                                SlidingWindowType windowType,
+                                int windowSize,
+                                int minimumNumberOfCalls,
+                                int permittedHalfOpenCalls) {
+        this.method = method;
+        this.eventPublisher = eventPublisher;
+        this.openTimeout = openTimeout;
+        this.throwWrappedException = throwWrappedException;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationNanos = slowCallDurationNanos;
+        this.minimumNumberOfCalls = Math.max(1, minimumNumberOfCalls);
+        this.permittedHalfOpenCalls = Math.max(1, permittedHalfOpenCalls);
+        int size = Math.max(1, windowSize);
+        this.window = windowType == SlidingWindowType.TIME ? new TimeWindow(size) : new CountWindow(size);
+    }
+
+    @Override
+    public CircuitState getState() {
+        CircuitState current = state.get();
+        if (current == CircuitState.OPEN && System.currentTimeMillis() - openedAt > openTimeout) {
+            if (state.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN)) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Half Opening Circuit Breaker [{}]", method);
+                }
+                generation.incrementAndGet();
+                halfOpenSuccesses.set(0);
+                halfOpenPermits.set(permittedHalfOpenCalls);
+            }
+            return state.get();
+        }
+        return current;
+    }
+
+    @Override
+    public int getNumberOfCalls() {
+        return window.calls();
+    }
+
+    @Override
+    public int getNumberOfFailedCalls() {
+        return window.failures();
+    }
+
+    @Override
+    public int getNumberOfSlowCalls() {
+        return window.slowCalls();
+    }
+
+    /**
+     * Checks whether a call may proceed.
+     *
+     * @return The generation of the circuit state the call started in, to pass to {@link #onResult} or {@link #onCancel}
+     * @throws RuntimeException If the circuit is open, or half open without probe calls left
+     */
+    long acquirePermission() {
+        CircuitState current = getState();
+        long startedIn = generation.get();
+        if (current == CircuitState.CLOSED || (current == CircuitState.HALF_OPEN && halfOpenPermits.getAndUpdate(permits -> permits > 0 ? permits - 1 : 0) > 0)) {
+            return startedIn;
+        }
+        Throwable error = lastError;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Rejecting call for Open Circuit [{}]", method);
+        }
+        if (error == null) {
+            throw new CircuitOpenException("Circuit Open: failure or slow call rate threshold reached");
+        } else if (error instanceof RuntimeException && !throwWrappedException) {
+            throw (RuntimeException) error;
+        } else {
+            throw new CircuitOpenException("Circuit Open: " + error.getMessage(), error);
+        }
+    }
+
+    /**
+     * Records the outcome of a call. Calls that started in an earlier circuit state are ignored, so a call that was
+     * permitted while the circuit was closed never counts as a half open probe.
+     *
+     * @param failure       The failure that counts against the circuit, or {@code null} if the call succeeded
+     * @param durationNanos The duration of the call
+     * @param startedIn     The generation returned by {@link #acquirePermission()}
+     * @param retryState    The retry state of the call
+     */
+    void onResult(@Nullable Throwable failure, long durationNanos, long startedIn, RetryState retryState) {
+        if (startedIn != generation.get()) {
+            return;
+        }
+        boolean slow = slowCallRateThreshold > 0 && durationNanos > slowCallDurationNanos;
+        switch (state.get()) {
+            case HALF_OPEN -> {
+                if (failure != null || slow) {
+                    openCircuit(CircuitState.HALF_OPEN, failure, retryState);
+                } else if (halfOpenSuccesses.incrementAndGet() >= permittedHalfOpenCalls) {
+                    closeCircuit();
+                }
+            }
+            case CLOSED -> {
+                window.record(failure != null, slow);
+                if (thresholdReached()) {
+                    openCircuit(CircuitState.CLOSED, failure, retryState);
+                }
+            }
+            default -> {
+                // calls that were permitted before the circuit opened
+            }
+        }
+    }
+
+    /**
+     * Releases the probe permit of a half open call that was cancelled before it completed.
+     *
+     * @param startedIn The generation returned by {@link #acquirePermission()}
+     */
+    void onCancel(long startedIn) {
+        if (startedIn == generation.get() && state.get() == CircuitState.HALF_OPEN) {
+            halfOpenPermits.updateAndGet(permits -> Math.min(permits + 1, permittedHalfOpenCalls));
+        }
+    }
+
+    private boolean thresholdReached() {
+        int calls = window.calls();
+        if (calls < minimumNumberOfCalls) {
+            return false;
+        }
+        return (failureRateThreshold > 0 && window.failures() * 100L >= (long) failureRateThreshold * calls)
+            || (slowCallRateThreshold > 0 && window.slowCalls() * 100L >= (long) slowCallRateThreshold * calls);
+    }
+
+    private void openCircuit(CircuitState expected, @Nullable Throwable cause, RetryState retryState) {
+        if (!state.compareAndSet(expected, CircuitState.OPEN)) {
+            return;
+        }
+        generation.incrementAndGet();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Opening Circuit Breaker [{}] with failure rate {}% and slow call rate {}%", method, getFailureRate(), getSlowCallRate());
+        }
+        lastError = cause;
+        openedAt = System.currentTimeMillis();
+        window.reset();
+        if (eventPublisher != null && cause != null) {
+            try {
+                eventPublisher.publishEvent(new CircuitOpenEvent(method, retryState, cause));
+            } catch (Exception e) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error("Error publishing CircuitOpen event: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private void closeCircuit() {
+        if (!state.compareAndSet(CircuitState.HALF_OPEN, CircuitState.CLOSED)) {
+            return;
+        }
+        generation.incrementAndGet();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Closing Circuit Breaker [{}]", method);
+        }
+        lastError = null;
+        if (eventPublisher != null) {
+            try {
+                eventPublisher.publishEvent(new CircuitClosedEvent(method));
+            } catch (Exception e) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error("Error publishing CircuitClosedEvent: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The outcomes of the recent calls.
+     */
+    private abstract static class Window {
+
+        abstract void record(boolean failed, boolean slow);
+
+        abstract int calls();
+
+        abstract int failures();
+
+        abstract int slowCalls();
+
+        abstract void reset();
+    }
+
+    /**
+     * A ring buffer of the outcomes of the last calls, with running totals.
+     */
+    private static final class CountWindow extends Window {
+        private static final int CALL = 1;
+        private static final int FAILED = 2;
+        private static final int SLOW = 4;
+
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong index = new AtomicLong();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+
+        CountWindow(int size) {
+            this.outcomes = new AtomicIntegerArray(size);
+        }
+
+        @Override
+        void record(boolean failed, boolean slow) {
+            int outcome = CALL | (failed ? FAILED : 0) | (slow ? SLOW : 0);
+            int slot = (int) (index.getAndIncrement() % outcomes.length());
+            count(outcomes.getAndSet(slot, outcome), -1);
+            count(outcome, 1);
+        }
+
+        private void count(int outcome, int delta) {
+            if ((outcome & CALL) != 0) {
+                calls.addAndGet(delta);
+            }
+            if ((outcome & FAILED) != 0) {
+                failures.addAndGet(delta);
+            }
+            if ((outcome & SLOW) != 0) {
+                slowCalls.addAndGet(delta);
+            }
+        }
+
+        @Override
+        int calls() {
+            return calls.get();
+        }
+
+        @Override
+        int failures() {
+            return failures.get();
+        }
+
+        @Override
+        int slowCalls() {
+            return slowCalls.get();
+        }
+
+        @Override
+        void reset() {
+            for (int i = 0; i < outcomes.length(); i++) {
+                count(outcomes.getAndSet(i, 0), -1);
+            }
+        }
+    }
+
+    /**
+     * A ring buffer with the totals of each second of the window.
+     */
+    private static final class TimeWindow extends Window {
+        private final AtomicLongArray seconds;
+        private final AtomicIntegerArray calls;
+        private final AtomicIntegerArray failures;
+        private final AtomicIntegerArray slowCalls;
+
+        TimeWindow(int size) {
+            this.seconds = new AtomicLongArray(size);
+            this.calls = new AtomicIntegerArray(size);
+            this.failures = new AtomicIntegerArray(size);
+            this.slowCalls = new AtomicIntegerArray(size);
+        }
+
+        @Override
+        void record(boolean failed, boolean slow) {
+            long now = currentSecond();
+            int slot = (int) (now % seconds.length());
+            long second = seconds.get(slot);
+            if (second != now && seconds.compareAndSet(slot, second, now)) {
+                // the bucket held an older second, start counting afresh
+                calls.set(slot, 0);
+                failures.set(slot, 0);
+                slowCalls.set(slot, 0);
+            }
+            calls.incrementAndGet(slot);
+            if (failed) {
+                failures.incrementAndGet(slot);
+            }
+            if (slow) {
+                slowCalls.incrementAndGet(slot);
+            }
+        }
+
+        private int sum(AtomicIntegerArray counts) {
+            long now = currentSecond();
+            int total = 0;
+            for (int i = 0; i < seconds.length(); i++) {
+                if (now - seconds.get(i) < seconds.length()) {
+                    total += counts.get(i);
+                }
+            }
+            return total;
+        }
+
+        private static long currentSecond() {
+            return System.currentTimeMillis() / 1000;
+        }
+
+        @Override
+        int calls() {
+            return sum(calls);
+        }
+
+        @Override
+        int failures() {
+            return sum(failures);
+        }
+
+        @Override
+        int slowCalls() {
+            return sum(slowCalls);
+        }
+
+        @Override
+        void reset() {
+            for (int i = 0; i < seconds.length(); i++) {
+                seconds.set(i, 0);
+            }
+        }
+    }
+}
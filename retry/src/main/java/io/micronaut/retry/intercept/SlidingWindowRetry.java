@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.retry.CircuitState;
+import io.micronaut.retry.annotation.RetryPredicate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * The state of a single call guarded by a {@link SlidingWindowCircuitBreaker}. Retries follow the retry state of
+ * the call, and the final outcome is recorded in the sliding window.
+ *
+ * @since 4.0.0
+ */
+class SlidingWindowRetry implements MutableRetryState {
+
+    private final SlidingWindowCircuitBreaker circuitBreaker;
+    private final MutableRetryState childState;
+    private long startNanos;
+    private long startedIn;
+    private volatile boolean closed;
+
+    /**
+     * @param circuitBreaker The circuit breaker of the method
+     * @param childState     The retry state of the call
+     */
+    SlidingWindowRetry(SlidingWindowCircuitBreaker circuitBreaker, MutableRetryState childState) {
+        this.circuitBreaker = circuitBreaker;
+        this.childState = childState;
+    }
+
+    @Override
+    public void open() {
+        startedIn = circuitBreaker.acquirePermission();
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void close(@Nullable Throwable exception) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Throwable failure = exception != null && getRetryPredicate().test(exception) ? exception : null;
+        circuitBreaker.onResult(failure, System.nanoTime() - startNanos, startedIn, this);
+    }
+
+    /**
+     * Ends a call that was cancelled before it completed. The outcome is unknown, so nothing is recorded and the
+     * probe permit of a half open call is released.
+     */
+    void cancel() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        circuitBreaker.onCancel(startedIn);
+    }
+
+    @Override
+    public void closeUncaptured(Throwable exception) {
+        close(exception);
+    }
+
+    @Override
+    public boolean canRetry(Throwable exception) {
+        return circuitBreaker.getState() == CircuitState.CLOSED && childState.canRetry(exception);
+    }
+
+    @Override
+    public long nextDelay() {
+        return childState.nextDelay();
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return childState.getMaxAttempts();
+    }
+
+    @Override
+    public int currentAttempt() {
+        return childState.currentAttempt();
+    }
+
+    @Override
+    public OptionalDouble getMultiplier() {
+        return childState.getMultiplier();
+    }
+
+    @Override
+    public Duration getDelay() {
+        return childState.getDelay();
+    }
+
+    @Override
+    public Duration getOverallDelay() {
+        return childState.getOverallDelay();
+    }
+
+    @Override
+    public Optional<Duration> getMaxDelay() {
+        return childState.getMaxDelay();
+    }
+
+    @Override
+    public RetryPredicate getRetryPredicate() {
+        return childState.getRetryPredicate();
+    }
+
+    @Override
+    public Class<? extends Throwable> getCapturedException() {
+        return childState.getCapturedException();
+    }
+}
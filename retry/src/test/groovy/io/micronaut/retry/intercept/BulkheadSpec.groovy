@@ -0,0 +1,106 @@
+package io.micronaut.retry.intercept
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.retry.annotation.Bulkhead
+import io.micronaut.retry.exception.BulkheadRejectedException
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+class BulkheadSpec extends Specification {
+
+    @Shared @AutoCleanup ApplicationContext context = ApplicationContext.run()
+
+    void "test concurrent blocking calls beyond the limit are rejected"() {
+        given:
+        LimitedService service = context.getBean(LimitedService)
+        service.entered = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+        CompletableFuture<String> running = CompletableFuture.supplyAsync { service.blocking(release) }
+        service.entered.await(5, TimeUnit.SECONDS)
+
+        when:"A second call is made while the first one is running"
+        service.blocking(new CountDownLatch(0))
+
+        then:
+        thrown(BulkheadRejectedException)
+
+        when:"The first call completes"
+        release.countDown()
+
+        then:"Calls are accepted again"
+        running.get(5, TimeUnit.SECONDS) == "done"
+        service.blocking(new CountDownLatch(0)) == "done"
+    }
+
+    void "test calls wait for a permit up to the max wait duration"() {
+        given:
+        LimitedService service = context.getBean(LimitedService)
+        service.entered = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+        CompletableFuture<String> running = CompletableFuture.supplyAsync { service.queued(release) }
+        service.entered.await(5, TimeUnit.SECONDS)
+
+        when:"The first call completes while the second one waits"
+        CompletableFuture<String> waiting = CompletableFuture.supplyAsync { service.queued(new CountDownLatch(0)) }
+        Thread.sleep(100)
+        release.countDown()
+
+        then:
+        running.get(5, TimeUnit.SECONDS) == "done"
+        waiting.get(5, TimeUnit.SECONDS) == "done"
+    }
+
+    void "test completion stages hold their permit until they complete"() {
+        given:
+        LimitedService service = context.getBean(LimitedService)
+        CompletableFuture<String> first = new CompletableFuture<>()
+
+        when:
+        CompletableFuture<String> result = service.async(first)
+        service.async(CompletableFuture.completedFuture("second")).get()
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof BulkheadRejectedException
+
+        when:
+        first.complete("first")
+
+        then:
+        result.get() == "first"
+        service.async(CompletableFuture.completedFuture("second")).get() == "second"
+    }
+
+    @Singleton
+    static class LimitedService {
+        CountDownLatch entered
+
+        @Bulkhead(maxConcurrentCalls = "1")
+        String blocking(CountDownLatch release) {
+            await(release)
+        }
+
+        @Bulkhead(maxConcurrentCalls = "1", maxWaitDuration = "5s")
+        String queued(CountDownLatch release) {
+            await(release)
+        }
+
+        @Bulkhead(maxConcurrentCalls = "1")
+        CompletableFuture<String> async(CompletableFuture<String> result) {
+            return result
+        }
+
+        private String await(CountDownLatch release) {
+            entered.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            return "done"
+        }
+    }
+}
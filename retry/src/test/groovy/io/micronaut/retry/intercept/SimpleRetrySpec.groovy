@@ -63,6 +63,35 @@ class SimpleRetrySpec extends Specification {
         context.stop()
     }
 
+    void "test blocking retry state is not shared between invocations"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        CounterService counterService = context.getBean(CounterService)
+        MyRetryListener listener = context.getBean(MyRetryListener)
+        counterService.countThreshold = 5
+
+        when:"A method needs most of its attempts"
+        int first = counterService.getCountSync()
+        counterService.count = 0
+        int second = counterService.getCountSync()
+
+        then:"Every invocation gets all of its attempts"
+        first == 5
+        second == 5
+        listener.events.size() == 8
+
+        when:"The method succeeds straight away"
+        listener.reset()
+        counterService.countThreshold = 0
+
+        then:"No retries happen"
+        counterService.getCountSync() == 6
+        listener.events.isEmpty()
+
+        cleanup:
+        context.stop()
+    }
+
     void "test simply retry with rxjava"() {
         given:
         ApplicationContext context = ApplicationContext.run()
@@ -0,0 +1,155 @@
+package io.micronaut.retry.intercept
+
+import io.micronaut.retry.CircuitState
+import io.micronaut.retry.annotation.SlidingWindowType
+import io.micronaut.retry.exception.CircuitOpenException
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class SlidingWindowCircuitBreakerSpec extends Specification {
+
+    void "test the circuit opens once the failure rate is reached"() {
+        given:
+        SlidingWindowCircuitBreaker breaker = breaker(SlidingWindowType.COUNT, 50, 0)
+
+        when:"Fewer calls than the minimum fail"
+        3.times { complete(breaker, new IllegalStateException("bad")) }
+
+        then:
+        breaker.state == CircuitState.CLOSED
+        breaker.numberOfCalls == 3
+        breaker.numberOfFailedCalls == 3
+
+        when:"Enough calls succeed to stay below the threshold"
+        7.times { complete(breaker, null) }
+
+        then:
+        breaker.state == CircuitState.CLOSED
+        breaker.failureRate == 30f
+
+        when:"The failure rate reaches the threshold"
+        4.times { complete(breaker, new IllegalStateException("bad")) }
+
+        then:
+        breaker.state == CircuitState.OPEN
+        breaker.numberOfCalls == 0
+
+        when:"Calls are made while the circuit is open"
+        complete(breaker, null)
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message == "bad"
+    }
+
+    void "test the window only holds the last calls"() {
+        given:
+        SlidingWindowCircuitBreaker breaker = breaker(SlidingWindowType.COUNT, 50, 0)
+
+        when:
+        4.times { complete(breaker, new IllegalStateException("bad")) }
+        20.times { complete(breaker, null) }
+
+        then:
+        breaker.state == CircuitState.CLOSED
+        breaker.numberOfCalls == 20
+        breaker.numberOfFailedCalls == 0
+    }
+
+    void "test the circuit opens once the slow call rate is reached"() {
+        given:
+        SlidingWindowCircuitBreaker breaker = breaker(SlidingWindowType.TIME, 0, 50)
+
+        when:
+        5.times { breaker.onResult(null, TimeUnit.MILLISECONDS.toNanos(1), breaker.acquirePermission(), null) }
+        5.times { breaker.onResult(null, TimeUnit.SECONDS.toNanos(2), breaker.acquirePermission(), null) }
+
+        then:
+        breaker.state == CircuitState.OPEN
+
+        when:
+        breaker.acquirePermission()
+
+        then:
+        thrown(CircuitOpenException)
+    }
+
+    void "test half open probes close the circuit"() {
+        given:
+        SlidingWindowCircuitBreaker breaker = new SlidingWindowCircuitBreaker(
+                null, null, 0, false, 50, 0, Duration.ofSeconds(1).toNanos(), SlidingWindowType.COUNT, 10, 2, 2)
+        2.times { complete(breaker, new IllegalStateException("bad")) }
+        Thread.sleep(5)
+
+        expect:
+        breaker.state == CircuitState.HALF_OPEN
+
+        when:"Only the permitted number of probes are let through"
+        long first = breaker.acquirePermission()
+        long second = breaker.acquirePermission()
+        breaker.acquirePermission()
+
+        then:
+        thrown(IllegalStateException)
+
+        when:"The probes succeed"
+        breaker.onResult(null, 0, first, null)
+        breaker.onResult(null, 0, second, null)
+
+        then:
+        breaker.state == CircuitState.CLOSED
+    }
+
+    void "test a cancelled half open probe releases its permit"() {
+        given:
+        SlidingWindowCircuitBreaker breaker = new SlidingWindowCircuitBreaker(
+                null, null, 0, false, 50, 0, Duration.ofSeconds(1).toNanos(), SlidingWindowType.COUNT, 10, 2, 1)
+        2.times { complete(breaker, new IllegalStateException("bad")) }
+        Thread.sleep(5)
+
+        when:"The only probe is cancelled"
+        SlidingWindowRetry probe = new SlidingWindowRetry(breaker, null)
+        probe.open()
+        probe.cancel()
+
+        then:"Another probe is let through and closes the circuit"
+        breaker.state == CircuitState.HALF_OPEN
+        breaker.onResult(null, 0, breaker.acquirePermission(), null)
+        breaker.state == CircuitState.CLOSED
+    }
+
+    void "test calls that started closed are not counted as probes"() {
+        given:
+        SlidingWindowCircuitBreaker breaker = new SlidingWindowCircuitBreaker(
+                null, null, 0, false, 50, 0, Duration.ofSeconds(1).toNanos(), SlidingWindowType.COUNT, 10, 2, 1)
+        long slowCall = breaker.acquirePermission()
+        2.times { complete(breaker, new IllegalStateException("bad")) }
+        Thread.sleep(5)
+
+        expect:
+        breaker.state == CircuitState.HALF_OPEN
+
+        when:"A call that started while the circuit was closed succeeds"
+        breaker.onResult(null, 0, slowCall, null)
+
+        then:"The circuit still waits for its probe"
+        breaker.state == CircuitState.HALF_OPEN
+
+        when:
+        breaker.onResult(null, 0, breaker.acquirePermission(), null)
+
+        then:
+        breaker.state == CircuitState.CLOSED
+    }
+
+    private static SlidingWindowCircuitBreaker breaker(SlidingWindowType type, int failureRate, int slowCallRate) {
+        new SlidingWindowCircuitBreaker(
+                null, null, 60000, false, failureRate, slowCallRate, Duration.ofSeconds(1).toNanos(), type, 20, 10, 1)
+    }
+
+    private static void complete(SlidingWindowCircuitBreaker breaker, Throwable failure) {
+        breaker.onResult(failure, 0, breaker.acquirePermission(), null)
+    }
+}
@@ -29,6 +29,7 @@ import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
+import io.micronaut.http.util.MediaTypeNegotiation;
 import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.inject.MethodExecutionHandle;
 import io.micronaut.web.router.exceptions.UnsatisfiedRouteException;
@@ -314,7 +315,7 @@ abstract class AbstractRouteMatch<T, R> implements MethodBasedRouteMatch<T, R> {
 
     @Override
     public boolean doesProduce(@Nullable Collection<MediaType> acceptableTypes) {
-        return abstractRoute.producesMediaTypesContainsAll || anyMediaTypesMatch(producedMediaTypes, acceptableTypes);
+        return abstractRoute.producesMediaTypesContainsAll || MediaTypeNegotiation.anyProduced(acceptableTypes, producedMediaTypes);
     }
 
     @Override
@@ -322,18 +323,6 @@ abstract class AbstractRouteMatch<T, R> implements MethodBasedRouteMatch<T, R> {
         return abstractRoute.producesMediaTypesContainsAll || acceptableType == null || acceptableType.equals(MediaType.ALL_TYPE) || producedMediaTypes.contains(acceptableType);
     }
 
-    private boolean anyMediaTypesMatch(List<MediaType> producedMediaTypes, Collection<MediaType> acceptableTypes) {
-        if (CollectionUtils.isEmpty(acceptableTypes)) {
-            return true;
-        }
-        for (MediaType acceptableType : acceptableTypes) {
-            if (acceptableType.equals(MediaType.ALL_TYPE) || producedMediaTypes.contains(acceptableType)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     @Override
     public boolean explicitlyConsumes(MediaType contentType) {
         return consumedMediaTypes.contains(contentType);
@@ -21,7 +21,9 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.order.OrderUtil;
 import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.core.util.Toggleable;
 import io.micronaut.http.HttpAttributes;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
@@ -45,6 +47,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -66,6 +69,7 @@ import java.util.stream.Stream;
 public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatch<?>> {
 
     private final Map<String, List<UriRoute>> routesByMethod = new HashMap<>();
+    private final Map<String, UriRouteIndex> routeIndexByMethod = new HashMap<>();
     private final List<StatusRoute> statusRoutes = new ArrayList<>();
     private final List<ErrorRoute> errorRoutes = new ArrayList<>();
     private final Set<Integer> exposedPorts;
@@ -80,8 +84,9 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
             httpFilters.add(filterRoute.getFilter());
         }
         FilterRunner.sort(httpFilters);
-        return httpFilters;
+        return FilterRunner.prepare(httpFilters);
     });
+    private volatile Map<UriRoute, RouteFilterChain> routeFilterChains = Collections.emptyMap();
 
     /**
      * Construct a new router for the given route builders.
@@ -132,7 +137,10 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
             this.exposedPorts = Collections.emptySet();
         }
 
-        routesByMethod.values().forEach(this::finalizeRoutes);
+        routesByMethod.forEach((method, routes) -> {
+            finalizeRoutes(routes);
+            routeIndexByMethod.put(method, new UriRouteIndex(routes));
+        });
         for (FilterRoute filterRoute : filterRoutes) {
             if (isMatchesAll(filterRoute)) {
                 alwaysMatchesFilterRoutes.add(filterRoute);
@@ -140,6 +148,7 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
                 preconditionFilterRoutes.add(filterRoute);
             }
         }
+        this.routeFilterChains = createRouteFilterChains();
     }
 
     private boolean isMatchesAll(FilterRoute filterRoute) {
@@ -175,6 +184,7 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
                 }
             }
         }
+        this.routeFilterChains = createRouteFilterChains();
     }
 
     @NonNull
@@ -285,9 +295,9 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
     @NonNull
     @Override
     public <T, R> Optional<UriRouteMatch<T, R>> route(@NonNull HttpMethod httpMethod, @NonNull CharSequence uri) {
-        List<UriRoute> routes = routesByMethod.getOrDefault(httpMethod.name(), Collections.emptyList());
-        for (UriRoute uriRoute : routes) {
-            Optional<UriRouteMatch> match = uriRoute.match(uri.toString());
+        final String uriStr = uri.toString();
+        for (UriRoute uriRoute : candidateRoutes(httpMethod.name(), uriStr)) {
+            Optional<UriRouteMatch> match = uriRoute.match(uriStr);
             if (match.isPresent()) {
                 return (Optional) match;
             }
@@ -451,9 +461,17 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         if (preconditionFilterRoutes.isEmpty()) {
             return alwaysMatchesHttpFilters.get();
         }
+        RouteMatch routeMatch = (RouteMatch) request.getAttribute(HttpAttributes.ROUTE_MATCH).filter(o -> o instanceof RouteMatch).orElse(null);
+        if (routeMatch instanceof UriRouteMatch<?, ?> uriRouteMatch) {
+            UriRoute route = uriRouteMatch.getRoute();
+            RouteFilterChain filterChain = routeFilterChains.get(route);
+            // OPTIONS requests may carry the match of a route with another method
+            if (filterChain != null && route.getHttpMethodName().equals(request.getMethodName())) {
+                return filterChain.resolve(request, uriRouteMatch);
+            }
+        }
         List<GenericHttpFilter> httpFilters = new ArrayList<>(alwaysMatchesFilterRoutes.size() + preconditionFilterRoutes.size());
         httpFilters.addAll(alwaysMatchesHttpFilters.get());
-        RouteMatch routeMatch = (RouteMatch) request.getAttribute(HttpAttributes.ROUTE_MATCH).filter(o -> o instanceof RouteMatch).orElse(null);
         HttpMethod method = request.getMethod();
         URI uri = request.getUri();
         for (FilterRoute filterRoute : preconditionFilterRoutes) {
@@ -474,8 +492,8 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
     public <T, R> Stream<UriRouteMatch<T, R>> findAny(@NonNull CharSequence uri, @Nullable HttpRequest<?> context) {
         List matchedRoutes = new ArrayList<>(5);
         final String uriStr = uri.toString();
-        for (List<UriRoute> routes : routesByMethod.values()) {
-            for (UriRoute route : routes) {
+        for (UriRouteIndex index : routeIndexByMethod.values()) {
+            for (UriRoute route : index.candidates(uriStr)) {
                 final UriRouteMatch match = route.match(uriStr).orElse(null);
                 if (match != null && match.test(context)) {
                     matchedRoutes.add(match);
@@ -486,9 +504,9 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
     }
 
     private <T, R> List<UriRouteMatch<T, R>> find(String httpMethodName, CharSequence uri, @Nullable Predicate<UriRouteMatch> predicate) {
-        List<UriRoute> routes = routesByMethod.getOrDefault(httpMethodName, Collections.emptyList());
+        final String uriStr = uri.toString();
+        List<UriRoute> routes = candidateRoutes(httpMethodName, uriStr);
         if (CollectionUtils.isNotEmpty(routes)) {
-            final String uriStr = uri.toString();
             List<UriRouteMatch<T, R>> routeMatches = new LinkedList<>();
             for (UriRoute route : routes) {
                 Optional<UriRouteMatch> match = route.match(uriStr);
@@ -504,6 +522,14 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         }
     }
 
+    private List<UriRoute> candidateRoutes(String httpMethodName, String uri) {
+        UriRouteIndex index = routeIndexByMethod.get(httpMethodName);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        return index.candidates(uri);
+    }
+
     private UriRoute[] finalizeRoutes(List<UriRoute> routes) {
         Collections.sort(routes);
         return routes.toArray(new UriRoute[0]);
@@ -587,6 +613,127 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         return Collections.unmodifiableList(httpFilters);
     }
 
+    private Map<UriRoute, RouteFilterChain> createRouteFilterChains() {
+        if (preconditionFilterRoutes.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<UriRoute, RouteFilterChain> filterChains = new IdentityHashMap<>();
+        for (List<UriRoute> routes : routesByMethod.values()) {
+            for (UriRoute route : routes) {
+                filterChains.put(route, new RouteFilterChain(route));
+            }
+        }
+        return filterChains;
+    }
+
+    /**
+     * Resolves the filters of the given route that don't depend on the request path. Filter routes
+     * with patterns that can't be decided from the route template are returned as runtime filter routes.
+     *
+     * @param route      The route
+     * @param routeMatch A match of the route
+     * @return The precomputed filters
+     */
+    private PrecomputedFilters precomputeFilters(UriRoute route, RouteMatch<?> routeMatch) {
+        List<GenericHttpFilter> httpFilters = new ArrayList<>(alwaysMatchesFilterRoutes.size() + preconditionFilterRoutes.size());
+        httpFilters.addAll(alwaysMatchesHttpFilters.get());
+        List<FilterRoute> runtimeFilterRoutes = new ArrayList<>();
+        String template = route.getUriMatchTemplate().toString();
+        for (FilterRoute filterRoute : preconditionFilterRoutes) {
+            if (!matchesFilterMatcher(filterRoute, routeMatch)) {
+                continue;
+            }
+            if (filterRoute.hasMethods() && !filterRoute.getFilterMethods().contains(route.getHttpMethod())) {
+                continue;
+            }
+            Boolean matches = matchesTemplate(filterRoute, template);
+            if (matches == null) {
+                runtimeFilterRoutes.add(filterRoute);
+            } else if (matches) {
+                GenericHttpFilter filter = filterRoute.getFilter();
+                if (filter instanceof GenericHttpFilter.AroundLegacy al && al.bean() instanceof Toggleable) {
+                    // can be toggled at runtime
+                    runtimeFilterRoutes.add(filterRoute);
+                } else {
+                    httpFilters.add(filter);
+                }
+            }
+        }
+        FilterRunner.sort(httpFilters);
+        return new PrecomputedFilters(
+            FilterRunner.prepare(httpFilters),
+            runtimeFilterRoutes.toArray(new FilterRoute[0])
+        );
+    }
+
+    /**
+     * Decides whether the patterns of the filter route match every path that the given template
+     * can match.
+     *
+     * @param filterRoute The filter route
+     * @param template    The URI template of the route
+     * @return True or false if it can be decided from the template, null if it depends on the request path
+     */
+    @Nullable
+    private static Boolean matchesTemplate(FilterRoute filterRoute, String template) {
+        String[] patterns = filterRoute.getPatterns();
+        if (patterns.length == 0) {
+            // like FilterRoute#match, a filter route without patterns matches no path
+            return Boolean.FALSE;
+        }
+        if (filterRoute.getPatternStyle() != FilterPatternStyle.ANT) {
+            return null;
+        }
+        int literalEnd = UriRouteIndex.stripQueryExpressions(template, template.length());
+        int variableStart = template.indexOf('{');
+        boolean literalTemplate = variableStart == -1 || variableStart >= literalEnd;
+        String literal = literalTemplate ? template.substring(0, literalEnd) : template.substring(0, template.lastIndexOf('/', variableStart) + 1);
+        if (literal.isEmpty() || literal.charAt(0) != '/') {
+            return null;
+        }
+        String[] literalTokens = StringUtils.tokenizeToStringArray(literal, "/");
+        Boolean result = Boolean.FALSE;
+        for (String pattern : patterns) {
+            Boolean matches = matchesTemplate(pattern, literalTokens, literalTemplate);
+            if (matches == null) {
+                result = null;
+            } else if (matches) {
+                return Boolean.TRUE;
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static Boolean matchesTemplate(String pattern, String[] literalTokens, boolean literalTemplate) {
+        if (Filter.MATCH_ALL_PATTERN.equals(pattern)) {
+            return Boolean.TRUE;
+        }
+        boolean prefixPattern = pattern.endsWith(Filter.MATCH_ALL_PATTERN);
+        String path = prefixPattern ? pattern.substring(0, pattern.length() - Filter.MATCH_ALL_PATTERN.length()) : pattern;
+        if (path.isEmpty() || path.charAt(0) != '/' || path.chars().anyMatch(c -> c == '*' || c == '?' || c == '{' || c == '}')) {
+            return null;
+        }
+        String[] patternTokens = StringUtils.tokenizeToStringArray(path, "/");
+        int common = Math.min(patternTokens.length, literalTokens.length);
+        for (int i = 0; i < common; i++) {
+            if (!patternTokens[i].equals(literalTokens[i])) {
+                return Boolean.FALSE;
+            }
+        }
+        if (prefixPattern) {
+            if (literalTokens.length >= patternTokens.length) {
+                return Boolean.TRUE;
+            }
+            return literalTemplate ? Boolean.FALSE : null;
+        }
+        if (literalTemplate && literalTokens.length != patternTokens.length) {
+            return Boolean.FALSE;
+        }
+        // exact patterns are sensitive to a trailing slash in the request path
+        return null;
+    }
+
     private boolean matchesFilterMatcher(FilterRoute filterRoute, RouteMatch<?> context) {
         AnnotationMetadata annotationMetadata = filterRoute.getAnnotationMetadata();
         boolean matches = !annotationMetadata.hasStereotype(FilterMatcher.NAME);
@@ -598,4 +745,47 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         }
         return matches;
     }
+
+    /**
+     * The filters of a route, precomputed on first use.
+     */
+    private final class RouteFilterChain {
+        private final UriRoute route;
+        private volatile PrecomputedFilters precomputed;
+
+        RouteFilterChain(UriRoute route) {
+            this.route = route;
+        }
+
+        List<GenericHttpFilter> resolve(HttpRequest<?> request, RouteMatch<?> routeMatch) {
+            PrecomputedFilters filters = precomputed;
+            if (filters == null) {
+                filters = precomputeFilters(route, routeMatch);
+                precomputed = filters;
+            }
+            return filters.resolve(request);
+        }
+    }
+
+    /**
+     * @param filters             The sorted filters that always apply to the route
+     * @param runtimeFilterRoutes The filter routes that need to be matched against the request
+     */
+    private record PrecomputedFilters(List<GenericHttpFilter> filters, FilterRoute[] runtimeFilterRoutes) {
+
+        List<GenericHttpFilter> resolve(HttpRequest<?> request) {
+            if (runtimeFilterRoutes.length == 0) {
+                return filters;
+            }
+            List<GenericHttpFilter> httpFilters = new ArrayList<>(filters.size() + runtimeFilterRoutes.length);
+            httpFilters.addAll(filters);
+            HttpMethod method = request.getMethod();
+            URI uri = request.getUri();
+            for (FilterRoute filterRoute : runtimeFilterRoutes) {
+                filterRoute.match(method, uri).ifPresent(httpFilters::add);
+            }
+            FilterRunner.sort(httpFilters);
+            return Collections.unmodifiableList(httpFilters);
+        }
+    }
 }
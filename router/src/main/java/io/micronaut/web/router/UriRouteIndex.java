@@ -0,0 +1,402 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A segment trie over a sorted list of {@link UriRoute} instances of a single HTTP method.
+ *
+ * <p>Literal path segments of a route template become exact-match nodes and whole-segment variables
+ * ({@code {var}} and {@code {var:regex}}) become typed edges. The part of a template that cannot be
+ * represented safely (optional path expressions, mixed segments, regular expressions that may span
+ * segments, etc.) is not indexed: the route is kept as a candidate of the deepest node reached.</p>
+ *
+ * <p>The index is only used to narrow down candidates. Every candidate is still verified with
+ * {@link UriRoute#match(String)} and candidates are returned in the order of the backing list, so the
+ * route precedence is identical to a linear scan.</p>
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class UriRouteIndex {
+
+    private static final char SLASH = '/';
+    private static final char VAR_START = '{';
+    private static final char VAR_END = '}';
+    private static final String OPERATORS = "+#./;?&=,!@|";
+
+    private final List<UriRoute> routes;
+    private final Node root = new Node();
+
+    /**
+     * @param routes The sorted routes. The list may be updated in place as long as positions don't change.
+     */
+    UriRouteIndex(List<UriRoute> routes) {
+        this.routes = routes;
+        for (int i = 0; i < routes.size(); i++) {
+            add(routes.get(i).getUriMatchTemplate().toString(), i);
+        }
+        root.compact();
+    }
+
+    /**
+     * Finds the routes that may match the given URI, in the order of the backing route list.
+     *
+     * @param uri The URI
+     * @return The candidate routes
+     */
+    @NonNull
+    List<UriRoute> candidates(@NonNull String uri) {
+        // mirror the normalization done by UriMatchTemplate#match
+        int end = uri.length();
+        if (end > 1 && uri.charAt(end - 1) == SLASH) {
+            end--;
+        }
+        int queryIndex = uri.indexOf('?');
+        if (queryIndex > -1 && queryIndex < end) {
+            end = queryIndex;
+        }
+        if (end > 0 && uri.charAt(end - 1) == SLASH) {
+            end--;
+        }
+        Positions positions = new Positions();
+        positions.addAll(root.residuals);
+        if (end > 0 && uri.charAt(0) == SLASH) {
+            collect(root, uri, 1, end, positions);
+        }
+        if (positions.size == 0) {
+            return Collections.emptyList();
+        }
+        int[] found = positions.toSortedArray();
+        List<UriRoute> candidates = new ArrayList<>(found.length);
+        for (int position : found) {
+            candidates.add(routes.get(position));
+        }
+        return candidates;
+    }
+
+    private void collect(Node node, String uri, int start, int end, Positions positions) {
+        if (start > end) {
+            positions.addAll(node.terminals);
+            return;
+        }
+        int next = uri.indexOf(SLASH, start);
+        if (next == -1 || next > end) {
+            next = end;
+        }
+        if (node.literals != null) {
+            Node child = node.literals.get(uri.substring(start, next));
+            if (child != null) {
+                positions.addAll(child.residuals);
+                collect(child, uri, next + 1, end, positions);
+            }
+        }
+        if (node.variable != null && next > start) {
+            positions.addAll(node.variable.residuals);
+            collect(node.variable, uri, next + 1, end, positions);
+        }
+        if (node.regex != null) {
+            positions.addAll(node.regex.residuals);
+            collect(node.regex, uri, next + 1, end, positions);
+        }
+    }
+
+    private void add(String template, int position) {
+        int len = template.length();
+        len = stripQueryExpressions(template, len);
+        Node node = root;
+        if (len <= 1 || template.charAt(0) != SLASH) {
+            node.addResidual(position);
+            return;
+        }
+        int pos = 1;
+        while (true) {
+            int i = pos;
+            while (i < len) {
+                char c = template.charAt(i);
+                if (c == SLASH || c == VAR_START) {
+                    break;
+                }
+                i++;
+            }
+            if (i == len || template.charAt(i) == SLASH) {
+                if (i == pos) {
+                    // empty segment
+                    node.addResidual(position);
+                    return;
+                }
+                node = node.literal(template.substring(pos, i));
+                if (i == len) {
+                    node.addTerminal(position);
+                    return;
+                }
+                pos = i + 1;
+                continue;
+            }
+            int close = findExpressionEnd(template, i, len);
+            if (close == -1) {
+                node.addResidual(position);
+                return;
+            }
+            boolean wholeSegment = i == pos && (close + 1 == len || template.charAt(close + 1) == SLASH);
+            if (wholeSegment) {
+                EdgeType edgeType = classify(template.substring(i + 1, close));
+                if (edgeType == null) {
+                    node.addResidual(position);
+                    return;
+                }
+                node = edgeType == EdgeType.VARIABLE ? node.variable() : node.regex();
+                if (close + 1 == len) {
+                    node.addTerminal(position);
+                    return;
+                }
+                pos = close + 2;
+            } else if (i > pos && template.charAt(i + 1) == SLASH) {
+                // literal followed by an optional path expression such as /book{/id}
+                node.literal(template.substring(pos, i)).addResidual(position);
+                return;
+            } else {
+                node.addResidual(position);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param template The template
+     * @param len      The length of the template to consider
+     * @return The length of the template without trailing query expressions such as {@code {?max,offset}}
+     */
+    static int stripQueryExpressions(String template, int len) {
+        while (len > 0 && template.charAt(len - 1) == VAR_END) {
+            int start = template.lastIndexOf(VAR_START, len - 1);
+            if (start == -1 || start + 1 >= len) {
+                break;
+            }
+            char operator = template.charAt(start + 1);
+            if (operator != '?' && operator != '&') {
+                break;
+            }
+            len = start;
+        }
+        return len;
+    }
+
+    private static int findExpressionEnd(String template, int start, int len) {
+        for (int i = start + 1; i < len; i++) {
+            char c = template.charAt(i);
+            if (c == VAR_END) {
+                return i;
+            } else if (c == VAR_START) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    @Nullable
+    private static EdgeType classify(String expression) {
+        if (expression.isEmpty() || OPERATORS.indexOf(expression.charAt(0)) > -1) {
+            return null;
+        }
+        int colon = expression.indexOf(':');
+        String name = colon == -1 ? expression : expression.substring(0, colon);
+        if (name.isEmpty() || name.indexOf(',') > -1 || name.indexOf('*') > -1 || name.indexOf(VAR_START) > -1) {
+            return null;
+        }
+        if (colon == -1 || colon == expression.length() - 1) {
+            return EdgeType.VARIABLE;
+        }
+        String modifier = expression.substring(colon + 1);
+        if (modifier.chars().allMatch(Character::isDigit)) {
+            return EdgeType.VARIABLE;
+        }
+        if (modifier.charAt(0) == '?') {
+            return null;
+        }
+        return isSingleSegment(modifier) ? EdgeType.REGEX : null;
+    }
+
+    /**
+     * Conservatively checks that the given regular expression can never match a '/' character.
+     *
+     * @param regex The regular expression
+     * @return True if the expression is confined to a single path segment
+     */
+    private static boolean isSingleSegment(String regex) {
+        int len = regex.length();
+        for (int i = 0; i < len; i++) {
+            char c = regex.charAt(i);
+            if (c == '.' || c == SLASH) {
+                return false;
+            }
+            if (c == '\\') {
+                if (i + 1 == len || !isSafeEscape(regex.charAt(++i))) {
+                    return false;
+                }
+            } else if (c == '[') {
+                i = skipCharacterClass(regex, i + 1, len);
+                if (i == -1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int skipCharacterClass(String regex, int start, int len) {
+        if (start < len && regex.charAt(start) == '^') {
+            return -1;
+        }
+        for (int i = start; i < len; i++) {
+            char c = regex.charAt(i);
+            if (c == ']' && i > start) {
+                return i;
+            }
+            if (c == SLASH || c == '[') {
+                return -1;
+            }
+            if (c == '\\') {
+                if (i + 1 == len || !isSafeEscape(regex.charAt(++i))) {
+                    return -1;
+                }
+            } else if (i + 2 < len && regex.charAt(i + 1) == '-' && regex.charAt(i + 2) != ']') {
+                char upper = regex.charAt(i + 2);
+                if (upper == '\\' || (c <= SLASH && upper >= SLASH)) {
+                    return -1;
+                }
+                i += 2;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isSafeEscape(char c) {
+        if (Character.isLetterOrDigit(c)) {
+            return c == 'd' || c == 'w' || c == 's' || c == 'b' || c == 'B';
+        }
+        return c != SLASH;
+    }
+
+    /**
+     * The type of variable edges.
+     */
+    private enum EdgeType {
+        VARIABLE, REGEX
+    }
+
+    /**
+     * A node of the trie.
+     */
+    private static final class Node {
+        private static final int[] EMPTY = new int[0];
+
+        @Nullable
+        Map<String, Node> literals;
+        @Nullable
+        Node variable;
+        @Nullable
+        Node regex;
+        int[] terminals = EMPTY;
+        int[] residuals = EMPTY;
+
+        Node literal(String segment) {
+            if (literals == null) {
+                literals = new HashMap<>(4);
+            }
+            return literals.computeIfAbsent(segment, s -> new Node());
+        }
+
+        Node variable() {
+            if (variable == null) {
+                variable = new Node();
+            }
+            return variable;
+        }
+
+        Node regex() {
+            if (regex == null) {
+                regex = new Node();
+            }
+            return regex;
+        }
+
+        void addTerminal(int position) {
+            terminals = append(terminals, position);
+        }
+
+        void addResidual(int position) {
+            residuals = append(residuals, position);
+        }
+
+        void compact() {
+            if (literals != null) {
+                literals = Collections.unmodifiableMap(new HashMap<>(literals));
+                for (Node child : literals.values()) {
+                    child.compact();
+                }
+            }
+            if (variable != null) {
+                variable.compact();
+            }
+            if (regex != null) {
+                regex.compact();
+            }
+        }
+
+        private static int[] append(int[] array, int value) {
+            int[] result = Arrays.copyOf(array, array.length + 1);
+            result[array.length] = value;
+            return result;
+        }
+    }
+
+    /**
+     * Growable buffer of route positions.
+     */
+    private static final class Positions {
+        int[] values = new int[8];
+        int size;
+
+        void addAll(int[] positions) {
+            int length = positions.length;
+            if (length == 0) {
+                return;
+            }
+            if (size + length > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + length));
+            }
+            System.arraycopy(positions, 0, values, size, length);
+            size += length;
+        }
+
+        int[] toSortedArray() {
+            int[] result = Arrays.copyOf(values, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
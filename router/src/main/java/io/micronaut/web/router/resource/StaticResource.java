@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router.resource;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.util.HttpUtil;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A static resource resolved by the {@link StaticResourceResolver}, including its validators
+ * and its precompressed variants. Small resources also keep their content in memory.
+ *
+ * @since 4.0.0
+ */
+public final class StaticResource {
+
+    private static final String IDENTITY = "identity";
+
+    private final URL url;
+    @Nullable
+    private final File file;
+    private final MediaType mediaType;
+    private final long lastModified;
+    private final long length;
+    private final String etag;
+    @Nullable
+    private final byte[] content;
+    @Nullable
+    private final String contentEncoding;
+    private final List<StaticResource> variants;
+
+    StaticResource(URL url,
+                   @Nullable File file,
+                   MediaType mediaType,
+                   long lastModified,
+                   long length,
+                   String etag,
+                   @Nullable byte[] content,
+                   @Nullable String contentEncoding,
+                   List<StaticResource> variants) {
+        this.url = url;
+        this.file = file;
+        this.mediaType = mediaType;
+        this.lastModified = lastModified;
+        this.length = length;
+        this.etag = etag;
+        this.content = content;
+        this.contentEncoding = contentEncoding;
+        this.variants = variants;
+    }
+
+    /**
+     * @return The URL of the resource
+     */
+    @NonNull
+    public URL getUrl() {
+        return url;
+    }
+
+    /**
+     * @return The file of the resource, if it is served from the file system
+     */
+    @Nullable
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * @return The media type of the (uncompressed) resource
+     */
+    @NonNull
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return The last modified date in milliseconds
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return The length of the resource in bytes or -1 if it is unknown
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * @return The strong entity tag of the resource, including the quotes
+     */
+    @NonNull
+    public String getETag() {
+        return etag;
+    }
+
+    /**
+     * The content of the resource if it is small enough to be kept in memory. The returned array
+     * is shared and must not be modified.
+     *
+     * @return The content or {@code null}
+     */
+    @Nullable
+    public byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * @return The content coding of a precompressed variant (e.g. {@code br}), or {@code null}
+     * for the original resource
+     */
+    @Nullable
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    /**
+     * @return Whether precompressed variants of the resource exist
+     */
+    public boolean hasVariants() {
+        return !variants.isEmpty();
+    }
+
+    /**
+     * @return The precompressed variants, in order of preference
+     */
+    @NonNull
+    public List<StaticResource> getVariants() {
+        return Collections.unmodifiableList(variants);
+    }
+
+    /**
+     * Selects the representation to send for the given {@code Accept-Encoding} header. The
+     * precompressed variant with the highest quality value is chosen; on ties, the order of
+     * preference of the server is used. A variant is only chosen if its quality value is at
+     * least that of the {@code identity} coding, which is the least preferred acceptable coding
+     * unless it is listed explicitly.
+     *
+     * @param acceptEncoding The {@code Accept-Encoding} request header
+     * @return The selected variant or this resource
+     */
+    @NonNull
+    public StaticResource selectVariant(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null || variants.isEmpty()) {
+            return this;
+        }
+        StaticResource selected = this;
+        float selectedQuality = Math.max(HttpUtil.contentCodingQuality(acceptEncoding, IDENTITY, Float.MIN_VALUE), Float.MIN_VALUE);
+        for (StaticResource variant : variants) {
+            float quality = HttpUtil.contentCodingQuality(acceptEncoding, variant.contentEncoding);
+            if (quality >= selectedQuality && (selected == this || quality > selectedQuality)) {
+                selected = variant;
+                selectedQuality = quality;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Checks whether the resource changed on disk since it was loaded. Resources that are not
+     * served from the file system (e.g. from a JAR file) never change.
+     *
+     * @return True if the resource is still up-to-date
+     */
+    boolean isCurrent() {
+        if (file != null && (file.lastModified() != lastModified || file.length() != length)) {
+            return false;
+        }
+        for (StaticResource variant : variants) {
+            if (!variant.isCurrent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The approximate memory used by this resource, in bytes
+     */
+    int weight() {
+        long weight = 128 + (content == null ? 0 : content.length);
+        for (StaticResource variant : variants) {
+            weight += variant.weight();
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+}
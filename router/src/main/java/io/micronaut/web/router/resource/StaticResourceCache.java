@@ -0,0 +1,204 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router.resource;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.http.MediaType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded cache of {@link StaticResource} instances keyed by request path. The size of the
+ * cache is weighted by the content kept in memory, the least recently used resources are
+ * evicted first.
+ *
+ * @since 4.0.0
+ */
+@Internal
+final class StaticResourceCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StaticResourceCache.class);
+    private static final String FILE_PROTOCOL = "file";
+    private static final int ETAG_DIGEST_BYTES = 16;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    /**
+     * Content codings of precompressed variants and their file suffix, in order of preference.
+     */
+    private static final String[][] PRECOMPRESSED = {
+        {"br", ".br"},
+        {"zstd", ".zst"},
+        {"gzip", ".gz"}
+    };
+
+    private final Map<String, StaticResource> resources;
+    private final long maxFileSize;
+    private final boolean precompressed;
+
+    /**
+     * @param configuration The cache configuration
+     */
+    StaticResourceCache(StaticResourceCacheConfiguration configuration) {
+        this.resources = new ConcurrentLinkedHashMap.Builder<String, StaticResource>()
+            .maximumWeightedCapacity(configuration.getMaxSize())
+            .weigher(StaticResource::weight)
+            .build();
+        this.maxFileSize = configuration.getMaxFileSize();
+        this.precompressed = configuration.isPrecompressed();
+    }
+
+    /**
+     * Finds a cached resource. Resources from the file system that changed since they were
+     * loaded are discarded.
+     *
+     * @param path The request path
+     * @return The resource or {@code null}
+     */
+    @Nullable
+    StaticResource get(String path) {
+        StaticResource resource = resources.get(path);
+        if (resource != null && !resource.isCurrent()) {
+            resources.remove(path, resource);
+            return null;
+        }
+        return resource;
+    }
+
+    /**
+     * Loads a resource with its precompressed variants and caches it.
+     *
+     * @param path The request path
+     * @param url  The resolved URL
+     * @return The resource or {@code null} if it cannot be read
+     */
+    @Nullable
+    StaticResource load(String path, URL url) {
+        MediaType mediaType = MediaType.forFilename(url.getPath());
+        StaticResource resource;
+        try {
+            List<StaticResource> variants = precompressed ? loadVariants(url, mediaType) : Collections.emptyList();
+            resource = load(url, mediaType, null, variants);
+        } catch (IOException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Failed to load static resource: " + url, e);
+            }
+            return null;
+        }
+        if (resource != null) {
+            resources.put(path, resource);
+        }
+        return resource;
+    }
+
+    private List<StaticResource> loadVariants(URL url, MediaType mediaType) {
+        List<StaticResource> variants = new ArrayList<>(PRECOMPRESSED.length);
+        String externalForm = url.toExternalForm();
+        for (String[] encoding : PRECOMPRESSED) {
+            try {
+                StaticResource variant = load(new URL(externalForm + encoding[1]), mediaType, encoding[0], Collections.emptyList());
+                if (variant != null) {
+                    variants.add(variant);
+                }
+            } catch (IOException e) {
+                // no such variant
+            }
+        }
+        return variants.isEmpty() ? Collections.emptyList() : variants;
+    }
+
+    @Nullable
+    private StaticResource load(URL url,
+                                MediaType mediaType,
+                                @Nullable String contentEncoding,
+                                List<StaticResource> variants) throws IOException {
+        File file = null;
+        long lastModified;
+        long length;
+        byte[] content = null;
+        if (FILE_PROTOCOL.equals(url.getProtocol())) {
+            try {
+                file = Paths.get(url.toURI()).toFile();
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                throw new IOException("Invalid file URL: " + url, e);
+            }
+            if (!file.isFile() || !file.canRead()) {
+                return null;
+            }
+            lastModified = file.lastModified();
+            length = file.length();
+            if (length <= maxFileSize) {
+                content = Files.readAllBytes(file.toPath());
+            }
+        } else {
+            URLConnection connection = url.openConnection();
+            // fails if the resource doesn't exist
+            connection.connect();
+            lastModified = connection.getLastModified();
+            length = connection.getContentLengthLong();
+            if (length > -1 && length <= maxFileSize) {
+                try (InputStream inputStream = connection.getInputStream()) {
+                    content = inputStream.readAllBytes();
+                }
+            }
+        }
+        String etag = content != null ? digest(content) : Long.toHexString(lastModified) + '-' + Long.toHexString(length);
+        if (content == null && contentEncoding != null) {
+            etag += '-' + contentEncoding;
+        }
+        return new StaticResource(
+            url,
+            file,
+            mediaType,
+            lastModified,
+            content != null ? content.length : length,
+            '"' + etag + '"',
+            content,
+            contentEncoding,
+            variants
+        );
+    }
+
+    private static String digest(byte[] content) throws IOException {
+        byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        char[] chars = new char[ETAG_DIGEST_BYTES * 2];
+        for (int i = 0; i < ETAG_DIGEST_BYTES; i++) {
+            chars[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
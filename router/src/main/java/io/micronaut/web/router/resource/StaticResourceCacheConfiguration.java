@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router.resource;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.convert.format.ReadableBytes;
+import io.micronaut.core.util.Toggleable;
+
+/**
+ * Configuration of the in-memory cache used to serve static resources.
+ *
+ * @since 4.0.0
+ */
+@ConfigurationProperties(StaticResourceCacheConfiguration.PREFIX)
+public class StaticResourceCacheConfiguration implements Toggleable {
+
+    /**
+     * The prefix for static resources cache configuration.
+     */
+    public static final String PREFIX = "micronaut.router.static-resources-cache";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default maximum size of the cache in bytes.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * The default maximum size of a file kept in memory in bytes.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_MAX_FILE_SIZE = 1024 * 1024;
+
+    /**
+     * The default precompressed value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_PRECOMPRESSED = true;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private long maxSize = DEFAULT_MAX_SIZE;
+    private long maxFileSize = DEFAULT_MAX_FILE_SIZE;
+    private boolean precompressed = DEFAULT_PRECOMPRESSED;
+
+    /**
+     * @return Whether static resources are cached
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether static resources are cached. When disabled, resources are resolved on every
+     * request and served without entity tags or precompressed variants. Default value
+     * ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled True if static resources should be cached
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The maximum size of the cache in bytes
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum size of the cache in bytes. Least recently used resources are evicted
+     * once the cache exceeds this size. Default value ({@value #DEFAULT_MAX_SIZE}).
+     *
+     * @param maxSize The maximum size
+     */
+    public void setMaxSize(@ReadableBytes long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return The maximum size of a file kept in memory in bytes
+     */
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    /**
+     * Sets the maximum size of a file whose content is kept in memory. Larger files are still
+     * cached with their entity tag, but their content is read on every request. Default value
+     * ({@value #DEFAULT_MAX_FILE_SIZE}).
+     *
+     * @param maxFileSize The maximum file size
+     */
+    public void setMaxFileSize(@ReadableBytes long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * @return Whether precompressed variants are served
+     */
+    public boolean isPrecompressed() {
+        return precompressed;
+    }
+
+    /**
+     * Sets whether precompressed siblings of a resource ({@code .br}, {@code .zst} and
+     * {@code .gz} files) are served to clients that accept the corresponding content coding.
+     * Default value ({@value #DEFAULT_PRECOMPRESSED}).
+     *
+     * @param precompressed True if precompressed variants should be served
+     */
+    public void setPrecompressed(boolean precompressed) {
+        this.precompressed = precompressed;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.micronaut.web.router.resource;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.ResourceLoader;
 import io.micronaut.core.util.AntPathMatcher;
 import io.micronaut.core.util.CollectionUtils;
@@ -48,6 +49,8 @@ public class StaticResourceResolver {
     private static final String INDEX_PAGE = "index.html";
     private final AntPathMatcher pathMatcher;
     private final Map<String, List<ResourceLoader>> resourceMappings;
+    @Nullable
+    private final StaticResourceCache cache;
 
     /**
      * Default constructor.
@@ -55,6 +58,16 @@ public class StaticResourceResolver {
      * @param configurations The static resource configurations
      */
     StaticResourceResolver(List<StaticResourceConfiguration> configurations) {
+        this(configurations, null);
+    }
+
+    /**
+     * @param configurations     The static resource configurations
+     * @param cacheConfiguration The static resource cache configuration
+     * @since 4.0.0
+     */
+    StaticResourceResolver(List<StaticResourceConfiguration> configurations,
+                           @Nullable StaticResourceCacheConfiguration cacheConfiguration) {
         if (CollectionUtils.isEmpty(configurations)) {
             this.pathMatcher = null;
             this.resourceMappings = Collections.emptyMap();
@@ -69,6 +82,41 @@ public class StaticResourceResolver {
                 }
             }
         }
+        if (cacheConfiguration != null && cacheConfiguration.isEnabled() && !resourceMappings.isEmpty()) {
+            this.cache = new StaticResourceCache(cacheConfiguration);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * @return Whether resolved resources are cached, see {@link #resolveResource(String)}
+     * @since 4.0.0
+     */
+    public boolean isCacheEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Resolves a path to a cached {@link StaticResource}, including its entity tag and
+     * precompressed variants. Always returns an empty optional if the cache is disabled.
+     *
+     * @param resourcePath The path to the resource
+     * @return The optional resource
+     * @since 4.0.0
+     */
+    public Optional<StaticResource> resolveResource(String resourcePath) {
+        if (cache == null) {
+            return Optional.empty();
+        }
+        StaticResource resource = cache.get(resourcePath);
+        if (resource == null) {
+            Optional<URL> url = resolve(resourcePath);
+            if (url.isPresent()) {
+                resource = cache.load(resourcePath, url.get());
+            }
+        }
+        return Optional.ofNullable(resource);
     }
 
     /**
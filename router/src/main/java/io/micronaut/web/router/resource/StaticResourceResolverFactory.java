@@ -19,6 +19,8 @@ import java.util.List;
 
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 /**
@@ -31,6 +33,25 @@ import jakarta.inject.Singleton;
 @Factory
 public class StaticResourceResolverFactory {
 
+    @Nullable
+    private final StaticResourceCacheConfiguration cacheConfiguration;
+
+    /**
+     * Creates a factory without a cache configuration, whose resolvers don't cache static resources.
+     */
+    public StaticResourceResolverFactory() {
+        this(null);
+    }
+
+    /**
+     * @param cacheConfiguration The cache configuration
+     * @since 4.0.0
+     */
+    @Inject
+    public StaticResourceResolverFactory(@Nullable StaticResourceCacheConfiguration cacheConfiguration) {
+        this.cacheConfiguration = cacheConfiguration;
+    }
+
     /**
      * Builds the {@link io.micronaut.web.router.resource.StaticResourceResolver} instance.
      * @param configurations The configurations
@@ -42,7 +63,7 @@ public class StaticResourceResolverFactory {
         if (configurations.isEmpty()) {
             return StaticResourceResolver.EMPTY;
         } else {
-            return new StaticResourceResolver(configurations);
+            return new StaticResourceResolver(configurations, cacheConfiguration);
         }
     }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.AnnotationMetadataResolver
+import io.micronaut.http.HttpAttributes
+import io.micronaut.http.HttpMethod
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MutableHttpResponse
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Filter
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.filter.FilterOrder
+import io.micronaut.http.filter.GenericHttpFilter
+import io.micronaut.http.filter.HttpServerFilter
+import io.micronaut.http.filter.ServerFilterChain
+import org.reactivestreams.Publisher
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class DefaultRouterFilterSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run(['spec.name': 'DefaultRouterFilterSpec'])
+
+    @Shared
+    Router router = context.getBean(Router)
+
+    @Unroll
+    void "test filters resolved for #method #uri"() {
+        given:
+        HttpRequest<?> request = HttpRequest.create(method, uri)
+        UriRouteMatch<?, ?> match = router.find(method, uri, request).findFirst().get()
+        request.setAttribute(HttpAttributes.ROUTE_MATCH, match)
+
+        when:
+        List<GenericHttpFilter> filters = router.findFilters(request)
+
+        then:
+        filters.collect { ((GenericHttpFilter.AroundLegacy) it).bean().class.simpleName } as Set == expected as Set
+
+        when: "the filters are resolved again"
+        List<GenericHttpFilter> cached = router.findFilters(request)
+
+        then: "the precomputed chain is reused"
+        cached == filters
+
+        where:
+        method          | uri                     | expected
+        HttpMethod.GET  | '/filtered/books'       | ['AllFilter', 'BooksFilter', 'ExactFilter']
+        HttpMethod.GET  | '/filtered/books/'      | ['AllFilter', 'BooksFilter']
+        HttpMethod.GET  | '/filtered/books/1'     | ['AllFilter', 'BooksFilter']
+        HttpMethod.POST | '/filtered/books'       | ['AllFilter', 'BooksFilter', 'PostFilter', 'ExactFilter']
+        HttpMethod.GET  | '/filtered/authors/1'   | ['AllFilter']
+        HttpMethod.GET  | '/filtered/search/abc'  | ['AllFilter', 'WildcardFilter']
+    }
+
+    void "test a filter route without patterns matches no route"() {
+        given:
+        GenericHttpFilter filter = new GenericHttpFilter.AroundLegacy(new AllFilter(), new FilterOrder.Fixed(0))
+        FilterRoute filterRoute = new DefaultFilterRoute({ -> filter }, AnnotationMetadataResolver.DEFAULT)
+                .methods(HttpMethod.GET)
+        RouteBuilder noPatterns = [
+                getUriRoutes   : { -> [] },
+                getStatusRoutes: { -> [] },
+                getErrorRoutes : { -> [] },
+                getFilterRoutes: { -> [filterRoute] },
+                getExposedPorts: { -> [] as Set }
+        ] as RouteBuilder
+        Router router = new DefaultRouter(context.getBeansOfType(RouteBuilder) + noPatterns)
+        HttpRequest<?> request = HttpRequest.GET('/filtered/books')
+        request.setAttribute(HttpAttributes.ROUTE_MATCH, router.find(HttpMethod.GET, '/filtered/books', request).findFirst().get())
+
+        expect: "the precomputed chain agrees with FilterRoute#match"
+        !filterRoute.match(HttpMethod.GET, URI.create('/filtered/books')).isPresent()
+        !router.findFilters(request).contains(filter)
+    }
+
+    @Requires(property = 'spec.name', value = 'DefaultRouterFilterSpec')
+    @Controller('/filtered')
+    static class FilteredController {
+
+        @Get('/books')
+        String list() { 'list' }
+
+        @Post('/books')
+        String save() { 'save' }
+
+        @Get('/books/{id}')
+        String show(String id) { 'show' }
+
+        @Get('/authors/{id}')
+        String author(String id) { 'author' }
+
+        @Get('/search/{term}')
+        String search(String term) { 'search' }
+    }
+
+    static abstract class TestFilter implements HttpServerFilter {
+        @Override
+        Publisher<MutableHttpResponse<?>> doFilter(HttpRequest<?> request, ServerFilterChain chain) {
+            return chain.proceed(request)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'DefaultRouterFilterSpec')
+    @Filter('/**')
+    static class AllFilter extends TestFilter {
+    }
+
+    @Requires(property = 'spec.name', value = 'DefaultRouterFilterSpec')
+    @Filter('/filtered/books/**')
+    static class BooksFilter extends TestFilter {
+    }
+
+    @Requires(property = 'spec.name', value = 'DefaultRouterFilterSpec')
+    @Filter('/filtered/books')
+    static class ExactFilter extends TestFilter {
+    }
+
+    @Requires(property = 'spec.name', value = 'DefaultRouterFilterSpec')
+    @Filter(value = '/filtered/**', methods = HttpMethod.POST)
+    static class PostFilter extends TestFilter {
+    }
+
+    @Requires(property = 'spec.name', value = 'DefaultRouterFilterSpec')
+    @Filter('/filtered/search/a*')
+    static class WildcardFilter extends TestFilter {
+    }
+}
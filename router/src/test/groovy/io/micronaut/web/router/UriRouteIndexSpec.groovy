@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpMethod
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class UriRouteIndexSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run(['spec.name': 'UriRouteIndexSpec'])
+
+    @Shared
+    Router router = context.getBean(Router)
+
+    @Unroll
+    void "test indexed lookup of #uri matches a linear scan"() {
+        given:
+        List<String> linear = router.uriRoutes()
+                .filter(r -> r.httpMethod == HttpMethod.GET)
+                .sorted()
+                .filter(r -> r.match(uri).isPresent())
+                .map(r -> ((MethodBasedRoute) r).targetMethod.methodName)
+                .toList()
+
+        when:
+        List<String> indexed = router.find(HttpMethod.GET, uri, null)
+                .map(m -> ((MethodBasedRoute) m.route).targetMethod.methodName)
+                .toList()
+
+        then:
+        indexed == linear
+        indexed as Set == expected as Set
+
+        where:
+        uri                         | expected
+        '/index/books'              | ['list', 'optional']
+        '/index/books/'             | ['list', 'optional']
+        '/index/books/1'            | ['numeric', 'show', 'optional']
+        '/index/books/abc'          | ['show', 'optional']
+        '/index/books/1?max=10'     | ['numeric', 'show', 'optional']
+        '/index/books/1/authors'    | ['authors']
+        '/index/books/list'         | ['paged', 'show', 'optional']
+        '/index/files/a/b/c'        | ['files']
+        '/index/reports/2023.json'  | ['report']
+        '/index/missing'            | []
+        '/other'                    | []
+    }
+
+    void "test route resolves indexed routes"() {
+        expect:
+        router.route(HttpMethod.GET, '/index/books/1/authors').get().methodName == 'authors'
+        router.route(HttpMethod.GET, '/index/reports/2023.json').get().methodName == 'report'
+        !router.route(HttpMethod.POST, '/index/books/1').isPresent()
+    }
+
+    @Requires(property = 'spec.name', value = 'UriRouteIndexSpec')
+    @Controller('/index')
+    static class IndexController {
+
+        @Get('/books')
+        String list() { 'list' }
+
+        @Get('/books/list{?max}')
+        String paged(Integer max) { 'paged' }
+
+        @Get('/books/{id:\\d+}')
+        String numeric(Long id) { 'numeric' }
+
+        @Get('/books/{id}')
+        String show(String id) { 'show' }
+
+        @Get('/books{/id}')
+        String optional(String id) { 'optional' }
+
+        @Get('/books/{id}/authors')
+        String authors(String id) { 'authors' }
+
+        @Get('/files/{path:.*}')
+        String files(String path) { 'files' }
+
+        @Get('/reports/{name}.json')
+        String report(String name) { 'report' }
+    }
+}
@@ -17,6 +17,7 @@ package io.micronaut.web.router.resource
 
 import io.micronaut.core.io.ResourceResolver
 import spock.lang.Specification
+import spock.lang.TempDir
 
 class StaticResourceResolverSpec extends Specification {
 
@@ -43,4 +44,126 @@ class StaticResourceResolverSpec extends Specification {
         then:
         url.toString().endsWith("other/index.html")
     }
+
+    void "test resources are cached with their precompressed variants"() {
+        given:
+        File js = new File(dir, "app.js")
+        js.text = "console.log('app')"
+        new File(dir, "app.js.gz").text = "gzipped"
+        new File(dir, "app.js.br").text = "brotli"
+        StaticResourceResolver resolver = fileResolver(enabledCache())
+
+        when:
+        StaticResource resource = resolver.resolveResource("/app.js").get()
+
+        then:
+        resolver.isCacheEnabled()
+        resource.content == js.bytes
+        resource.ETag.matches('"[0-9a-f]{32}"')
+        resource.mediaType.name == "application/javascript"
+        resource.variants*.contentEncoding == ["br", "gzip"]
+        resource.variants*.content*.length == [6, 7]
+        resource.variants.every { it.ETag != resource.ETag }
+        resolver.resolveResource("/app.js").get().is(resource)
+
+        expect:
+        resource.selectVariant(null).is(resource)
+        resource.selectVariant("identity").is(resource)
+        resource.selectVariant("gzip, deflate").contentEncoding == "gzip"
+        resource.selectVariant("gzip, br").contentEncoding == "br"
+        resource.selectVariant("gzip, br;q=0.5").contentEncoding == "gzip"
+        resource.selectVariant("br;q=0, gzip;q=0").is(resource)
+        resource.selectVariant("*;q=0.1").contentEncoding == "br"
+        resource.selectVariant("gzip;q=0.5, identity").is(resource)
+        resource.selectVariant("gzip;q=0.5").contentEncoding == "gzip"
+        resource.selectVariant("gzip;q=0.5, identity;q=0.5").contentEncoding == "gzip"
+        resource.selectVariant("gzip;q=0.5, *;q=0.8").contentEncoding == "br"
+        resource.selectVariant("gzip;q=0.1, identity;q=0").contentEncoding == "gzip"
+        resource.selectVariant("br;q=0, identity;q=0").is(resource)
+    }
+
+    void "test changed files are reloaded"() {
+        given:
+        File file = new File(dir, "index.html")
+        file.text = "<html>v1</html>"
+        StaticResourceResolver resolver = fileResolver(enabledCache())
+        StaticResource first = resolver.resolveResource("/index.html").get()
+
+        when:
+        file.text = "<html>v2!</html>"
+        file.setLastModified(first.lastModified + 2000)
+        StaticResource second = resolver.resolveResource("/index.html").get()
+
+        then:
+        !second.is(first)
+        second.content == file.bytes
+        second.ETag != first.ETag
+
+        when:
+        file.delete()
+
+        then:
+        !resolver.resolveResource("/index.html").isPresent()
+    }
+
+    void "test large resources are not kept in memory"() {
+        given:
+        new File(dir, "large.txt").text = "x" * 100
+        def configuration = enabledCache()
+        configuration.maxFileSize = 10
+        StaticResourceResolver resolver = fileResolver(configuration)
+
+        when:
+        StaticResource resource = resolver.resolveResource("/large.txt").get()
+
+        then:
+        resource.content == null
+        resource.file != null
+        resource.length == 100
+        resource.ETag.startsWith('"')
+    }
+
+    void "test the cache is disabled by default"() {
+        given:
+        new File(dir, "index.html").text = "<html></html>"
+        StaticResourceResolver resolver = fileResolver(new StaticResourceCacheConfiguration())
+
+        expect:
+        !resolver.isCacheEnabled()
+        !resolver.resolveResource("/index.html").isPresent()
+        resolver.resolve("/index.html").isPresent()
+    }
+
+    void "test the factory applies the cache configuration in the overridable build method"() {
+        given:
+        StaticResourceConfiguration config = new StaticResourceConfiguration(new ResourceResolver(), null)
+        config.setPaths(["file:" + dir.absolutePath])
+        StaticResourceResolverFactory overriding = new StaticResourceResolverFactory(enabledCache()) {
+            @Override
+            protected StaticResourceResolver build(List<StaticResourceConfiguration> configurations) {
+                return StaticResourceResolver.EMPTY
+            }
+        }
+
+        expect:
+        new StaticResourceResolverFactory(enabledCache()).build([config]).isCacheEnabled()
+        !new StaticResourceResolverFactory().build([config]).isCacheEnabled()
+        new StaticResourceResolverFactory(enabledCache()).build([]).is(StaticResourceResolver.EMPTY)
+        overriding.build([config]).is(StaticResourceResolver.EMPTY)
+    }
+
+    @TempDir
+    File dir
+
+    private static StaticResourceCacheConfiguration enabledCache() {
+        def configuration = new StaticResourceCacheConfiguration()
+        configuration.enabled = true
+        return configuration
+    }
+
+    private StaticResourceResolver fileResolver(StaticResourceCacheConfiguration cacheConfiguration) {
+        StaticResourceConfiguration config = new StaticResourceConfiguration(new ResourceResolver(), null)
+        config.setPaths(["file:" + dir.absolutePath])
+        return new StaticResourceResolver([config], cacheConfiguration)
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.websocket;
+
+/**
+ * What happens to a broadcast message for a {@link WebSocketSession} that is not
+ * {@link WebSocketSession#isWritable() writable}, because the remote does not read fast enough.
+ *
+ * @since 4.0.0
+ */
+public enum BroadcastBackpressure {
+    /**
+     * Queue the message in memory until the session becomes writable again. The queue is not
+     * bounded, so a client that stops reading makes the server buffer every broadcast for it
+     * until the connection is closed. Prefer {@link #DROP} or {@link #CLOSE} when clients may fall
+     * behind.
+     */
+    BUFFER,
+    /**
+     * Skip the message for this session.
+     */
+    DROP,
+    /**
+     * Close the session.
+     */
+    CLOSE
+}
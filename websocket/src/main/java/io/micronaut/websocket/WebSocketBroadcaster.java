@@ -195,4 +195,78 @@ public interface WebSocketBroadcaster {
     default <T> void broadcastSync(T message, MediaType mediaType) {
         broadcastSync(message, mediaType, o -> true);
     }
+
+    /**
+     * When used on the server this method will broadcast a message to all open WebSocket connections that are
+     * {@link WebSocketSession#subscribe(String) subscribed} to the given topic.
+     * The resulting {@link Publisher} does not start sending until subscribed to.
+     *
+     * @param topic The topic
+     * @param message The message
+     * @param mediaType The media type of the message. Used to lookup an appropriate codec via the {@link io.micronaut.http.codec.MediaTypeCodecRegistry}.
+     * @param <T> The message type
+     * @return A {@link Publisher} that either emits an error or emits the message once it has been published successfully.
+     * @since 4.0.0
+     */
+    default <T> Publisher<T> broadcastTopic(String topic, T message, MediaType mediaType) {
+        Objects.requireNonNull(topic, "The topic cannot be null");
+        return broadcast(message, mediaType, s -> s.getTopics().contains(topic));
+    }
+
+    /**
+     * When used on the server this method will broadcast a message to all open WebSocket connections that are
+     * {@link WebSocketSession#subscribe(String) subscribed} to the given topic.
+     * The resulting {@link Publisher} does not start sending until subscribed to.
+     *
+     * @param topic The topic
+     * @param message The message
+     * @param <T> The message type
+     * @return A {@link Publisher} that either emits an error or emits the message once it has been published successfully.
+     * @since 4.0.0
+     */
+    default <T> Publisher<T> broadcastTopic(String topic, T message) {
+        return broadcastTopic(topic, message, MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    /**
+     * When used on the server this method will broadcast a message to all open WebSocket connections that are
+     * {@link WebSocketSession#subscribe(String) subscribed} to the given topic.
+     *
+     * @param topic The topic
+     * @param message The message
+     * @param mediaType The media type of the message. Used to lookup an appropriate codec via the {@link io.micronaut.http.codec.MediaTypeCodecRegistry}.
+     * @param <T> The message type
+     * @return A {@link CompletableFuture} that tracks the execution. {@link CompletableFuture#get()} and related methods will return the message on success, on error throw the underlying Exception.
+     * @since 4.0.0
+     */
+    default <T> CompletableFuture<T> broadcastTopicAsync(String topic, T message, MediaType mediaType) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Flux.from(broadcastTopic(topic, message, mediaType)).subscribe(
+                o -> { },
+                future::completeExceptionally,
+                () -> future.complete(message)
+        );
+        return future;
+    }
+
+    /**
+     * When used on the server this method will broadcast a message to all open WebSocket connections that are
+     * {@link WebSocketSession#subscribe(String) subscribed} to the given topic.
+     *
+     * @param topic The topic
+     * @param message The message
+     * @param mediaType The media type of the message. Used to lookup an appropriate codec via the {@link io.micronaut.http.codec.MediaTypeCodecRegistry}.
+     * @param <T> The message type
+     * @since 4.0.0
+     */
+    default <T> void broadcastTopicSync(String topic, T message, MediaType mediaType) {
+        try {
+            broadcastTopicAsync(topic, message, mediaType).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebSocketSessionException("Broadcast Interrupted");
+        } catch (ExecutionException e) {
+            throw new WebSocketSessionException("Broadcast Failure: " + e.getMessage(), e);
+        }
+    }
 }
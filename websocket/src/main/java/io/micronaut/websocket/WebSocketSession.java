@@ -16,6 +16,7 @@
 package io.micronaut.websocket;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.value.ConvertibleMultiValues;
 import io.micronaut.core.convert.value.ConvertibleValues;
 import io.micronaut.core.convert.value.MutableConvertibleValues;
@@ -25,6 +26,7 @@ import org.reactivestreams.Publisher;
 
 import java.net.URI;
 import java.security.Principal;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -213,6 +215,63 @@ public interface WebSocketSession extends MutableConvertibleValues<Object>, Auto
         return Optional.empty();
     }
 
+    /**
+     * Subscribe this session to the given topic, so that it receives the messages published with
+     * {@link WebSocketBroadcaster#broadcastTopic(String, Object, MediaType)}. Sessions that do not
+     * support topics, such as client sessions, ignore the subscription.
+     *
+     * @param topic The topic
+     * @since 4.0.0
+     */
+    default void subscribe(@NonNull String topic) {
+        // topics not supported, no-op
+    }
+
+    /**
+     * Unsubscribe this session from the given topic. Sessions that do not support topics ignore
+     * this call.
+     *
+     * @param topic The topic
+     * @since 4.0.0
+     */
+    default void unsubscribe(@NonNull String topic) {
+        // topics not supported, no-op
+    }
+
+    /**
+     * The topics this session is subscribed to.
+     *
+     * @return The topics
+     * @since 4.0.0
+     */
+    @NonNull
+    default Set<String> getTopics() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * The policy applied to broadcasts while this session is not writable, or {@code null} if the
+     * default policy of the server applies.
+     *
+     * @return The policy
+     * @since 4.0.0
+     */
+    @Nullable
+    default BroadcastBackpressure getBroadcastBackpressure() {
+        return null;
+    }
+
+    /**
+     * Override the policy applied to broadcasts while this session is not writable. Sessions that
+     * are not reached by broadcasts ignore this call.
+     *
+     * @param broadcastBackpressure The policy, or {@code null} for the default policy of the server
+     * @since 4.0.0
+     */
+    default void setBroadcastBackpressure(@Nullable BroadcastBackpressure broadcastBackpressure) {
+        // broadcasts not supported, no-op
+    }
+
     @Override
     void close();
 